@@ -2,10 +2,16 @@ package com.kopo.hanabank.deposit.repository;
 
 import com.kopo.hanabank.deposit.domain.DemandDepositAccount;
 import com.kopo.hanabank.user.domain.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +28,26 @@ public interface DemandDepositAccountRepository extends JpaRepository<DemandDepo
 
     @Query("SELECT d FROM DemandDepositAccount d WHERE d.user = :user AND d.isActive = true AND d.status = 'ACTIVE'")
     List<DemandDepositAccount> findActiveAccountsByUser(User user);
+
+    // 출금 계좌 일괄 행 잠금 (계좌번호 순서로 잠가 교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM DemandDepositAccount d WHERE d.accountNumber IN :accountNumbers ORDER BY d.accountNumber")
+    List<DemandDepositAccount> findAllByAccountNumberInForUpdate(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    // 원자적 입금 (활성 계좌만)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE DemandDepositAccount d SET d.balance = d.balance + :amount, " +
+           "d.availableBalance = d.availableBalance + :amount, d.lastTransactionDate = :now, d.modifiedAt = :now " +
+           "WHERE d.accountNumber = :accountNumber AND d.isActive = true AND d.status = 'ACTIVE'")
+    int addBalance(@Param("accountNumber") String accountNumber, @Param("amount") Long amount,
+                   @Param("now") LocalDateTime now);
+
+    // 원자적 출금 (사용 가능 잔액이 충분할 때만)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE DemandDepositAccount d SET d.balance = d.balance - :amount, " +
+           "d.availableBalance = d.availableBalance - :amount, d.lastTransactionDate = :now, d.modifiedAt = :now " +
+           "WHERE d.accountNumber = :accountNumber AND d.isActive = true AND d.status = 'ACTIVE' " +
+           "AND d.availableBalance >= :amount")
+    int subtractBalance(@Param("accountNumber") String accountNumber, @Param("amount") Long amount,
+                        @Param("now") LocalDateTime now);
 }
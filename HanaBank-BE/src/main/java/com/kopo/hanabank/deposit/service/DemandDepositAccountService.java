@@ -6,6 +6,7 @@ import com.kopo.hanabank.deposit.domain.DemandDepositAccount;
 import com.kopo.hanabank.deposit.dto.DemandDepositAccountCreateRequest;
 import com.kopo.hanabank.deposit.dto.DemandDepositAccountResponse;
 import com.kopo.hanabank.deposit.repository.DemandDepositAccountRepository;
+import com.kopo.hanabank.journal.service.AccountBalanceService;
 import com.kopo.hanabank.user.domain.User;
 import com.kopo.hanabank.user.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +27,7 @@ public class DemandDepositAccountService {
 
     private final DemandDepositAccountRepository demandDepositAccountRepository;
     private final UserService userService;
+    private final AccountBalanceService accountBalanceService;
 
     public List<DemandDepositAccountResponse> getUserAccounts(Long userId) {
         User user = userService.getUserById(userId);
@@ -83,42 +85,20 @@ public class DemandDepositAccountService {
 
     @Transactional
     public DemandDepositAccountResponse deposit(String accountNumber, Long amount) {
-        DemandDepositAccount account = demandDepositAccountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new BusinessException(ErrorCode.DEMAND_DEPOSIT_ACCOUNT_NOT_FOUND));
+        long balance = accountBalanceService.depositToDemandDeposit(accountNumber, amount);
 
-        if (!account.getIsActive() || account.getStatus() != DemandDepositAccount.AccountStatus.ACTIVE) {
-            throw new BusinessException(ErrorCode.INVALID_DEMAND_DEPOSIT_AMOUNT);
-        }
+        log.info("입금 완료 - 계좌번호: {}, 금액: {}, 잔액: {}", accountNumber, amount, balance);
 
-        account.deposit(amount);
-        demandDepositAccountRepository.save(account);
-
-        log.info("입금 완료 - 계좌번호: {}, 금액: {}", accountNumber, amount);
-
-        return DemandDepositAccountResponse.from(account);
+        return getAccountByNumber(accountNumber);
     }
 
     @Transactional
     public DemandDepositAccountResponse withdraw(String accountNumber, Long amount) {
-        DemandDepositAccount account = demandDepositAccountRepository.findByAccountNumber(accountNumber)
-                .orElseThrow(() -> new BusinessException(ErrorCode.DEMAND_DEPOSIT_ACCOUNT_NOT_FOUND));
-
-        if (!account.getIsActive() || account.getStatus() != DemandDepositAccount.AccountStatus.ACTIVE) {
-            throw new BusinessException(ErrorCode.INVALID_DEMAND_DEPOSIT_AMOUNT);
-        }
-
-        try {
-            account.withdraw(amount);
-            demandDepositAccountRepository.save(account);
+        long balance = accountBalanceService.withdrawFromDemandDeposit(accountNumber, amount);
 
-            log.info("출금 완료 - 계좌번호: {}, 금액: {}", accountNumber, amount);
+        log.info("출금 완료 - 계좌번호: {}, 금액: {}, 잔액: {}", accountNumber, amount, balance);
 
-            return DemandDepositAccountResponse.from(account);
-        } catch (IllegalArgumentException e) {
-            log.error("출금 실패 - 잔액 부족 - 계좌번호: {}, 요청금액: {}, 현재잔액: {}",
-                accountNumber, amount, account.getAvailableBalance());
-            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
-        }
+        return getAccountByNumber(accountNumber);
     }
 
     @Transactional
@@ -1,7 +1,11 @@
 package com.kopo.hanabank.integration.controller;
 
 import com.kopo.hanabank.common.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.kopo.hanabank.integration.dto.BankCustomerInfoResponse;
+import com.kopo.hanabank.integration.dto.FinancialExportRequest;
+import com.kopo.hanabank.integration.dto.FinancialExportRow;
 import com.kopo.hanabank.integration.service.BankIntegrationService;
 import com.kopo.hanabank.savings.dto.SavingsAccountCreateRequest;
 import com.kopo.hanabank.savings.dto.SavingsAccountResponse;
@@ -10,9 +14,11 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
 import java.util.Base64;
 import java.util.HashMap;
@@ -27,7 +33,10 @@ import java.util.Map;
 @Tag(name = "Bank Integration API", description = "하나은행 그룹사 연동 API")
 public class BankIntegrationController {
 
+    private static final int MAX_EXPORT_TOKENS = 1000;
+
     private final BankIntegrationService bankIntegrationService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/customer-info")
     @Operation(
@@ -54,6 +63,46 @@ public class BankIntegrationController {
         }
     }
 
+    @PostMapping("/financial-export")
+    @Operation(
+        summary = "금융 데이터 일괄 보내기",
+        description = "고객 정보 토큰 목록(최대 1000건)의 적금 잔액/대출 금액 합계를 한 줄에 한 고객씩 NDJSON으로 반환합니다."
+    )
+    public ResponseEntity<?> exportFinancialData(@RequestBody FinancialExportRequest request) {
+        if (!"GREEN_WORLD".equals(request.getRequestingService())) {
+            return ResponseEntity.status(403)
+                    .body(ApiResponse.error("허용되지 않은 요청 서비스입니다."));
+        }
+        List<String> tokens = request.getCustomerInfoTokens();
+        if (tokens == null || tokens.isEmpty()) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("customerInfoTokens가 필요합니다."));
+        }
+        if (tokens.size() > MAX_EXPORT_TOKENS) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("한 번에 최대 " + MAX_EXPORT_TOKENS + "건까지 요청할 수 있습니다."));
+        }
+
+        try {
+            List<FinancialExportRow> rows = bankIntegrationService.exportFinancialData(tokens);
+            // 요청이 최대 1000건이라 응답도 그 이하로 제한되므로 한 번에 만들어 보낸다
+            ObjectWriter rowWriter = objectMapper.writerFor(FinancialExportRow.class);
+            ByteArrayOutputStream body = new ByteArrayOutputStream(rows.size() * 64);
+            for (FinancialExportRow row : rows) {
+                body.write(rowWriter.writeValueAsBytes(row));
+                body.write('\n');
+            }
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(body.toByteArray());
+
+        } catch (Exception e) {
+            log.error("금융 데이터 일괄 보내기 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("금융 데이터 일괄 보내기 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
     @PostMapping("/electronic-receipts")
     @Operation(
         summary = "전자영수증 조회",
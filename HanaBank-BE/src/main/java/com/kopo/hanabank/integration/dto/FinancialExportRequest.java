@@ -0,0 +1,19 @@
+package com.kopo.hanabank.integration.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 금융 데이터 일괄 보내기 요청 (고객 정보 토큰 목록, 한 번에 최대 1000건)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class FinancialExportRequest {
+
+    private String requestingService;
+    private List<String> customerInfoTokens;
+}
@@ -0,0 +1,18 @@
+package com.kopo.hanabank.integration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 금융 데이터 일괄 보내기 한 줄 (NDJSON 레코드)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinancialExportRow {
+
+    private String customerInfoToken;
+    private Long savingsBalance;
+    private Long loanBalance;
+}
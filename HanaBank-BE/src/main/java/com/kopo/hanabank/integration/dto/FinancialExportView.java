@@ -0,0 +1,13 @@
+package com.kopo.hanabank.integration.dto;
+
+/**
+ * 금융 데이터 일괄 보내기 프로젝션 (CI별 적금 잔액/대출 금액 합계)
+ */
+public interface FinancialExportView {
+
+    String getCi();
+
+    Long getSavingsBalance();
+
+    Long getLoanBalance();
+}
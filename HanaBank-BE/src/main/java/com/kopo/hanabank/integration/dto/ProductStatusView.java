@@ -0,0 +1,17 @@
+package com.kopo.hanabank.integration.dto;
+
+/**
+ * 상품 현황 조회 프로젝션 (사용자 + 상품별 건수)
+ */
+public interface ProductStatusView {
+
+    Long getUserId();
+
+    Long getSavingsCount();
+
+    Long getLoanCount();
+
+    Long getInvestmentCount();
+
+    Long getDepositCount();
+}
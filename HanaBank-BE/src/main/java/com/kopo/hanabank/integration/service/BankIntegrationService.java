@@ -6,7 +6,10 @@ import com.kopo.hanabank.deposit.domain.DemandDepositAccount;
 import com.kopo.hanabank.deposit.dto.DemandDepositAccountResponse;
 import com.kopo.hanabank.deposit.repository.DemandDepositAccountRepository;
 import com.kopo.hanabank.integration.dto.BankCustomerInfoResponse;
+import com.kopo.hanabank.integration.dto.FinancialExportRow;
+import com.kopo.hanabank.integration.dto.FinancialExportView;
 import com.kopo.hanabank.integration.dto.IntegratedFinancialProductsResponse;
+import com.kopo.hanabank.integration.dto.ProductStatusView;
 import com.kopo.hanabank.investment.domain.InvestmentAccount;
 import com.kopo.hanabank.investment.repository.InvestmentAccountRepository;
 import com.kopo.hanabank.loan.domain.LoanAccount;
@@ -18,6 +21,7 @@ import com.kopo.hanabank.savings.repository.SavingsAccountRepository;
 import com.kopo.hanabank.savings.service.SavingsService;
 import com.kopo.hanabank.user.domain.User;
 import com.kopo.hanabank.user.repository.UserRepository;
+import com.kopo.hanabank.user.service.UserLookupCache;
 import java.util.Base64;
 import com.kopo.hanabank.electronicreceipt.repository.ElectronicReceiptRepository;
 import com.kopo.hanabank.electronicreceipt.domain.ElectronicReceipt;
@@ -49,6 +53,7 @@ public class BankIntegrationService {
     private final InvestmentAccountRepository investmentAccountRepository;
     private final SavingsService savingsService;
     private final ElectronicReceiptRepository electronicReceiptRepository;
+    private final UserLookupCache userLookupCache;
 
 
     public BankCustomerInfoResponse getCustomerInfo(String customerInfoToken, String requestingService) {
@@ -58,17 +63,17 @@ public class BankIntegrationService {
             String ci = new String(Base64.getDecoder().decode(customerInfoToken));
             log.info("추출된 CI: {}", ci);
 
-            User user = userRepository.findByCi(ci)
+            User user = userRepository.findById(resolveUserId(ci))
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
+            // 계좌/상품 정보를 한 번에 로딩
+            Portfolio portfolio = loadPortfolio(user);
+
             // 계좌 정보 조회
-            List<BankCustomerInfoResponse.AccountInfo> accounts = getAccountInfo(user);
+            List<BankCustomerInfoResponse.AccountInfo> accounts = getAccountInfo(portfolio);
 
             // 상품 정보 조회
-            List<BankCustomerInfoResponse.ProductInfo> products = getProductInfo(user);
-
-            // 총 잔액 계산
-            BigDecimal totalBalance = calculateTotalBalance(user);
+            List<BankCustomerInfoResponse.ProductInfo> products = getProductInfo(portfolio);
 
             return BankCustomerInfoResponse.builder()
                     .customerId(user.getId())
@@ -90,13 +95,16 @@ public class BankIntegrationService {
 
             String ci = new String(Base64.getDecoder().decode(customerInfoToken));
 
-            User user = userRepository.findByCi(ci)
+            User user = userRepository.findById(resolveUserId(ci))
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
             // 각 상품별 정보 조회
-            List<IntegratedFinancialProductsResponse.SavingsProduct> savingsProducts = getSavingsProducts(user);
-            List<IntegratedFinancialProductsResponse.LoanProduct> loanProducts = getLoanProducts(user);
-            List<IntegratedFinancialProductsResponse.InvestmentProduct> investmentProducts = getInvestmentProducts(user);
+            List<IntegratedFinancialProductsResponse.SavingsProduct> savingsProducts =
+                    getSavingsProducts(savingsAccountRepository.findWithProductByUser(user));
+            List<IntegratedFinancialProductsResponse.LoanProduct> loanProducts =
+                    getLoanProducts(loanAccountRepository.findWithProductByUser(user));
+            List<IntegratedFinancialProductsResponse.InvestmentProduct> investmentProducts =
+                    getInvestmentProducts(investmentAccountRepository.findWithProductByUser(user));
 
             return IntegratedFinancialProductsResponse.builder()
                     .customerId(user.getId())
@@ -114,14 +122,14 @@ public class BankIntegrationService {
 
     public Map<String, Object> getProductStatus(String phoneNumber) {
         try {
-            User user = userRepository.findByPhoneNumber(phoneNumber)
+            // 사용자 조회와 상품별 건수를 한 번의 쿼리로 조회
+            ProductStatusView view = userRepository.findProductStatusByPhoneNumber(phoneNumber)
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-            // 각 상품별 현황 조회
-            long savingsCount = savingsAccountRepository.findByUser(user).size();
-            long loanCount = loanAccountRepository.findByUser(user).size();
-            long investmentCount = investmentAccountRepository.findByUser(user).size();
-            long depositCount = demandDepositAccountRepository.findActiveAccountsByUser(user).size();
+            long savingsCount = view.getSavingsCount();
+            long loanCount = view.getLoanCount();
+            long investmentCount = view.getInvestmentCount();
+            long depositCount = view.getDepositCount();
 
             Map<String, Object> status = Map.of(
                     "savingsCount", savingsCount,
@@ -138,12 +146,22 @@ public class BankIntegrationService {
         }
     }
 
-    private List<BankCustomerInfoResponse.AccountInfo> getAccountInfo(User user) {
+    /**
+     * 고객 정보 응답에 필요한 계좌를 유형별로 한 번씩만 조회한다 (상품은 fetch join)
+     */
+    private Portfolio loadPortfolio(User user) {
+        return new Portfolio(
+                demandDepositAccountRepository.findActiveAccountsByUser(user),
+                savingsAccountRepository.findWithProductByUser(user),
+                loanAccountRepository.findWithProductByUser(user),
+                investmentAccountRepository.findWithProductByUser(user));
+    }
+
+    private List<BankCustomerInfoResponse.AccountInfo> getAccountInfo(Portfolio portfolio) {
         List<BankCustomerInfoResponse.AccountInfo> accounts = new ArrayList<>();
 
-        // 입출금 계좌 조회
-        List<DemandDepositAccount> demandDepositAccounts = demandDepositAccountRepository.findActiveAccountsByUser(user);
-        accounts.addAll(demandDepositAccounts.stream()
+        // 입출금 계좌
+        accounts.addAll(portfolio.demandDepositAccounts().stream()
                 .map(account -> BankCustomerInfoResponse.AccountInfo.builder()
                         .accountNumber(account.getAccountNumber())
                         .accountType("DEMAND_DEPOSIT")
@@ -156,8 +174,7 @@ public class BankIntegrationService {
         return accounts;
     }
 
-    private List<BankCustomerInfoResponse.ProductInfo> getLoanProductsForCustomerInfo(User user) {
-        List<LoanAccount> loanAccounts = loanAccountRepository.findByUser(user);
+    private List<BankCustomerInfoResponse.ProductInfo> getLoanProductsForCustomerInfo(List<LoanAccount> loanAccounts) {
         return loanAccounts.stream()
                 .map(loan -> BankCustomerInfoResponse.ProductInfo.builder()
                         .productId(loan.getId())
@@ -178,10 +195,8 @@ public class BankIntegrationService {
                 .collect(Collectors.toList());
     }
 
-    private List<BankCustomerInfoResponse.ProductInfo> getSavingsProductsForCustomerInfo(User user) {
+    private List<BankCustomerInfoResponse.ProductInfo> getSavingsProductsForCustomerInfo(List<SavingsAccount> savingsAccounts) {
         try {
-            List<SavingsAccount> savingsAccounts = savingsAccountRepository.findByUser(user);
-
             return savingsAccounts.stream()
                     .map(account -> {
                         try {
@@ -212,8 +227,7 @@ public class BankIntegrationService {
         }
     }
 
-    private List<BankCustomerInfoResponse.ProductInfo> getInvestmentProductsForCustomerInfo(User user) {
-        List<InvestmentAccount> investmentAccounts = investmentAccountRepository.findByUser(user);
+    private List<BankCustomerInfoResponse.ProductInfo> getInvestmentProductsForCustomerInfo(List<InvestmentAccount> investmentAccounts) {
         return investmentAccounts.stream()
                 .map(account -> BankCustomerInfoResponse.ProductInfo.builder()
                         .productId(account.getId())
@@ -226,8 +240,7 @@ public class BankIntegrationService {
                 .collect(Collectors.toList());
     }
 
-    private List<IntegratedFinancialProductsResponse.SavingsProduct> getSavingsProducts(User user) {
-        List<SavingsAccount> savingsAccounts = savingsAccountRepository.findByUser(user);
+    private List<IntegratedFinancialProductsResponse.SavingsProduct> getSavingsProducts(List<SavingsAccount> savingsAccounts) {
         return savingsAccounts.stream()
                 .map(account -> IntegratedFinancialProductsResponse.SavingsProduct.builder()
                         .productId(account.getId())
@@ -241,8 +254,7 @@ public class BankIntegrationService {
                 .collect(Collectors.toList());
     }
 
-    private List<IntegratedFinancialProductsResponse.LoanProduct> getLoanProducts(User user) {
-        List<LoanAccount> loanAccounts = loanAccountRepository.findByUser(user);
+    private List<IntegratedFinancialProductsResponse.LoanProduct> getLoanProducts(List<LoanAccount> loanAccounts) {
         return loanAccounts.stream()
                 .map(loan -> IntegratedFinancialProductsResponse.LoanProduct.builder()
                         .productId(loan.getId())
@@ -255,8 +267,7 @@ public class BankIntegrationService {
                 .collect(Collectors.toList());
     }
 
-    private List<IntegratedFinancialProductsResponse.InvestmentProduct> getInvestmentProducts(User user) {
-        List<InvestmentAccount> investmentAccounts = investmentAccountRepository.findByUser(user);
+    private List<IntegratedFinancialProductsResponse.InvestmentProduct> getInvestmentProducts(List<InvestmentAccount> investmentAccounts) {
         return investmentAccounts.stream()
                 .map(account -> IntegratedFinancialProductsResponse.InvestmentProduct.builder()
                         .productId(account.getId())
@@ -269,33 +280,17 @@ public class BankIntegrationService {
                 .collect(Collectors.toList());
     }
 
-    private List<BankCustomerInfoResponse.ProductInfo> getProductInfo(User user) {
+    private List<BankCustomerInfoResponse.ProductInfo> getProductInfo(Portfolio portfolio) {
         List<BankCustomerInfoResponse.ProductInfo> allProducts = new ArrayList<>();
-        allProducts.addAll(getSavingsProductsForCustomerInfo(user));
-        allProducts.addAll(getLoanProductsForCustomerInfo(user));
-        allProducts.addAll(getInvestmentProductsForCustomerInfo(user));
+        allProducts.addAll(getSavingsProductsForCustomerInfo(portfolio.savingsAccounts()));
+        allProducts.addAll(getLoanProductsForCustomerInfo(portfolio.loanAccounts()));
+        allProducts.addAll(getInvestmentProductsForCustomerInfo(portfolio.investmentAccounts()));
         return allProducts;
     }
 
-    private BigDecimal calculateTotalBalance(User user) {
-        List<SavingsAccount> savingsAccounts = savingsAccountRepository.findByUser(user);
-        List<LoanAccount> loanAccounts = loanAccountRepository.findByUser(user);
-        List<InvestmentAccount> investmentAccounts = investmentAccountRepository.findByUser(user);
-        
-        BigDecimal totalSavings = savingsAccounts.stream()
-                .filter(account -> account.getIsActive())
-                .map(account -> new BigDecimal(account.getBalance()))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        BigDecimal totalLoans = loanAccounts.stream()
-                .map(loan -> new BigDecimal(loan.getLoanAmount()))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        BigDecimal totalInvestments = investmentAccounts.stream()
-                .map(investment -> new BigDecimal(investment.getCurrentValue()))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        return totalSavings.add(totalInvestments).subtract(totalLoans);
+    private Long resolveUserId(String ci) {
+        return userLookupCache.findUserIdByCi(ci)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
     }
 
     private String maskAccountNumber(String accountNumber) {
@@ -328,13 +323,13 @@ public class BankIntegrationService {
         try {
             String ci = new String(Base64.getDecoder().decode(customerInfoToken));
 
-            User user = userRepository.findByCi(ci)
-                    .orElse(null);
+            Long userId = userLookupCache.findUserIdByCi(ci).orElse(null);
 
-            if (user == null) {
+            if (userId == null) {
                 log.warn("사용자를 찾을 수 없음 - CI: {}", ci);
                 return false;
             }
+            User user = userRepository.getReferenceById(userId);
 
             // productId에 따른 상품 보유 여부 확인
             if (productId == 1L) {
@@ -347,7 +342,7 @@ public class BankIntegrationService {
                             account.getProduct().getId().equals(productId)
                         );
 
-                log.info("사용자 {}의 productId {} 보유 여부: {}", user.getName(), productId, hasProduct);
+                log.info("사용자 {}의 productId {} 보유 여부: {}", userId, productId, hasProduct);
                 return hasProduct;
             }
 
@@ -361,6 +356,33 @@ public class BankIntegrationService {
         }
     }
 
+    /**
+     * 금융 데이터 일괄 보내기 - 토큰 목록의 적금 잔액/대출 금액 합계를 한 번의 조회로 계산
+     * 가입 고객이 아닌 토큰은 결과에서 빠진다.
+     */
+    public List<FinancialExportRow> exportFinancialData(List<String> customerInfoTokens) {
+        Map<String, String> tokensByCi = new HashMap<>();
+        for (String token : customerInfoTokens) {
+            if (token == null || token.isBlank()) {
+                continue;
+            }
+            tokensByCi.put(new String(Base64.getDecoder().decode(token)), token);
+        }
+        if (tokensByCi.isEmpty()) {
+            return List.of();
+        }
+
+        List<FinancialExportRow> rows = new ArrayList<>(tokensByCi.size());
+        for (FinancialExportView view : userRepository.findFinancialExportByCiIn(tokensByCi.keySet())) {
+            rows.add(new FinancialExportRow(
+                    tokensByCi.get(view.getCi()),
+                    view.getSavingsBalance() != null ? view.getSavingsBalance() : 0L,
+                    view.getLoanBalance() != null ? view.getLoanBalance() : 0L));
+        }
+        log.info("금융 데이터 일괄 보내기 - 요청 {}건, 응답 {}건", tokensByCi.size(), rows.size());
+        return rows;
+    }
+
     public static class SavingsAccountCreateRequest {
         private Long userId;
         private Long productId;
@@ -391,12 +413,11 @@ public class BankIntegrationService {
                                                            Boolean autoTransferEnabled, Integer transferDay, Long monthlyTransferAmount,
                                                            String withdrawalAccountNumber, String withdrawalBankName) {
         try {
-            User user = userRepository.findByCi(ci)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            Long userId = resolveUserId(ci);
             
             // 적금 계좌 생성 (자동이체 설정 포함)
             SavingsAccount account = savingsService.createSavingsAccountWithAutoTransfer(
-                    user.getId(),
+                    userId,
                     productId,
                     preferentialRate,
                     applicationAmount,
@@ -419,11 +440,10 @@ public class BankIntegrationService {
         try {
             String ci = new String(Base64.getDecoder().decode(customerInfoToken));
 
-            User user = userRepository.findByCi(ci)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            Long userId = resolveUserId(ci);
 
             List<ElectronicReceipt> receipts = electronicReceiptRepository
-                    .findByCustomerIdOrderByReceiptDateDesc(user.getId());
+                    .findByCustomerIdOrderByReceiptDateDesc(userId);
 
             List<Map<String, Object>> result = receipts.stream()
                     .map(this::convertToMap)
@@ -454,8 +474,7 @@ public class BankIntegrationService {
 
     public List<Map<String, Object>> getDepositAccountsByCi(String ci) {
         try {
-            User user = userRepository.findByCi(ci)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            User user = userRepository.getReferenceById(resolveUserId(ci));
 
             // 사용자의 입출금 계좌 조회
             List<DemandDepositAccount> accounts = demandDepositAccountRepository.findByUser(user);
@@ -481,5 +500,9 @@ public class BankIntegrationService {
         }
     }
 
+    private record Portfolio(List<DemandDepositAccount> demandDepositAccounts,
+                             List<SavingsAccount> savingsAccounts,
+                             List<LoanAccount> loanAccounts,
+                             List<InvestmentAccount> investmentAccounts) {
+    }
 }
-
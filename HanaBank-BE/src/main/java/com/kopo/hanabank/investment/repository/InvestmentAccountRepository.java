@@ -3,8 +3,12 @@ package com.kopo.hanabank.investment.repository;
 import com.kopo.hanabank.investment.domain.InvestmentAccount;
 import com.kopo.hanabank.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,15 +16,29 @@ import java.util.Optional;
 public interface InvestmentAccountRepository extends JpaRepository<InvestmentAccount, Long> {
     
     List<InvestmentAccount> findByUser(User user);
+
+    // 포트폴리오 조회용: 상품을 함께 로딩해 계좌별 지연 로딩을 없앤다
+    @Query("SELECT i FROM InvestmentAccount i JOIN FETCH i.product WHERE i.user = :user ORDER BY i.id")
+    List<InvestmentAccount> findWithProductByUser(@Param("user") User user);
     
     List<InvestmentAccount> findByUserAndStatus(User user, InvestmentAccount.AccountStatus status);
     
     Optional<InvestmentAccount> findByAccountNumber(String accountNumber);
     
     boolean existsByAccountNumber(String accountNumber);
-    
-}
-
-
 
+    // 원자적 추가 투자 (활성 계좌만)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InvestmentAccount i SET i.investmentAmount = i.investmentAmount + :amount, " +
+           "i.currentValue = i.currentValue + :amount, i.modifiedAt = :now " +
+           "WHERE i.accountNumber = :accountNumber AND i.status = 'ACTIVE'")
+    int addInvestment(@Param("accountNumber") String accountNumber, @Param("amount") Long amount,
+                      @Param("now") LocalDateTime now);
 
+    // 원자적 환매 (평가금액이 충분할 때만)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InvestmentAccount i SET i.currentValue = i.currentValue - :amount, i.modifiedAt = :now " +
+           "WHERE i.accountNumber = :accountNumber AND i.status = 'ACTIVE' AND i.currentValue >= :amount")
+    int subtractCurrentValue(@Param("accountNumber") String accountNumber, @Param("amount") Long amount,
+                             @Param("now") LocalDateTime now);
+}
@@ -6,6 +6,7 @@ import com.kopo.hanabank.investment.domain.InvestmentAccount;
 import com.kopo.hanabank.investment.domain.InvestmentProduct;
 import com.kopo.hanabank.investment.repository.InvestmentAccountRepository;
 import com.kopo.hanabank.investment.repository.InvestmentProductRepository;
+import com.kopo.hanabank.journal.service.AccountBalanceService;
 import com.kopo.hanabank.user.domain.User;
 import com.kopo.hanabank.user.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ public class InvestmentService {
     private final InvestmentProductRepository investmentProductRepository;
     private final InvestmentAccountRepository investmentAccountRepository;
     private final UserService userService;
+    private final AccountBalanceService accountBalanceService;
 
     public List<InvestmentProduct> getAllInvestmentProducts() {
         return investmentProductRepository.findByIsActiveTrue();
@@ -86,26 +88,14 @@ public class InvestmentService {
 
     @Transactional
     public InvestmentAccount invest(String accountNumber, Long amount) {
-        InvestmentAccount account = getInvestmentAccountByNumber(accountNumber);
-        
-        if (account.getStatus() != InvestmentAccount.AccountStatus.ACTIVE) {
-            throw new BusinessException(ErrorCode.INVALID_INVESTMENT_AMOUNT);
-        }
-
-        account.invest(amount);
-        return account;
+        accountBalanceService.invest(accountNumber, amount);
+        return getInvestmentAccountByNumber(accountNumber);
     }
 
     @Transactional
     public InvestmentAccount redeem(String accountNumber, Long amount) {
-        InvestmentAccount account = getInvestmentAccountByNumber(accountNumber);
-        
-        if (account.getStatus() != InvestmentAccount.AccountStatus.ACTIVE) {
-            throw new BusinessException(ErrorCode.INVALID_INVESTMENT_AMOUNT);
-        }
-
-        account.redeem(amount);
-        return account;
+        accountBalanceService.redeem(accountNumber, amount);
+        return getInvestmentAccountByNumber(accountNumber);
     }
 
     @Transactional
@@ -0,0 +1,103 @@
+package com.kopo.hanabank.journal.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 거래 저널 (추가 전용)
+ * 잔액을 바꾸는 모든 거래가 같은 트랜잭션에서 한 행씩 기록되며, 수정/삭제하지 않는다.
+ */
+@Entity
+@Immutable
+@Table(
+    name = "account_journal_entries",
+    indexes = {
+        @Index(name = "idx_account_journal_account_occurred", columnList = "account_number, occurred_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountJournalEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false)
+    private AccountType accountType;
+
+    @Column(name = "account_number", nullable = false)
+    private String accountNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false)
+    private EntryType entryType;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "balance_after", nullable = false)
+    private Long balanceAfter;
+
+    @Column(name = "description")
+    private String description;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Builder
+    public AccountJournalEntry(AccountType accountType, String accountNumber, EntryType entryType,
+                               Long amount, Long balanceAfter, String description, LocalDateTime occurredAt) {
+        this.accountType = accountType;
+        this.accountNumber = accountNumber;
+        this.entryType = entryType;
+        this.amount = amount;
+        this.balanceAfter = balanceAfter;
+        this.description = description;
+        this.occurredAt = occurredAt != null ? occurredAt : LocalDateTime.now();
+    }
+
+    public enum AccountType {
+        DEMAND_DEPOSIT("입출금"),
+        SAVINGS("적금"),
+        LOAN("대출"),
+        INVESTMENT("투자");
+
+        private final String description;
+
+        AccountType(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    public enum EntryType {
+        DEPOSIT("입금"),
+        WITHDRAWAL("출금"),
+        AUTO_TRANSFER_OUT("자동이체 출금"),
+        AUTO_TRANSFER_IN("자동이체 입금"),
+        LOAN_REPAYMENT("대출 상환"),
+        INVESTMENT("추가 투자"),
+        REDEMPTION("환매");
+
+        private final String description;
+
+        EntryType(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.kopo.hanabank.journal.repository;
+
+import com.kopo.hanabank.journal.domain.AccountJournalEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountJournalEntryRepository extends JpaRepository<AccountJournalEntry, Long> {
+
+    Page<AccountJournalEntry> findByAccountNumberOrderByOccurredAtDescIdDesc(String accountNumber, Pageable pageable);
+}
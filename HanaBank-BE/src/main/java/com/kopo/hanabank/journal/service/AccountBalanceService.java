@@ -0,0 +1,194 @@
+package com.kopo.hanabank.journal.service;
+
+import com.kopo.hanabank.common.exception.BusinessException;
+import com.kopo.hanabank.common.exception.ErrorCode;
+import com.kopo.hanabank.deposit.domain.DemandDepositAccount;
+import com.kopo.hanabank.deposit.repository.DemandDepositAccountRepository;
+import com.kopo.hanabank.investment.domain.InvestmentAccount;
+import com.kopo.hanabank.investment.repository.InvestmentAccountRepository;
+import com.kopo.hanabank.journal.domain.AccountJournalEntry;
+import com.kopo.hanabank.journal.domain.AccountJournalEntry.AccountType;
+import com.kopo.hanabank.journal.domain.AccountJournalEntry.EntryType;
+import com.kopo.hanabank.journal.repository.AccountJournalEntryRepository;
+import com.kopo.hanabank.loan.domain.LoanAccount;
+import com.kopo.hanabank.loan.repository.LoanAccountRepository;
+import com.kopo.hanabank.savings.domain.SavingsAccount;
+import com.kopo.hanabank.savings.repository.SavingsAccountRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 잔액 변경 서비스
+ * 엔티티를 읽어 자바에서 계산 후 저장하는 대신, 조건부 원자적 UPDATE
+ * (예: balance = balance - ? WHERE balance >= ?) 한 문장으로 잔액을 바꾸고
+ * 같은 트랜잭션에서 거래 저널을 남긴다. 동시 거래는 행 잠금으로 직렬화되어 갱신이 유실되지 않는다.
+ * UPDATE 후에는 영속성 컨텍스트를 비우지 않고 해당 계좌 엔티티만 refresh 하여 호출자가 들고 있는 엔티티를 유지한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceService {
+
+    private final DemandDepositAccountRepository demandDepositAccountRepository;
+    private final SavingsAccountRepository savingsAccountRepository;
+    private final LoanAccountRepository loanAccountRepository;
+    private final InvestmentAccountRepository investmentAccountRepository;
+    private final AccountJournalEntryRepository accountJournalEntryRepository;
+    private final EntityManager entityManager;
+
+    @Transactional
+    public long depositToDemandDeposit(String accountNumber, Long amount) {
+        validateAmount(amount);
+        LocalDateTime now = LocalDateTime.now();
+        if (demandDepositAccountRepository.addBalance(accountNumber, amount, now) == 0) {
+            DemandDepositAccount account = demandDepositAccountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.DEMAND_DEPOSIT_ACCOUNT_NOT_FOUND));
+            throw new BusinessException(ErrorCode.INVALID_DEMAND_DEPOSIT_AMOUNT,
+                    "입금할 수 없는 계좌 상태입니다: " + account.getStatus());
+        }
+        long balance = reload(demandDepositAccountRepository.findByAccountNumber(accountNumber).orElseThrow()).getBalance();
+        journal(AccountType.DEMAND_DEPOSIT, accountNumber, EntryType.DEPOSIT, amount, balance, now);
+        return balance;
+    }
+
+    @Transactional
+    public long withdrawFromDemandDeposit(String accountNumber, Long amount) {
+        validateAmount(amount);
+        LocalDateTime now = LocalDateTime.now();
+        if (demandDepositAccountRepository.subtractBalance(accountNumber, amount, now) == 0) {
+            DemandDepositAccount account = demandDepositAccountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.DEMAND_DEPOSIT_ACCOUNT_NOT_FOUND));
+            if (!account.getIsActive() || account.getStatus() != DemandDepositAccount.AccountStatus.ACTIVE) {
+                throw new BusinessException(ErrorCode.INVALID_DEMAND_DEPOSIT_AMOUNT,
+                        "출금할 수 없는 계좌 상태입니다: " + account.getStatus());
+            }
+            log.error("출금 실패 - 잔액 부족 - 계좌번호: {}, 요청금액: {}, 현재잔액: {}",
+                    accountNumber, amount, account.getAvailableBalance());
+            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+        }
+        long balance = reload(demandDepositAccountRepository.findByAccountNumber(accountNumber).orElseThrow()).getBalance();
+        journal(AccountType.DEMAND_DEPOSIT, accountNumber, EntryType.WITHDRAWAL, amount, balance, now);
+        return balance;
+    }
+
+    @Transactional
+    public long depositToSavings(String accountNumber, Long amount) {
+        validateAmount(amount);
+        LocalDateTime now = LocalDateTime.now();
+        if (savingsAccountRepository.addBalance(accountNumber, amount, now) == 0) {
+            SavingsAccount account = savingsAccountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.SAVINGS_ACCOUNT_NOT_FOUND));
+            throw new BusinessException(ErrorCode.INVALID_SAVINGS_AMOUNT,
+                    "입금할 수 없는 계좌 상태입니다: " + account.getStatus());
+        }
+        long balance = reload(savingsAccountRepository.findByAccountNumber(accountNumber).orElseThrow()).getBalance();
+        journal(AccountType.SAVINGS, accountNumber, EntryType.DEPOSIT, amount, balance, now);
+        return balance;
+    }
+
+    @Transactional
+    public long withdrawFromSavings(String accountNumber, Long amount) {
+        validateAmount(amount);
+        LocalDateTime now = LocalDateTime.now();
+        if (savingsAccountRepository.subtractBalance(accountNumber, amount, now) == 0) {
+            SavingsAccount account = savingsAccountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.SAVINGS_ACCOUNT_NOT_FOUND));
+            if (!account.getIsActive() || account.getStatus() != SavingsAccount.AccountStatus.ACTIVE) {
+                throw new BusinessException(ErrorCode.INVALID_SAVINGS_AMOUNT,
+                        "출금할 수 없는 계좌 상태입니다: " + account.getStatus());
+            }
+            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
+        }
+        long balance = reload(savingsAccountRepository.findByAccountNumber(accountNumber).orElseThrow()).getBalance();
+        journal(AccountType.SAVINGS, accountNumber, EntryType.WITHDRAWAL, amount, balance, now);
+        return balance;
+    }
+
+    @Transactional
+    public long repayLoan(String accountNumber, Long amount) {
+        validateAmount(amount);
+        LocalDateTime now = LocalDateTime.now();
+        if (loanAccountRepository.subtractRemainingAmount(accountNumber, amount, now) == 0) {
+            LoanAccount account = loanAccountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.LOAN_ACCOUNT_NOT_FOUND));
+            if (account.getStatus() != LoanAccount.LoanStatus.ACTIVE) {
+                throw new BusinessException(ErrorCode.INVALID_LOAN_AMOUNT,
+                        "상환할 수 없는 대출 상태입니다: " + account.getStatus());
+            }
+            throw new BusinessException(ErrorCode.INVALID_LOAN_AMOUNT, "상환금액이 잔여금액보다 큽니다.");
+        }
+        long remaining = reload(loanAccountRepository.findByAccountNumber(accountNumber).orElseThrow()).getRemainingAmount();
+        journal(AccountType.LOAN, accountNumber, EntryType.LOAN_REPAYMENT, amount, remaining, now);
+        return remaining;
+    }
+
+    @Transactional
+    public long invest(String accountNumber, Long amount) {
+        validateAmount(amount);
+        LocalDateTime now = LocalDateTime.now();
+        if (investmentAccountRepository.addInvestment(accountNumber, amount, now) == 0) {
+            InvestmentAccount account = investmentAccountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.INVESTMENT_ACCOUNT_NOT_FOUND));
+            throw new BusinessException(ErrorCode.INVALID_INVESTMENT_AMOUNT,
+                    "투자할 수 없는 계좌 상태입니다: " + account.getStatus());
+        }
+        long currentValue = reload(investmentAccountRepository.findByAccountNumber(accountNumber).orElseThrow()).getCurrentValue();
+        journal(AccountType.INVESTMENT, accountNumber, EntryType.INVESTMENT, amount, currentValue, now);
+        return currentValue;
+    }
+
+    @Transactional
+    public long redeem(String accountNumber, Long amount) {
+        validateAmount(amount);
+        LocalDateTime now = LocalDateTime.now();
+        if (investmentAccountRepository.subtractCurrentValue(accountNumber, amount, now) == 0) {
+            InvestmentAccount account = investmentAccountRepository.findByAccountNumber(accountNumber)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.INVESTMENT_ACCOUNT_NOT_FOUND));
+            if (account.getStatus() != InvestmentAccount.AccountStatus.ACTIVE) {
+                throw new BusinessException(ErrorCode.INVALID_INVESTMENT_AMOUNT,
+                        "환매할 수 없는 계좌 상태입니다: " + account.getStatus());
+            }
+            throw new BusinessException(ErrorCode.INVALID_INVESTMENT_AMOUNT, "투자금액이 부족합니다.");
+        }
+        long currentValue = reload(investmentAccountRepository.findByAccountNumber(accountNumber).orElseThrow()).getCurrentValue();
+        journal(AccountType.INVESTMENT, accountNumber, EntryType.REDEMPTION, amount, currentValue, now);
+        return currentValue;
+    }
+
+    /**
+     * 행 잠금 하에 엔티티로 잔액을 바꾼 경로(자동이체 배치)의 저널 기록
+     */
+    @Transactional
+    public void journal(AccountType accountType, String accountNumber, EntryType entryType,
+                        Long amount, Long balanceAfter, LocalDateTime occurredAt) {
+        accountJournalEntryRepository.save(AccountJournalEntry.builder()
+                .accountType(accountType)
+                .accountNumber(accountNumber)
+                .entryType(entryType)
+                .amount(amount)
+                .balanceAfter(balanceAfter)
+                .description(entryType.getDescription())
+                .occurredAt(occurredAt)
+                .build());
+    }
+
+    /**
+     * 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로, 이미 로드된 같은 계좌 엔티티가 있으면
+     * 옛 잔액이 이후 flush 때 덮어쓰지 않도록 DB 값으로 다시 읽는다
+     */
+    private <T> T reload(T entity) {
+        entityManager.refresh(entity);
+        return entity;
+    }
+
+    private void validateAmount(Long amount) {
+        if (amount == null || amount <= 0) {
+            throw new BusinessException(ErrorCode.INVALID_AMOUNT);
+        }
+    }
+}
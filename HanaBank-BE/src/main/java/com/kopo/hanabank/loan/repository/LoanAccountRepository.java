@@ -3,8 +3,12 @@ package com.kopo.hanabank.loan.repository;
 import com.kopo.hanabank.loan.domain.LoanAccount;
 import com.kopo.hanabank.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,14 +16,25 @@ import java.util.Optional;
 public interface LoanAccountRepository extends JpaRepository<LoanAccount, Long> {
     
     List<LoanAccount> findByUser(User user);
+
+    // 포트폴리오 조회용: 상품을 함께 로딩해 계좌별 지연 로딩을 없앤다
+    @Query("SELECT l FROM LoanAccount l JOIN FETCH l.product WHERE l.user = :user ORDER BY l.id")
+    List<LoanAccount> findWithProductByUser(@Param("user") User user);
     
     List<LoanAccount> findByUserAndStatus(User user, LoanAccount.LoanStatus status);
     
     Optional<LoanAccount> findByAccountNumber(String accountNumber);
     
     boolean existsByAccountNumber(String accountNumber);
-}
-
-
-
 
+    // 원자적 상환 (잔여금액 이하만, 완납 시 COMPLETED)
+    // MySQL은 SET 절을 왼쪽부터 적용하므로 상태를 먼저 계산한다
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE loan_accounts SET " +
+                   "status = CASE WHEN remaining_amount <= :amount THEN 'COMPLETED' ELSE status END, " +
+                   "remaining_amount = remaining_amount - :amount, modified_at = :now " +
+                   "WHERE account_number = :accountNumber AND status = 'ACTIVE' AND remaining_amount >= :amount",
+           nativeQuery = true)
+    int subtractRemainingAmount(@Param("accountNumber") String accountNumber, @Param("amount") Long amount,
+                                @Param("now") LocalDateTime now);
+}
@@ -2,6 +2,7 @@ package com.kopo.hanabank.loan.service;
 
 import com.kopo.hanabank.common.exception.BusinessException;
 import com.kopo.hanabank.common.exception.ErrorCode;
+import com.kopo.hanabank.journal.service.AccountBalanceService;
 import com.kopo.hanabank.loan.domain.LoanAccount;
 import com.kopo.hanabank.loan.domain.LoanProduct;
 import com.kopo.hanabank.loan.repository.LoanAccountRepository;
@@ -25,6 +26,7 @@ public class LoanService {
     private final LoanProductRepository loanProductRepository;
     private final LoanAccountRepository loanAccountRepository;
     private final UserService userService;
+    private final AccountBalanceService accountBalanceService;
 
     public List<LoanProduct> getAllLoanProducts() {
         return loanProductRepository.findByIsActiveTrue();
@@ -103,14 +105,8 @@ public class LoanService {
 
     @Transactional
     public LoanAccount repayLoan(String accountNumber, Long amount) {
-        LoanAccount account = getLoanAccountByNumber(accountNumber);
-        
-        if (account.getStatus() != LoanAccount.LoanStatus.ACTIVE) {
-            throw new BusinessException(ErrorCode.INVALID_LOAN_AMOUNT);
-        }
-
-        account.repay(amount);
-        return account;
+        accountBalanceService.repayLoan(accountNumber, amount);
+        return getLoanAccountByNumber(accountNumber);
     }
 
     @Transactional
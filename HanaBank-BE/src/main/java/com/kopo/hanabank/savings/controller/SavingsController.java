@@ -1,18 +1,23 @@
 package com.kopo.hanabank.savings.controller;
 
 import com.kopo.hanabank.common.dto.ApiResponse;
+import com.kopo.hanabank.savings.domain.AutoTransferRun;
 import com.kopo.hanabank.savings.domain.SavingsAccount;
 import com.kopo.hanabank.savings.domain.SavingsProduct;
+import com.kopo.hanabank.savings.dto.AutoTransferRunResponse;
 import com.kopo.hanabank.savings.dto.SavingsAccountCreateRequest;
 import com.kopo.hanabank.savings.dto.SavingsAccountResponse;
 import com.kopo.hanabank.savings.dto.SavingsTransactionRequest;
+import com.kopo.hanabank.savings.service.AutoTransferSchedulerService;
 import com.kopo.hanabank.savings.service.SavingsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,6 +28,7 @@ import java.util.stream.Collectors;
 public class SavingsController {
 
     private final SavingsService savingsService;
+    private final AutoTransferSchedulerService autoTransferSchedulerService;
 
 
     @Operation(summary = "적금 계좌 생성", description = "새로운 적금 계좌를 생성합니다.")
@@ -74,6 +80,15 @@ public class SavingsController {
         savingsService.closeSavingsAccount(accountNumber);
         return ApiResponse.success("적금 계좌가 성공적으로 해지되었습니다.", null);
     }
-}
-
 
+    @Operation(summary = "자동이체 배치 수동 실행", description = "지정한 이체일의 자동이체를 실행하거나 체크포인트부터 이어서 처리합니다.")
+    @PostMapping("/auto-transfers/run")
+    public ApiResponse<AutoTransferRunResponse> runAutoTransfers(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        AutoTransferRun run = autoTransferSchedulerService.processAutoTransfersForDate(date);
+        if (run == null) {
+            return ApiResponse.error("자동이체 배치가 이미 실행 중입니다.");
+        }
+        return ApiResponse.success("자동이체 배치가 실행되었습니다.", new AutoTransferRunResponse(run));
+    }
+}
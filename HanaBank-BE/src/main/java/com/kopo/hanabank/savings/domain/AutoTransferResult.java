@@ -0,0 +1,81 @@
+package com.kopo.hanabank.savings.domain;
+
+import com.kopo.hanabank.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 적금 계좌별 자동이체 처리 결과 원장
+ * (이체일, 적금 계좌) 유니크 제약으로 같은 날 같은 계좌가 두 번 이체되지 않는다.
+ */
+@Entity
+@Table(
+    name = "auto_transfer_results",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_auto_transfer_result_date_account",
+                columnNames = {"transfer_date", "savings_account_id"})
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AutoTransferResult extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "transfer_date", nullable = false)
+    private LocalDate transferDate;
+
+    @Column(name = "savings_account_id", nullable = false)
+    private Long savingsAccountId;
+
+    @Column(name = "withdrawal_account_number")
+    private String withdrawalAccountNumber;
+
+    @Column(name = "amount")
+    private Long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ResultStatus status;
+
+    @Column(name = "reason", length = 500)
+    private String reason;
+
+    @Builder
+    public AutoTransferResult(Long runId, LocalDate transferDate, Long savingsAccountId,
+                              String withdrawalAccountNumber, Long amount, ResultStatus status, String reason) {
+        this.runId = runId;
+        this.transferDate = transferDate;
+        this.savingsAccountId = savingsAccountId;
+        this.withdrawalAccountNumber = withdrawalAccountNumber;
+        this.amount = amount;
+        this.status = status;
+        this.reason = reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason;
+    }
+
+    public enum ResultStatus {
+        SUCCESS("성공"),
+        SKIPPED("건너뜀"),
+        FAILED("실패");
+
+        private final String description;
+
+        ResultStatus(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
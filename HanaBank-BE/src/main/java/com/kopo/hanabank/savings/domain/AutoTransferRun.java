@@ -0,0 +1,110 @@
+package com.kopo.hanabank.savings.domain;
+
+import com.kopo.hanabank.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일자별 자동이체 배치 실행 이력
+ * checkpointAccountId까지의 적금 계좌는 처리가 끝난 것으로 보고, 재실행 시 그 다음 계좌부터 이어서 처리한다.
+ */
+@Entity
+@Table(name = "auto_transfer_runs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AutoTransferRun extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "transfer_date", nullable = false, unique = true)
+    private LocalDate transferDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private RunStatus status;
+
+    @Column(name = "checkpoint_account_id", nullable = false)
+    private Long checkpointAccountId = 0L;
+
+    @Column(name = "success_count", nullable = false)
+    private Long successCount = 0L;
+
+    @Column(name = "skipped_count", nullable = false)
+    private Long skippedCount = 0L;
+
+    @Column(name = "failed_count", nullable = false)
+    private Long failedCount = 0L;
+
+    @Column(name = "transferred_amount", nullable = false)
+    private Long transferredAmount = 0L;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Builder
+    public AutoTransferRun(LocalDate transferDate) {
+        this.transferDate = transferDate;
+        this.status = RunStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public void restart() {
+        this.status = RunStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+        this.completedAt = null;
+        this.lastError = null;
+    }
+
+    public void advance(Long checkpointAccountId, long success, long skipped, long failed, long amount) {
+        this.checkpointAccountId = Math.max(this.checkpointAccountId, checkpointAccountId);
+        this.successCount += success;
+        this.skippedCount += skipped;
+        this.failedCount += failed;
+        this.transferredAmount += amount;
+    }
+
+    public void complete() {
+        this.status = RunStatus.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void fail(String error) {
+        this.status = RunStatus.FAILED;
+        this.completedAt = LocalDateTime.now();
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+
+    public boolean isCompleted() {
+        return this.status == RunStatus.COMPLETED;
+    }
+
+    public enum RunStatus {
+        RUNNING("실행중"),
+        COMPLETED("완료"),
+        FAILED("실패");
+
+        private final String description;
+
+        RunStatus(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
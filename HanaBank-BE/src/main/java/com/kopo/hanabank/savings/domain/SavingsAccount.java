@@ -12,7 +12,12 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "savings_accounts")
+@Table(
+    name = "savings_accounts",
+    indexes = {
+        @Index(name = "idx_savings_auto_transfer_day", columnList = "transfer_day, auto_transfer_enabled")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class SavingsAccount extends DateTimeEntity {
@@ -0,0 +1,40 @@
+package com.kopo.hanabank.savings.dto;
+
+import com.kopo.hanabank.savings.domain.AutoTransferRun;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoTransferRunResponse {
+    private LocalDate transferDate;
+    private String status;
+    private Long checkpointAccountId;
+    private Long successCount;
+    private Long skippedCount;
+    private Long failedCount;
+    private Long transferredAmount;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private String lastError;
+
+    public AutoTransferRunResponse(AutoTransferRun run) {
+        this.transferDate = run.getTransferDate();
+        this.status = run.getStatus().name();
+        this.checkpointAccountId = run.getCheckpointAccountId();
+        this.successCount = run.getSuccessCount();
+        this.skippedCount = run.getSkippedCount();
+        this.failedCount = run.getFailedCount();
+        this.transferredAmount = run.getTransferredAmount();
+        this.startedAt = run.getStartedAt();
+        this.completedAt = run.getCompletedAt();
+        this.lastError = run.getLastError();
+    }
+}
@@ -0,0 +1,26 @@
+package com.kopo.hanabank.savings.repository;
+
+import com.kopo.hanabank.savings.domain.AutoTransferResult;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AutoTransferResultRepository extends JpaRepository<AutoTransferResult, Long> {
+
+    // 재실행 시 이미 결과가 기록된 계좌 제외용
+    @Query("SELECT r.savingsAccountId FROM AutoTransferResult r " +
+           "WHERE r.transferDate = :transferDate AND r.savingsAccountId IN :accountIds")
+    List<Long> findProcessedAccountIds(@Param("transferDate") LocalDate transferDate,
+                                       @Param("accountIds") Collection<Long> accountIds);
+
+    Page<AutoTransferResult> findByTransferDateAndStatus(LocalDate transferDate,
+                                                        AutoTransferResult.ResultStatus status, Pageable pageable);
+}
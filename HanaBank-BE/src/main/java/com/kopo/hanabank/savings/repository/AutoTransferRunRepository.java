@@ -0,0 +1,18 @@
+package com.kopo.hanabank.savings.repository;
+
+import com.kopo.hanabank.savings.domain.AutoTransferRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AutoTransferRunRepository extends JpaRepository<AutoTransferRun, Long> {
+
+    Optional<AutoTransferRun> findByTransferDate(LocalDate transferDate);
+
+    List<AutoTransferRun> findByStatusNotAndTransferDateBetweenOrderByTransferDateAsc(
+            AutoTransferRun.RunStatus status, LocalDate from, LocalDate to);
+}
@@ -2,9 +2,17 @@ package com.kopo.hanabank.savings.repository;
 
 import com.kopo.hanabank.savings.domain.SavingsAccount;
 import com.kopo.hanabank.user.domain.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +20,10 @@ import java.util.Optional;
 public interface SavingsAccountRepository extends JpaRepository<SavingsAccount, Long> {
     
     List<SavingsAccount> findByUser(User user);
+
+    // 포트폴리오 조회용: 상품을 함께 로딩해 계좌별 지연 로딩을 없앤다
+    @Query("SELECT s FROM SavingsAccount s JOIN FETCH s.product WHERE s.user = :user ORDER BY s.id")
+    List<SavingsAccount> findWithProductByUser(@Param("user") User user);
     
     List<SavingsAccount> findByUserAndStatus(User user, SavingsAccount.AccountStatus status);
     
@@ -23,5 +35,34 @@ public interface SavingsAccountRepository extends JpaRepository<SavingsAccount,
     List<SavingsAccount> findByAutoTransferEnabledTrueAndTransferDay(Integer transferDay);
     
     List<SavingsAccount> findByUserAndAutoTransferEnabledTrue(User user);
-    
-}
\ No newline at end of file
+
+    // 자동이체 배치: 이체일 대상 계좌 ID를 id 순으로 키셋 페이징
+    @Query("SELECT s.id FROM SavingsAccount s WHERE s.autoTransferEnabled = true " +
+           "AND s.transferDay = :transferDay AND s.id > :afterId ORDER BY s.id")
+    List<Long> findAutoTransferAccountIdsAfter(@Param("transferDay") Integer transferDay,
+                                               @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT DISTINCT s.withdrawalAccountNumber FROM SavingsAccount s " +
+           "WHERE s.id IN :ids AND s.withdrawalAccountNumber IS NOT NULL")
+    List<String> findWithdrawalAccountNumbersByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 자동이체 배치: 청크 단위 행 잠금 (id 순서로 잠가 교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SavingsAccount s WHERE s.id IN :ids ORDER BY s.id")
+    List<SavingsAccount> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 원자적 입금 (활성 계좌만)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SavingsAccount s SET s.balance = s.balance + :amount, s.modifiedAt = :now " +
+           "WHERE s.accountNumber = :accountNumber AND s.isActive = true AND s.status = 'ACTIVE'")
+    int addBalance(@Param("accountNumber") String accountNumber, @Param("amount") Long amount,
+                   @Param("now") LocalDateTime now);
+
+    // 원자적 출금 (잔액이 충분할 때만)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SavingsAccount s SET s.balance = s.balance - :amount, s.modifiedAt = :now " +
+           "WHERE s.accountNumber = :accountNumber AND s.isActive = true AND s.status = 'ACTIVE' " +
+           "AND s.balance >= :amount")
+    int subtractBalance(@Param("accountNumber") String accountNumber, @Param("amount") Long amount,
+                        @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,185 @@
+package com.kopo.hanabank.savings.service;
+
+import com.kopo.hanabank.savings.domain.AutoTransferRun;
+import com.kopo.hanabank.savings.repository.AutoTransferRunRepository;
+import com.kopo.hanabank.savings.repository.SavingsAccountRepository;
+import com.kopo.hanabank.savings.service.AutoTransferChunkProcessor.ChunkResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 적금 자동이체 배치 엔진
+ * 대상 계좌를 id 순 키셋으로 읽어 청크로 나누고, 청크마다 독립 트랜잭션으로 병렬 처리한다.
+ * 한 웨이브(parallelism개 청크)가 끝날 때마다 실행 이력에 체크포인트를 남겨 중단 후 이어서 실행할 수 있고,
+ * 계좌별 결과는 auto_transfer_results에 기록된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutoTransferBatchService {
+
+    private final SavingsAccountRepository savingsAccountRepository;
+    private final AutoTransferRunRepository autoTransferRunRepository;
+    private final AutoTransferChunkProcessor autoTransferChunkProcessor;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${auto-transfer.parallelism:4}")
+    private int parallelism;
+
+    @Value("${auto-transfer.chunk-size:500}")
+    private int chunkSize;
+
+    public AutoTransferRun run(LocalDate transferDate) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("자동이체 배치가 이미 실행 중입니다 - 이체일: {}", transferDate);
+            return autoTransferRunRepository.findByTransferDate(transferDate).orElse(null);
+        }
+        try {
+            return execute(transferDate);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private AutoTransferRun execute(LocalDate transferDate) {
+        AutoTransferRun run = transactionTemplate.execute(status -> startRun(transferDate));
+        if (run.isCompleted()) {
+            log.info("자동이체 배치가 이미 완료되었습니다 - 이체일: {}", transferDate);
+            return run;
+        }
+
+        Long runId = run.getId();
+        int workers = Math.max(1, parallelism);
+        int waveSize = chunkSize * workers;
+        long startTime = System.currentTimeMillis();
+        long processedTotal = 0;
+        Long checkpoint = run.getCheckpointAccountId();
+
+        log.info("자동이체 배치 시작 - 이체일: {}, 체크포인트: {}, 병렬도: {}, 청크: {}",
+                transferDate, checkpoint, workers, chunkSize);
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers, namedThreadFactory());
+        try {
+            while (true) {
+                List<Long> ids = savingsAccountRepository.findAutoTransferAccountIdsAfter(
+                        transferDate.getDayOfMonth(), checkpoint, PageRequest.of(0, waveSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                List<Future<ChunkResult>> futures = new ArrayList<>();
+                for (int from = 0; from < ids.size(); from += chunkSize) {
+                    List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                    futures.add(executor.submit(() -> processChunk(runId, transferDate, chunk)));
+                }
+
+                ChunkResult wave = new ChunkResult();
+                for (Future<ChunkResult> future : futures) {
+                    wave.merge(await(future));
+                }
+
+                checkpoint = ids.get(ids.size() - 1);
+                Long waveCheckpoint = checkpoint;
+                transactionTemplate.executeWithoutResult(status -> autoTransferRunRepository.findById(runId)
+                        .ifPresent(r -> r.advance(waveCheckpoint, wave.getSuccess(), wave.getSkipped(),
+                                wave.getFailed(), wave.getAmount())));
+
+                processedTotal += ids.size();
+                long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+                log.info("자동이체 배치 진행 - 이체일: {}, 처리 {}건 (성공 {}, 건너뜀 {}, 실패 {}), 체크포인트: {}, {}건/초",
+                        transferDate, processedTotal, wave.getSuccess(), wave.getSkipped(), wave.getFailed(),
+                        checkpoint, processedTotal * 1000 / elapsed);
+            }
+
+            AutoTransferRun completed = transactionTemplate.execute(status -> {
+                AutoTransferRun r = autoTransferRunRepository.findById(runId).orElseThrow();
+                r.complete();
+                return r;
+            });
+            long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+            log.info("자동이체 배치 완료 - 이체일: {}, 성공 {}건, 건너뜀 {}건, 실패 {}건, 이체금액 {}원, {}ms ({}건/초)",
+                    transferDate, completed.getSuccessCount(), completed.getSkippedCount(), completed.getFailedCount(),
+                    completed.getTransferredAmount(), elapsed, processedTotal * 1000 / elapsed);
+            return completed;
+
+        } catch (RuntimeException e) {
+            log.error("자동이체 배치 중단 - 이체일: {}, 체크포인트: {}, 오류: {}", transferDate, checkpoint, e.getMessage(), e);
+            transactionTemplate.executeWithoutResult(status -> autoTransferRunRepository.findById(runId)
+                    .ifPresent(r -> r.fail(e.getMessage())));
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private AutoTransferRun startRun(LocalDate transferDate) {
+        AutoTransferRun run = autoTransferRunRepository.findByTransferDate(transferDate)
+                .orElseGet(() -> autoTransferRunRepository.save(AutoTransferRun.builder()
+                        .transferDate(transferDate)
+                        .build()));
+        if (!run.isCompleted()) {
+            run.restart();
+        }
+        return run;
+    }
+
+    /**
+     * 청크 트랜잭션이 실패하면 계좌 단위로 다시 처리해 실패 계좌만 결과 원장에 실패로 남긴다
+     */
+    private ChunkResult processChunk(Long runId, LocalDate transferDate, List<Long> chunk) {
+        try {
+            return autoTransferChunkProcessor.process(runId, transferDate, chunk);
+        } catch (Exception chunkError) {
+            log.warn("자동이체 청크 실패, 계좌 단위 재처리 - 계좌 {}건, 오류: {}", chunk.size(), chunkError.getMessage());
+            ChunkResult result = new ChunkResult();
+            for (Long accountId : chunk) {
+                ChunkResult single;
+                try {
+                    single = autoTransferChunkProcessor.process(runId, transferDate, List.of(accountId));
+                } catch (Exception e) {
+                    log.error("자동이체 처리 실패 - 적금계좌 ID: {}, 오류: {}", accountId, e.getMessage());
+                    single = autoTransferChunkProcessor.recordFailures(runId, transferDate, List.of(accountId), e.getMessage());
+                }
+                result.merge(single);
+            }
+            return result;
+        }
+    }
+
+    private ChunkResult await(Future<ChunkResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("자동이체 배치가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("자동이체 청크 처리 실패: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private ThreadFactory namedThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "auto-transfer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,207 @@
+package com.kopo.hanabank.savings.service;
+
+import com.kopo.hanabank.deposit.domain.DemandDepositAccount;
+import com.kopo.hanabank.deposit.repository.DemandDepositAccountRepository;
+import com.kopo.hanabank.journal.domain.AccountJournalEntry;
+import com.kopo.hanabank.journal.domain.AccountJournalEntry.AccountType;
+import com.kopo.hanabank.journal.domain.AccountJournalEntry.EntryType;
+import com.kopo.hanabank.journal.repository.AccountJournalEntryRepository;
+import com.kopo.hanabank.savings.domain.AutoTransferResult;
+import com.kopo.hanabank.savings.domain.AutoTransferResult.ResultStatus;
+import com.kopo.hanabank.savings.domain.SavingsAccount;
+import com.kopo.hanabank.savings.repository.AutoTransferResultRepository;
+import com.kopo.hanabank.savings.repository.SavingsAccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 자동이체 청크 처리기 (청크당 하나의 트랜잭션)
+ * 출금 계좌(계좌번호 순) -> 적금 계좌(id 순)의 고정된 순서로 행을 잠가
+ * 병렬 청크가 같은 출금 계좌를 공유해도 교착 상태가 생기지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutoTransferChunkProcessor {
+
+    private final SavingsAccountRepository savingsAccountRepository;
+    private final DemandDepositAccountRepository demandDepositAccountRepository;
+    private final AutoTransferResultRepository autoTransferResultRepository;
+    private final AccountJournalEntryRepository accountJournalEntryRepository;
+
+    @Transactional
+    public ChunkResult process(Long runId, LocalDate transferDate, List<Long> savingsAccountIds) {
+        // 이전 실행에서 이미 결과가 기록된 계좌는 제외 (재실행 시 중복 이체 방지)
+        Set<Long> processed = new HashSet<>(autoTransferResultRepository.findProcessedAccountIds(transferDate, savingsAccountIds));
+        List<Long> targetIds = savingsAccountIds.stream().filter(id -> !processed.contains(id)).toList();
+        if (targetIds.isEmpty()) {
+            return ChunkResult.empty();
+        }
+
+        // 잠그기 전 출금 계좌번호만 수집 (잠금 순서 결정용, 엔티티는 잠금 조회로 처음 적재)
+        Set<String> withdrawalNumbers = new TreeSet<>(
+                savingsAccountRepository.findWithdrawalAccountNumbersByIdIn(targetIds));
+
+        Map<String, DemandDepositAccount> withdrawalAccounts = withdrawalNumbers.isEmpty() ? Map.of()
+                : demandDepositAccountRepository.findAllByAccountNumberInForUpdate(withdrawalNumbers).stream()
+                        .collect(Collectors.toMap(DemandDepositAccount::getAccountNumber, Function.identity()));
+        List<SavingsAccount> savingsAccounts = savingsAccountRepository.findAllByIdInForUpdate(targetIds);
+
+        ChunkResult result = new ChunkResult();
+        List<AutoTransferResult> ledger = new ArrayList<>();
+        List<AccountJournalEntry> journal = new ArrayList<>();
+        for (SavingsAccount savingsAccount : savingsAccounts) {
+            AutoTransferResult entry = transfer(runId, transferDate, savingsAccount, withdrawalAccounts, journal);
+            ledger.add(entry);
+            result.add(entry);
+        }
+        autoTransferResultRepository.saveAll(ledger);
+        accountJournalEntryRepository.saveAll(journal);
+        return result;
+    }
+
+    /**
+     * 청크 전체가 롤백된 계좌를 실패로 기록 (별도 트랜잭션)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public ChunkResult recordFailures(Long runId, LocalDate transferDate, Collection<Long> savingsAccountIds, String reason) {
+        Set<Long> processed = new HashSet<>(autoTransferResultRepository.findProcessedAccountIds(transferDate, savingsAccountIds));
+        ChunkResult result = new ChunkResult();
+        List<AutoTransferResult> ledger = new ArrayList<>();
+        for (Long accountId : savingsAccountIds) {
+            if (processed.contains(accountId)) {
+                continue;
+            }
+            AutoTransferResult entry = AutoTransferResult.builder()
+                    .runId(runId)
+                    .transferDate(transferDate)
+                    .savingsAccountId(accountId)
+                    .status(ResultStatus.FAILED)
+                    .reason(reason)
+                    .build();
+            ledger.add(entry);
+            result.add(entry);
+        }
+        autoTransferResultRepository.saveAll(ledger);
+        return result;
+    }
+
+    private AutoTransferResult transfer(Long runId, LocalDate transferDate, SavingsAccount savingsAccount,
+                                        Map<String, DemandDepositAccount> withdrawalAccounts,
+                                        List<AccountJournalEntry> journal) {
+        String withdrawalAccountNumber = savingsAccount.getWithdrawalAccountNumber();
+        Long transferAmount = savingsAccount.getMonthlyTransferAmount();
+        AutoTransferResult.AutoTransferResultBuilder entry = AutoTransferResult.builder()
+                .runId(runId)
+                .transferDate(transferDate)
+                .savingsAccountId(savingsAccount.getId())
+                .withdrawalAccountNumber(withdrawalAccountNumber)
+                .amount(transferAmount);
+
+        // 잠금 이후 상태로 다시 확인 (조회 시점과 달라졌을 수 있음)
+        if (!Boolean.TRUE.equals(savingsAccount.getAutoTransferEnabled())) {
+            return entry.status(ResultStatus.SKIPPED).reason("자동이체 해지").build();
+        }
+        if (!savingsAccount.getIsActive() || savingsAccount.getStatus() != SavingsAccount.AccountStatus.ACTIVE) {
+            return entry.status(ResultStatus.SKIPPED).reason("적금 계좌 비활성").build();
+        }
+        if (transferAmount == null || transferAmount <= 0) {
+            return entry.status(ResultStatus.SKIPPED).reason("자동이체 금액 미설정").build();
+        }
+        if (!hasText(withdrawalAccountNumber)) {
+            return entry.status(ResultStatus.SKIPPED).reason("출금 계좌번호 미설정").build();
+        }
+
+        DemandDepositAccount withdrawalAccount = withdrawalAccounts.get(withdrawalAccountNumber);
+        if (withdrawalAccount == null) {
+            return entry.status(ResultStatus.SKIPPED).reason("출금 계좌 없음").build();
+        }
+        if (!withdrawalAccount.getIsActive() || withdrawalAccount.getStatus() != DemandDepositAccount.AccountStatus.ACTIVE) {
+            return entry.status(ResultStatus.SKIPPED).reason("출금 계좌 비활성").build();
+        }
+        if (withdrawalAccount.getAvailableBalance() < transferAmount) {
+            log.warn("출금 계좌 잔액 부족 - 출금계좌: {}, 현재잔액: {}, 요청금액: {}",
+                    withdrawalAccountNumber, withdrawalAccount.getAvailableBalance(), transferAmount);
+            return entry.status(ResultStatus.SKIPPED).reason("출금 계좌 잔액 부족").build();
+        }
+
+        // 같은 청크에서 출금 계좌를 공유하는 적금은 동일 엔티티에 순차 반영된다
+        withdrawalAccount.withdraw(transferAmount);
+        savingsAccount.deposit(transferAmount);
+
+        LocalDateTime now = LocalDateTime.now();
+        journal.add(AccountJournalEntry.builder()
+                .accountType(AccountType.DEMAND_DEPOSIT)
+                .accountNumber(withdrawalAccountNumber)
+                .entryType(EntryType.AUTO_TRANSFER_OUT)
+                .amount(transferAmount)
+                .balanceAfter(withdrawalAccount.getBalance())
+                .description("적금 자동이체 " + savingsAccount.getAccountNumber())
+                .occurredAt(now)
+                .build());
+        journal.add(AccountJournalEntry.builder()
+                .accountType(AccountType.SAVINGS)
+                .accountNumber(savingsAccount.getAccountNumber())
+                .entryType(EntryType.AUTO_TRANSFER_IN)
+                .amount(transferAmount)
+                .balanceAfter(savingsAccount.getBalance())
+                .description("적금 자동이체 " + withdrawalAccountNumber)
+                .occurredAt(now)
+                .build());
+        return entry.status(ResultStatus.SUCCESS).build();
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    public static class ChunkResult {
+        private long success;
+        private long skipped;
+        private long failed;
+        private long amount;
+
+        static ChunkResult empty() {
+            return new ChunkResult();
+        }
+
+        void merge(ChunkResult other) {
+            success += other.success;
+            skipped += other.skipped;
+            failed += other.failed;
+            amount += other.amount;
+        }
+
+        void add(AutoTransferResult entry) {
+            switch (entry.getStatus()) {
+                case SUCCESS -> {
+                    success++;
+                    amount += entry.getAmount();
+                }
+                case SKIPPED -> skipped++;
+                case FAILED -> failed++;
+            }
+        }
+
+        public long getSuccess() { return success; }
+        public long getSkipped() { return skipped; }
+        public long getFailed() { return failed; }
+        public long getAmount() { return amount; }
+        public long getTotal() { return success + skipped + failed; }
+    }
+}
@@ -3,6 +3,7 @@ package com.kopo.hanabank.savings.service;
 import com.kopo.hanabank.common.exception.BusinessException;
 import com.kopo.hanabank.common.exception.ErrorCode;
 import com.kopo.hanabank.deposit.service.DemandDepositAccountService;
+import com.kopo.hanabank.journal.service.AccountBalanceService;
 import com.kopo.hanabank.savings.domain.SavingsAccount;
 import com.kopo.hanabank.savings.domain.SavingsProduct;
 import com.kopo.hanabank.savings.repository.SavingsAccountRepository;
@@ -29,6 +30,7 @@ public class SavingsService {
     private final SavingsAccountRepository savingsAccountRepository;
     private final UserService userService;
     private final DemandDepositAccountService demandDepositAccountService;
+    private final AccountBalanceService accountBalanceService;
 
     public List<SavingsProduct> getAllSavingsProducts() {
         return savingsProductRepository.findByIsActiveTrue();
@@ -147,40 +149,28 @@ public class SavingsService {
 
     @Transactional
     public SavingsAccount depositToSavings(String accountNumber, Long amount) {
-        SavingsAccount account = getSavingsAccountByNumber(accountNumber);
-        
-        if (amount <= 0) {
+        if (amount == null || amount <= 0) {
             throw new BusinessException(ErrorCode.INVALID_AMOUNT);
         }
         
-        account.deposit(amount);
-        SavingsAccount updatedAccount = savingsAccountRepository.save(account);
+        long balance = accountBalanceService.depositToSavings(accountNumber, amount);
         
-        log.info("적금 계좌 입금 완료 - 계좌번호: {}, 금액: {}, 잔고: {}", 
-                accountNumber, amount, updatedAccount.getBalance());
+        log.info("적금 계좌 입금 완료 - 계좌번호: {}, 금액: {}, 잔고: {}", accountNumber, amount, balance);
         
-        return updatedAccount;
+        return getSavingsAccountByNumber(accountNumber);
     }
 
     @Transactional
     public SavingsAccount withdrawFromSavings(String accountNumber, Long amount) {
-        SavingsAccount account = getSavingsAccountByNumber(accountNumber);
-        
-        if (amount <= 0) {
+        if (amount == null || amount <= 0) {
             throw new BusinessException(ErrorCode.INVALID_AMOUNT);
         }
         
-        if (account.getBalance() < amount) { // Long 타입으로 비교
-            throw new BusinessException(ErrorCode.INSUFFICIENT_BALANCE);
-        }
+        long balance = accountBalanceService.withdrawFromSavings(accountNumber, amount);
         
-        account.withdraw(amount);
-        SavingsAccount updatedAccount = savingsAccountRepository.save(account);
+        log.info("적금 계좌 출금 완료 - 계좌번호: {}, 금액: {}, 잔고: {}", accountNumber, amount, balance);
         
-        log.info("적금 계좌 출금 완료 - 계좌번호: {}, 금액: {}, 잔고: {}", 
-                accountNumber, amount, updatedAccount.getBalance());
-        
-        return updatedAccount;
+        return getSavingsAccountByNumber(accountNumber);
     }
 
     @Transactional
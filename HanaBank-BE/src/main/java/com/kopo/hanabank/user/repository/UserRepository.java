@@ -1,9 +1,15 @@
 package com.kopo.hanabank.user.repository;
 
+import com.kopo.hanabank.integration.dto.FinancialExportView;
+import com.kopo.hanabank.integration.dto.ProductStatusView;
 import com.kopo.hanabank.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,6 +22,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByPhoneNumber(String phoneNumber);
     
     Optional<User> findByCi(String ci);
+
+    @Query("SELECT u.id FROM User u WHERE u.ci = :ci")
+    Optional<Long> findIdByCi(@Param("ci") String ci);
     
     boolean existsByUsername(String username);
     
@@ -24,11 +33,25 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByPhoneNumber(String phoneNumber);
     
     boolean existsByCi(String ci);
-}
-
-
-
-
-
-
 
+    // 상품 현황: 사용자 조회와 상품별 건수를 한 번의 쿼리로 계산 (각 서브쿼리는 user_id 인덱스 사용)
+    @Query(value = "SELECT u.id AS userId, " +
+                   "(SELECT COUNT(*) FROM savings_accounts s WHERE s.user_id = u.id) AS savingsCount, " +
+                   "(SELECT COUNT(*) FROM loan_accounts l WHERE l.user_id = u.id) AS loanCount, " +
+                   "(SELECT COUNT(*) FROM investment_accounts i WHERE i.user_id = u.id) AS investmentCount, " +
+                   "(SELECT COUNT(*) FROM demand_deposit_accounts d WHERE d.user_id = u.id " +
+                   "AND d.is_active = true AND d.status = 'ACTIVE') AS depositCount " +
+                   "FROM users u WHERE u.phone_number = :phoneNumber",
+           nativeQuery = true)
+    Optional<ProductStatusView> findProductStatusByPhoneNumber(@Param("phoneNumber") String phoneNumber);
+
+    /**
+     * CI 목록의 적금 잔액/대출 금액 합계를 한 번에 조회 (금융 데이터 일괄 보내기용)
+     */
+    @Query(value = "SELECT u.ci AS ci, " +
+                   "(SELECT COALESCE(SUM(s.balance), 0) FROM savings_accounts s WHERE s.user_id = u.id) AS savingsBalance, " +
+                   "(SELECT COALESCE(SUM(l.loan_amount), 0) FROM loan_accounts l WHERE l.user_id = u.id) AS loanBalance " +
+                   "FROM users u WHERE u.ci IN (:cis)",
+           nativeQuery = true)
+    List<FinancialExportView> findFinancialExportByCiIn(@Param("cis") Collection<String> cis);
+}
@@ -0,0 +1,124 @@
+package com.kopo.hanabank.user.service;
+
+import com.kopo.hanabank.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 그룹사 연동 요청의 CI -> 사용자 ID 조회 캐시
+ * 한 화면에서 같은 CI로 여러 번 들어오는 연동 호출이 매번 users를 조회하지 않도록
+ * 크기 제한 LRU로 보관하며, 존재하지 않는 CI도 짧은 TTL로 캐시한다.
+ * HanaCard-BE의 같은 이름 클래스와 구현을 맞춰 둔다 (카드는 전화번호 조회가 추가됨).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserLookupCache {
+
+    private static final String CI_PREFIX = "ci:";
+
+    private final UserRepository userRepository;
+
+    @Value("${user.lookup-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${user.lookup-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${user.lookup-cache.negative-ttl-seconds:30}")
+    private long negativeTtlSeconds;
+
+    // 접근 순서 기준 LinkedHashMap (접두사+키 -> 조회 결과)
+    private final LinkedHashMap<String, CachedLookup> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    public Optional<Long> findUserIdByCi(String ci) {
+        return lookup(CI_PREFIX, ci, userRepository::findIdByCi);
+    }
+
+    /**
+     * 사용자 정보 변경/비활성화 시 해당 사용자의 캐시 항목 제거 (트랜잭션 안이면 커밋 후)
+     */
+    public void invalidateUser(Long userId) {
+        afterCommit(() -> {
+            synchronized (entries) {
+                entries.values().removeIf(cached -> Objects.equals(cached.userId(), userId));
+            }
+        });
+    }
+
+    /**
+     * 신규 사용자 생성 시 "없음"으로 캐시된 항목 제거 (트랜잭션 안이면 커밋 후)
+     * 커밋 전에 지우면 그 사이 다른 요청이 아직 보이지 않는 사용자를 다시 "없음"으로 캐시할 수 있다.
+     */
+    public void invalidateMisses() {
+        afterCommit(() -> {
+            synchronized (entries) {
+                entries.values().removeIf(cached -> cached.userId() == null);
+            }
+        });
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        log.info("사용자 조회 캐시 초기화");
+    }
+
+    private Optional<Long> lookup(String prefix, String value, Function<String, Optional<Long>> loader) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        String key = prefix + value;
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            CachedLookup cached = entries.get(key);
+            if (cached != null && cached.expiresAt() > now) {
+                return Optional.ofNullable(cached.userId());
+            }
+        }
+
+        Long userId = loader.apply(value).orElse(null);
+        long ttlMillis = (userId != null ? ttlSeconds : negativeTtlSeconds) * 1000L;
+        synchronized (entries) {
+            entries.put(key, new CachedLookup(userId, now + ttlMillis));
+            evictIfNeeded();
+        }
+        return Optional.ofNullable(userId);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, CachedLookup>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record CachedLookup(Long userId, long expiresAt) {
+    }
+}
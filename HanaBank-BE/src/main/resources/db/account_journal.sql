@@ -0,0 +1,15 @@
+-- 계좌 거래 저널 (MySQL 8.0)
+-- prod 프로필은 ddl-auto: validate이므로 배포 전에 적용한다.
+
+CREATE TABLE IF NOT EXISTS account_journal_entries (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    account_type   VARCHAR(255) NOT NULL,
+    account_number VARCHAR(255) NOT NULL,
+    entry_type     VARCHAR(255) NOT NULL,
+    amount         BIGINT       NOT NULL,
+    balance_after  BIGINT       NOT NULL,
+    description    VARCHAR(255),
+    occurred_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    KEY idx_account_journal_account_occurred (account_number, occurred_at)
+);
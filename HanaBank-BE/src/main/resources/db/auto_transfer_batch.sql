@@ -0,0 +1,37 @@
+-- 적금 자동이체 배치 실행 이력/결과 원장 (MySQL 8.0)
+-- prod 프로필은 ddl-auto: validate이므로 배포 전에 적용한다.
+
+CREATE TABLE IF NOT EXISTS auto_transfer_runs (
+    id                    BIGINT       NOT NULL AUTO_INCREMENT,
+    transfer_date         DATE         NOT NULL,
+    status                VARCHAR(255) NOT NULL,
+    checkpoint_account_id BIGINT       NOT NULL DEFAULT 0,
+    success_count         BIGINT       NOT NULL DEFAULT 0,
+    skipped_count         BIGINT       NOT NULL DEFAULT 0,
+    failed_count          BIGINT       NOT NULL DEFAULT 0,
+    transferred_amount    BIGINT       NOT NULL DEFAULT 0,
+    started_at            DATETIME(6),
+    completed_at          DATETIME(6),
+    last_error            VARCHAR(1000),
+    created_at            DATETIME(6)  NOT NULL,
+    modified_at           DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_auto_transfer_run_date (transfer_date)
+);
+
+CREATE TABLE IF NOT EXISTS auto_transfer_results (
+    id                        BIGINT       NOT NULL AUTO_INCREMENT,
+    run_id                    BIGINT       NOT NULL,
+    transfer_date             DATE         NOT NULL,
+    savings_account_id        BIGINT       NOT NULL,
+    withdrawal_account_number VARCHAR(255),
+    amount                    BIGINT,
+    status                    VARCHAR(255) NOT NULL,
+    reason                    VARCHAR(500),
+    created_at                DATETIME(6)  NOT NULL,
+    modified_at               DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_auto_transfer_result_date_account (transfer_date, savings_account_id)
+);
+
+CREATE INDEX idx_savings_auto_transfer_day ON savings_accounts (transfer_day, auto_transfer_enabled);
@@ -0,0 +1,202 @@
+package com.kopo.hanabank.journal.service;
+
+import com.kopo.hanabank.common.config.JpaConfig;
+import com.kopo.hanabank.common.exception.BusinessException;
+import com.kopo.hanabank.common.exception.ErrorCode;
+import com.kopo.hanabank.deposit.domain.DemandDepositAccount;
+import com.kopo.hanabank.deposit.repository.DemandDepositAccountRepository;
+import com.kopo.hanabank.journal.domain.AccountJournalEntry;
+import com.kopo.hanabank.journal.repository.AccountJournalEntryRepository;
+import com.kopo.hanabank.user.domain.User;
+import com.kopo.hanabank.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동시 입출금 스트레스 테스트
+ * 임베디드 H2(MVStore, 행 잠금)에 실제 조건부 UPDATE를 실행해, 동시 출금이 잔액을 음수로 만들지 않고
+ * 영향 행이 0인 출금은 잔액 부족으로 거절되며 성공한 갱신에만 저널이 남는지 확인한다.
+ * 스레드마다 서비스 트랜잭션이 따로 커밋되어야 하므로 테스트 트랜잭션은 쓰지 않는다.
+ */
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:account-balance;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.sql.init.mode=never"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, AccountBalanceService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountBalanceServiceConcurrencyTest {
+
+	private static final String ACCOUNT_NUMBER = "081-000-000001";
+	private static final int THREADS = 16;
+
+	@Autowired
+	private AccountBalanceService accountBalanceService;
+	@Autowired
+	private DemandDepositAccountRepository demandDepositAccountRepository;
+	@Autowired
+	private AccountJournalEntryRepository accountJournalEntryRepository;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@BeforeEach
+	void setUp() {
+		User user = userRepository.save(User.builder()
+				.username("balance-user")
+				.email("balance@example.com")
+				.phoneNumber("010-0000-0001")
+				.name("홍길동")
+				.birthDate("1990-01-01")
+				.build());
+		demandDepositAccountRepository.save(DemandDepositAccount.builder()
+				.user(user)
+				.accountNumber(ACCOUNT_NUMBER)
+				.accountType(DemandDepositAccount.AccountType.CHECKING)
+				.openDate(LocalDate.now())
+				.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		accountJournalEntryRepository.deleteAllInBatch();
+		demandDepositAccountRepository.deleteAllInBatch();
+		userRepository.deleteAllInBatch();
+	}
+
+	@Test
+	void guardedUpdateTouchesNoRowWhenBalanceIsShort() {
+		accountBalanceService.depositToDemandDeposit(ACCOUNT_NUMBER, 1_000L);
+
+		Integer updated = transactionTemplate.execute(status ->
+				demandDepositAccountRepository.subtractBalance(ACCOUNT_NUMBER, 1_001L, LocalDateTime.now()));
+		assertThat(updated).isZero();
+		assertThatThrownBy(() -> accountBalanceService.withdrawFromDemandDeposit(ACCOUNT_NUMBER, 1_001L))
+				.isInstanceOf(BusinessException.class)
+				.extracting(e -> ((BusinessException) e).getErrorCode())
+				.isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
+
+		assertThat(balance()).isEqualTo(1_000L);
+		assertThat(journal(AccountJournalEntry.EntryType.WITHDRAWAL)).isEmpty();
+	}
+
+	@Test
+	void concurrentWithdrawalsNeverOverdraw() throws Exception {
+		accountBalanceService.depositToDemandDeposit(ACCOUNT_NUMBER, 10_000L);
+
+		List<Callable<Boolean>> tasks = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			tasks.add(() -> {
+				try {
+					accountBalanceService.withdrawFromDemandDeposit(ACCOUNT_NUMBER, 300L);
+					return true;
+				} catch (BusinessException e) {
+					assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
+					return false;
+				}
+			});
+		}
+
+		long succeeded = runConcurrently(tasks).stream().filter(Boolean::booleanValue).count();
+
+		List<AccountJournalEntry> withdrawals = journal(AccountJournalEntry.EntryType.WITHDRAWAL);
+		assertThat(succeeded).isEqualTo(33);
+		assertThat(balance()).isEqualTo(100L);
+		assertThat(withdrawals).hasSize(33);
+		assertThat(withdrawals).allSatisfy(entry -> assertThat(entry.getBalanceAfter()).isNotNegative());
+	}
+
+	@Test
+	void concurrentDepositsAndWithdrawalsKeepBalanceConsistent() throws Exception {
+		List<Callable<Boolean>> tasks = new ArrayList<>();
+		for (int i = 0; i < 400; i++) {
+			boolean deposit = i % 2 == 0;
+			tasks.add(() -> {
+				try {
+					if (deposit) {
+						accountBalanceService.depositToDemandDeposit(ACCOUNT_NUMBER, 500L);
+					} else {
+						accountBalanceService.withdrawFromDemandDeposit(ACCOUNT_NUMBER, 700L);
+					}
+					return true;
+				} catch (BusinessException e) {
+					return false;
+				}
+			});
+		}
+
+		runConcurrently(tasks);
+
+		long deposited = journal(AccountJournalEntry.EntryType.DEPOSIT).stream()
+				.mapToLong(AccountJournalEntry::getAmount).sum();
+		long withdrawn = journal(AccountJournalEntry.EntryType.WITHDRAWAL).stream()
+				.mapToLong(AccountJournalEntry::getAmount).sum();
+
+		assertThat(deposited).isEqualTo(200 * 500L);
+		assertThat(balance()).isEqualTo(deposited - withdrawn).isNotNegative();
+		assertThat(demandDepositAccountRepository.findByAccountNumber(ACCOUNT_NUMBER).orElseThrow().getAvailableBalance())
+				.isEqualTo(balance());
+	}
+
+	private long balance() {
+		return demandDepositAccountRepository.findByAccountNumber(ACCOUNT_NUMBER).orElseThrow().getBalance();
+	}
+
+	private List<AccountJournalEntry> journal(AccountJournalEntry.EntryType entryType) {
+		return accountJournalEntryRepository.findAll().stream()
+				.filter(entry -> entry.getEntryType() == entryType)
+				.toList();
+	}
+
+	private List<Boolean> runConcurrently(List<Callable<Boolean>> tasks) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<Boolean>> futures = new ArrayList<>();
+			for (Callable<Boolean> task : tasks) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return task.call();
+				}));
+			}
+			start.countDown();
+
+			List<Boolean> results = new ArrayList<>();
+			for (Future<Boolean> future : futures) {
+				results.add(future.get(60, TimeUnit.SECONDS));
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
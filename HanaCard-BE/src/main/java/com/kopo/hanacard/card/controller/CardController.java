@@ -107,11 +107,13 @@ public class CardController {
         return ApiResponse.success(summary);
     }
 
-    @Operation(summary = "카테고리별 거래내역 조회", description = "특정 카테고리의 거래내역을 조회합니다.")
+    @Operation(summary = "카테고리별 거래내역 조회", description = "특정 카테고리의 거래내역을 최신순으로 페이지 단위 조회합니다.")
     @GetMapping("/user/{userId}/transactions/category/{category}")
     public ApiResponse<List<CardTransactionResponse>> getTransactionsByCategory(@PathVariable Long userId, 
-                                                                              @PathVariable String category) {
-        List<CardTransactionResponse> transactions = cardTransactionService.getTransactionsByCategory(userId, category);
+                                                                              @PathVariable String category,
+                                                                              @RequestParam(defaultValue = "0") int page,
+                                                                              @RequestParam(defaultValue = "100") int size) {
+        List<CardTransactionResponse> transactions = cardTransactionService.getTransactionsByCategory(userId, category, page, size);
         return ApiResponse.success(transactions);
     }
 
@@ -132,11 +134,13 @@ public class CardController {
         return ApiResponse.success(analysis);
     }
 
-    @Operation(summary = "태그별 거래내역 조회", description = "특정 태그의 거래내역을 조회합니다.")
+    @Operation(summary = "태그별 거래내역 조회", description = "특정 태그의 거래내역을 최신순으로 페이지 단위 조회합니다.")
     @GetMapping("/user/{userId}/transactions/tag/{tag}")
     public ApiResponse<List<CardTransactionResponse>> getTransactionsByTag(@PathVariable Long userId, 
-                                                                          @PathVariable String tag) {
-        List<CardTransactionResponse> transactions = cardTransactionService.getTransactionsByTag(userId, tag);
+                                                                          @PathVariable String tag,
+                                                                          @RequestParam(defaultValue = "0") int page,
+                                                                          @RequestParam(defaultValue = "100") int size) {
+        List<CardTransactionResponse> transactions = cardTransactionService.getTransactionsByTag(userId, tag, page, size);
         return ApiResponse.success(transactions);
     }
 }
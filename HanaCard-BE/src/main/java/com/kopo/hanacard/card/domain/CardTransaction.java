@@ -12,7 +12,15 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "card_transactions")
+@Table(
+    name = "card_transactions",
+    indexes = {
+        @Index(name = "idx_card_tx_card_date", columnList = "user_card_id, transaction_date"),
+        @Index(name = "idx_card_tx_card_category_date", columnList = "user_card_id, category, transaction_date"),
+        @Index(name = "idx_card_tx_card_id", columnList = "user_card_id, id"),
+        @Index(name = "idx_card_tx_card_created", columnList = "user_card_id, created_at")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CardTransaction extends DateTimeEntity {
@@ -53,6 +61,9 @@ public class CardTransaction extends DateTimeEntity {
     @Column(name = "tags", length = 500)
     private String tags; // 친환경, 대중교통, 전기차 등 태그들을 쉼표로 구분
 
+    @Column(name = "eco_tag_mask", nullable = false, columnDefinition = "NUMBER(10) DEFAULT 0")
+    private Integer ecoTagMask = 0; // tags의 친환경 태그 비트마스크 (EcoTag)
+
     @Column(name = "business_number", length = 20)
     private String businessNumber; // 사업자 번호 (친환경 가맹점 매칭용)
 
@@ -70,6 +81,7 @@ public class CardTransaction extends DateTimeEntity {
         this.description = description;
         this.merchantCategory = merchantCategory;
         this.tags = tags;
+        this.ecoTagMask = EcoTag.maskOf(tags);
         this.businessNumber = businessNumber;
     }
 }
@@ -0,0 +1,60 @@
+package com.kopo.hanacard.card.domain;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 친환경 거래 태그
+ * 거래의 tags 문자열을 비트마스크(eco_tag_mask)로 정규화해 SQL에서 집계/필터링한다.
+ * 비트 위치는 저장된 값과 연결되므로 순서를 바꾸지 말고 끝에만 추가한다.
+ */
+public enum EcoTag {
+    ECO_FRIENDLY("친환경"),
+    ELECTRIC_VEHICLE("전기차"),
+    PUBLIC_TRANSPORT("대중교통"),
+    SHARED_KICKBOARD("공유킥보드"),
+    REFILL_SHOP("리필샵"),
+    ORGANIC("유기농"),
+    RECYCLING("재활용");
+
+    private final String label;
+
+    EcoTag(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getBit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * 태그 문자열에 포함된 친환경 태그의 비트마스크 (기존 contains 판정과 동일)
+     */
+    public static int maskOf(String tags) {
+        if (tags == null || tags.isEmpty()) {
+            return 0;
+        }
+        int mask = 0;
+        for (EcoTag tag : values()) {
+            if (tags.contains(tag.label)) {
+                mask |= tag.getBit();
+            }
+        }
+        return mask;
+    }
+
+    public static Optional<EcoTag> fromLabel(String label) {
+        return Arrays.stream(values())
+                .filter(tag -> tag.label.equals(label))
+                .findFirst();
+    }
+
+    public static List<String> labels() {
+        return Arrays.stream(values()).map(EcoTag::getLabel).toList();
+    }
+}
@@ -2,12 +2,14 @@ package com.kopo.hanacard.card.repository;
 
 import com.kopo.hanacard.card.domain.CardTransaction;
 import com.kopo.hanacard.card.domain.UserCard;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -36,4 +38,79 @@ public interface CardTransactionRepository extends JpaRepository<CardTransaction
     List<CardTransaction> findByUserCard(UserCard userCard);
     
     List<CardTransaction> findByUserCardAndTransactionDateBetween(UserCard userCard, LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("SELECT ct FROM CardTransaction ct WHERE ct.userCard = :userCard " +
+           "AND ct.transactionDate BETWEEN :startDate AND :endDate ORDER BY ct.transactionDate DESC")
+    List<CardTransaction> findPageByUserCardAndTransactionDateBetween(
+            @Param("userCard") UserCard userCard, @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate, Pageable pageable);
+
+    // 카테고리별 소비/캐시백 합계와 그중 친환경 거래 합계 (태그 비트마스크 또는 친환경 카테고리)
+    @Query("SELECT ct.category AS category, COUNT(ct) AS transactionCount, " +
+           "COALESCE(SUM(ct.amount), 0) AS totalAmount, COALESCE(SUM(ct.cashbackAmount), 0) AS totalCashback, " +
+           "COALESCE(SUM(CASE WHEN ct.ecoTagMask > 0 OR ct.category IN :ecoCategories THEN ct.amount ELSE 0 END), 0) AS ecoAmount, " +
+           "COALESCE(SUM(CASE WHEN ct.ecoTagMask > 0 OR ct.category IN :ecoCategories THEN ct.cashbackAmount ELSE 0 END), 0) AS ecoCashback " +
+           "FROM CardTransaction ct " +
+           "WHERE ct.userCard = :userCard AND ct.transactionDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY ct.category")
+    List<CategoryConsumptionView> summarizeByCategory(@Param("userCard") UserCard userCard,
+                                                      @Param("startDate") LocalDateTime startDate,
+                                                      @Param("endDate") LocalDateTime endDate,
+                                                      @Param("ecoCategories") Collection<String> ecoCategories);
+
+    List<CardTransaction> findByUserCardAndCategoryOrderByTransactionDateDesc(UserCard userCard, String category,
+                                                                             Pageable pageable);
+
+    @Query(value = "SELECT * FROM card_transactions WHERE user_card_id = :userCardId " +
+                   "AND BITAND(eco_tag_mask, :tagBit) > 0 ORDER BY transaction_date DESC",
+           nativeQuery = true)
+    List<CardTransaction> findByUserCardIdAndEcoTag(@Param("userCardId") Long userCardId,
+                                                    @Param("tagBit") int tagBit, Pageable pageable);
+
+    @Query("SELECT ct FROM CardTransaction ct WHERE ct.userCard = :userCard " +
+           "AND ct.tags LIKE CONCAT('%', :tag, '%') ORDER BY ct.transactionDate DESC")
+    List<CardTransaction> findByUserCardAndTagContaining(@Param("userCard") UserCard userCard,
+                                                         @Param("tag") String tag, Pageable pageable);
+
+    // 금융 데이터 일괄 보내기용 - CI별 활성 카드 기간 사용액 합계 (거래가 없는 고객은 행이 없다)
+    @Query("SELECT u.ci AS ci, COALESCE(SUM(ct.amount), 0) AS totalAmount FROM CardTransaction ct " +
+           "JOIN ct.userCard uc JOIN uc.user u " +
+           "WHERE u.ci IN :cis AND uc.isActive = true " +
+           "AND ct.transactionDate >= :startDate AND ct.transactionDate < :endDate " +
+           "GROUP BY u.ci")
+    List<CiUsageView> sumUsageByCi(@Param("cis") Collection<String> cis,
+                                   @Param("startDate") LocalDateTime startDate,
+                                   @Param("endDate") LocalDateTime endDate);
+
+    interface CategoryConsumptionView {
+        String getCategory();
+        Long getTransactionCount();
+        Long getTotalAmount();
+        Long getTotalCashback();
+        Long getEcoAmount();
+        Long getEcoCashback();
+    }
+
+    interface CiUsageView {
+        String getCi();
+        Long getTotalAmount();
+    }
+
+    // 증분 동기화용 - 거래 ID 커서 이후 페이지
+    @Query("SELECT ct FROM CardTransaction ct WHERE ct.userCard.id IN :userCardIds AND ct.id > :afterId " +
+           "AND ct.transactionDate >= :since ORDER BY ct.id")
+    List<CardTransaction> findSyncPage(@Param("userCardIds") Collection<Long> userCardIds,
+                                       @Param("afterId") Long afterId,
+                                       @Param("since") LocalDateTime since,
+                                       Pageable pageable);
+
+    // 증분 동기화용 - 커서보다 작은 ID로 늦게 커밋된 최근 생성 거래 (lateAfterId 이후 페이지)
+    @Query("SELECT ct FROM CardTransaction ct WHERE ct.userCard.id IN :userCardIds AND ct.id <= :afterId " +
+           "AND ct.id > :lateAfterId AND ct.createdAt >= :createdAfter AND ct.transactionDate >= :since ORDER BY ct.id")
+    List<CardTransaction> findCreatedAtOrBelowCursor(@Param("userCardIds") Collection<Long> userCardIds,
+                                                     @Param("afterId") Long afterId,
+                                                     @Param("lateAfterId") Long lateAfterId,
+                                                     @Param("createdAfter") LocalDateTime createdAfter,
+                                                     @Param("since") LocalDateTime since,
+                                                     Pageable pageable);
 }
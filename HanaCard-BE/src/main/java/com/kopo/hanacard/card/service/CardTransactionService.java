@@ -1,6 +1,7 @@
 package com.kopo.hanacard.card.service;
 
 import com.kopo.hanacard.card.domain.CardTransaction;
+import com.kopo.hanacard.card.domain.EcoTag;
 import com.kopo.hanacard.card.domain.UserCard;
 import com.kopo.hanacard.card.dto.CardConsumptionSummaryResponse;
 import com.kopo.hanacard.card.dto.CardTransactionResponse;
@@ -15,6 +16,7 @@ import com.kopo.hanacard.card.event.CardTransactionCreatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +34,10 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CardTransactionService {
 
+    private static final int RECENT_TRANSACTION_LIMIT = 10;
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final CardTransactionRepository cardTransactionRepository;
     private final UserCardRepository userCardRepository;
     private final UserRepository userRepository;
@@ -75,32 +81,26 @@ public class CardTransactionService {
         
         // 이번 달 첫날부터 현재까지
         LocalDateTime startOfMonth = YearMonth.now().atDay(1).atStartOfDay();
-        
-        // 이번 달 거래내역 조회
-        List<CardTransaction> monthlyTransactions = cardTransactionRepository
-                .findByUserCardAndTransactionDateBetweenOrderByTransactionDateDesc(
-                        primaryCard, startOfMonth, LocalDateTime.now());
-
-        // 총 소비금액 계산
-        Long totalAmount = monthlyTransactions.stream()
-                .mapToLong(transaction -> transaction.getAmount() != null ? transaction.getAmount() : 0L)
-                .sum();
-
-        // 총 캐시백 계산
-        Long totalCashback = monthlyTransactions.stream()
-                .mapToLong(transaction -> transaction.getCashbackAmount() != null ? transaction.getCashbackAmount() : 0L)
-                .sum();
-
-        // 카테고리별 소비금액 계산
-        Map<String, Long> categoryAmounts = monthlyTransactions.stream()
-                .collect(Collectors.groupingBy(
-                        CardTransaction::getCategory,
-                        Collectors.summingLong(CardTransaction::getAmount)
-                ));
+        LocalDateTime now = LocalDateTime.now();
+
+        // 카테고리별 합계는 DB에서 집계
+        List<CardTransactionRepository.CategoryConsumptionView> categorySummaries = cardTransactionRepository
+                .summarizeByCategory(primaryCard, startOfMonth, now, EcoTag.labels());
+
+        long totalAmount = 0L;
+        long totalCashback = 0L;
+        Map<String, Long> categoryAmounts = new HashMap<>();
+        for (CardTransactionRepository.CategoryConsumptionView summary : categorySummaries) {
+            totalAmount += summary.getTotalAmount();
+            totalCashback += summary.getTotalCashback();
+            categoryAmounts.put(summary.getCategory(), summary.getTotalAmount());
+        }
 
         // 최근 거래내역 (최대 10건)
-        List<CardTransactionResponse> recentTransactions = monthlyTransactions.stream()
-                .limit(10)
+        List<CardTransactionResponse> recentTransactions = cardTransactionRepository
+                .findPageByUserCardAndTransactionDateBetween(primaryCard, startOfMonth, now,
+                        PageRequest.of(0, RECENT_TRANSACTION_LIMIT))
+                .stream()
                 .map(CardTransactionResponse::new)
                 .collect(Collectors.toList());
 
@@ -117,7 +117,7 @@ public class CardTransactionService {
     }
 
 
-    public List<CardTransactionResponse> getTransactionsByCategory(Long userId, String category) {
+    public List<CardTransactionResponse> getTransactionsByCategory(Long userId, String category, int page, int size) {
         List<UserCard> userCards = userCardRepository.findByUserIdAndIsActive(userId, true);
         
         if (userCards.isEmpty()) {
@@ -125,10 +125,10 @@ public class CardTransactionService {
         }
 
         UserCard primaryCard = userCards.get(0);
-        List<CardTransaction> transactions = cardTransactionRepository.findByUserCardOrderByTransactionDateDesc(primaryCard);
+        List<CardTransaction> transactions = cardTransactionRepository
+                .findByUserCardAndCategoryOrderByTransactionDateDesc(primaryCard, category, toPageRequest(page, size));
         
         return transactions.stream()
-                .filter(transaction -> transaction.getCategory().equals(category))
                 .map(CardTransactionResponse::new)
                 .collect(Collectors.toList());
     }
@@ -144,11 +144,9 @@ public class CardTransactionService {
         LocalDateTime startOfMonth = currentMonth.atDay(1).atStartOfDay();
         LocalDateTime endOfMonth = currentMonth.atEndOfMonth().atTime(23, 59, 59);
 
-        List<CardTransaction> transactions = cardTransactionRepository
-                .findByUserCardAndTransactionDateBetween(userCard, startOfMonth, endOfMonth);
-
-        // 친환경 태그들
-        List<String> ecoTags = List.of("친환경", "전기차", "대중교통", "공유킥보드", "리필샵", "유기농", "재활용");
+        // 카테고리별 전체/친환경 합계는 DB에서 집계 (친환경: 태그 비트마스크 또는 친환경 카테고리)
+        List<CardTransactionRepository.CategoryConsumptionView> categorySummaries = cardTransactionRepository
+                .summarizeByCategory(userCard, startOfMonth, endOfMonth, EcoTag.labels());
 
         Map<String, Long> categoryAmounts = new HashMap<>();
         Map<String, Long> ecoCategoryAmounts = new HashMap<>();
@@ -157,31 +155,15 @@ public class CardTransactionService {
         long totalCashback = 0;
         long ecoCashback = 0;
 
-        for (CardTransaction transaction : transactions) {
-            String category = transaction.getCategory();
-            Long amount = transaction.getAmount();
-            Long cashback = transaction.getCashbackAmount();
-
-            totalAmount += amount;
-            totalCashback += cashback;
-
-            categoryAmounts.merge(category, amount, Long::sum);
-
-            // 친환경 태그가 있는지 확인
-            boolean isEco = false;
-            if (transaction.getTags() != null) {
-                for (String tag : ecoTags) {
-                    if (transaction.getTags().contains(tag)) {
-                        isEco = true;
-                        break;
-                    }
-                }
-            }
+        for (CardTransactionRepository.CategoryConsumptionView summary : categorySummaries) {
+            totalAmount += summary.getTotalAmount();
+            totalCashback += summary.getTotalCashback();
+            categoryAmounts.put(summary.getCategory(), summary.getTotalAmount());
 
-            if (isEco || ecoTags.contains(category)) {
-                ecoAmount += amount;
-                ecoCashback += cashback;
-                ecoCategoryAmounts.merge(category, amount, Long::sum);
+            if (summary.getEcoAmount() > 0) {
+                ecoAmount += summary.getEcoAmount();
+                ecoCashback += summary.getEcoCashback();
+                ecoCategoryAmounts.put(summary.getCategory(), summary.getEcoAmount());
             }
         }
 
@@ -198,22 +180,32 @@ public class CardTransactionService {
                 .build();
     }
 
-    public List<CardTransactionResponse> getTransactionsByTag(Long userId, String tag) {
+    public List<CardTransactionResponse> getTransactionsByTag(Long userId, String tag, int page, int size) {
         List<UserCard> userCards = userCardRepository.findByUserIdAndIsActiveTrue(userId);
         if (userCards.isEmpty()) {
             throw new BusinessException(ErrorCode.USER_CARD_NOT_FOUND);
         }
 
         UserCard userCard = userCards.get(0);
-        List<CardTransaction> transactions = cardTransactionRepository.findByUserCard(userCard);
+        PageRequest pageRequest = toPageRequest(page, size);
+
+        // 친환경 태그는 비트마스크로, 그 외 태그는 문자열 포함 검색으로 조회
+        List<CardTransaction> transactions = EcoTag.fromLabel(tag)
+                .map(ecoTag -> cardTransactionRepository.findByUserCardIdAndEcoTag(
+                        userCard.getId(), ecoTag.getBit(), pageRequest))
+                .orElseGet(() -> cardTransactionRepository.findByUserCardAndTagContaining(
+                        userCard, tag, pageRequest));
 
         return transactions.stream()
-                .filter(transaction -> transaction.getTags() != null && 
-                        transaction.getTags().contains(tag))
                 .map(CardTransactionResponse::new)
                 .collect(Collectors.toList());
     }
 
+    private PageRequest toPageRequest(int page, int size) {
+        int pageSize = size > 0 ? Math.min(size, MAX_PAGE_SIZE) : DEFAULT_PAGE_SIZE;
+        return PageRequest.of(Math.max(page, 0), pageSize);
+    }
+
     public List<CardTransactionResponse> getCardTransactionsByPhone(String phoneNumber) {
         User user = userService.getUserByPhoneNumber(phoneNumber);
         List<UserCard> userCards = userCardRepository.findByUserAndIsActiveTrue(user);
@@ -1,7 +1,6 @@
 package com.kopo.hanacard.common.filter;
 
-import com.kopo.hanacard.user.domain.User;
-import com.kopo.hanacard.user.repository.UserRepository;
+import com.kopo.hanacard.user.service.UserLookupCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,7 +19,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CustomerInfoAuthFilter extends OncePerRequestFilter {
     
-    private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
     
     private static final String CUSTOMER_INFO_TOKEN_HEADER = "X-Customer-Info-Token";
     private static final String UNIFIED_AUTH_TOKEN_HEADER = "X-Unified-Auth-Token";
@@ -41,9 +40,9 @@ public class CustomerInfoAuthFilter extends OncePerRequestFilter {
             // 통합 토큰 우선 처리
             if (unifiedAuthToken != null) {
                 try {
-                    User user = extractUserFromUnifiedToken(unifiedAuthToken);
+                    Long userId = extractUserIdFromUnifiedToken(unifiedAuthToken);
                     
-                    if (user == null) {
+                    if (userId == null) {
                         log.warn("통합 인증 토큰에서 사용자 정보를 찾을 수 없음 - 토큰: {}", unifiedAuthToken);
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                         response.getWriter().write("{\"error\":\"Invalid unified auth token\"}");
@@ -51,10 +50,9 @@ public class CustomerInfoAuthFilter extends OncePerRequestFilter {
                     }
                     
                     // 사용자 ID를 요청 속성에 저장
-                    request.setAttribute("userId", user.getId());
-                    request.setAttribute("user", user);
+                    request.setAttribute("userId", userId);
                     
-                    log.info("통합 인증 성공: URI={}, UserId={}, 전화번호={}", requestURI, user.getId(), user.getPhoneNumber());
+                    log.info("통합 인증 성공: URI={}, UserId={}", requestURI, userId);
                     
                 } catch (Exception e) {
                     log.error("통합 인증 토큰 처리 중 오류 발생", e);
@@ -82,9 +80,9 @@ public class CustomerInfoAuthFilter extends OncePerRequestFilter {
             
             try {
                 // CI 토큰에서 사용자 정보 추출
-                User user = extractUserFromCustomerToken(customerInfoToken);
+                Long userId = extractUserIdFromCustomerToken(customerInfoToken);
                 
-                if (user == null) {
+                if (userId == null) {
                         log.warn("고객 정보 토큰에서 사용자 정보를 찾을 수 없음 - 토큰: {}", customerInfoToken);
                     response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                     response.getWriter().write("{\"error\":\"Invalid customer information token\"}");
@@ -92,10 +90,9 @@ public class CustomerInfoAuthFilter extends OncePerRequestFilter {
                 }
                 
                 // 사용자 ID를 요청 속성에 저장
-                request.setAttribute("userId", user.getId());
-                request.setAttribute("user", user);
+                request.setAttribute("userId", userId);
                 
-                    log.info("고객 정보 인증 성공: URI={}, UserId={}, 전화번호={}", requestURI, user.getId(), user.getPhoneNumber());
+                    log.info("고객 정보 인증 성공: URI={}, UserId={}", requestURI, userId);
                 
             } catch (Exception e) {
                 log.error("고객 정보 토큰 처리 중 오류 발생", e);
@@ -114,19 +111,18 @@ public class CustomerInfoAuthFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private User extractUserFromCustomerToken(String customerInfoToken) {
+    private Long extractUserIdFromCustomerToken(String customerInfoToken) {
         try {
             // Base64 디코딩하여 CI 추출
             String ci = new String(Base64.getDecoder().decode(customerInfoToken));
             log.debug("추출된 CI: {}", maskCi(ci));
             
-            // CI로 직접 사용자 조회
-            Optional<User> userOpt = userRepository.findByCi(ci);
+            // CI로 사용자 ID 조회 (캐시)
+            Optional<Long> userId = userLookupCache.findUserIdByCi(ci);
             
-            if (userOpt.isPresent()) {
-                User user = userOpt.get();
-                log.info("CI 기반 사용자 조회 성공: ID={}, CI={}", user.getId(), maskCi(ci));
-                return user;
+            if (userId.isPresent()) {
+                log.info("CI 기반 사용자 조회 성공: ID={}, CI={}", userId.get(), maskCi(ci));
+                return userId.get();
             } else {
                 log.warn("CI에 해당하는 사용자를 찾을 수 없음: CI={}", maskCi(ci));
                 return null;
@@ -138,7 +134,7 @@ public class CustomerInfoAuthFilter extends OncePerRequestFilter {
         }
     }
 
-    private User extractUserFromUnifiedToken(String unifiedAuthToken) {
+    private Long extractUserIdFromUnifiedToken(String unifiedAuthToken) {
         try {
             // Base64 디코딩
             String decoded = new String(Base64.getDecoder().decode(unifiedAuthToken));
@@ -153,13 +149,12 @@ public class CustomerInfoAuthFilter extends OncePerRequestFilter {
                 // CI에서 전화번호 추출
                 String phoneNumber = extractPhoneFromCI(ci);
                 
-                // 전화번호로 사용자 조회
-                Optional<User> userOpt = userRepository.findByPhoneNumber(phoneNumber);
+                // 전화번호로 사용자 ID 조회 (캐시)
+                Optional<Long> userId = userLookupCache.findUserIdByPhoneNumber(phoneNumber);
                 
-                if (userOpt.isPresent()) {
-                    User user = userOpt.get();
-                    log.info("통합 토큰으로 사용자 조회 성공: ID={}, 전화번호={}", user.getId(), phoneNumber);
-                    return user;
+                if (userId.isPresent()) {
+                    log.info("통합 토큰으로 사용자 조회 성공: ID={}, 전화번호={}", userId.get(), phoneNumber);
+                    return userId.get();
                 } else {
                     log.warn("통합 토큰에 해당하는 사용자를 찾을 수 없음: {}", phoneNumber);
                     return null;
@@ -186,13 +181,12 @@ public class CustomerInfoAuthFilter extends OncePerRequestFilter {
                 // CI에서 전화번호 추출
                 String phoneNumber = extractPhoneFromCI(ci);
                 
-                // 전화번호로 사용자 조회
-                Optional<User> userOpt = userRepository.findByPhoneNumber(phoneNumber);
+                // 전화번호로 사용자 ID 조회 (캐시)
+                Optional<Long> userId = userLookupCache.findUserIdByPhoneNumber(phoneNumber);
                 
-                if (userOpt.isPresent()) {
-                    User user = userOpt.get();
-                    log.info("통합 토큰으로 사용자 조회 성공: ID={}, 전화번호={}", user.getId(), phoneNumber);
-                    return user;
+                if (userId.isPresent()) {
+                    log.info("통합 토큰으로 사용자 조회 성공: ID={}, 전화번호={}", userId.get(), phoneNumber);
+                    return userId.get();
                 } else {
                     log.warn("통합 토큰에 해당하는 사용자를 찾을 수 없음: {}", phoneNumber);
                     return null;
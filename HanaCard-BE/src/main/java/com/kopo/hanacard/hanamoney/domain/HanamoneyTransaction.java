@@ -36,14 +36,18 @@ public class HanamoneyTransaction extends DateTimeEntity {
     @Column(name = "description")
     private String description;
 
+    @Column(name = "reference_id", length = 64, unique = true)
+    private String referenceId; // 요청 서비스가 부여한 멱등 키 (관계사 적립 요청 재시도 시 중복 적립 방지)
+
     @Builder
     public HanamoneyTransaction(HanamoneyMembership membership, TransactionType transactionType,
-                               Long amount, Long balanceAfter, String description) {
+                               Long amount, Long balanceAfter, String description, String referenceId) {
         this.membership = membership;
         this.transactionType = transactionType;
         this.amount = amount;
         this.balanceAfter = balanceAfter;
         this.description = description;
+        this.referenceId = referenceId;
     }
 
     public enum TransactionType {
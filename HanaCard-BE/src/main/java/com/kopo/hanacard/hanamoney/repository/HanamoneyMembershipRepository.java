@@ -1,7 +1,11 @@
 package com.kopo.hanacard.hanamoney.repository;
 
 import com.kopo.hanacard.hanamoney.domain.HanamoneyMembership;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,4 +18,9 @@ public interface HanamoneyMembershipRepository extends JpaRepository<HanamoneyMe
     Optional<HanamoneyMembership> findByMembershipId(String membershipId);
     
     boolean existsByUser_Id(Long userId);
+
+    // 멱등 적립용 - 같은 멤버십의 적립 요청을 직렬화하여 참조 ID 중복 확인과 적립을 원자적으로 처리
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM HanamoneyMembership m WHERE m.user.id = :userId")
+    Optional<HanamoneyMembership> findByUserIdForUpdate(@Param("userId") Long userId);
 }
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface HanamoneyTransactionRepository extends JpaRepository<HanamoneyTransaction, Long> {
@@ -19,5 +20,8 @@ public interface HanamoneyTransactionRepository extends JpaRepository<HanamoneyT
     
     List<HanamoneyTransaction> findByMembershipAndTransactionType(HanamoneyMembership membership, 
                                                                  HanamoneyTransaction.TransactionType transactionType);
-}
 
+    boolean existsByReferenceId(String referenceId);
+
+    Optional<HanamoneyTransaction> findByReferenceId(String referenceId);
+}
@@ -9,13 +9,17 @@ import com.kopo.hanacard.hanamoney.repository.HanamoneyTransactionRepository;
 import com.kopo.hanacard.user.domain.User;
 import com.kopo.hanacard.user.service.UserService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -58,16 +62,37 @@ public class HanamoneyService {
 
     @Transactional
     public HanamoneyMembership earn(Long userId, Long amount, String description) {
-        HanamoneyMembership membership = getHanamoneyMembershipByUserId(userId);
+        return earn(userId, amount, description, null);
+    }
+
+    /**
+     * 하나머니 적립 (referenceId가 있으면 멱등 처리)
+     * 같은 참조 ID로 이미 적립했다면 다시 적립하지 않고 현재 멤버십을 반환한다.
+     * 멤버십 행을 잠근 뒤 확인하므로 재시도 요청이 동시에 들어와도 한 번만 적립된다.
+     * 하나그린세상 동기화는 커밋 후에 보내 HTTP 호출 동안 잠금을 잡고 있지 않는다.
+     */
+    @Transactional
+    public HanamoneyMembership earn(Long userId, Long amount, String description, String referenceId) {
+        HanamoneyMembership membership;
+        if (referenceId != null) {
+            membership = hanamoneyMembershipRepository.findByUserIdForUpdate(userId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "하나머니 멤버십을 찾을 수 없습니다."));
+            if (hanamoneyTransactionRepository.existsByReferenceId(referenceId)) {
+                log.info("이미 처리된 하나머니 적립 요청 - 사용자ID: {}, 참조ID: {}", userId, referenceId);
+                return membership;
+            }
+        } else {
+            membership = getHanamoneyMembershipByUserId(userId);
+        }
         
         membership.earn(amount);
         hanamoneyMembershipRepository.save(membership);
 
         // 거래 내역 생성
-        createTransaction(membership, amount, HanamoneyTransaction.TransactionType.EARN, description);
+        createTransaction(membership, amount, HanamoneyTransaction.TransactionType.EARN, description, referenceId);
         
-        // 하나그린세상에 동기화
-        hanaGreenWorldIntegrationService.syncToGreenWorld(userId, amount, "EARN", description);
+        // 하나그린세상에 동기화 (커밋 후)
+        afterCommit(() -> hanaGreenWorldIntegrationService.syncToGreenWorld(userId, amount, "EARN", description));
         
         return membership;
     }
@@ -86,8 +111,8 @@ public class HanamoneyService {
         // 거래 내역 생성
         createTransaction(membership, amount, HanamoneyTransaction.TransactionType.SPEND, description);
         
-        // 하나그린세상에 동기화
-        hanaGreenWorldIntegrationService.syncToGreenWorld(userId, amount, "SPEND", description);
+        // 하나그린세상에 동기화 (커밋 후)
+        afterCommit(() -> hanaGreenWorldIntegrationService.syncToGreenWorld(userId, amount, "SPEND", description));
         
         return membership;
     }
@@ -164,16 +189,43 @@ public class HanamoneyService {
         return hanamoneyTransactionRepository.findByMembershipAndCreatedAtBetween(membership, startDate, endDate);
     }
 
+    /**
+     * 참조 ID로 적립이 반영되었는지 확인 (요청 서비스의 미확정 전환 정산용)
+     */
+    public boolean isEarnApplied(String referenceId) {
+        return hanamoneyTransactionRepository.existsByReferenceId(referenceId);
+    }
+
     private void createTransaction(HanamoneyMembership membership, Long amount, 
                                  HanamoneyTransaction.TransactionType transactionType, String description) {
+        createTransaction(membership, amount, transactionType, description, null);
+    }
+
+    private void createTransaction(HanamoneyMembership membership, Long amount,
+                                 HanamoneyTransaction.TransactionType transactionType, String description,
+                                 String referenceId) {
         HanamoneyTransaction transaction = HanamoneyTransaction.builder()
                 .membership(membership)
                 .amount(amount)
                 .balanceAfter(membership.getBalance())
                 .transactionType(transactionType)
                 .description(description)
+                .referenceId(referenceId)
                 .build();
         
         hanamoneyTransactionRepository.save(transaction);
     }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
 }
\ No newline at end of file
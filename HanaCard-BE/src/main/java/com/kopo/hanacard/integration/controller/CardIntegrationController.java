@@ -1,20 +1,31 @@
 package com.kopo.hanacard.integration.controller;
 
 import com.kopo.hanacard.common.dto.ApiResponse;
+import com.kopo.hanacard.common.exception.BusinessException;
 import com.kopo.hanacard.hanamoney.domain.HanamoneyMembership;
 import com.kopo.hanacard.hanamoney.dto.HanamoneyMembershipResponse;
 import com.kopo.hanacard.hanamoney.service.HanamoneyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.kopo.hanacard.integration.dto.CardTransactionSyncResponse;
+import com.kopo.hanacard.integration.dto.FinancialExportRequest;
+import com.kopo.hanacard.integration.dto.FinancialExportRow;
 import com.kopo.hanacard.integration.service.CardIntegrationService;
-import com.kopo.hanacard.user.domain.User;
-import com.kopo.hanacard.user.repository.UserRepository;
+import com.kopo.hanacard.user.service.UserLookupCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -25,9 +36,54 @@ import java.util.Optional;
 @Tag(name = "Card Integration API", description = "하나카드 통합 정보 조회 API")
 public class CardIntegrationController {
 
+    private static final int MAX_EXPORT_TOKENS = 1000;
+
     private final HanamoneyService hanamoneyService;
     private final CardIntegrationService cardIntegrationService;
-    private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping("/financial-export")
+    @Operation(
+        summary = "금융 데이터 일괄 보내기",
+        description = "고객 정보 토큰 목록(최대 1000건)의 월간 카드 사용액을 한 줄에 한 고객씩 NDJSON으로 반환합니다."
+    )
+    public ResponseEntity<?> exportFinancialData(@RequestBody FinancialExportRequest request) {
+        if (!"GREEN_WORLD".equals(request.getRequestingService())) {
+            return ResponseEntity.status(403)
+                    .body(Map.of("success", false, "message", "허용되지 않은 요청 서비스입니다."));
+        }
+        List<String> tokens = request.getCustomerInfoTokens();
+        if (tokens == null || tokens.isEmpty() || tokens.size() > MAX_EXPORT_TOKENS) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("success", false, "message",
+                            "customerInfoTokens는 1~" + MAX_EXPORT_TOKENS + "건이어야 합니다."));
+        }
+        if (request.getReportMonth() == null || request.getReportMonth().isBlank()) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("success", false, "message", "reportMonth(yyyy-MM)가 필요합니다."));
+        }
+
+        try {
+            YearMonth reportMonth = YearMonth.parse(request.getReportMonth());
+            List<FinancialExportRow> rows = cardIntegrationService.exportFinancialData(tokens, reportMonth);
+            // 요청이 최대 1000건이라 응답도 그 이하로 제한되므로 한 번에 만들어 보낸다
+            ObjectWriter rowWriter = objectMapper.writerFor(FinancialExportRow.class);
+            ByteArrayOutputStream body = new ByteArrayOutputStream(rows.size() * 64);
+            for (FinancialExportRow row : rows) {
+                body.write(rowWriter.writeValueAsBytes(row));
+                body.write('\n');
+            }
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_NDJSON)
+                    .body(body.toByteArray());
+
+        } catch (Exception e) {
+            log.error("금융 데이터 일괄 보내기 실패: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(Map.of("success", false, "message", "금융 데이터 일괄 보내기 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
 
     @PostMapping("/hanamoney-info")
     @Operation(
@@ -182,6 +238,44 @@ public class CardIntegrationController {
         }
     }
 
+    @GetMapping("/cards/{memberId}/transactions/sync")
+    @Operation(
+        summary = "카드 거래내역 증분 동기화 (통합)",
+        description = "afterId(거래 ID 커서) 이후의 거래를 ID 순으로 limit 건씩 반환합니다. "
+                + "since를 지정하면 해당 시각 이후 거래만 포함합니다. 응답의 nextCursor를 다음 요청의 afterId로 사용합니다. "
+                + "createdAfter를 지정하면 그 이후 생성되었지만 ID가 afterId 이하인 거래를 lateTransactions로 함께 반환합니다. "
+                + "hasMoreLate이면 nextLateCursor를 lateAfterId로 주어 남은 늦은 거래를 이어 받습니다."
+    )
+    public ResponseEntity<Map<String, Object>> syncCardTransactions(
+            @PathVariable Long memberId,
+            @RequestParam(defaultValue = "0") Long afterId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdAfter,
+            @RequestParam(defaultValue = "0") Long lateAfterId,
+            @RequestParam(defaultValue = "200") int limit) {
+        try {
+            CardTransactionSyncResponse syncData =
+                    cardIntegrationService.getCardTransactionsSince(memberId, afterId, since, createdAfter, lateAfterId, limit);
+
+            Map<String, Object> response = Map.of(
+                "success", true,
+                "message", "카드 거래내역 동기화 성공",
+                "data", syncData
+            );
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("카드 거래내역 동기화 실패 - 회원ID: {}", memberId, e);
+
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "카드 거래내역 동기화 실패: " + (e.getMessage() != null ? e.getMessage() : "알 수 없는 오류"));
+            errorResponse.put("data", null);
+
+            return ResponseEntity.status(500).body(errorResponse);
+        }
+    }
+
     @GetMapping("/cards/{memberId}/consumption/summary")
     @Operation(
         summary = "월간 소비현황 조회 (통합)",
@@ -227,9 +321,12 @@ public class CardIntegrationController {
             Long userId = extractUserIdFromToken(requestBody.get("customerInfoToken").toString());
             Long amount = Long.valueOf(requestBody.get("amount").toString());
             String description = requestBody.get("description").toString();
+            // 요청 측 멱등 키 (있으면 같은 키의 재요청은 다시 적립하지 않는다)
+            Object referenceId = requestBody.get("referenceId");
             
             // 하나머니 적립
-            HanamoneyMembership membership = hanamoneyService.earn(userId, amount, description);
+            HanamoneyMembership membership = hanamoneyService.earn(userId, amount, description,
+                    referenceId != null ? referenceId.toString() : null);
             
             log.info("하나머니 적립 성공 - 사용자ID: {}, 적립금액: {}, 잔액: {}", 
                     userId, amount, membership.getBalance());
@@ -250,6 +347,15 @@ public class CardIntegrationController {
             
             return ResponseEntity.ok(response);
             
+        } catch (IllegalArgumentException | BusinessException e) {
+            // 요청 자체가 잘못된 경우 (재시도해도 적립되지 않음)
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "하나머니 적립 실패: " + e.getMessage());
+            errorResponse.put("data", null);
+
+            return ResponseEntity.badRequest().body(errorResponse);
+
         } catch (Exception e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
@@ -260,6 +366,50 @@ public class CardIntegrationController {
         }
     }
 
+    @PostMapping("/hanamoney-earn/status")
+    @Operation(
+        summary = "하나머니 적립 반영 여부 조회 (통합)",
+        description = "요청 서비스가 부여한 참조 ID로 하나머니 적립이 반영되었는지 확인합니다."
+    )
+    public ResponseEntity<Map<String, Object>> getHanamoneyEarnStatus(
+            @RequestBody Map<String, Object> requestBody) {
+
+        try {
+            if (!"GREEN_WORLD".equals(requestBody.get("requestingService"))) {
+                throw new IllegalArgumentException("허용되지 않은 요청 서비스입니다.");
+            }
+            Object referenceId = requestBody.get("referenceId");
+            if (referenceId == null || referenceId.toString().isBlank()) {
+                throw new IllegalArgumentException("referenceId가 필요합니다.");
+            }
+
+            boolean applied = hanamoneyService.isEarnApplied(referenceId.toString());
+
+            Map<String, Object> response = Map.of(
+                "success", true,
+                "message", "하나머니 적립 반영 여부 조회 성공",
+                "data", Map.of("referenceId", referenceId.toString(), "applied", applied)
+            );
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+            errorResponse.put("data", null);
+
+            return ResponseEntity.badRequest().body(errorResponse);
+
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "하나머니 적립 반영 여부 조회 실패: " + e.getMessage());
+            errorResponse.put("data", null);
+
+            return ResponseEntity.status(500).body(errorResponse);
+        }
+    }
+
     private Long extractUserIdFromToken(String customerInfoToken) {
         if (customerInfoToken == null || customerInfoToken.isEmpty()) {
             throw new IllegalArgumentException("고객 정보 토큰이 필요합니다.");
@@ -268,10 +418,9 @@ public class CardIntegrationController {
         try {
             String ci = new String(java.util.Base64.getDecoder().decode(customerInfoToken));
 
-            Optional<User> userOpt = userRepository.findByCi(ci);
-            if (userOpt.isPresent()) {
-                User user = userOpt.get();
-                return user.getId();
+            Optional<Long> userId = userLookupCache.findUserIdByCi(ci);
+            if (userId.isPresent()) {
+                return userId.get();
             } else {
                 throw new IllegalArgumentException("유효하지 않은 고객 정보 토큰입니다.");
             }
@@ -301,11 +450,10 @@ public class CardIntegrationController {
                 log.info("추출된 CI: {}", maskCi(ci));
                 
                 // CI로 사용자 조회
-                Optional<User> userOpt = userRepository.findByCi(ci);
-                if (userOpt.isPresent()) {
-                    User user = userOpt.get();
-                    log.info("CI 기반 사용자 조회 성공: ID={}, CI={}", user.getId(), maskCi(ci));
-                    return user.getId();
+                Optional<Long> userId = userLookupCache.findUserIdByCi(ci);
+                if (userId.isPresent()) {
+                    log.info("CI 기반 사용자 조회 성공: ID={}, CI={}", userId.get(), maskCi(ci));
+                    return userId.get();
                 } else {
                     log.warn("CI에 해당하는 사용자를 찾을 수 없음: CI={}", maskCi(ci));
                 }
@@ -0,0 +1,64 @@
+package com.kopo.hanacard.integration.dto;
+
+import com.kopo.hanacard.card.domain.CardTransaction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 카드 거래 증분 동기화 응답 (거래 ID 커서 기반 페이지)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardTransactionSyncResponse {
+
+    private List<TransactionItem> transactions;
+
+    private List<TransactionItem> lateTransactions; // 커서 이하 ID로 createdAfter 이후 늦게 커밋된 거래
+
+    private List<Long> cardIds; // 현재 활성 카드 ID (오름차순)
+
+    private Long nextCursor; // 다음 요청의 afterId (마지막 거래 ID, 없으면 요청한 afterId)
+
+    private boolean hasMore;
+
+    private Long nextLateCursor; // 늦은 거래 다음 페이지의 lateAfterId (마지막 늦은 거래 ID, 없으면 요청한 lateAfterId)
+
+    private boolean hasMoreLate;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TransactionItem {
+        private Long transactionId;
+        private LocalDateTime transactionDate;
+        private String merchantName;
+        private String category;
+        private String merchantCategory;
+        private String businessNumber;
+        private Long amount;
+        private Long cashbackAmount;
+        private String tags;
+
+        public static TransactionItem from(CardTransaction transaction) {
+            return TransactionItem.builder()
+                    .transactionId(transaction.getId())
+                    .transactionDate(transaction.getTransactionDate())
+                    .merchantName(transaction.getMerchantName())
+                    .category(transaction.getCategory())
+                    .merchantCategory(transaction.getMerchantCategory())
+                    .businessNumber(transaction.getBusinessNumber())
+                    .amount(transaction.getAmount())
+                    .cashbackAmount(transaction.getCashbackAmount())
+                    .tags(transaction.getTags())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.kopo.hanacard.integration.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 금융 데이터 일괄 보내기 요청 (고객 정보 토큰 목록, 한 번에 최대 1000건)
+ * reportMonth(yyyy-MM)는 필수이며, 서버 시각 기준 이번 달로 대신 집계하지 않는다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class FinancialExportRequest {
+
+    private String requestingService;
+    private String reportMonth;
+    private List<String> customerInfoTokens;
+}
@@ -0,0 +1,17 @@
+package com.kopo.hanacard.integration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 금융 데이터 일괄 보내기 한 줄 (NDJSON 레코드)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinancialExportRow {
+
+    private String customerInfoToken;
+    private Long monthlyCardUsage;
+}
@@ -4,16 +4,23 @@ import com.kopo.hanacard.card.domain.UserCard;
 import com.kopo.hanacard.card.domain.CardTransaction;
 import com.kopo.hanacard.card.repository.UserCardRepository;
 import com.kopo.hanacard.card.repository.CardTransactionRepository;
+import com.kopo.hanacard.integration.dto.CardTransactionSyncResponse;
+import com.kopo.hanacard.integration.dto.FinancialExportRow;
 import com.kopo.hanacard.user.domain.User;
 import com.kopo.hanacard.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +35,9 @@ public class CardIntegrationService {
     private final CardTransactionRepository cardTransactionRepository;
     private final UserRepository userRepository;
 
+    @Value("${integration.transaction-sync.max-page-size:500}")
+    private int maxSyncPageSize;
+
     public Map<String, Object> getCardInfo(Long memberId) {
         try {
             // 사용자 조회
@@ -272,6 +282,103 @@ public class CardIntegrationService {
         }
     }
 
+    /**
+     * 카드 거래 증분 동기화 (afterId 이후 거래를 ID 순으로 한 페이지씩)
+     * 보유 기간과 관계없이 한 번에 내려가는 양은 limit 건으로 제한된다.
+     * ID는 커밋 순서와 다르게 발급될 수 있으므로, createdAfter를 주면 그 이후 생성되었지만
+     * ID가 커서 이하인(늦게 커밋된) 거래를 lateTransactions로 함께 내려준다. 받는 쪽은 거래 ID로 중복을 거른다.
+     * 늦은 거래도 limit 건씩 나누며, hasMoreLate이면 같은 afterId/createdAfter에 nextLateCursor를 lateAfterId로 주어 이어 받는다.
+     * cardIds는 현재 활성 카드 목록으로, 받는 쪽이 재활성화된 카드를 알아채 처음부터 다시 받을 때 쓴다.
+     */
+    @Transactional(readOnly = true)
+    public CardTransactionSyncResponse getCardTransactionsSince(Long userId, Long afterId, LocalDateTime since,
+                                                                LocalDateTime createdAfter, Long lateAfterId,
+                                                                int limit) {
+        long cursor = afterId != null ? Math.max(afterId, 0L) : 0L;
+        int pageSize = Math.max(1, Math.min(limit, maxSyncPageSize));
+        long lateCursor = lateAfterId != null ? Math.max(lateAfterId, 0L) : 0L;
+        LocalDateTime from = since != null ? since : LocalDateTime.of(1970, 1, 1, 0, 0);
+
+        List<Long> userCardIds = userCardRepository.findByUserIdAndIsActiveTrue(userId).stream()
+                .map(UserCard::getId)
+                .sorted()
+                .toList();
+        if (userCardIds.isEmpty()) {
+            return CardTransactionSyncResponse.builder()
+                    .transactions(new ArrayList<>())
+                    .lateTransactions(new ArrayList<>())
+                    .cardIds(userCardIds)
+                    .nextCursor(cursor)
+                    .hasMore(false)
+                    .nextLateCursor(lateCursor)
+                    .hasMoreLate(false)
+                    .build();
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<CardTransaction> page = cardTransactionRepository.findSyncPage(userCardIds, cursor, from,
+                PageRequest.of(0, pageSize + 1));
+        boolean hasMore = page.size() > pageSize;
+        List<CardTransactionSyncResponse.TransactionItem> items = page.stream()
+                .limit(pageSize)
+                .map(CardTransactionSyncResponse.TransactionItem::from)
+                .toList();
+        long nextCursor = items.isEmpty() ? cursor : items.get(items.size() - 1).getTransactionId();
+
+        List<CardTransactionSyncResponse.TransactionItem> lateItems = List.of();
+        boolean hasMoreLate = false;
+        if (createdAfter != null && cursor > 0) {
+            List<CardTransaction> latePage = cardTransactionRepository.findCreatedAtOrBelowCursor(userCardIds, cursor,
+                    lateCursor, createdAfter, from, PageRequest.of(0, pageSize + 1));
+            hasMoreLate = latePage.size() > pageSize;
+            lateItems = latePage.stream()
+                    .limit(pageSize)
+                    .map(CardTransactionSyncResponse.TransactionItem::from)
+                    .toList();
+        }
+        long nextLateCursor = lateItems.isEmpty() ? lateCursor : lateItems.get(lateItems.size() - 1).getTransactionId();
+
+        log.info("카드 거래 증분 동기화 - 사용자ID: {}, afterId: {}, 건수: {}, 늦은 커밋: {}, hasMore: {}, hasMoreLate: {}",
+                userId, cursor, items.size(), lateItems.size(), hasMore, hasMoreLate);
+        return CardTransactionSyncResponse.builder()
+                .transactions(items)
+                .lateTransactions(lateItems)
+                .cardIds(userCardIds)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .nextLateCursor(nextLateCursor)
+                .hasMoreLate(hasMoreLate)
+                .build();
+    }
+
+    /**
+     * 금융 데이터 일괄 보내기 - 토큰 목록의 월간 카드 사용액을 한 번의 그룹 집계로 계산
+     * 가입 고객이 아니거나 해당 월 거래가 없는 토큰은 결과에서 빠진다 (받는 쪽에서 0으로 본다).
+     */
+    @Transactional(readOnly = true)
+    public List<FinancialExportRow> exportFinancialData(Collection<String> customerInfoTokens, YearMonth reportMonth) {
+        Map<String, String> tokensByCi = new HashMap<>();
+        for (String token : customerInfoTokens) {
+            if (token == null || token.isBlank()) {
+                continue;
+            }
+            tokensByCi.put(new String(Base64.getDecoder().decode(token)), token);
+        }
+        if (tokensByCi.isEmpty()) {
+            return List.of();
+        }
+
+        List<FinancialExportRow> rows = new ArrayList<>(tokensByCi.size());
+        for (CardTransactionRepository.CiUsageView view : cardTransactionRepository.sumUsageByCi(
+                tokensByCi.keySet(), reportMonth.atDay(1).atStartOfDay(),
+                reportMonth.plusMonths(1).atDay(1).atStartOfDay())) {
+            rows.add(new FinancialExportRow(tokensByCi.get(view.getCi()),
+                    view.getTotalAmount() != null ? view.getTotalAmount() : 0L));
+        }
+        log.info("금융 데이터 일괄 보내기 - {}, 요청 {}건, 응답 {}건", reportMonth, tokensByCi.size(), rows.size());
+        return rows;
+    }
+
     private List<Map<String, Object>> getCardTransactionsInternal(Long userId, Long cardId) {
         try {
             UserCard userCard = userCardRepository.findById(cardId)
@@ -2,6 +2,8 @@ package com.kopo.hanacard.user.repository;
 
 import com.kopo.hanacard.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -16,6 +18,12 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByPhoneNumber(String phoneNumber);
     
     Optional<User> findByCi(String ci);
+
+    @Query("SELECT u.id FROM User u WHERE u.ci = :ci")
+    Optional<Long> findIdByCi(@Param("ci") String ci);
+
+    @Query("SELECT u.id FROM User u WHERE u.phoneNumber = :phoneNumber")
+    Optional<Long> findIdByPhoneNumber(@Param("phoneNumber") String phoneNumber);
     
     boolean existsByUsername(String username);
     
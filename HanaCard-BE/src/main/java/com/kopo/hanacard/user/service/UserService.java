@@ -16,6 +16,7 @@ import java.util.List;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
 
     @Transactional
     public User createUser(String username, String email, String phoneNumber, 
@@ -41,7 +42,9 @@ public class UserService {
                 .address(address)
                 .build();
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userLookupCache.invalidateMisses();
+        return saved;
     }
 
     public User getUserById(Long id) {
@@ -72,6 +75,7 @@ public class UserService {
     public User updateUser(Long id, String name, String address) {
         User user = getUserById(id);
         user.updateUserInfo(name, address);
+        userLookupCache.invalidateUser(id);
         return user;
     }
 
@@ -79,6 +83,7 @@ public class UserService {
     public void deactivateUser(Long id) {
         User user = getUserById(id);
         user.deactivate();
+        userLookupCache.invalidateUser(id);
     }
 }
 
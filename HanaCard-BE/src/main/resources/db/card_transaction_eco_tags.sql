@@ -0,0 +1,21 @@
+-- 카드 거래 친환경 태그 비트마스크 및 조회 인덱스 (Oracle)
+-- prod 프로필은 ddl-auto: validate이므로 배포 전에 적용한다.
+-- 비트 값은 EcoTag 열거형 순서와 같다.
+
+ALTER TABLE card_transactions ADD (eco_tag_mask NUMBER(10) DEFAULT 0 NOT NULL);
+
+UPDATE card_transactions
+   SET eco_tag_mask =
+         CASE WHEN INSTR(tags, '친환경') > 0 THEN 1 ELSE 0 END
+       + CASE WHEN INSTR(tags, '전기차') > 0 THEN 2 ELSE 0 END
+       + CASE WHEN INSTR(tags, '대중교통') > 0 THEN 4 ELSE 0 END
+       + CASE WHEN INSTR(tags, '공유킥보드') > 0 THEN 8 ELSE 0 END
+       + CASE WHEN INSTR(tags, '리필샵') > 0 THEN 16 ELSE 0 END
+       + CASE WHEN INSTR(tags, '유기농') > 0 THEN 32 ELSE 0 END
+       + CASE WHEN INSTR(tags, '재활용') > 0 THEN 64 ELSE 0 END
+ WHERE tags IS NOT NULL;
+
+COMMIT;
+
+CREATE INDEX idx_card_tx_card_date ON card_transactions (user_card_id, transaction_date);
+CREATE INDEX idx_card_tx_card_category_date ON card_transactions (user_card_id, category, transaction_date);
@@ -0,0 +1,5 @@
+-- 카드 거래 증분 동기화 (거래 ID 커서) 조회 인덱스 (Oracle)
+-- prod 프로필은 ddl-auto: validate이므로 배포 전에 적용한다.
+
+CREATE INDEX idx_card_tx_card_id ON card_transactions (user_card_id, id);
+CREATE INDEX idx_card_tx_card_created ON card_transactions (user_card_id, created_at);
@@ -0,0 +1,7 @@
+-- 하나머니 적립 멱등 키 (관계사 적립 요청 재시도 시 중복 적립 방지, Oracle)
+-- prod 프로필은 ddl-auto: validate이므로 배포 전에 적용한다.
+-- 기존 거래는 NULL로 남으며, Oracle 유니크 인덱스는 NULL을 중복으로 보지 않는다.
+
+ALTER TABLE hanamoney_transactions ADD (reference_id VARCHAR2(64));
+
+CREATE UNIQUE INDEX uk_hanamoney_tx_reference ON hanamoney_transactions (reference_id);
@@ -0,0 +1,125 @@
+package com.kopo.hanacard.integration.service;
+
+import com.kopo.hanacard.card.domain.CardTransaction;
+import com.kopo.hanacard.card.domain.UserCard;
+import com.kopo.hanacard.card.repository.CardTransactionRepository;
+import com.kopo.hanacard.card.repository.UserCardRepository;
+import com.kopo.hanacard.integration.dto.CardTransactionSyncResponse;
+import com.kopo.hanacard.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 카드 거래 증분 동기화 - 늦게 커밋된 거래 페이지 검증
+ * 저장소는 조건(ID > lateAfterId, ID 오름차순, 페이지 크기)을 그대로 흉내 내고,
+ * 늦은 거래가 한 페이지를 넘을 때 nextLateCursor를 따라가면 빠짐없이 모두 받는지 확인한다.
+ */
+class CardIntegrationServiceTest {
+
+	private static final Long USER_ID = 1L;
+	private static final long CURSOR = 1_000L;
+	private static final int PAGE_SIZE = 3;
+
+	private final List<CardTransaction> lateRows = new ArrayList<>();
+	private CardIntegrationService cardIntegrationService;
+
+	@BeforeEach
+	void setUp() {
+		UserCardRepository userCardRepository = mock(UserCardRepository.class);
+		CardTransactionRepository cardTransactionRepository = mock(CardTransactionRepository.class);
+		cardIntegrationService = new CardIntegrationService(userCardRepository, cardTransactionRepository,
+				mock(UserRepository.class));
+		ReflectionTestUtils.setField(cardIntegrationService, "maxSyncPageSize", 500);
+
+		UserCard userCard = UserCard.builder().cardNumber("1234-5678-0000-0001").build();
+		ReflectionTestUtils.setField(userCard, "id", 10L);
+		when(userCardRepository.findByUserIdAndIsActiveTrue(USER_ID)).thenReturn(List.of(userCard));
+		when(cardTransactionRepository.findSyncPage(anyCollection(), anyLong(), any(), any())).thenReturn(List.of());
+
+		// 커서(1000) 이하 ID로 늦게 커밋된 거래 8건 (ID 순서가 뒤섞인 채 커밋)
+		LongStream.of(990, 951, 993, 960, 970, 999, 980, 955)
+				.forEach(id -> lateRows.add(transaction(userCard, id)));
+		when(cardTransactionRepository.findCreatedAtOrBelowCursor(anyCollection(), anyLong(), anyLong(), any(), any(),
+				any(Pageable.class)))
+				.thenAnswer(invocation -> {
+					long afterId = invocation.getArgument(1, Long.class);
+					long lateAfterId = invocation.getArgument(2, Long.class);
+					Pageable pageable = invocation.getArgument(5, Pageable.class);
+					return lateRows.stream()
+							.filter(row -> row.getId() <= afterId && row.getId() > lateAfterId)
+							.sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+							.limit(pageable.getPageSize())
+							.toList();
+				});
+	}
+
+	@Test
+	void lateTransactionsBeyondPageSizeAreReturnedPageByPage() {
+		LocalDateTime createdAfter = LocalDateTime.now().minusMinutes(10);
+		List<Long> received = new ArrayList<>();
+		long lateCursor = 0L;
+		int pages = 0;
+
+		CardTransactionSyncResponse response;
+		do {
+			response = cardIntegrationService.getCardTransactionsSince(USER_ID, CURSOR, null, createdAfter,
+					lateCursor, PAGE_SIZE);
+			assertThat(response.getLateTransactions()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+			assertThat(response.getNextCursor()).isEqualTo(CURSOR);
+			response.getLateTransactions().forEach(item -> received.add(item.getTransactionId()));
+			lateCursor = response.getNextLateCursor();
+			pages++;
+		} while (response.isHasMoreLate());
+
+		assertThat(pages).isEqualTo(3);
+		assertThat(received).containsExactly(951L, 955L, 960L, 970L, 980L, 990L, 993L, 999L);
+		assertThat(lateCursor).isEqualTo(999L);
+	}
+
+	@Test
+	void firstPageFlagsRemainingLateTransactions() {
+		CardTransactionSyncResponse response = cardIntegrationService.getCardTransactionsSince(USER_ID, CURSOR, null,
+				LocalDateTime.now().minusMinutes(10), 0L, PAGE_SIZE);
+
+		assertThat(response.getLateTransactions()).extracting(CardTransactionSyncResponse.TransactionItem::getTransactionId)
+				.containsExactly(951L, 955L, 960L);
+		assertThat(response.isHasMoreLate()).isTrue();
+		assertThat(response.getNextLateCursor()).isEqualTo(960L);
+	}
+
+	@Test
+	void noLateScanWithoutCreatedAfter() {
+		CardTransactionSyncResponse response = cardIntegrationService.getCardTransactionsSince(USER_ID, CURSOR, null,
+				null, 0L, PAGE_SIZE);
+
+		assertThat(response.getLateTransactions()).isEmpty();
+		assertThat(response.isHasMoreLate()).isFalse();
+		assertThat(response.getNextLateCursor()).isZero();
+	}
+
+	private CardTransaction transaction(UserCard userCard, long id) {
+		CardTransaction transaction = CardTransaction.builder()
+				.userCard(userCard)
+				.transactionDate(LocalDateTime.now().minusDays(1))
+				.merchantName("친환경 가맹점 " + id)
+				.category("친환경")
+				.amount(10_000L)
+				.build();
+		ReflectionTestUtils.setField(transaction, "id", id);
+		return transaction;
+	}
+}
@@ -0,0 +1,110 @@
+package com.kopo.hanagreenworld.integration.service;
+
+import com.kopo.hanagreenworld.integration.service.AmortizationEngine.RepaymentMethod;
+import com.kopo.hanagreenworld.integration.service.AmortizationEngine.ScheduleKey;
+import com.kopo.hanagreenworld.integration.util.LoanCalculationUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대출 상환액 계산 비용 측정 (대출 한 건당 월 납입금 + 월 이자)
+ * 기존 BigDecimal 계산(LoanCalculationUtil), 고정소수점 계산(캐시 없음), 캐시된 스케줄 조회(화면 렌더링 경로)를 비교한다.
+ * 값이 같은지는 AmortizationEngineTest가 확인하므로 여기서는 시간과 할당량만 본다 (할당량은 -prof gc).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AmortizationEngineBenchmark {
+
+    private static final int LOAN_COUNT = 1000;
+
+    private AmortizationEngine amortizationEngine;
+    private BigDecimal[] principals;
+    private BigDecimal[] remainings;
+    private BigDecimal[] annualRates;
+    private int[] terms;
+    private ScheduleKey[] keys;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        amortizationEngine = new AmortizationEngine();
+        Field maxSize = AmortizationEngine.class.getDeclaredField("maxSize");
+        maxSize.setAccessible(true);
+        maxSize.setInt(amortizationEngine, LOAN_COUNT * 2);
+
+        // 실제 상품과 비슷한 조건을 고정 시드로 생성
+        Random random = new Random(42);
+        principals = new BigDecimal[LOAN_COUNT];
+        remainings = new BigDecimal[LOAN_COUNT];
+        annualRates = new BigDecimal[LOAN_COUNT];
+        terms = new int[LOAN_COUNT];
+        keys = new ScheduleKey[LOAN_COUNT];
+        for (int i = 0; i < LOAN_COUNT; i++) {
+            long principal = (100L + random.nextInt(50_000)) * 10_000L;            // 100만 ~ 5억
+            principals[i] = BigDecimal.valueOf(principal);
+            remainings[i] = BigDecimal.valueOf(principal - principal * random.nextInt(100) / 100);
+            annualRates[i] = BigDecimal.valueOf(200 + random.nextInt(1000), 4);      // 연 2.00% ~ 11.99%
+            terms[i] = 12 + random.nextInt(349);                                     // 12 ~ 360개월
+            keys[i] = amortizationEngine.keyOf(principals[i], annualRates[i], terms[i], RepaymentMethod.EQUAL_PAYMENT);
+        }
+    }
+
+    /**
+     * 기존 방식 - 렌더링마다 BigDecimal 거듭제곱/나눗셈
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOAN_COUNT)
+    public long bigDecimal() {
+        long sum = 0;
+        for (int i = 0; i < LOAN_COUNT; i++) {
+            sum += LoanCalculationUtil.calculateMonthlyPayment(principals[i], annualRates[i], terms[i]).longValue();
+            sum += LoanCalculationUtil.calculateMonthlyInterest(remainings[i], annualRates[i]).longValue();
+        }
+        return sum;
+    }
+
+    /**
+     * 고정소수점 계산 (캐시를 거치지 않음)
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOAN_COUNT)
+    public long fixedPoint() {
+        long sum = 0;
+        for (int i = 0; i < LOAN_COUNT; i++) {
+            sum += amortizationEngine.annuityPayment(keys[i].principal(), keys[i].monthlyRateE10(), keys[i].termMonths());
+            sum += amortizationEngine.monthlyInterest(remainings[i], annualRates[i]).longValue();
+        }
+        return sum;
+    }
+
+    /**
+     * 실제 화면 렌더링 경로 - 캐시된 스케줄 조회
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOAN_COUNT)
+    public long cached() {
+        long sum = 0;
+        for (int i = 0; i < LOAN_COUNT; i++) {
+            sum += amortizationEngine.monthlyPayment(principals[i], annualRates[i], terms[i]).longValue();
+            sum += amortizationEngine.monthlyInterest(remainings[i], annualRates[i]).longValue();
+        }
+        return sum;
+    }
+}
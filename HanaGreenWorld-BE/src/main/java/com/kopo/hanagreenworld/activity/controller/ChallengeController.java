@@ -2,18 +2,26 @@ package com.kopo.hanagreenworld.activity.controller;
 
 import com.kopo.hanagreenworld.activity.domain.Challenge;
 import com.kopo.hanagreenworld.activity.domain.ChallengeRecord;
+import com.kopo.hanagreenworld.activity.dto.ChallengeBulkReviewRequest;
+import com.kopo.hanagreenworld.activity.dto.ChallengeBulkReviewResponse;
 import com.kopo.hanagreenworld.activity.dto.ChallengeListResponse;
 import com.kopo.hanagreenworld.activity.dto.ChallengeDetailResponse;
 import com.kopo.hanagreenworld.activity.dto.ChallengeParticipationRequest;
 import com.kopo.hanagreenworld.activity.dto.ChallengeParticipationResponse;
 import com.kopo.hanagreenworld.activity.dto.ChallengeRecordResponse;
 import com.kopo.hanagreenworld.activity.service.ChallengeService;
+import com.kopo.hanagreenworld.activity.service.ImageDerivativeService;
+import com.kopo.hanagreenworld.activity.service.ImageDerivativeService.ImageVariant;
 import com.kopo.hanagreenworld.common.dto.ApiResponse;
 import com.kopo.hanagreenworld.common.util.SecurityUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -71,7 +79,7 @@ public class ChallengeController {
             List<ChallengeRecord> participations = challengeService.getMemberChallengeParticipations(memberId);
             
             List<ChallengeRecordResponse> responseList = participations.stream()
-                    .map(ChallengeRecordResponse::from)
+                    .map(this::toRecordResponse)
                     .toList();
 
             return ResponseEntity.ok(ApiResponse.success("챌린지 참여 이력을 조회했습니다.", responseList));
@@ -85,7 +93,7 @@ public class ChallengeController {
     public ResponseEntity<ApiResponse<ChallengeRecordResponse>> getChallengeParticipationStatus(@PathVariable Long challengeId) {
         Long memberId = SecurityUtil.getCurrentMemberId();
         ChallengeRecord participation = challengeService.getMemberChallengeParticipation(memberId, challengeId);
-        ChallengeRecordResponse response = ChallengeRecordResponse.from(participation);
+        ChallengeRecordResponse response = toRecordResponse(participation);
         return ResponseEntity.ok(ApiResponse.success("챌린지 참여 상태를 조회했습니다.", response));
     }
 
@@ -115,7 +123,7 @@ public class ChallengeController {
             ChallengeParticipationResponse response = challengeService.participateInChallenge(memberId, challengeId, participationRequest);
 
             ChallengeRecord record = challengeService.getMemberChallengeParticipation(memberId, challengeId);
-            ChallengeRecordResponse recordResponse = ChallengeRecordResponse.from(record);
+            ChallengeRecordResponse recordResponse = toRecordResponse(record);
             return ResponseEntity.ok(ApiResponse.success(response.getMessage(), recordResponse));
         } catch (Exception e) {
             return ResponseEntity.status(500)
@@ -146,14 +154,22 @@ public class ChallengeController {
         }
     }
 
-    @Operation(summary = "[관리자] 검토 필요 챌린지 목록 조회", description = "AI 검증에서 애매한 케이스로 분류된 챌린지 목록을 조회합니다.")
+    @Operation(summary = "[관리자] 검토 필요 챌린지 목록 조회", description = "AI 검증에서 애매한 케이스로 분류된 챌린지 목록을 페이지 단위로 조회합니다.")
     @GetMapping("/admin/needs-review")
-    public ResponseEntity<ApiResponse<List<ChallengeRecordResponse>>> getNeedsReviewChallenges() {
-        List<ChallengeRecord> records = challengeService.getNeedsReviewChallenges();
-        List<ChallengeRecordResponse> responseList = records.stream()
-                .map(ChallengeRecordResponse::from)
-                .toList();
-        return ResponseEntity.ok(ApiResponse.success("검토 필요한 챌린지 목록을 조회했습니다.", responseList));
+    public ResponseEntity<ApiResponse<Page<ChallengeRecordResponse>>> getNeedsReviewChallenges(
+            @PageableDefault(size = 50, sort = "createdAt", direction = Sort.Direction.ASC) Pageable pageable) {
+        Page<ChallengeRecordResponse> responsePage = challengeService.getNeedsReviewChallenges(pageable)
+                .map(this::toRecordResponse);
+        return ResponseEntity.ok(ApiResponse.success("검토 필요한 챌린지 목록을 조회했습니다.", responsePage));
+    }
+
+    @Operation(summary = "[관리자] 챌린지 일괄 승인/거부", description = "검토 필요 상태의 챌린지를 최대 1000건까지 한 번에 승인하거나 거부합니다.")
+    @PostMapping("/admin/bulk-review")
+    public ResponseEntity<ApiResponse<ChallengeBulkReviewResponse>> bulkReviewChallenges(
+            @RequestBody ChallengeBulkReviewRequest request) {
+        ChallengeBulkReviewResponse response = challengeService.bulkReviewChallenges(request);
+        return ResponseEntity.ok(ApiResponse.success(
+                String.format("%d건의 챌린지를 처리했습니다.", response.getProcessedCount()), response));
     }
 
     @Operation(summary = "[관리자] 챌린지 수동 승인", description = "검토 필요 상태의 챌린지를 수동으로 승인합니다.")
@@ -178,7 +194,7 @@ public class ChallengeController {
     public ResponseEntity<ApiResponse<List<ChallengeRecordResponse>>> getTeamChallengeParticipations(@PathVariable Long teamId) {
         List<ChallengeRecord> participations = challengeService.getTeamChallengeParticipations(teamId);
         List<ChallengeRecordResponse> responseList = participations.stream()
-                .map(ChallengeRecordResponse::from)
+                .map(this::toRecordResponse)
                 .toList();
         return ResponseEntity.ok(ApiResponse.success("팀 챌린지 참여 상태를 조회했습니다.", responseList));
     }
@@ -199,4 +215,11 @@ public class ChallengeController {
             return ResponseEntity.status(500).body(ApiResponse.error("이미지 해시 통계 조회 중 오류가 발생했습니다."));
         }
     }
-}
\ No newline at end of file
+
+    // 목록/상세 화면용 축소본 URL을 함께 내려준다
+    private ChallengeRecordResponse toRecordResponse(ChallengeRecord record) {
+        return ChallengeRecordResponse.from(record,
+                ImageDerivativeService.toVariantUrl(record.getImageUrl(), ImageVariant.THUMBNAIL),
+                ImageDerivativeService.toVariantUrl(record.getImageUrl(), ImageVariant.PREVIEW));
+    }
+}
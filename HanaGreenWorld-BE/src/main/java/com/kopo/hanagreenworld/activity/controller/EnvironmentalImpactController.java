@@ -3,6 +3,7 @@ package com.kopo.hanagreenworld.activity.controller;
 import com.kopo.hanagreenworld.common.dto.ApiResponse;
 import com.kopo.hanagreenworld.activity.service.EnvironmentalImpactService;
 import com.kopo.hanagreenworld.activity.dto.EnvironmentalImpactResponse;
+import com.kopo.hanagreenworld.common.sql.SqlBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ public class EnvironmentalImpactController {
 
     @GetMapping("/{userId}")
     @Operation(summary = "환경 임팩트 조회", description = "사용자의 환경 임팩트 정보를 조회합니다.")
+    @SqlBudget(statements = 10)
     public ResponseEntity<ApiResponse<EnvironmentalImpactResponse>> getEnvironmentalImpact(@PathVariable Long userId) {
         try {
             EnvironmentalImpactResponse impact = environmentalImpactService.getEnvironmentalImpact(userId);
@@ -3,7 +3,6 @@ package com.kopo.hanagreenworld.activity.controller;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -18,7 +17,9 @@ public class NewsUpdateScheduler {
     @Value("${ai.server.url}")
     private String aiServerUrl;
 
-    @Scheduled(cron = "0 30 23 * * *", zone = "Asia/Seoul")
+    /**
+     * AI 서버 뉴스 수집 및 RAG 갱신 (ScheduledJobTriggers가 매일 23:30에 호출)
+     */
     @Transactional
     public void updateNewsData() {
         try {
@@ -44,6 +45,7 @@ public class NewsUpdateScheduler {
             
         } catch (Exception e) {
             log.error("뉴스 데이터 업데이트 실패", e);
+            throw new IllegalStateException("뉴스 데이터 업데이트 실패: " + e.getMessage(), e);
         }
     }
 
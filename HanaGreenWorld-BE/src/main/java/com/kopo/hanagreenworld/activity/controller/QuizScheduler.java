@@ -2,10 +2,10 @@ package com.kopo.hanagreenworld.activity.controller;
 
 import com.kopo.hanagreenworld.activity.domain.Quiz;
 import com.kopo.hanagreenworld.activity.repository.QuizRepository;
+import com.kopo.hanagreenworld.activity.service.DailyQuizCacheService;
 import com.kopo.hanagreenworld.activity.service.QuizGeneratorService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import javax.annotation.PostConstruct;
@@ -18,8 +18,11 @@ public class QuizScheduler {
 
     private final QuizGeneratorService quizGeneratorService;
     private final QuizRepository quizRepository;
+    private final DailyQuizCacheService dailyQuizCacheService;
     
-    @Scheduled(cron = "0 50 23 * * *")
+    /**
+     * 내일 퀴즈 생성 (ScheduledJobTriggers가 매일 23:50에 호출)
+     */
     @Transactional
     public void generateDailyQuiz() {
         try {
@@ -28,6 +31,7 @@ public class QuizScheduler {
             // 내일 퀴즈가 이미 존재하는지 확인
             if (quizRepository.existsByQuizDate(tomorrow)) {
                 log.info("Daily quiz for {} already exists, skipping generation", tomorrow);
+                quizRepository.findByQuizDate(tomorrow).ifPresent(dailyQuizCacheService::prepare);
                 return;
             }
             
@@ -45,12 +49,16 @@ public class QuizScheduler {
             Quiz newQuiz = quizGeneratorService.generateEnvironmentQuiz(tomorrow, randomTopic);
             
             Quiz savedQuiz = quizRepository.save(newQuiz);
+
+            // 자정 조회 폭주 대비 캐시 선적재
+            dailyQuizCacheService.prepare(savedQuiz);
             
             log.info("New daily quiz generated successfully for {}. Quiz ID: {}", 
                     tomorrow, savedQuiz.getId());
         } catch (Exception e) {
             log.error("Failed to generate daily quiz", e);
-            // 실패 시 백업 퀴즈 사용 또는 알림 발송 로직 추가 가능
+            // 실행 이력에 실패로 남겨 다음 트리거에서 재시도
+            throw new IllegalStateException("일일 퀴즈 생성 실패: " + e.getMessage(), e);
         }
     }
 
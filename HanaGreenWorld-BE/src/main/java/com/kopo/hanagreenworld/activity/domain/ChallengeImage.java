@@ -0,0 +1,96 @@
+package com.kopo.hanagreenworld.activity.domain;
+
+import com.kopo.hanagreenworld.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드된 챌린지 이미지의 사이드카 레코드
+ * 업로드 시 한 번의 스트림 패스로 계산한 해시/EXIF 정보를 보관하여
+ * 검증 단계에서 파일을 다시 읽지 않도록 한다.
+ */
+@Entity
+@Table(name = "challenge_image_metadata",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_challenge_image_filename", columnNames = "filename")
+       },
+       indexes = {
+           @Index(name = "idx_challenge_image_hash", columnList = "image_hash")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChallengeImage extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "challenge_image_id")
+    private Long id;
+
+    @Column(name = "filename", nullable = false, length = 100)
+    private String filename;
+
+    @Column(name = "image_hash", nullable = false, length = 32)
+    private String imageHash;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    // EXIF 추출 성공 여부
+    @Column(name = "metadata_available", nullable = false)
+    private Boolean metadataAvailable;
+
+    @Column(name = "width")
+    private Integer width;
+
+    @Column(name = "height")
+    private Integer height;
+
+    @Column(name = "capture_time")
+    private LocalDateTime captureTime;
+
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @Column(name = "camera_info", length = 200)
+    private String cameraInfo;
+
+    @Column(name = "edited", nullable = false)
+    private Boolean edited;
+
+    @Builder
+    public ChallengeImage(String filename, String imageHash, Long fileSize, String contentType,
+                          Boolean metadataAvailable, Integer width, Integer height, LocalDateTime captureTime,
+                          Double latitude, Double longitude, String cameraInfo, Boolean edited) {
+        this.filename = filename;
+        this.imageHash = imageHash;
+        this.fileSize = fileSize;
+        this.contentType = contentType;
+        this.metadataAvailable = metadataAvailable != null ? metadataAvailable : false;
+        this.width = width;
+        this.height = height;
+        this.captureTime = captureTime;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.cameraInfo = cameraInfo;
+        this.edited = edited != null ? edited : false;
+    }
+
+    public boolean hasGpsInfo() {
+        return latitude != null && longitude != null;
+    }
+
+    public boolean hasImageSize() {
+        return width != null && height != null;
+    }
+}
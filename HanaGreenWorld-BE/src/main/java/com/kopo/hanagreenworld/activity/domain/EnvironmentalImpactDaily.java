@@ -0,0 +1,46 @@
+package com.kopo.hanagreenworld.activity.domain;
+
+import jakarta.persistence.*;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 회원별 일간 환경 임팩트 집계 (회원, 날짜, 카테고리 단위)
+ * 활동 저장 시 upsert로 누적된다.
+ */
+@Entity
+@Table(
+    name = "environmental_impact_daily",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_impact_daily_member_date_category",
+                columnNames = {"member_id", "impact_date", "category"})
+    }
+)
+@Getter
+@NoArgsConstructor
+public class EnvironmentalImpactDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "impact_daily_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "impact_date", nullable = false)
+    private LocalDate impactDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", length = 20, nullable = false)
+    private ImpactCategory category;
+
+    @Column(name = "carbon_saved", nullable = false)
+    private Double carbonSaved = 0.0;
+
+    @Column(name = "activity_count", nullable = false)
+    private Integer activityCount = 0;
+}
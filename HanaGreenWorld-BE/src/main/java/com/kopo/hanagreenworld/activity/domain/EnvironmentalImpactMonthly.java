@@ -0,0 +1,43 @@
+package com.kopo.hanagreenworld.activity.domain;
+
+import jakarta.persistence.*;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원별 월간 환경 임팩트 집계 (회원, 월(yyyy-MM), 카테고리 단위)
+ */
+@Entity
+@Table(
+    name = "environmental_impact_monthly",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_impact_monthly_member_month_category",
+                columnNames = {"member_id", "impact_month", "category"})
+    }
+)
+@Getter
+@NoArgsConstructor
+public class EnvironmentalImpactMonthly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "impact_monthly_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "impact_month", length = 7, nullable = false)
+    private String impactMonth;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", length = 20, nullable = false)
+    private ImpactCategory category;
+
+    @Column(name = "carbon_saved", nullable = false)
+    private Double carbonSaved = 0.0;
+
+    @Column(name = "activity_count", nullable = false)
+    private Integer activityCount = 0;
+}
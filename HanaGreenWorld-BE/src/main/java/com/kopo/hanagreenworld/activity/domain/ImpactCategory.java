@@ -0,0 +1,19 @@
+package com.kopo.hanagreenworld.activity.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 환경 임팩트 집계 카테고리
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImpactCategory {
+    WALKING("걷기 활동"),
+    CHALLENGE("챌린지 활동"),
+    QUIZ("퀴즈 활동"),
+    RECEIPT("전자영수증"),
+    ECO_MERCHANT("친환경 가맹점");
+
+    private final String displayName;
+}
@@ -57,4 +57,12 @@ public class Quiz extends DateTimeEntity {
         this.topic = topic;
         this.difficulty = difficulty;
     }
+
+    public void update(String question, String options, Integer correctAnswer, String explanation, Integer pointsReward) {
+        this.question = question;
+        this.options = options;
+        this.correctAnswer = correctAnswer;
+        this.explanation = explanation;
+        this.pointsReward = pointsReward;
+    }
 }
\ No newline at end of file
@@ -13,7 +13,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "quiz_records")
+@Table(
+    name = "quiz_records",
+    indexes = {
+        @Index(name = "idx_quiz_record_member_date", columnList = "member_id, activity_date")
+    }
+)
 @Getter
 @NoArgsConstructor
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
@@ -0,0 +1,81 @@
+package com.kopo.hanagreenworld.activity.domain;
+
+import jakarta.persistence.*;
+
+import com.kopo.hanagreenworld.common.domain.DateTimeEntity;
+import com.kopo.hanagreenworld.member.domain.Member;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 회원별 퀴즈 연속 정답 상태
+ * 퀴즈 기록 저장 시 O(1)로 갱신되어 매 제출마다 이력을 재귀 조회하지 않는다.
+ */
+@Entity
+@Table(name = "quiz_streaks")
+@Getter
+@NoArgsConstructor
+public class QuizStreak extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "quiz_streak_id")
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "member_id", nullable = false, unique = true)
+    private Member member;
+
+    @Column(name = "current_streak", nullable = false)
+    private Integer currentStreak = 0;
+
+    @Column(name = "best_streak", nullable = false)
+    private Integer bestStreak = 0;
+
+    @Column(name = "last_correct_date")
+    private LocalDate lastCorrectDate;
+
+    @Builder
+    public QuizStreak(Member member, Integer currentStreak, Integer bestStreak, LocalDate lastCorrectDate) {
+        this.member = member;
+        this.currentStreak = currentStreak != null ? currentStreak : 0;
+        this.bestStreak = bestStreak != null ? bestStreak : 0;
+        this.lastCorrectDate = lastCorrectDate;
+    }
+
+    /**
+     * 정답 기록 반영 (같은 날 중복 반영은 무시)
+     */
+    public void recordCorrect(LocalDate date) {
+        if (lastCorrectDate != null && !date.isAfter(lastCorrectDate)) {
+            return;
+        }
+        if (lastCorrectDate != null && lastCorrectDate.plusDays(1).equals(date)) {
+            this.currentStreak++;
+        } else {
+            this.currentStreak = 1;
+        }
+        this.lastCorrectDate = date;
+        this.bestStreak = Math.max(this.bestStreak, this.currentStreak);
+    }
+
+    /**
+     * 기준일에 유효한 연속 정답 수 (어제 이후 정답이 없으면 끊긴 것으로 본다)
+     */
+    public int getEffectiveStreak(LocalDate today) {
+        if (lastCorrectDate == null || lastCorrectDate.isBefore(today.minusDays(1))) {
+            return 0;
+        }
+        return currentStreak;
+    }
+
+    public void overwrite(Integer currentStreak, Integer bestStreak, LocalDate lastCorrectDate) {
+        this.currentStreak = currentStreak;
+        this.bestStreak = bestStreak;
+        this.lastCorrectDate = lastCorrectDate;
+    }
+}
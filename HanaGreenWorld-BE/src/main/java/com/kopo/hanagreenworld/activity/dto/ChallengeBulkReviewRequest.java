@@ -0,0 +1,23 @@
+package com.kopo.hanagreenworld.activity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChallengeBulkReviewRequest {
+    private ReviewAction action; // APPROVE, REJECT
+    private List<Long> recordIds; // 검토할 챌린지 기록 ID 목록
+    private String reason; // 거부 사유 (REJECT일 때만 사용)
+
+    public enum ReviewAction {
+        APPROVE,
+        REJECT
+    }
+}
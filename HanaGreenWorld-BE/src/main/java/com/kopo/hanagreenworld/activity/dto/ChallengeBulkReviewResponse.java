@@ -0,0 +1,26 @@
+package com.kopo.hanagreenworld.activity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChallengeBulkReviewResponse {
+    private String action;
+    private Integer requestedCount; // 요청된 기록 수
+    private Integer processedCount; // 실제 처리된 기록 수
+    private Integer skippedCount; // 검토 대기 상태가 아니어서 건너뛴 기록 수
+    private List<Long> skippedRecordIds;
+    private Long totalPointsAwarded; // 적립된 원큐씨앗 합계
+    private Double totalCarbonSaved; // 반영된 탄소절감량 합계
+    private Integer affectedMembers;
+    private Integer affectedTeams;
+    private Long remainingCount; // 처리 후 남은 검토 대기 건수
+    private Long elapsedMillis;
+}
@@ -20,6 +20,8 @@ public class ChallengeRecordResponse {
     private Long teamId;
     private LocalDateTime activityDate;
     private String imageUrl;
+    private String thumbnailUrl; // 목록/피드용 축소본
+    private String previewUrl;   // 상세/관리자 검토용 축소본
     private Long stepCount;
     private String verificationStatus;
     private LocalDateTime verifiedAt;
@@ -57,7 +59,11 @@ public class ChallengeRecordResponse {
         private Long memberId;
     }
 
-    public static ChallengeRecordResponse from(ChallengeRecord record) {
+    /**
+     * @param thumbnailUrl 목록/피드용 축소본 URL (호출 측에서 생성)
+     * @param previewUrl 상세/관리자 검토용 축소본 URL
+     */
+    public static ChallengeRecordResponse from(ChallengeRecord record, String thumbnailUrl, String previewUrl) {
         return ChallengeRecordResponse.builder()
                 .id(record.getId())
                 .challenge(ChallengeInfo.builder()
@@ -77,6 +83,8 @@ public class ChallengeRecordResponse {
                 .teamId(record.getTeamId())
                 .activityDate(record.getActivityDate())
                 .imageUrl(record.getImageUrl())
+                .thumbnailUrl(thumbnailUrl)
+                .previewUrl(previewUrl)
                 .stepCount(record.getStepCount())
                 .verificationStatus(record.getVerificationStatus())
                 .verifiedAt(record.getVerifiedAt())
@@ -0,0 +1,13 @@
+package com.kopo.hanagreenworld.activity.repository;
+
+import com.kopo.hanagreenworld.activity.domain.ChallengeImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ChallengeImageRepository extends JpaRepository<ChallengeImage, Long> {
+
+    Optional<ChallengeImage> findByFilename(String filename);
+}
@@ -1,12 +1,17 @@
 package com.kopo.hanagreenworld.activity.repository;
 
 import com.kopo.hanagreenworld.activity.domain.ChallengeRecord;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +26,32 @@ public interface ChallengeRecordRepository extends JpaRepository<ChallengeRecord
     // AI 검증 관련
     List<ChallengeRecord> findByVerificationStatus(String verificationStatus);
     List<ChallengeRecord> findByVerificationStatusOrderByCreatedAtDesc(String verificationStatus);
+
+    // 관리자 검토 대기열 (페이지 단위, 챌린지/회원 함께 조회)
+    @EntityGraph(attributePaths = {"challenge", "member"})
+    Page<ChallengeRecord> findPageByVerificationStatus(String verificationStatus, Pageable pageable);
+
+    long countByVerificationStatus(String verificationStatus);
+
+    // 일괄 검토 대상 조회
+    @EntityGraph(attributePaths = {"challenge", "member"})
+    List<ChallengeRecord> findByIdInAndVerificationStatus(Collection<Long> ids, String verificationStatus);
+
+    // 일괄 승인 (같은 챌린지 단위, 상태 조건으로 동시 처리 방지)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ChallengeRecord cr SET cr.verificationStatus = 'APPROVED', cr.verifiedAt = :verifiedAt, " +
+           "cr.pointsAwarded = :points " +
+           "WHERE cr.id IN :ids AND cr.verificationStatus = 'NEEDS_REVIEW'")
+    int bulkApprove(@Param("ids") Collection<Long> ids, @Param("points") Integer points,
+                    @Param("verifiedAt") LocalDateTime verifiedAt);
+
+    // 일괄 거부
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ChallengeRecord cr SET cr.verificationStatus = 'REJECTED', cr.verifiedAt = :verifiedAt, " +
+           "cr.aiExplanation = COALESCE(:reason, cr.aiExplanation) " +
+           "WHERE cr.id IN :ids AND cr.verificationStatus = 'NEEDS_REVIEW'")
+    int bulkReject(@Param("ids") Collection<Long> ids, @Param("reason") String reason,
+                   @Param("verifiedAt") LocalDateTime verifiedAt);
     
     // 환경 임팩트 계산용
     List<ChallengeRecord> findByMemberIdAndVerificationStatus(Long memberId, String verificationStatus);
@@ -38,6 +69,12 @@ public interface ChallengeRecordRepository extends JpaRepository<ChallengeRecord
     
     // 팀별 성공한 챌린지 개수 조회
     int countByTeamIdAndVerificationStatus(Long teamId, String verificationStatus);
+
+    // 팀 목록용 팀별 챌린지 개수 ([팀 ID, 개수])
+    @Query("SELECT cr.teamId, COUNT(cr) FROM ChallengeRecord cr " +
+           "WHERE cr.teamId IN :teamIds AND cr.verificationStatus = :verificationStatus GROUP BY cr.teamId")
+    List<Object[]> countByTeamIdsAndVerificationStatus(@Param("teamIds") Collection<Long> teamIds,
+                                                       @Param("verificationStatus") String verificationStatus);
     
     // 행동 패턴 분석용 - 최근 제출 이력 조회
     List<ChallengeRecord> findByMember_MemberIdAndCreatedAtAfter(Long memberId, LocalDateTime since);
@@ -45,29 +82,4 @@ public interface ChallengeRecordRepository extends JpaRepository<ChallengeRecord
     // AI 성능 모니터링용 - 기간별 조회
     List<ChallengeRecord> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
     List<ChallengeRecord> findByCreatedAtAfter(LocalDateTime since);
-    
-    // 팀별 이번 달 완료된 챌린지 수 조회
-    @Query("SELECT COUNT(cr) FROM ChallengeRecord cr " +
-           "JOIN MemberTeam mt ON cr.member.memberId = mt.member.memberId " +
-           "WHERE mt.team.id = :teamId AND mt.isActive = true " +
-           "AND cr.verificationStatus = 'VERIFIED' " +
-           "AND DATE_FORMAT(cr.activityDate, '%Y-%m') = :reportDate")
-    Integer countTeamCompletedChallengesThisMonth(@Param("teamId") Long teamId, @Param("reportDate") String reportDate);
-    
-    // 팀별 탄소 절감량 계산
-    @Query("SELECT COALESCE(SUM(c.carbonSaved), 0) FROM ChallengeRecord cr " +
-           "JOIN cr.challenge c " +
-           "JOIN MemberTeam mt ON cr.member.memberId = mt.member.memberId " +
-           "WHERE mt.team.id = :teamId AND mt.isActive = true " +
-           "AND cr.verificationStatus = 'VERIFIED'")
-    Double calculateTeamCarbonSaved(@Param("teamId") Long teamId);
-    
-    // 팀별 월간 탄소 절감량 계산
-    @Query("SELECT COALESCE(SUM(c.carbonSaved), 0) FROM ChallengeRecord cr " +
-           "JOIN cr.challenge c " +
-           "JOIN MemberTeam mt ON cr.member.memberId = mt.member.memberId " +
-           "WHERE mt.team.id = :teamId AND mt.isActive = true " +
-           "AND cr.verificationStatus = 'VERIFIED' " +
-           "AND DATE_FORMAT(cr.activityDate, '%Y-%m') = :reportDate")
-    Double calculateTeamMonthlyCarbonSaved(@Param("teamId") Long teamId, @Param("reportDate") String reportDate);
-}
\ No newline at end of file
+}
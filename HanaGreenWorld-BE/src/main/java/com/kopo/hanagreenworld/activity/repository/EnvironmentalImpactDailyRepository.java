@@ -0,0 +1,70 @@
+package com.kopo.hanagreenworld.activity.repository;
+
+import com.kopo.hanagreenworld.activity.domain.EnvironmentalImpactDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface EnvironmentalImpactDailyRepository extends JpaRepository<EnvironmentalImpactDaily, Long> {
+
+    List<EnvironmentalImpactDaily> findByMemberIdAndImpactDateBetweenOrderByImpactDateAsc(
+            Long memberId, LocalDate startDate, LocalDate endDate);
+
+    // 활동 저장 시 누적 (회원, 날짜, 카테고리 행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO environmental_impact_daily (member_id, impact_date, category, carbon_saved, activity_count) " +
+                   "VALUES (:memberId, :impactDate, :category, :carbonSaved, :activityCount) " +
+                   "ON DUPLICATE KEY UPDATE carbon_saved = carbon_saved + VALUES(carbon_saved), " +
+                   "activity_count = activity_count + VALUES(activity_count)", nativeQuery = true)
+    int upsert(@Param("memberId") Long memberId, @Param("impactDate") LocalDate impactDate,
+               @Param("category") String category, @Param("carbonSaved") Double carbonSaved,
+               @Param("activityCount") Integer activityCount);
+
+    // ===== 백필: 원천 테이블에서 일 단위 집계 =====
+
+    @Modifying
+    @Query(value = "DELETE FROM environmental_impact_daily", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = "INSERT INTO environmental_impact_daily (member_id, impact_date, category, carbon_saved, activity_count) " +
+                   "SELECT w.member_id, DATE(w.activity_date), 'WALKING', COALESCE(SUM(w.carbon_saved), 0), COUNT(*) " +
+                   "FROM walking_records w GROUP BY w.member_id, DATE(w.activity_date)", nativeQuery = true)
+    int backfillWalking();
+
+    @Modifying
+    @Query(value = "INSERT INTO environmental_impact_daily (member_id, impact_date, category, carbon_saved, activity_count) " +
+                   "SELECT cr.member_id, DATE(COALESCE(cr.verified_at, cr.activity_date)), 'CHALLENGE', " +
+                   "COALESCE(SUM(c.carbon_saved), 0), COUNT(*) " +
+                   "FROM challenge_records cr JOIN challenges c ON c.challenge_id = cr.challenge_id " +
+                   "WHERE cr.verification_status = 'APPROVED' " +
+                   "GROUP BY cr.member_id, DATE(COALESCE(cr.verified_at, cr.activity_date))", nativeQuery = true)
+    int backfillChallenge();
+
+    @Modifying
+    @Query(value = "INSERT INTO environmental_impact_daily (member_id, impact_date, category, carbon_saved, activity_count) " +
+                   "SELECT q.member_id, DATE(q.activity_date), 'QUIZ', 0, COUNT(*) " +
+                   "FROM quiz_records q WHERE q.is_correct = true " +
+                   "GROUP BY q.member_id, DATE(q.activity_date)", nativeQuery = true)
+    int backfillQuiz();
+
+    @Modifying
+    @Query(value = "INSERT INTO environmental_impact_daily (member_id, impact_date, category, carbon_saved, activity_count) " +
+                   "SELECT r.member_id, DATE(r.receipt_date), 'RECEIPT', COUNT(*) * :carbonPerReceipt, COUNT(*) " +
+                   "FROM electronic_receipt_records r " +
+                   "GROUP BY r.member_id, DATE(r.receipt_date)", nativeQuery = true)
+    int backfillReceipt(@Param("carbonPerReceipt") Double carbonPerReceipt);
+
+    @Modifying
+    @Query(value = "INSERT INTO environmental_impact_daily (member_id, impact_date, category, carbon_saved, activity_count) " +
+                   "SELECT t.member_id, DATE(t.transaction_date), 'ECO_MERCHANT', 0, COUNT(*) " +
+                   "FROM eco_merchant_transactions t " +
+                   "GROUP BY t.member_id, DATE(t.transaction_date)", nativeQuery = true)
+    int backfillEcoMerchant();
+}
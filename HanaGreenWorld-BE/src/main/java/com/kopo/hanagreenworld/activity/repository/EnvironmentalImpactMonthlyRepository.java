@@ -0,0 +1,40 @@
+package com.kopo.hanagreenworld.activity.repository;
+
+import com.kopo.hanagreenworld.activity.domain.EnvironmentalImpactMonthly;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EnvironmentalImpactMonthlyRepository extends JpaRepository<EnvironmentalImpactMonthly, Long> {
+
+    List<EnvironmentalImpactMonthly> findByMemberIdOrderByImpactMonthAsc(Long memberId);
+
+    List<EnvironmentalImpactMonthly> findByMemberIdAndImpactMonth(Long memberId, String impactMonth);
+
+    // 활동 저장 시 누적 (회원, 월, 카테고리 행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO environmental_impact_monthly (member_id, impact_month, category, carbon_saved, activity_count) " +
+                   "VALUES (:memberId, :impactMonth, :category, :carbonSaved, :activityCount) " +
+                   "ON DUPLICATE KEY UPDATE carbon_saved = carbon_saved + VALUES(carbon_saved), " +
+                   "activity_count = activity_count + VALUES(activity_count)", nativeQuery = true)
+    int upsert(@Param("memberId") Long memberId, @Param("impactMonth") String impactMonth,
+               @Param("category") String category, @Param("carbonSaved") Double carbonSaved,
+               @Param("activityCount") Integer activityCount);
+
+    @Modifying
+    @Query(value = "DELETE FROM environmental_impact_monthly", nativeQuery = true)
+    int deleteAllRows();
+
+    // 백필: 일간 집계에서 월 단위로 재집계
+    @Modifying
+    @Query(value = "INSERT INTO environmental_impact_monthly (member_id, impact_month, category, carbon_saved, activity_count) " +
+                   "SELECT d.member_id, DATE_FORMAT(d.impact_date, '%Y-%m'), d.category, SUM(d.carbon_saved), SUM(d.activity_count) " +
+                   "FROM environmental_impact_daily d " +
+                   "GROUP BY d.member_id, DATE_FORMAT(d.impact_date, '%Y-%m'), d.category", nativeQuery = true)
+    int backfillFromDaily();
+}
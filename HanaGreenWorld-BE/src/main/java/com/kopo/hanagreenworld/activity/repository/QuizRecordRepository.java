@@ -3,6 +3,7 @@ package com.kopo.hanagreenworld.activity.repository;
 import com.kopo.hanagreenworld.activity.domain.QuizRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -23,24 +24,18 @@ public interface QuizRecordRepository extends JpaRepository<QuizRecord, Long> {
     // 특정 회원의 모든 퀴즈 기록 조회
     List<QuizRecord> findByMember_MemberIdOrderByActivityDateDesc(Long memberId);
     
-    // 특정 회원의 연속 정답 횟수 조회
-    @Query(value = """
-        WITH RECURSIVE cte AS (
-            SELECT quiz_record_id, activity_date, is_correct, 1 as streak
-            FROM quiz_records
-            WHERE member_id = ?1 AND is_correct = true
-            AND activity_date = (
-                SELECT MAX(activity_date)
-                FROM quiz_records
-                WHERE member_id = ?1 AND is_correct = true
-            )
-            UNION ALL
-            SELECT qr.quiz_record_id, qr.activity_date, qr.is_correct, cte.streak + 1
-            FROM quiz_records qr
-            INNER JOIN cte ON DATE(qr.activity_date) = DATE(DATE_SUB(cte.activity_date, INTERVAL 1 DAY))
-            WHERE qr.member_id = ?1 AND qr.is_correct = true
-        )
-        SELECT MAX(streak) FROM cte
-    """, nativeQuery = true)
-    Integer getCurrentStreak(Long memberId);
+    // 일일 퀴즈 참여 비트맵 적재용 - 기간 내 참여 회원
+    @Query("SELECT DISTINCT qr.member.memberId FROM QuizRecord qr " +
+           "WHERE qr.activityDate >= :start AND qr.activityDate < :end")
+    List<Long> findMemberIdsByActivityDateBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 연속 정답 상태 백필용 - 정답 일시 (오래된 순)
+    @Query("SELECT qr.activityDate FROM QuizRecord qr " +
+           "WHERE qr.member.memberId = :memberId AND qr.isCorrect = true " +
+           "ORDER BY qr.activityDate ASC")
+    List<LocalDateTime> findCorrectActivityDatesByMemberId(@Param("memberId") Long memberId);
+
+    // 연속 정답 상태 백필용 - 퀴즈 기록이 있는 회원
+    @Query("SELECT DISTINCT qr.member.memberId FROM QuizRecord qr")
+    List<Long> findDistinctMemberIds();
 }
@@ -0,0 +1,13 @@
+package com.kopo.hanagreenworld.activity.repository;
+
+import com.kopo.hanagreenworld.activity.domain.QuizStreak;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface QuizStreakRepository extends JpaRepository<QuizStreak, Long> {
+
+    Optional<QuizStreak> findByMember_MemberId(Long memberId);
+}
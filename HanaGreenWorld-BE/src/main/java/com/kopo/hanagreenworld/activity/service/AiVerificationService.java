@@ -6,6 +6,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
@@ -19,6 +21,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -27,6 +30,7 @@ public class AiVerificationService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final ImageDerivativeService imageDerivativeService;
 
     @Value("${ai.server.url}")
     private String aiServerUrl;
@@ -35,10 +39,10 @@ public class AiVerificationService {
         try {
             log.info("AI 검증 시작 - URL: {}, 챌린지: {} ({})", imageUrl, challengeTitle, challengeCode);
 
-            // 이미지 다운로드
-            byte[] imageBytes = downloadImage(imageUrl);
+            // 이미지 로드 (로컬 파일은 전송 시 디스크에서 한 번만 스트리밍)
+            Resource imageResource = loadImageResource(imageUrl);
             
-            if (imageBytes == null || imageBytes.length == 0) {
+            if (imageResource == null) {
                 log.error("이미지 다운로드 실패: {}", imageUrl);
                 return AiVerificationResult.builder()
                         .success(false)
@@ -55,12 +59,6 @@ public class AiVerificationService {
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
             
             // 이미지 파일 추가
-            ByteArrayResource imageResource = new ByteArrayResource(imageBytes) {
-                @Override
-                public String getFilename() {
-                    return "challenge_image.jpg";
-                }
-            };
             body.add("image", imageResource);
             body.add("challengeTitle", challengeTitle);
             body.add("challengeCode", challengeCode);
@@ -135,25 +133,57 @@ public class AiVerificationService {
         }
     }
 
-    private byte[] downloadImage(String imageUrl) {
+    private Resource loadImageResource(String imageUrl) {
         try {
             // URL에서 로컬 파일 경로 추출
             String localPath = extractLocalPath(imageUrl);
             if (localPath != null) {
-                // 로컬 파일에서 직접 읽기
+                // 로컬 파일은 메모리에 올리지 않고 요청 본문으로 바로 스트리밍
                 Path filePath = Paths.get(localPath);
                 if (Files.exists(filePath)) {
+                    // AI 검증에는 축소본으로 충분하므로 파생본이 있으면 우선 사용
+                    // (축소본은 작으므로 읽어둔 뒤 바로 반납하여 캐시 제거를 막지 않는다)
+                    Optional<ImageDerivativeService.DerivativeFile> derivative = imageDerivativeService.getOrCreate(
+                            filePath.getFileName().toString(), ImageDerivativeService.ImageVariant.AI);
+                    if (derivative.isPresent()) {
+                        byte[] derivativeBytes;
+                        try (ImageDerivativeService.DerivativeFile file = derivative.get()) {
+                            derivativeBytes = Files.readAllBytes(file.path());
+                        }
+                        log.info("로컬 파일 축소본으로 AI 검증: {}", localPath);
+                        return new ByteArrayResource(derivativeBytes) {
+                            @Override
+                            public String getFilename() {
+                                return "challenge_image.jpg";
+                            }
+                        };
+                    }
                     log.info("로컬 파일에서 이미지 읽기: {}", localPath);
-                    return Files.readAllBytes(filePath);
+                    return new FileSystemResource(filePath) {
+                        @Override
+                        public String getFilename() {
+                            return "challenge_image.jpg";
+                        }
+                    };
                 }
             }
             
             // 로컬 파일이 없으면 URL로 다운로드 시도
             log.info("URL에서 이미지 다운로드 시도: {}", imageUrl);
             URL url = new URL(imageUrl);
+            byte[] imageBytes;
             try (InputStream in = url.openStream()) {
-                return in.readAllBytes();
+                imageBytes = in.readAllBytes();
+            }
+            if (imageBytes.length == 0) {
+                return null;
             }
+            return new ByteArrayResource(imageBytes) {
+                @Override
+                public String getFilename() {
+                    return "challenge_image.jpg";
+                }
+            };
         } catch (Exception e) {
             log.error("이미지 다운로드 실패: {}", imageUrl, e);
             return null;
@@ -0,0 +1,215 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.activity.domain.ChallengeImage;
+import com.kopo.hanagreenworld.activity.repository.ChallengeImageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 챌린지 이미지 저장 파이프라인
+ * 업로드 스트림을 FileChannel로 기록하면서 같은 패스에서 MD5 해시와 EXIF 헤더를 추출하고,
+ * 결과를 사이드카 레코드(ChallengeImage)로 저장한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChallengeImageStorageService {
+
+    public static final String UPLOAD_DIR = "challenge_images/";
+    private static final String URL_PATH_SEGMENT = "/challenge_images/";
+
+    private final ChallengeImageRepository challengeImageRepository;
+    private final ImageMetadataService imageMetadataService;
+
+    @Transactional
+    public ChallengeImage store(MultipartFile file) throws IOException {
+        Path uploadPath = Paths.get(UPLOAD_DIR);
+        if (!Files.exists(uploadPath)) {
+            Files.createDirectories(uploadPath);
+        }
+
+        // 파일명 생성 (UUID + 원본 확장자)
+        String originalFilename = file.getOriginalFilename();
+        String extension = originalFilename != null && originalFilename.contains(".") ?
+            originalFilename.substring(originalFilename.lastIndexOf(".")) : ".jpg";
+        String filename = UUID.randomUUID().toString() + extension;
+        Path filePath = uploadPath.resolve(filename);
+
+        MessageDigest digest = newDigest();
+        ImageMetadataService.ImageMetadataSnapshot snapshot;
+        long bytesWritten;
+
+        try (FileChannel channel = FileChannel.open(filePath,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+             ChannelTeeInputStream in = new ChannelTeeInputStream(file.getInputStream(), channel, digest)) {
+            // EXIF 리더가 헤더까지만 소비하고, 나머지는 그대로 흘려보내며 기록한다
+            snapshot = imageMetadataService.extractSnapshot(in);
+            in.transferTo(OutputStream.nullOutputStream());
+            bytesWritten = in.getBytesRead();
+        } catch (IOException e) {
+            Files.deleteIfExists(filePath);
+            throw e;
+        }
+
+        String imageHash = Base64.getEncoder().encodeToString(digest.digest());
+        log.info("이미지 저장 완료: {} ({} bytes, hash={})", filePath.toAbsolutePath(), bytesWritten, imageHash);
+
+        ChallengeImage challengeImage = ChallengeImage.builder()
+                .filename(filename)
+                .imageHash(imageHash)
+                .fileSize(bytesWritten)
+                .contentType(file.getContentType())
+                .metadataAvailable(snapshot.isMetadataAvailable())
+                .width(snapshot.getWidth())
+                .height(snapshot.getHeight())
+                .captureTime(snapshot.getCaptureTime())
+                .latitude(snapshot.getLatitude())
+                .longitude(snapshot.getLongitude())
+                .cameraInfo(snapshot.getCameraInfo())
+                .edited(snapshot.isEdited())
+                .build();
+
+        return challengeImageRepository.save(challengeImage);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ChallengeImage> findByImageUrl(String imageUrl) {
+        String filename = extractFilename(imageUrl);
+        if (filename == null) {
+            return Optional.empty();
+        }
+        return challengeImageRepository.findByFilename(filename);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ChallengeImage> findByFilename(String filename) {
+        return challengeImageRepository.findByFilename(filename);
+    }
+
+    /**
+     * 업로드 디렉토리 밖으로 벗어나는 경로는 허용하지 않는다
+     */
+    public Optional<Path> resolvePath(String filename) {
+        if (filename == null || filename.isBlank()) {
+            return Optional.empty();
+        }
+        Path uploadPath = Paths.get(UPLOAD_DIR).toAbsolutePath().normalize();
+        Path filePath = uploadPath.resolve(filename).normalize();
+        if (!filePath.startsWith(uploadPath) || !Files.isRegularFile(filePath)) {
+            return Optional.empty();
+        }
+        return Optional.of(filePath);
+    }
+
+    public static String extractFilename(String imageUrl) {
+        if (imageUrl == null || !imageUrl.contains(URL_PATH_SEGMENT)) {
+            return null;
+        }
+        String filename = imageUrl.substring(imageUrl.lastIndexOf(URL_PATH_SEGMENT) + URL_PATH_SEGMENT.length());
+        return filename.isEmpty() ? null : filename;
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            // 기존 image_hashes 값과 비교할 수 있도록 MD5 + Base64 형식을 유지한다
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 알고리즘을 찾을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 읽어들인 바이트를 그대로 FileChannel에 기록하고 해시를 갱신하는 입력 스트림
+     * skip 역시 실제로 읽어서 기록하므로 소비 방식과 관계없이 파일이 온전히 저장된다.
+     */
+    private static final class ChannelTeeInputStream extends FilterInputStream {
+
+        private final FileChannel channel;
+        private final MessageDigest digest;
+        private final byte[] skipBuffer = new byte[8192];
+        private long bytesRead;
+
+        private ChannelTeeInputStream(InputStream in, FileChannel channel, MessageDigest digest) {
+            super(in);
+            this.channel = channel;
+            this.digest = digest;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                tee(new byte[]{(byte) b}, 0, 1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                tee(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long remaining = n;
+            while (remaining > 0) {
+                int read = read(skipBuffer, 0, (int) Math.min(skipBuffer.length, remaining));
+                if (read < 0) {
+                    break;
+                }
+                remaining -= read;
+            }
+            return n - remaining;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public synchronized void mark(int readlimit) {
+        }
+
+        @Override
+        public synchronized void reset() throws IOException {
+            throw new IOException("mark/reset not supported");
+        }
+
+        private void tee(byte[] b, int off, int len) throws IOException {
+            digest.update(b, off, len);
+            ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            bytesRead += len;
+        }
+
+        long getBytesRead() {
+            return bytesRead;
+        }
+    }
+}
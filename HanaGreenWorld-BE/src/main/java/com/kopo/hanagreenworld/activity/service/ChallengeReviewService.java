@@ -0,0 +1,262 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.activity.domain.Challenge;
+import com.kopo.hanagreenworld.activity.domain.ChallengeRecord;
+import com.kopo.hanagreenworld.activity.domain.ImpactCategory;
+import com.kopo.hanagreenworld.activity.dto.ChallengeBulkReviewRequest;
+import com.kopo.hanagreenworld.activity.dto.ChallengeBulkReviewResponse;
+import com.kopo.hanagreenworld.activity.repository.ChallengeRecordRepository;
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.common.exception.ErrorCode;
+import com.kopo.hanagreenworld.member.domain.MemberProfile;
+import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
+import com.kopo.hanagreenworld.member.repository.MemberTeamRepository;
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import com.kopo.hanagreenworld.member.service.MemberProfileService;
+import com.kopo.hanagreenworld.member.service.TeamContributionService;
+import com.kopo.hanagreenworld.point.domain.PointCategory;
+import com.kopo.hanagreenworld.point.domain.PointTransaction;
+import com.kopo.hanagreenworld.point.domain.PointTransactionType;
+import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
+import com.kopo.hanagreenworld.point.service.PointDailySummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 NEEDS_REVIEW 대기열 일괄 처리
+ * 기록/포인트 내역/회원 프로필/팀 누적값을 건별 조회-저장 대신
+ * 챌린지·회원·팀 단위로 합산한 집합 갱신으로 한 트랜잭션에서 반영한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChallengeReviewService {
+
+    private static final String NEEDS_REVIEW = "NEEDS_REVIEW";
+    private static final int MAX_BULK_SIZE = 1000;
+    private static final int CHUNK_SIZE = 200;
+
+    private final ChallengeRecordRepository challengeRecordRepository;
+    private final PointTransactionRepository pointTransactionRepository;
+    private final MemberProfileRepository memberProfileRepository;
+    private final MemberProfileService memberProfileService;
+    private final MemberTeamRepository memberTeamRepository;
+    private final TeamRepository teamRepository;
+    private final EnvironmentalImpactRollupService environmentalImpactRollupService;
+    private final PointDailySummaryService pointDailySummaryService;
+    private final TeamContributionService teamContributionService;
+
+    @Transactional(readOnly = true)
+    public Page<ChallengeRecord> getReviewQueue(Pageable pageable) {
+        return challengeRecordRepository.findPageByVerificationStatus(NEEDS_REVIEW, pageable);
+    }
+
+    @Transactional
+    public ChallengeBulkReviewResponse review(ChallengeBulkReviewRequest request) {
+        if (request.getAction() == null || request.getRecordIds() == null || request.getRecordIds().isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        // 중복 ID 제거 (요청 순서 유지)
+        List<Long> recordIds = new ArrayList<>(new LinkedHashSet<>(request.getRecordIds()));
+        if (recordIds.size() > MAX_BULK_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        long startTime = System.currentTimeMillis();
+        BulkTotals totals = new BulkTotals();
+
+        for (int from = 0; from < recordIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = recordIds.subList(from, Math.min(from + CHUNK_SIZE, recordIds.size()));
+            if (request.getAction() == ChallengeBulkReviewRequest.ReviewAction.APPROVE) {
+                approveChunk(chunk, totals);
+            } else {
+                rejectChunk(chunk, request.getReason(), totals);
+            }
+            log.info("챌린지 일괄 {} 진행: {}/{} (처리 {}건)",
+                    request.getAction(), Math.min(from + CHUNK_SIZE, recordIds.size()), recordIds.size(), totals.processed);
+        }
+
+        List<Long> skipped = recordIds.stream()
+                .filter(id -> !totals.processedIds.contains(id))
+                .toList();
+        long elapsed = System.currentTimeMillis() - startTime;
+
+        log.info("챌린지 일괄 {} 완료: 요청 {}건, 처리 {}건, 건너뜀 {}건, {}ms",
+                request.getAction(), recordIds.size(), totals.processed, skipped.size(), elapsed);
+
+        return ChallengeBulkReviewResponse.builder()
+                .action(request.getAction().name())
+                .requestedCount(recordIds.size())
+                .processedCount(totals.processed)
+                .skippedCount(skipped.size())
+                .skippedRecordIds(skipped)
+                .totalPointsAwarded(totals.points)
+                .totalCarbonSaved(totals.carbonSaved)
+                .affectedMembers(totals.members.size())
+                .affectedTeams(totals.teams.size())
+                .remainingCount(challengeRecordRepository.countByVerificationStatus(NEEDS_REVIEW))
+                .elapsedMillis(elapsed)
+                .build();
+    }
+
+    private void approveChunk(List<Long> chunk, BulkTotals totals) {
+        List<ChallengeRecord> records = challengeRecordRepository.findByIdInAndVerificationStatus(chunk, NEEDS_REVIEW);
+        if (records.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        // 회원 단위 합산
+        Map<Long, MemberDelta> memberDeltas = new HashMap<>();
+        Map<Long, List<Long>> recordIdsByChallenge = new HashMap<>();
+        Map<Long, Integer> pointsByChallenge = new HashMap<>();
+        for (ChallengeRecord record : records) {
+            Challenge challenge = record.getChallenge();
+            recordIdsByChallenge.computeIfAbsent(challenge.getId(), k -> new ArrayList<>()).add(record.getId());
+            pointsByChallenge.put(challenge.getId(), challenge.getPoints());
+
+            MemberDelta delta = memberDeltas.computeIfAbsent(record.getMember().getMemberId(), k -> new MemberDelta());
+            delta.approved++;
+            if (challenge.getPoints() != null && challenge.getPoints() > 0) {
+                delta.earns.add(record);
+                delta.points += challenge.getPoints();
+            }
+            if (challenge.getCarbonSaved() != null && challenge.getCarbonSaved() > 0) {
+                delta.carbonSaved += challenge.getCarbonSaved();
+                delta.activities++;
+            }
+        }
+
+        // 포인트 내역: 회원별 현재 잔액에서 이어지는 balanceAfter로 기록
+        Map<Long, Long> balances = loadBalances(memberDeltas.keySet());
+        List<PointTransaction> ledger = new ArrayList<>();
+        memberDeltas.forEach((memberId, delta) -> {
+            long balance = balances.getOrDefault(memberId, 0L);
+            for (ChallengeRecord record : delta.earns) {
+                Challenge challenge = record.getChallenge();
+                balance += challenge.getPoints();
+                ledger.add(PointTransaction.builder()
+                        .member(record.getMember())
+                        .pointTransactionType(PointTransactionType.EARN)
+                        .category(PointCategory.ECO_CHALLENGE)
+                        .description(challenge.getTitle() + " 챌린지 성공 (관리자 승인)")
+                        .pointsAmount(challenge.getPoints())
+                        .balanceAfter(balance)
+                        .occurredAt(now)
+                        .build());
+            }
+        });
+        pointTransactionRepository.saveAll(ledger);
+
+        // 기록 상태: 챌린지 단위로 한 번씩 갱신
+        int approved = 0;
+        for (Map.Entry<Long, List<Long>> entry : recordIdsByChallenge.entrySet()) {
+            approved += challengeRecordRepository.bulkApprove(entry.getValue(), pointsByChallenge.get(entry.getKey()), now);
+        }
+        if (approved != records.size()) {
+            // 다른 관리자가 동시에 처리한 경우 전체 롤백
+            throw new BusinessException(ErrorCode.INVALID_STATUS);
+        }
+
+        // 회원 프로필 / 팀 누적값
+        Map<Long, Long> teamByMember = memberTeamRepository.findActiveByMemberIds(memberDeltas.keySet()).stream()
+                .collect(Collectors.toMap(mt -> mt.getMember().getMemberId(), mt -> mt.getTeam().getId(), (a, b) -> a));
+        Map<Long, MemberDelta> teamDeltas = new HashMap<>();
+        memberDeltas.forEach((memberId, delta) -> {
+            if (delta.points > 0 || delta.activities > 0) {
+                memberProfileRepository.addActivityTotals(memberId, delta.points, delta.carbonSaved, delta.activities,
+                        MemberProfile.currentYearMonth().toString());
+            }
+            environmentalImpactRollupService.record(memberId, ImpactCategory.CHALLENGE,
+                    delta.carbonSaved, delta.approved, now.toLocalDate());
+            if (!delta.earns.isEmpty()) {
+                pointDailySummaryService.recordEarn(memberId, PointCategory.ECO_CHALLENGE,
+                        delta.points, delta.earns.size(), now.toLocalDate());
+            }
+            Long teamId = teamByMember.get(memberId);
+            if (teamId != null) {
+                MemberDelta teamDelta = teamDeltas.computeIfAbsent(teamId, k -> new MemberDelta());
+                teamDelta.points += delta.points;
+                teamDelta.carbonSaved += delta.carbonSaved;
+                teamContributionService.record(teamId, memberId, delta.points, delta.carbonSaved,
+                        delta.approved, now.toLocalDate());
+            }
+            totals.points += delta.points;
+            totals.carbonSaved += delta.carbonSaved;
+            totals.members.add(memberId);
+        });
+        teamDeltas.forEach((teamId, delta) -> {
+            if (delta.points > 0 || delta.carbonSaved > 0) {
+                teamRepository.addTeamTotals(teamId, delta.points, delta.carbonSaved);
+            }
+            totals.teams.add(teamId);
+        });
+
+        totals.processed += approved;
+        records.forEach(record -> totals.processedIds.add(record.getId()));
+    }
+
+    private void rejectChunk(List<Long> chunk, String reason, BulkTotals totals) {
+        List<ChallengeRecord> records = challengeRecordRepository.findByIdInAndVerificationStatus(chunk, NEEDS_REVIEW);
+        if (records.isEmpty()) {
+            return;
+        }
+        List<Long> ids = records.stream().map(ChallengeRecord::getId).toList();
+        records.forEach(record -> totals.members.add(record.getMember().getMemberId()));
+
+        String rejectReason = reason != null && !reason.isBlank() ? reason : null;
+        int rejected = challengeRecordRepository.bulkReject(ids, rejectReason, LocalDateTime.now());
+        if (rejected != ids.size()) {
+            throw new BusinessException(ErrorCode.INVALID_STATUS);
+        }
+
+        totals.processed += rejected;
+        totals.processedIds.addAll(ids);
+    }
+
+    private Map<Long, Long> loadBalances(Set<Long> memberIds) {
+        Map<Long, Long> balances = new HashMap<>();
+        for (MemberProfile profile : memberProfileRepository.findByMember_MemberIdIn(memberIds)) {
+            balances.put(profile.getMember().getMemberId(), profile.getCurrentPoints());
+        }
+        // 프로필이 없는 회원은 기존 적립 로직과 같이 새로 생성
+        for (Long memberId : memberIds) {
+            if (!balances.containsKey(memberId)) {
+                balances.put(memberId, memberProfileService.getOrCreateMemberProfile(memberId).getCurrentPoints());
+            }
+        }
+        return balances;
+    }
+
+    private static class MemberDelta {
+        private final List<ChallengeRecord> earns = new ArrayList<>();
+        private long points = 0L;
+        private double carbonSaved = 0.0;
+        private int activities = 0;
+        private int approved = 0;
+    }
+
+    private static class BulkTotals {
+        private final Set<Long> processedIds = new HashSet<>();
+        private final Set<Long> members = new HashSet<>();
+        private final Set<Long> teams = new HashSet<>();
+        private int processed = 0;
+        private long points = 0L;
+        private double carbonSaved = 0.0;
+    }
+}
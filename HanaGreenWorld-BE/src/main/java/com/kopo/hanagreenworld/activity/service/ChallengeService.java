@@ -2,6 +2,9 @@ package com.kopo.hanagreenworld.activity.service;
 
 import com.kopo.hanagreenworld.activity.domain.Challenge;
 import com.kopo.hanagreenworld.activity.domain.ChallengeRecord;
+import com.kopo.hanagreenworld.activity.domain.ImpactCategory;
+import com.kopo.hanagreenworld.activity.dto.ChallengeBulkReviewRequest;
+import com.kopo.hanagreenworld.activity.dto.ChallengeBulkReviewResponse;
 import com.kopo.hanagreenworld.activity.dto.ChallengeListResponse;
 import com.kopo.hanagreenworld.activity.dto.ChallengeDetailResponse;
 import com.kopo.hanagreenworld.activity.dto.ChallengeParticipationRequest;
@@ -17,14 +20,18 @@ import com.kopo.hanagreenworld.member.repository.MemberRepository;
 import com.kopo.hanagreenworld.member.repository.TeamRepository;
 import com.kopo.hanagreenworld.member.repository.MemberTeamRepository;
 import com.kopo.hanagreenworld.member.service.MemberProfileService;
+import com.kopo.hanagreenworld.member.service.TeamContributionService;
 import com.kopo.hanagreenworld.point.service.EcoSeedService;
 import com.kopo.hanagreenworld.point.dto.EcoSeedEarnRequest;
 import com.kopo.hanagreenworld.point.domain.PointCategory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -47,6 +54,9 @@ public class ChallengeService {
     private final ImageMetadataService imageMetadataService;
     private final ImageHashService imageHashService;
     private final MemberProfileService memberProfileService;
+    private final ChallengeReviewService challengeReviewService;
+    private final EnvironmentalImpactRollupService environmentalImpactRollupService;
+    private final TeamContributionService teamContributionService;
 
     @Transactional(readOnly = true)
     public List<ChallengeListResponse> getActiveChallenges() {
@@ -331,6 +341,10 @@ public class ChallengeService {
                     
                     // 팀 탄소절감량도 업데이트
                     updateTeamCarbonSaved(record.getMember().getMemberId(), challenge.getCarbonSaved());
+
+                    // 환경 임팩트 집계
+                    environmentalImpactRollupService.record(record.getMember().getMemberId(),
+                            ImpactCategory.CHALLENGE, challenge.getCarbonSaved(), LocalDate.now());
                     
                     if (challenge.getRewardPolicy() == Challenge.ChallengeRewardPolicy.TEAM_SCORE) {
                         message = String.format("챌린지 인증 성공! (신뢰도: %.1f%%) 팀에 %d점을 획득했습니다.",
@@ -453,28 +467,11 @@ public class ChallengeService {
             throw new BusinessException(ErrorCode.INVALID_STATUS);
         }
 
-        Challenge challenge = record.getChallenge();
-        Integer points = challenge.getPoints();
-        
-        // 승인 처리
-        record.approve(points, null, LocalDateTime.now());
-        challengeRecordRepository.save(record);
-
-        // 포인트 적립
-        if (points != null && points > 0) {
-            EcoSeedEarnRequest earnRequest = EcoSeedEarnRequest.builder()
-                    .category(PointCategory.ECO_CHALLENGE)
-                    .pointsAmount(points)
-                    .description(challenge.getTitle() + " 챌린지 성공 (관리자 승인)")
-                    .build();
-            ecoSeedService.earnEcoSeeds(earnRequest);
-        }
-        
-        // 챌린지 탄소절약량을 member_profiles에 업데이트
-        updateMemberCarbonSaved(record.getMember().getMemberId(), challenge.getCarbonSaved());
-        
-        // 팀 탄소절감량도 업데이트
-        updateTeamCarbonSaved(record.getMember().getMemberId(), challenge.getCarbonSaved());
+        // 일괄 처리와 같은 경로로 승인 (포인트는 관리자가 아닌 기록의 회원에게 적립)
+        challengeReviewService.review(ChallengeBulkReviewRequest.builder()
+                .action(ChallengeBulkReviewRequest.ReviewAction.APPROVE)
+                .recordIds(List.of(recordId))
+                .build());
     }
 
     @Transactional
@@ -486,25 +483,21 @@ public class ChallengeService {
             throw new BusinessException(ErrorCode.INVALID_STATUS);
         }
 
-        // 거부 처리
-        record.reject(LocalDateTime.now());
-        
-        // 거부 사유 업데이트
-        if (reason != null && !reason.isEmpty()) {
-            record.updateAiVerification(
-                    "REJECTED",
-                    record.getAiConfidence(),
-                    reason,
-                    record.getAiDetectedItems()
-            );
-        }
-        
-        challengeRecordRepository.save(record);
+        challengeReviewService.review(ChallengeBulkReviewRequest.builder()
+                .action(ChallengeBulkReviewRequest.ReviewAction.REJECT)
+                .recordIds(List.of(recordId))
+                .reason(reason)
+                .build());
     }
 
     @Transactional(readOnly = true)
-    public List<ChallengeRecord> getNeedsReviewChallenges() {
-        return challengeRecordRepository.findByVerificationStatus("NEEDS_REVIEW");
+    public Page<ChallengeRecord> getNeedsReviewChallenges(Pageable pageable) {
+        return challengeReviewService.getReviewQueue(pageable);
+    }
+
+    @Transactional
+    public ChallengeBulkReviewResponse bulkReviewChallenges(ChallengeBulkReviewRequest request) {
+        return challengeReviewService.review(request);
     }
 
     @Transactional(readOnly = true)
@@ -561,9 +554,7 @@ public class ChallengeService {
     }
 
     private void updateTeamCarbonSaved(Long memberId, Double carbonSaved) {
-        if (carbonSaved == null || carbonSaved <= 0) {
-            return;
-        }
+        double carbon = carbonSaved != null && carbonSaved > 0 ? carbonSaved : 0.0;
         
         try {
             // 회원이 속한 팀 조회
@@ -572,14 +563,19 @@ public class ChallengeService {
                 Team team = memberTeam.get().getTeam();
                 
                 // 팀 탄소절감량 업데이트
-                team.addCarbonSaved(carbonSaved);
-                teamRepository.save(team);
+                if (carbon > 0) {
+                    team.addCarbonSaved(carbon);
+                    teamRepository.save(team);
+                }
+
+                // 팀 기여 집계 (탄소절감량 + 완료 챌린지 1건)
+                teamContributionService.record(team.getId(), memberId, 0L, carbon, 1, LocalDate.now());
                 
-                log.info("팀 탄소절감량 업데이트 완료: 팀ID={}, 추가탄소절감량={}kg", team.getId(), carbonSaved);
+                log.info("팀 탄소절감량 업데이트 완료: 팀ID={}, 추가탄소절감량={}kg", team.getId(), carbon);
             }
         } catch (Exception e) {
             log.error("팀 탄소절감량 업데이트 실패: memberId={}, carbonSaved={}, error={}", memberId, carbonSaved, e.getMessage());
             // 팀 탄소절감량 업데이트 실패는 전체 트랜잭션을 롤백하지 않음
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,242 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.activity.domain.Quiz;
+import com.kopo.hanagreenworld.activity.repository.QuizRecordRepository;
+import com.kopo.hanagreenworld.activity.repository.QuizRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일자별 일일 퀴즈 캐시
+ * 퀴즈 본문(정답 포함)과 회원별 참여 여부 비트맵을 메모리에 두어
+ * 자정 직후 조회/참여 확인이 MySQL을 거치지 않도록 한다.
+ * Redis가 설정된 경우 참여 비트맵을 Redis 비트셋(SETBIT)으로도 공유하여 여러 인스턴스 간 중복 참여를 막는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyQuizCacheService {
+
+    private static final String ATTEMPTED_KEY_PREFIX = "quiz:attempted:";
+    private static final Duration ATTEMPTED_KEY_TTL = Duration.ofDays(2);
+
+    private final QuizRepository quizRepository;
+    private final QuizRecordRepository quizRecordRepository;
+    private final ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider;
+
+    // 오늘/내일 두 날짜만 유지
+    private final Map<LocalDate, DailyQuizEntry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 스케줄러가 생성한 퀴즈를 미리 적재 (해당 날짜에는 아직 참여자가 없다)
+     */
+    public void prepare(Quiz quiz) {
+        if (quiz.getQuizDate() == null) {
+            return;
+        }
+        entries.put(quiz.getQuizDate(), new DailyQuizEntry(quiz, new BitSet()));
+        evictExpired(LocalDate.now());
+        log.info("일일 퀴즈 캐시 적재: {} (quizId={})", quiz.getQuizDate(), quiz.getId());
+    }
+
+    /**
+     * 관리자가 수정/삭제한 퀴즈를 캐시에서 제거 (다음 조회 시 DB에서 퀴즈와 참여 이력을 다시 적재)
+     * 메모리 캐시는 인스턴스마다 있으므로 요청을 처리한 인스턴스의 캐시만 지워진다.
+     */
+    public void evict(Long quizId) {
+        if (entries.values().removeIf(entry -> quizId.equals(entry.quiz().getId()))) {
+            log.info("일일 퀴즈 캐시 제거 (quizId={})", quizId);
+        }
+    }
+
+    public Optional<Quiz> getQuiz(LocalDate date) {
+        return getEntry(date).map(DailyQuizEntry::quiz);
+    }
+
+    public boolean hasAttempted(Long memberId, LocalDate date) {
+        Optional<DailyQuizEntry> entry = getEntry(date);
+        if (entry.isPresent() && entry.get().isMarked(memberId)) {
+            return true;
+        }
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate != null) {
+            try {
+                return Boolean.TRUE.equals(redisTemplate.opsForValue().getBit(attemptedKey(date), memberId));
+            } catch (Exception e) {
+                // 다른 인스턴스의 참여는 로컬 비트맵에 없으므로 DB로 확인한다
+                log.warn("Redis 퀴즈 참여 비트셋 조회 실패, DB로 확인: {}", e.getMessage());
+                return existsInDb(memberId, date);
+            }
+        }
+        if (entry.isPresent()) {
+            // Redis 없이 단일 인스턴스로 운영 중 - 적재 시점에 DB 참여 이력을 모두 반영했으므로 로컬 비트맵이 기준이 된다
+            return false;
+        }
+        return existsInDb(memberId, date);
+    }
+
+    /**
+     * 참여 표시 (이미 참여했으면 false)
+     * 진행 중인 트랜잭션이 롤백되면 표시를 되돌린다.
+     */
+    public boolean markAttempted(Long memberId, LocalDate date) {
+        DailyQuizEntry entry = getEntry(date).orElse(null);
+        if (entry != null && !entry.mark(memberId)) {
+            return false;
+        }
+
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        boolean redisMarked = false;
+        boolean redisFailed = false;
+        if (redisTemplate != null) {
+            try {
+                String key = attemptedKey(date);
+                Boolean previous = redisTemplate.opsForValue().setBit(key, memberId, true);
+                redisTemplate.expire(key, ATTEMPTED_KEY_TTL);
+                if (Boolean.TRUE.equals(previous)) {
+                    return false;
+                }
+                redisMarked = true;
+            } catch (Exception e) {
+                log.warn("Redis 퀴즈 참여 비트셋 갱신 실패, DB로 확인: {}", e.getMessage());
+                redisFailed = true;
+            }
+        }
+
+        // 캐시가 없는 날짜이거나 Redis 장애로 다른 인스턴스의 참여를 알 수 없으면 DB 기준으로 판단
+        if ((entry == null && !redisMarked) || redisFailed) {
+            if (existsInDb(memberId, date)) {
+                return false;
+            }
+        }
+
+        registerRollback(memberId, date, entry, redisMarked);
+        return true;
+    }
+
+    private boolean existsInDb(Long memberId, LocalDate date) {
+        LocalDateTime start = date.atStartOfDay();
+        return quizRecordRepository.existsByMember_MemberIdAndActivityDateBetween(memberId, start, start.plusDays(1));
+    }
+
+    private void registerRollback(Long memberId, LocalDate date, DailyQuizEntry entry, boolean redisMarked) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                if (entry != null) {
+                    entry.unmark(memberId);
+                }
+                if (redisMarked) {
+                    RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+                    if (redisTemplate != null) {
+                        try {
+                            redisTemplate.opsForValue().setBit(attemptedKey(date), memberId, false);
+                        } catch (Exception e) {
+                            log.warn("Redis 퀴즈 참여 비트셋 복구 실패: {}", e.getMessage());
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 캐시에 없는 날짜는 퀴즈와 해당 일자 참여 회원을 한 번만 조회하여 적재한다
+     */
+    private Optional<DailyQuizEntry> getEntry(LocalDate date) {
+        DailyQuizEntry cached = entries.get(date);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        synchronized (entries) {
+            cached = entries.get(date);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+            Optional<Quiz> quiz = quizRepository.findByQuizDate(date);
+            if (quiz.isEmpty()) {
+                return Optional.empty();
+            }
+
+            LocalDateTime start = date.atStartOfDay();
+            List<Long> attemptedMemberIds = quizRecordRepository.findMemberIdsByActivityDateBetween(start, start.plusDays(1));
+            BitSet attempted = new BitSet();
+            attemptedMemberIds.forEach(memberId -> attempted.set(Math.toIntExact(memberId)));
+            syncToRedis(date, attemptedMemberIds);
+
+            DailyQuizEntry entry = new DailyQuizEntry(quiz.get(), attempted);
+            entries.put(date, entry);
+            evictExpired(LocalDate.now());
+            log.info("일일 퀴즈 캐시 로드: {} (quizId={}, 참여 {}명)", date, quiz.get().getId(), attemptedMemberIds.size());
+            return Optional.of(entry);
+        }
+    }
+
+    private void syncToRedis(LocalDate date, List<Long> attemptedMemberIds) {
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null || attemptedMemberIds.isEmpty()) {
+            return;
+        }
+        try {
+            String key = attemptedKey(date);
+            attemptedMemberIds.forEach(memberId -> redisTemplate.opsForValue().setBit(key, memberId, true));
+            redisTemplate.expire(key, ATTEMPTED_KEY_TTL);
+        } catch (Exception e) {
+            log.warn("Redis 퀴즈 참여 비트셋 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    private void evictExpired(LocalDate today) {
+        entries.keySet().removeIf(date -> date.isBefore(today));
+    }
+
+    private String attemptedKey(LocalDate date) {
+        return ATTEMPTED_KEY_PREFIX + date;
+    }
+
+    private record DailyQuizEntry(Quiz quiz, BitSet attempted) {
+
+        boolean isMarked(Long memberId) {
+            synchronized (attempted) {
+                return attempted.get(Math.toIntExact(memberId));
+            }
+        }
+
+        boolean mark(Long memberId) {
+            int index = Math.toIntExact(memberId);
+            synchronized (attempted) {
+                if (attempted.get(index)) {
+                    return false;
+                }
+                attempted.set(index);
+                return true;
+            }
+        }
+
+        void unmark(Long memberId) {
+            synchronized (attempted) {
+                attempted.clear(Math.toIntExact(memberId));
+            }
+        }
+    }
+}
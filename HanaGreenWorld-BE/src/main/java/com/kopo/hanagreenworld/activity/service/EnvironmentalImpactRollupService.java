@@ -0,0 +1,81 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.activity.domain.EnvironmentalImpactMonthly;
+import com.kopo.hanagreenworld.activity.domain.ImpactCategory;
+import com.kopo.hanagreenworld.activity.repository.EnvironmentalImpactDailyRepository;
+import com.kopo.hanagreenworld.activity.repository.EnvironmentalImpactMonthlyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 회원별 환경 임팩트 일간/월간 집계
+ * 걷기·챌린지·퀴즈·전자영수증·친환경 가맹점 저장 경로에서 호출되어 집계 행을 누적하고,
+ * 임팩트 화면은 전체 이력 대신 월간 집계 행만 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EnvironmentalImpactRollupService {
+
+    // 전자영수증 1건당 탄소절감량 (웹훅 적립 기준과 동일)
+    public static final double RECEIPT_CARBON_SAVED = 0.0005;
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final EnvironmentalImpactDailyRepository environmentalImpactDailyRepository;
+    private final EnvironmentalImpactMonthlyRepository environmentalImpactMonthlyRepository;
+
+    @Transactional
+    public void record(Long memberId, ImpactCategory category, Double carbonSaved, LocalDate date) {
+        record(memberId, category, carbonSaved, 1, date);
+    }
+
+    @Transactional
+    public void record(Long memberId, ImpactCategory category, Double carbonSaved, int activityCount, LocalDate date) {
+        double carbon = carbonSaved != null ? carbonSaved : 0.0;
+        environmentalImpactDailyRepository.upsert(memberId, date, category.name(), carbon, activityCount);
+        environmentalImpactMonthlyRepository.upsert(memberId, toMonth(date), category.name(), carbon, activityCount);
+    }
+
+    @Transactional(readOnly = true)
+    public List<EnvironmentalImpactMonthly> getMonthlyRollups(Long memberId) {
+        return environmentalImpactMonthlyRepository.findByMemberIdOrderByImpactMonthAsc(memberId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<EnvironmentalImpactMonthly> getMonthlyRollups(Long memberId, LocalDate month) {
+        return environmentalImpactMonthlyRepository.findByMemberIdAndImpactMonth(memberId, toMonth(month));
+    }
+
+    /**
+     * 원천 활동 테이블로부터 전체 집계를 다시 생성 (배포 시 1회 / 관리자 수동 실행)
+     */
+    @Transactional
+    public int backfill() {
+        long startTime = System.currentTimeMillis();
+
+        environmentalImpactMonthlyRepository.deleteAllRows();
+        environmentalImpactDailyRepository.deleteAllRows();
+
+        int dailyRows = environmentalImpactDailyRepository.backfillWalking()
+                + environmentalImpactDailyRepository.backfillChallenge()
+                + environmentalImpactDailyRepository.backfillQuiz()
+                + environmentalImpactDailyRepository.backfillReceipt(RECEIPT_CARBON_SAVED)
+                + environmentalImpactDailyRepository.backfillEcoMerchant();
+        int monthlyRows = environmentalImpactMonthlyRepository.backfillFromDaily();
+
+        log.info("환경 임팩트 집계 백필 완료: 일간 {}행, 월간 {}행, {}ms",
+                dailyRows, monthlyRows, System.currentTimeMillis() - startTime);
+        return dailyRows;
+    }
+
+    public static String toMonth(LocalDate date) {
+        return date.format(MONTH_FORMAT);
+    }
+}
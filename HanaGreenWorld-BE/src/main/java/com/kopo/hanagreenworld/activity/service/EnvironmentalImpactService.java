@@ -1,11 +1,9 @@
 package com.kopo.hanagreenworld.activity.service;
 
-import com.kopo.hanagreenworld.activity.domain.Challenge;
-import com.kopo.hanagreenworld.activity.domain.ChallengeRecord;
+import com.kopo.hanagreenworld.activity.domain.EnvironmentalImpactMonthly;
+import com.kopo.hanagreenworld.activity.domain.ImpactCategory;
 import com.kopo.hanagreenworld.activity.dto.EnvironmentalImpactResponse;
-import com.kopo.hanagreenworld.activity.repository.WalkingRecordRepository;
-import com.kopo.hanagreenworld.activity.repository.ChallengeRecordRepository;
-import com.kopo.hanagreenworld.activity.repository.QuizRecordRepository;
+import com.kopo.hanagreenworld.member.domain.MemberProfile;
 import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 
@@ -31,33 +28,20 @@ public class EnvironmentalImpactService {
     
     private final ObjectMapper objectMapper;
 
-    private final WalkingRecordRepository walkingRecordRepository;
-    private final ChallengeRecordRepository challengeRecordRepository;
-    private final QuizRecordRepository quizRecordRepository;
     private final MemberProfileRepository memberProfileRepository;
+    private final EnvironmentalImpactRollupService environmentalImpactRollupService;
 
 
     public EnvironmentalImpactResponse getEnvironmentalImpact(Long userId) {
         try {
             log.info("사용자 {}의 전체 환경 임팩트 조회 시작", userId);
-            
-            // 걷기 활동
-            BigDecimal walkingCarbonSaved = calculateWalkingCarbonSaved(userId);
-            
-            // 챌린지 참여로
-            Map<String, BigDecimal> challengeImpacts = calculateChallengeImpacts(userId);
-            
-            // 퀴즈 참여
-            Map<String, BigDecimal> quizImpacts = calculateQuizImpacts(userId);
 
-            Double totalCarbonSaved = memberProfileRepository.findByMember_MemberId(userId)
-                .map(profile -> profile.getTotalCarbonSaved())
-                .orElse(0.0);
-            
-            Double currentMonthCarbonSaved = memberProfileRepository.findByMember_MemberId(userId)
-                .map(profile -> profile.getCurrentMonthCarbonSaved())
-                .orElse(0.0);
-            
+            Optional<MemberProfile> profile = memberProfileRepository.findByMember_MemberId(userId);
+            Double totalCarbonSaved = profile.map(MemberProfile::getTotalCarbonSaved).orElse(0.0);
+            Double currentMonthCarbonSaved = profile.map(MemberProfile::getCurrentMonthCarbonSaved).orElse(0.0);
+
+            // 카테고리별/월별 임팩트 (월간 집계 행만 조회)
+            List<EnvironmentalImpactMonthly> monthlyRollups = environmentalImpactRollupService.getMonthlyRollups(userId);
 
             String environmentalGrade = calculateEnvironmentalGrade(BigDecimal.valueOf(totalCarbonSaved));
             Integer environmentalScore = calculateEnvironmentalScore(BigDecimal.valueOf(totalCarbonSaved));
@@ -71,6 +55,7 @@ public class EnvironmentalImpactService {
             carbonImpact.put("carbonSaved", totalCarbonSaved);
             carbonImpact.put("description", "전체 탄소 절약량");
             categoryImpacts.add(carbonImpact);
+            categoryImpacts.addAll(generateCategoryImpacts(monthlyRollups));
 
             Integer ranking = calculateRanking(BigDecimal.valueOf(totalCarbonSaved));
             String rankingDescription = generateRankingDescription(ranking);
@@ -91,6 +76,7 @@ public class EnvironmentalImpactService {
                     .impactIcon(getImpactIcon(impactLevel))
                     .impactColor(getImpactColor(impactLevel))
                     .categoryImpacts(categoryImpacts)
+                    .impactTrends(generateImpactTrends(monthlyRollups))
                     .ranking(ranking)
                     .rankingDescription(rankingDescription)
                     .achievements(achievements)
@@ -110,9 +96,13 @@ public class EnvironmentalImpactService {
         try {
 
             Double currentMonthCarbonSaved = memberProfileRepository.findByMember_MemberId(userId)
-                .map(profile -> profile.getCurrentMonthCarbonSaved())
+                .map(MemberProfile::getCurrentMonthCarbonSaved)
                 .orElse(0.0);
 
+            // 이번 달 카테고리별 임팩트 (최대 카테고리 수만큼의 행)
+            List<EnvironmentalImpactMonthly> currentMonthRollups =
+                    environmentalImpactRollupService.getMonthlyRollups(userId, LocalDate.now());
+
             // 이번 달 총 환경 임팩트 계산 (탄소만)
             BigDecimal monthlyCarbonSaved = BigDecimal.valueOf(currentMonthCarbonSaved);
             BigDecimal monthlyWaterSaved = BigDecimal.ZERO;
@@ -131,6 +121,7 @@ public class EnvironmentalImpactService {
             carbonImpact.put("carbonSaved", monthlyCarbonSaved);
             carbonImpact.put("description", "이번 달 탄소 절약량");
             monthlyCategoryImpacts.add(carbonImpact);
+            monthlyCategoryImpacts.addAll(generateCategoryImpacts(currentMonthRollups));
 
             List<Map<String, Object>> monthlyImpactTrends = new ArrayList<>();
 
@@ -181,106 +172,6 @@ public class EnvironmentalImpactService {
         }
     }
 
-    private BigDecimal calculateWalkingCarbonSaved(Long userId) {
-        try {
-            // 걷기 기록에서 총 탄소 절약량 조회
-            BigDecimal totalCarbonSaved = walkingRecordRepository.findTotalCarbonSavedByMemberId(userId);
-            return totalCarbonSaved != null ? totalCarbonSaved : BigDecimal.valueOf(15.5); // 기본값
-        } catch (Exception e) {
-            log.error("걷기 활동 탄소 절약량 계산 실패: userId={}, error={}", userId, e.getMessage());
-            return BigDecimal.valueOf(15.5); // 기본값
-        }
-    }
-
-    private Map<String, BigDecimal> calculateChallengeImpacts(Long userId) {
-        Map<String, BigDecimal> impacts = new HashMap<>();
-        
-        try {
-            // 챌린지 참여 기록에서 환경 임팩트 계산
-            Map<String, BigDecimal> challengeImpacts = calculateChallengeImpactsFromRecords(userId);
-            impacts.putAll(challengeImpacts);
-        } catch (Exception e) {
-            log.error("챌린지 환경 임팩트 계산 실패: userId={}, error={}", userId, e.getMessage());
-            impacts.put("carbonSaved", BigDecimal.ZERO);
-            impacts.put("waterSaved", BigDecimal.ZERO);
-            impacts.put("energySaved", BigDecimal.ZERO);
-            impacts.put("recycled", BigDecimal.ZERO);
-        }
-        
-        return impacts;
-    }
-
-    private Map<String, BigDecimal> calculateQuizImpacts(Long userId) {
-        Map<String, BigDecimal> impacts = new HashMap<>();
-        
-        try {
-            // 퀴즈 참여 기록에서 환경 임팩트 계산
-            // 실제 구현에서는 퀴즈 타입별로 환경 임팩트를 계산해야 함
-            impacts.put("carbonSaved", BigDecimal.valueOf(3.2)); // 예시 값
-            impacts.put("waterSaved", BigDecimal.valueOf(25.0)); // 예시 값
-            impacts.put("energySaved", BigDecimal.valueOf(5.1)); // 예시 값
-            impacts.put("recycled", BigDecimal.valueOf(2.3)); // 예시 값
-        } catch (Exception e) {
-            log.error("퀴즈 환경 임팩트 계산 실패: userId={}, error={}", userId, e.getMessage());
-            impacts.put("carbonSaved", BigDecimal.ZERO);
-            impacts.put("waterSaved", BigDecimal.ZERO);
-            impacts.put("energySaved", BigDecimal.ZERO);
-            impacts.put("recycled", BigDecimal.ZERO);
-        }
-        
-        return impacts;
-    }
-
-    private BigDecimal calculateMonthlyWalkingCarbonSaved(Long userId, LocalDate startDate, LocalDate endDate) {
-        try {
-            LocalDateTime startDateTime = startDate.atStartOfDay();
-            LocalDateTime endDateTime = endDate.plusDays(1).atStartOfDay();
-            
-            BigDecimal monthlyCarbonSaved = walkingRecordRepository.findTotalCarbonSavedByMemberIdAndDateRange(
-                    userId, startDateTime, endDateTime);
-            return monthlyCarbonSaved != null ? monthlyCarbonSaved : BigDecimal.valueOf(8.2); // 기본값
-        } catch (Exception e) {
-            log.error("월간 걷기 활동 탄소 절약량 계산 실패: userId={}, error={}", userId, e.getMessage());
-            return BigDecimal.valueOf(8.2); // 기본값
-        }
-    }
-
-    private Map<String, BigDecimal> calculateMonthlyChallengeImpacts(Long userId, LocalDate startDate, LocalDate endDate) {
-        Map<String, BigDecimal> impacts = new HashMap<>();
-        
-        try {
-            // 실제 월간 챌린지 기록에서 환경 임팩트 계산
-            Map<String, BigDecimal> challengeImpacts = calculateChallengeImpactsFromRecords(userId, startDate, endDate);
-            impacts.putAll(challengeImpacts);
-        } catch (Exception e) {
-            log.error("월간 챌린지 환경 임팩트 계산 실패: userId={}, error={}", userId, e.getMessage());
-            impacts.put("carbonSaved", BigDecimal.ZERO);
-        }
-        
-        return impacts;
-    }
-
-    private Map<String, BigDecimal> calculateMonthlyQuizImpacts(Long userId, LocalDate startDate, LocalDate endDate) {
-        Map<String, BigDecimal> impacts = new HashMap<>();
-        
-        try {
-            // 월간 퀴즈 참여 기록에서 환경 임팩트 계산
-            // 실제 구현에서는 퀴즈 타입별로 환경 임팩트를 계산해야 함
-            impacts.put("carbonSaved", BigDecimal.valueOf(1.8)); // 예시 값
-            impacts.put("waterSaved", BigDecimal.valueOf(15.0)); // 예시 값
-            impacts.put("energySaved", BigDecimal.valueOf(3.2)); // 예시 값
-            impacts.put("recycled", BigDecimal.valueOf(1.2)); // 예시 값
-        } catch (Exception e) {
-            log.error("월간 퀴즈 환경 임팩트 계산 실패: userId={}, error={}", userId, e.getMessage());
-            impacts.put("carbonSaved", BigDecimal.ZERO);
-            impacts.put("waterSaved", BigDecimal.ZERO);
-            impacts.put("energySaved", BigDecimal.ZERO);
-            impacts.put("recycled", BigDecimal.ZERO);
-        }
-        
-        return impacts;
-    }
-
     private String calculateEnvironmentalGrade(BigDecimal carbonSaved) {
         if (carbonSaved.compareTo(BigDecimal.valueOf(100)) >= 0) {
             return "S급";
@@ -319,35 +210,44 @@ public class EnvironmentalImpactService {
         return String.format("당신은 %s 환경 보호자입니다! 지금까지 %.1fkg의 탄소를 절약했습니다.", grade, carbonSaved);
     }
 
-    private List<Map<String, Object>> generateCategoryImpacts(BigDecimal walkingCarbon, 
-                                                             Map<String, BigDecimal> challengeImpacts, 
-                                                             Map<String, BigDecimal> quizImpacts) {
+    private List<Map<String, Object>> generateCategoryImpacts(List<EnvironmentalImpactMonthly> rollups) {
+        Map<ImpactCategory, double[]> totals = new EnumMap<>(ImpactCategory.class);
+        for (EnvironmentalImpactMonthly rollup : rollups) {
+            double[] total = totals.computeIfAbsent(rollup.getCategory(), k -> new double[2]);
+            total[0] += rollup.getCarbonSaved();
+            total[1] += rollup.getActivityCount();
+        }
+
         List<Map<String, Object>> categoryImpacts = new ArrayList<>();
-        
-        // 걷기 활동
-        Map<String, Object> walkingImpact = new HashMap<>();
-        walkingImpact.put("category", "걷기 활동");
-        walkingImpact.put("carbonSaved", walkingCarbon);
-        walkingImpact.put("description", "걷기 활동으로 절약한 탄소");
-        categoryImpacts.add(walkingImpact);
-        
-        // 챌린지 활동
-        Map<String, Object> challengeImpact = new HashMap<>();
-        challengeImpact.put("category", "챌린지 활동");
-        challengeImpact.put("carbonSaved", challengeImpacts.getOrDefault("carbonSaved", BigDecimal.ZERO));
-        challengeImpact.put("description", "챌린지 참여로 절약한 탄소");
-        categoryImpacts.add(challengeImpact);
-        
-        // 퀴즈 활동
-        Map<String, Object> quizImpact = new HashMap<>();
-        quizImpact.put("category", "퀴즈 활동");
-        quizImpact.put("carbonSaved", quizImpacts.getOrDefault("carbonSaved", BigDecimal.ZERO));
-        quizImpact.put("description", "퀴즈 참여로 절약한 탄소");
-        categoryImpacts.add(quizImpact);
-        
+        totals.forEach((category, total) -> {
+            Map<String, Object> impact = new HashMap<>();
+            impact.put("category", category.getDisplayName());
+            impact.put("carbonSaved", BigDecimal.valueOf(total[0]).setScale(4, RoundingMode.HALF_UP));
+            impact.put("activityCount", (int) total[1]);
+            impact.put("description", category.getDisplayName() + "으로 절약한 탄소");
+            categoryImpacts.add(impact);
+        });
         return categoryImpacts;
     }
 
+    // 월별 탄소 절약 추이 (최근 6개월)
+    private List<Map<String, Object>> generateImpactTrends(List<EnvironmentalImpactMonthly> rollups) {
+        Map<String, Double> carbonByMonth = new TreeMap<>();
+        for (EnvironmentalImpactMonthly rollup : rollups) {
+            carbonByMonth.merge(rollup.getImpactMonth(), rollup.getCarbonSaved(), Double::sum);
+        }
+
+        List<Map<String, Object>> trends = new ArrayList<>();
+        LocalDate month = LocalDate.now().withDayOfMonth(1).minusMonths(5);
+        for (int i = 0; i < 6; i++, month = month.plusMonths(1)) {
+            String key = EnvironmentalImpactRollupService.toMonth(month);
+            Map<String, Object> trend = new HashMap<>();
+            trend.put("month", key);
+            trend.put("carbonSaved", BigDecimal.valueOf(carbonByMonth.getOrDefault(key, 0.0)).setScale(4, RoundingMode.HALF_UP));
+            trends.add(trend);
+        }
+        return trends;
+    }
 
     private Integer calculateRanking(BigDecimal carbonSaved) {
         // 실제로는 전체 사용자와 비교하여 랭킹을 계산해야 함
@@ -475,59 +375,6 @@ public class EnvironmentalImpactService {
         return current.divide(target, 2, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100));
     }
 
-    private Map<String, BigDecimal> calculateChallengeImpactsFromRecords(Long userId) {
-        Map<String, BigDecimal> impacts = new HashMap<>();
-        
-        try {
-            // 사용자의 승인된 챌린지 기록 조회
-            List<ChallengeRecord> approvedRecords = challengeRecordRepository
-                .findByMemberIdAndVerificationStatus(userId, "APPROVED");
-            
-            BigDecimal totalCarbonSaved = BigDecimal.ZERO;
-            
-            // 각 챌린지 기록의 탄소절약량 합계
-            for (ChallengeRecord record : approvedRecords) {
-                Challenge challenge = record.getChallenge();
-                if (challenge.getCarbonSaved() != null) {
-                    totalCarbonSaved = totalCarbonSaved.add(BigDecimal.valueOf(challenge.getCarbonSaved()));
-                }
-            }
-            
-            impacts.put("carbonSaved", totalCarbonSaved);
-            
-        } catch (Exception e) {
-            log.error("챌린지 기록에서 탄소절약량 계산 실패: userId={}, error={}", userId, e.getMessage());
-            impacts.put("carbonSaved", BigDecimal.ZERO);
-        }
-        
-        return impacts;
-    }
-
-    private Map<String, BigDecimal> calculateChallengeImpactsFromRecords(Long userId, LocalDate startDate, LocalDate endDate) {
-        Map<String, BigDecimal> impacts = new HashMap<>();
-        
-        try {
-            // 해당 기간에 승인된 챌린지 기록에서 환경 임팩트 계산
-            List<ChallengeRecord> approvedRecords = challengeRecordRepository
-                .findByMember_MemberIdAndVerificationStatusAndActivityDateBetween(userId, "APPROVED", 
-                    startDate.atStartOfDay(), endDate.atTime(23, 59, 59));
-            
-            BigDecimal totalCarbonSaved = BigDecimal.ZERO;
-            for (ChallengeRecord record : approvedRecords) {
-                if (record.getChallenge().getCarbonSaved() != null) {
-                    totalCarbonSaved = totalCarbonSaved.add(BigDecimal.valueOf(record.getChallenge().getCarbonSaved()));
-                }
-            }
-            
-            impacts.put("carbonSaved", totalCarbonSaved);
-        } catch (Exception e) {
-            log.error("월간 챌린지 기록 환경 임팩트 계산 실패: userId={}, error={}", userId, e.getMessage());
-            impacts.put("carbonSaved", BigDecimal.ZERO);
-        }
-        
-        return impacts;
-    }
-
     public String calculateEnvironmentalImpact(BigDecimal carbonKg) {
         log.info("환경 가치 환산 계산 시작 - carbonKg: {}", carbonKg);
         
@@ -0,0 +1,445 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.activity.repository.ChallengeImageRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 챌린지 이미지 파생본(썸네일/리사이즈) 캐시
+ * 원본 콘텐츠 해시 + 변형 종류를 키로 디스크에 한 번만 생성하고,
+ * 총 용량 기준 LRU로 오래 사용되지 않은 파생본부터 제거한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageDerivativeService {
+
+    private final ChallengeImageRepository challengeImageRepository;
+    private final ChallengeImageStorageService challengeImageStorageService;
+
+    @Value("${image.derivative.cache-dir:challenge_image_derivatives}")
+    private String cacheDir;
+
+    @Value("${image.derivative.max-bytes:536870912}")
+    private long maxBytes;
+
+    @Value("${image.derivative.metadata-cache-size:10000}")
+    private int metadataCacheSize;
+
+    // 접근 순서 기준 LinkedHashMap (파일명 -> 바이트 수), 파일 IO 없이 맵 조작만 잠금 안에서 한다
+    private final LinkedHashMap<String, Long> lruIndex = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<String, Integer> pins = new HashMap<>(); // 전송 중인 파생본 (제거 대상에서 제외)
+    private long totalBytes = 0L;
+
+    // 원본 파일명 -> 해시/크기 (업로드된 이미지는 바뀌지 않으므로 무효화 없음)
+    private final LinkedHashMap<String, SourceImage> sourceImages = new LinkedHashMap<>(256, 0.75f, true);
+
+    // 생성 중인 파생본 (같은 키의 동시 요청은 한 번만 생성하고 결과를 기다린다)
+    private final ConcurrentHashMap<String, CompletableFuture<Long>> inFlight = new ConcurrentHashMap<>();
+
+    public enum ImageVariant {
+        THUMBNAIL(320, 0.75f),   // 팀 피드, 목록
+        PREVIEW(1080, 0.8f),     // 상세 화면, 관리자 검토
+        AI(1024, 0.85f);         // AI 서버 검증 요청
+
+        private final int maxDimension;
+        private final float quality;
+
+        ImageVariant(int maxDimension, float quality) {
+            this.maxDimension = maxDimension;
+            this.quality = quality;
+        }
+
+        public int getMaxDimension() { return maxDimension; }
+        public float getQuality() { return quality; }
+
+        public String getParameter() {
+            return name().toLowerCase();
+        }
+
+        public static Optional<ImageVariant> fromParameter(String value) {
+            if (value == null || value.isBlank()) {
+                return Optional.empty();
+            }
+            for (ImageVariant variant : values()) {
+                if (variant.getParameter().equalsIgnoreCase(value)) {
+                    return Optional.of(variant);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    @PostConstruct
+    void loadIndex() {
+        Path dir = Paths.get(cacheDir);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        // 재시작 시 수정 시각 순으로 LRU 순서를 복원
+        try (Stream<Path> files = Files.list(dir)) {
+            List<Path> sorted = files.filter(Files::isRegularFile)
+                    .sorted(Comparator.comparingLong(this::lastModified))
+                    .toList();
+            LinkedHashMap<String, Long> loaded = new LinkedHashMap<>();
+            for (Path file : sorted) {
+                loaded.put(file.getFileName().toString(), Files.size(file));
+            }
+            synchronized (lruIndex) {
+                loaded.forEach((key, size) -> {
+                    lruIndex.put(key, size);
+                    totalBytes += size;
+                });
+            }
+            log.info("이미지 파생본 캐시 로드: {}개, {} bytes", loaded.size(), totalBytes);
+        } catch (IOException e) {
+            log.warn("이미지 파생본 캐시 로드 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 파생본 조회 (없으면 생성)
+     * 사이드카 레코드가 없는 이전 업로드이거나 디코딩할 수 없는 형식이면 빈 값을 반환하고,
+     * 호출 측은 원본을 사용한다. 반환된 파생본은 close할 때까지 캐시 제거 대상에서 제외된다.
+     */
+    public Optional<DerivativeFile> getOrCreate(String filename, ImageVariant variant) {
+        Optional<SourceImage> sourceImage = findSourceImage(filename);
+        if (sourceImage.isEmpty()) {
+            return Optional.empty();
+        }
+        SourceImage image = sourceImage.get();
+
+        // 원본이 이미 목표 크기 이하이면 원본 그대로 사용
+        if (image.maxDimension() > 0 && image.maxDimension() <= variant.getMaxDimension()) {
+            return Optional.empty();
+        }
+
+        String key = toHex(image.hash()) + "_" + variant.getParameter() + ".jpg";
+        Path target = Paths.get(cacheDir).resolve(key);
+
+        if (pinIfCached(key)) {
+            if (Files.exists(target)) {
+                touch(target);
+                return Optional.of(new DerivativeFile(target, image.hash(), variant, () -> unpin(key)));
+            }
+            // 외부에서 지워진 파생본 - 색인에서 빼고 다시 생성
+            unpin(key);
+            forget(key);
+        }
+
+        Optional<Path> source = challengeImageStorageService.resolvePath(filename);
+        if (source.isEmpty()) {
+            return Optional.empty();
+        }
+
+        long size = generateOnce(key, source.get(), target, variant);
+        if (size < 0) {
+            return Optional.empty();
+        }
+        if (!pinIfCached(key)) {
+            return Optional.empty();
+        }
+        return Optional.of(new DerivativeFile(target, image.hash(), variant, () -> unpin(key)));
+    }
+
+    /**
+     * 원본 URL에 대한 파생본 URL (챌린지 이미지가 아니면 원본 URL 그대로)
+     */
+    public static String toVariantUrl(String imageUrl, ImageVariant variant) {
+        if (imageUrl == null || ChallengeImageStorageService.extractFilename(imageUrl) == null) {
+            return imageUrl;
+        }
+        return imageUrl + "?variant=" + variant.getParameter();
+    }
+
+    private Optional<SourceImage> findSourceImage(String filename) {
+        synchronized (sourceImages) {
+            SourceImage cached = sourceImages.get(filename);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        Optional<SourceImage> loaded = challengeImageRepository.findByFilename(filename)
+                .map(image -> new SourceImage(image.getImageHash(),
+                        image.hasImageSize() ? Math.max(image.getWidth(), image.getHeight()) : 0));
+        // 사이드카 레코드가 없는 경우는 캐시하지 않는다 (업로드 직후 조회 경합 대비)
+        loaded.ifPresent(image -> {
+            synchronized (sourceImages) {
+                sourceImages.put(filename, image);
+                Iterator<String> iterator = sourceImages.keySet().iterator();
+                while (sourceImages.size() > metadataCacheSize && iterator.hasNext()) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 같은 키는 한 요청만 생성하고 나머지는 그 결과를 기다린다
+     */
+    private long generateOnce(String key, Path source, Path target, ImageVariant variant) {
+        CompletableFuture<Long> created = new CompletableFuture<>();
+        CompletableFuture<Long> running = inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (Exception e) {
+                return -1;
+            }
+        }
+
+        long size = -1;
+        try {
+            size = generate(source, target, variant);
+            if (size >= 0) {
+                register(key, size);
+            }
+        } catch (IOException e) {
+            log.warn("이미지 파생본 생성 실패: {} ({}) - {}", source.getFileName(), variant, e.getMessage());
+        } finally {
+            created.complete(size);
+            inFlight.remove(key, created);
+        }
+        return size;
+    }
+
+    private long generate(Path source, Path target, ImageVariant variant) throws IOException {
+        BufferedImage decoded = decodeSubsampled(source, variant.getMaxDimension());
+        if (decoded == null) {
+            return -1;
+        }
+        BufferedImage resized = resize(decoded, variant.getMaxDimension());
+
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "derivative", ".tmp");
+        try {
+            writeJpeg(resized, temp, variant.getQuality());
+            // 같은 인스턴스의 동시 요청은 generateOnce가 막고, 다른 인스턴스와 겹쳐도 마지막 이동만 남는다
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        log.info("이미지 파생본 생성: {} ({}px)", target.getFileName(), variant.getMaxDimension());
+        return Files.size(target);
+    }
+
+    /**
+     * 목표 크기의 2배 이상이면 디코딩 단계에서 서브샘플링하여 디코딩 비용을 줄인다
+     */
+    private BufferedImage decodeSubsampled(Path source, int maxDimension) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longest / (maxDimension * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage resize(BufferedImage source, int maxDimension) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage resized = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private void register(String key, long size) {
+        List<String> victims;
+        synchronized (lruIndex) {
+            Long previous = lruIndex.put(key, size);
+            totalBytes += size - (previous != null ? previous : 0L);
+            victims = selectVictims();
+        }
+        delete(victims);
+    }
+
+    /**
+     * 용량 초과분을 오래된 순으로 색인에서 빼고 삭제할 파일명을 반환 (전송 중인 파생본은 건너뜀)
+     */
+    private List<String> selectVictims() {
+        List<String> victims = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> iterator = lruIndex.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            if (pins.containsKey(eldest.getKey())) {
+                continue;
+            }
+            totalBytes -= eldest.getValue();
+            iterator.remove();
+            victims.add(eldest.getKey());
+        }
+        return victims;
+    }
+
+    private void delete(List<String> victims) {
+        for (String victim : victims) {
+            try {
+                Files.deleteIfExists(Paths.get(cacheDir).resolve(victim));
+            } catch (IOException e) {
+                log.warn("이미지 파생본 삭제 실패: {} - {}", victim, e.getMessage());
+            }
+        }
+    }
+
+    private boolean pinIfCached(String key) {
+        synchronized (lruIndex) {
+            if (lruIndex.get(key) == null) {
+                return false;
+            }
+            pins.merge(key, 1, Integer::sum);
+            return true;
+        }
+    }
+
+    private void unpin(String key) {
+        List<String> victims;
+        synchronized (lruIndex) {
+            pins.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+            // 전송 중이라 미뤄둔 제거를 이어서 처리
+            victims = selectVictims();
+        }
+        delete(victims);
+    }
+
+    private void forget(String key) {
+        synchronized (lruIndex) {
+            Long size = lruIndex.remove(key);
+            if (size != null) {
+                totalBytes -= size;
+            }
+        }
+    }
+
+    private void touch(Path file) {
+        // 재시작 후 LRU 순서 복원을 위해 수정 시각 갱신
+        try {
+            Files.setLastModifiedTime(file, java.nio.file.attribute.FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debug("파생본 접근 시각 갱신 실패: {}", file);
+        }
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private String toHex(String base64Hash) {
+        return HexFormat.of().formatHex(Base64.getDecoder().decode(base64Hash));
+    }
+
+    private record SourceImage(String hash, int maxDimension) {
+    }
+
+    /**
+     * 파생본 파일 (사용 후 close하여 캐시 제거 대상에 다시 포함시킨다)
+     */
+    public static final class DerivativeFile implements AutoCloseable {
+
+        private final Path path;
+        private final String sourceHash;
+        private final ImageVariant variant;
+        private final Runnable release;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private DerivativeFile(Path path, String sourceHash, ImageVariant variant, Runnable release) {
+            this.path = path;
+            this.sourceHash = sourceHash;
+            this.variant = variant;
+            this.release = release;
+        }
+
+        public Path path() {
+            return path;
+        }
+
+        public String eTag() {
+            return "\"" + sourceHash + "-" + variant.getParameter() + "\"";
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                release.run();
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.kopo.hanagreenworld.activity.service;
 
+import com.kopo.hanagreenworld.activity.domain.ChallengeImage;
 import com.kopo.hanagreenworld.activity.domain.ImageHash;
+import com.kopo.hanagreenworld.activity.repository.ChallengeImageRepository;
 import com.kopo.hanagreenworld.activity.repository.ImageHashRepository;
 import com.kopo.hanagreenworld.member.service.MemberProfileService;
 import lombok.RequiredArgsConstructor;
@@ -29,21 +31,29 @@ import java.util.Optional;
 public class ImageHashService {
 
     private final ImageHashRepository imageHashRepository;
+    private final ChallengeImageRepository challengeImageRepository;
     private final MemberProfileService memberProfileService;
 
     @Transactional
     public ImageHashResult checkImageDuplicate(String imageUrl, Long memberId, Long challengeId) {
         try {
-            byte[] imageBytes = downloadImage(imageUrl);
-            if (imageBytes == null || imageBytes.length == 0) {
-                return ImageHashResult.builder()
-                        .isDuplicate(false)
-                        .confidence(0.0)
-                        .reason("이미지를 다운로드할 수 없습니다.")
-                        .build();
+            // 업로드 시 계산된 해시가 있으면 파일을 다시 읽지 않는다
+            Optional<ChallengeImage> challengeImage = findChallengeImage(imageUrl);
+            String imageHash;
+            if (challengeImage.isPresent()) {
+                imageHash = challengeImage.get().getImageHash();
+            } else {
+                byte[] imageBytes = downloadImage(imageUrl);
+                if (imageBytes == null || imageBytes.length == 0) {
+                    return ImageHashResult.builder()
+                            .isDuplicate(false)
+                            .confidence(0.0)
+                            .reason("이미지를 다운로드할 수 없습니다.")
+                            .build();
+                }
+                imageHash = calculateImageHash(imageBytes);
             }
 
-            String imageHash = calculateImageHash(imageBytes);
             if (imageHash == null) {
                 return ImageHashResult.builder()
                         .isDuplicate(false)
@@ -72,6 +82,14 @@ public class ImageHashService {
         }
     }
 
+    private Optional<ChallengeImage> findChallengeImage(String imageUrl) {
+        String filename = ChallengeImageStorageService.extractFilename(imageUrl);
+        if (filename == null) {
+            return Optional.empty();
+        }
+        return challengeImageRepository.findByFilename(filename);
+    }
+
     private String calculateImageHash(byte[] imageBytes) {
         try {
             MessageDigest md = MessageDigest.getInstance("MD5");
@@ -107,7 +125,8 @@ public class ImageHashService {
         return new DuplicateCheckResult(false, 0.9, "중복 이미지가 없습니다.", "NONE");
     }
 
-    private void saveImageHash(Long memberId, Long challengeId, String imageUrl, String imageHash, long fileSize) {
+    private void saveImageHash(Long memberId, Long challengeId, String imageUrl, String imageHash, long fileSize,
+                               String contentType) {
         try {
             // 기존에 같은 챌린지에 대한 해시가 있는지 확인
             Optional<ImageHash> existingHash = imageHashRepository.findByMemberIdAndChallengeId(memberId, challengeId);
@@ -115,7 +134,7 @@ public class ImageHashService {
             if (existingHash.isPresent()) {
                 // 기존 해시 정보 업데이트
                 ImageHash hash = existingHash.get();
-                hash.updateImageInfo(imageUrl, imageHash, fileSize, "image/jpeg");
+                hash.updateImageInfo(imageUrl, imageHash, fileSize, contentType);
                 imageHashRepository.save(hash);
                 log.info("📝 기존 이미지 해시 정보 업데이트: {}", imageHash);
             } else {
@@ -126,7 +145,7 @@ public class ImageHashService {
                         .imageUrl(imageUrl)
                         .imageHash(imageHash)
                         .fileSize(fileSize)
-                        .contentType("image/jpeg")
+                        .contentType(contentType)
                         .build();
                 
                 imageHashRepository.save(newHash);
@@ -177,6 +196,15 @@ public class ImageHashService {
     public void saveImageHashAfterVerification(String imageUrl, Long memberId, Long challengeId) {
         try {
             log.info("💾 AI 검증 성공 후 이미지 해시 저장: 사용자 {}, 챌린지 {}", memberId, challengeId);
+
+            // 업로드 시 저장된 사이드카 레코드 사용
+            Optional<ChallengeImage> challengeImage = findChallengeImage(imageUrl);
+            if (challengeImage.isPresent()) {
+                ChallengeImage image = challengeImage.get();
+                String contentType = image.getContentType() != null ? image.getContentType() : "image/jpeg";
+                saveImageHash(memberId, challengeId, imageUrl, image.getImageHash(), image.getFileSize(), contentType);
+                return;
+            }
             
             // 이미지 다운로드
             byte[] imageBytes = downloadImage(imageUrl);
@@ -193,7 +221,7 @@ public class ImageHashService {
             }
 
             // 이미지 해시 정보 저장
-            saveImageHash(memberId, challengeId, imageUrl, imageHash, imageBytes.length);
+            saveImageHash(memberId, challengeId, imageUrl, imageHash, imageBytes.length, "image/jpeg");
             
         } catch (Exception e) {
             log.error("AI 검증 후 이미지 해시 저장 실패: {}", e.getMessage(), e);
@@ -7,6 +7,8 @@ import com.drew.metadata.Metadata;
 import com.drew.metadata.exif.ExifIFD0Directory;
 import com.drew.metadata.exif.ExifSubIFDDirectory;
 import com.drew.metadata.exif.GpsDirectory;
+import com.kopo.hanagreenworld.activity.domain.ChallengeImage;
+import com.kopo.hanagreenworld.activity.repository.ChallengeImageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,25 +24,35 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ImageMetadataService {
 
+    private final ChallengeImageRepository challengeImageRepository;
+
     public ImageMetadataResult validateImageMetadata(String imageUrl, LocalDateTime challengeParticipationDate) {
         try {
-            byte[] imageBytes = downloadImage(imageUrl);
-            if (imageBytes == null || imageBytes.length == 0) {
-                return ImageMetadataResult.builder()
-                        .isValid(false)
-                        .confidence(0.0)
-                        .reason("이미지를 다운로드할 수 없습니다.")
-                        .build();
+            // 업로드 시 저장된 사이드카 레코드가 있으면 파일을 다시 읽지 않는다
+            Optional<ChallengeImage> challengeImage = findChallengeImage(imageUrl);
+            ImageMetadataSnapshot snapshot;
+            if (challengeImage.isPresent()) {
+                snapshot = ImageMetadataSnapshot.from(challengeImage.get());
+            } else {
+                byte[] imageBytes = downloadImage(imageUrl);
+                if (imageBytes == null || imageBytes.length == 0) {
+                    return ImageMetadataResult.builder()
+                            .isValid(false)
+                            .confidence(0.0)
+                            .reason("이미지를 다운로드할 수 없습니다.")
+                            .build();
+                }
+                snapshot = extractSnapshot(new ByteArrayInputStream(imageBytes));
             }
 
-            Metadata metadata = extractMetadata(imageBytes);
-            if (metadata == null) {
+            if (!snapshot.isMetadataAvailable()) {
                 return ImageMetadataResult.builder()
                         .isValid(false)
                         .confidence(0.3)
@@ -49,7 +61,7 @@ public class ImageMetadataService {
             }
 
             // 메타데이터 분석
-            return analyzeMetadata(metadata, imageUrl, challengeParticipationDate);
+            return analyzeMetadata(snapshot, challengeParticipationDate);
 
         } catch (Exception e) {
             log.error("이미지 메타데이터 검증 중 오류 발생: {}", e.getMessage(), e);
@@ -61,8 +73,42 @@ public class ImageMetadataService {
         }
     }
 
-    private Metadata extractMetadata(byte[] imageBytes) {
-        try (InputStream inputStream = new ByteArrayInputStream(imageBytes)) {
+    /**
+     * 스트림에서 EXIF 헤더를 읽어 검증에 필요한 값만 추출
+     * 업로드 파이프라인에서 파일 저장과 같은 패스로 호출된다.
+     */
+    public ImageMetadataSnapshot extractSnapshot(InputStream inputStream) {
+        Metadata metadata = extractMetadata(inputStream);
+        if (metadata == null) {
+            return ImageMetadataSnapshot.builder()
+                    .metadataAvailable(false)
+                    .build();
+        }
+
+        Map<String, Double> gpsInfo = extractGpsInfo(metadata);
+        Map<String, Integer> imageSize = extractImageSize(metadata);
+        return ImageMetadataSnapshot.builder()
+                .metadataAvailable(true)
+                .captureTime(extractCaptureTime(metadata))
+                .latitude(gpsInfo != null ? gpsInfo.get("latitude") : null)
+                .longitude(gpsInfo != null ? gpsInfo.get("longitude") : null)
+                .cameraInfo(extractCameraInfo(metadata))
+                .width(imageSize != null ? imageSize.get("width") : null)
+                .height(imageSize != null ? imageSize.get("height") : null)
+                .edited(checkIfEdited(metadata))
+                .build();
+    }
+
+    private Optional<ChallengeImage> findChallengeImage(String imageUrl) {
+        String filename = ChallengeImageStorageService.extractFilename(imageUrl);
+        if (filename == null) {
+            return Optional.empty();
+        }
+        return challengeImageRepository.findByFilename(filename);
+    }
+
+    private Metadata extractMetadata(InputStream inputStream) {
+        try {
             return ImageMetadataReader.readMetadata(inputStream);
         } catch (ImageProcessingException | IOException e) {
             log.warn("EXIF 데이터 추출 실패: {}", e.getMessage());
@@ -70,13 +116,13 @@ public class ImageMetadataService {
         }
     }
 
-    private ImageMetadataResult analyzeMetadata(Metadata metadata, String imageUrl, LocalDateTime challengeParticipationDate) {
+    private ImageMetadataResult analyzeMetadata(ImageMetadataSnapshot snapshot, LocalDateTime challengeParticipationDate) {
         Map<String, Object> metadataInfo = new HashMap<>();
         double confidence = 0.5; // 기본 신뢰도
         StringBuilder reasons = new StringBuilder();
 
         // 1. 촬영 시간 검증 (챌린지 참여 신청 후 촬영된 사진인지 확인)
-        LocalDateTime captureTime = extractCaptureTime(metadata);
+        LocalDateTime captureTime = snapshot.getCaptureTime();
         if (captureTime != null) {
             metadataInfo.put("captureTime", captureTime);
             metadataInfo.put("challengeParticipationDate", challengeParticipationDate);
@@ -107,8 +153,10 @@ public class ImageMetadataService {
         }
 
         // 2. GPS 위치 정보 검증
-        Map<String, Double> gpsInfo = extractGpsInfo(metadata);
-        if (gpsInfo != null && !gpsInfo.isEmpty()) {
+        if (snapshot.getLatitude() != null && snapshot.getLongitude() != null) {
+            Map<String, Double> gpsInfo = new HashMap<>();
+            gpsInfo.put("latitude", snapshot.getLatitude());
+            gpsInfo.put("longitude", snapshot.getLongitude());
             metadataInfo.put("gpsInfo", gpsInfo);
             confidence += 0.1;
             reasons.append("GPS 위치 정보가 있습니다. ");
@@ -118,7 +166,7 @@ public class ImageMetadataService {
         }
 
         // 3. 카메라 정보 검증
-        String cameraInfo = extractCameraInfo(metadata);
+        String cameraInfo = snapshot.getCameraInfo();
         if (cameraInfo != null && !cameraInfo.isEmpty()) {
             metadataInfo.put("cameraInfo", cameraInfo);
             
@@ -138,13 +186,15 @@ public class ImageMetadataService {
         }
 
         // 4. 이미지 크기 및 해상도 검증
-        Map<String, Integer> imageSize = extractImageSize(metadata);
-        if (imageSize != null && !imageSize.isEmpty()) {
+        if (snapshot.getWidth() != null && snapshot.getHeight() != null) {
+            int width = snapshot.getWidth();
+            int height = snapshot.getHeight();
+
+            Map<String, Integer> imageSize = new HashMap<>();
+            imageSize.put("width", width);
+            imageSize.put("height", height);
             metadataInfo.put("imageSize", imageSize);
             
-            int width = imageSize.get("width");
-            int height = imageSize.get("height");
-            
             // 너무 작거나 큰 이미지 검증
             if (width < 200 || height < 200) {
                 confidence -= 0.2;
@@ -159,7 +209,7 @@ public class ImageMetadataService {
         }
 
         // 5. 편집 여부 검증
-        boolean isEdited = checkIfEdited(metadata);
+        boolean isEdited = snapshot.isEdited();
         if (isEdited) {
             confidence -= 0.2;
             reasons.append("이미지가 편집된 것으로 보입니다. ");
@@ -310,6 +360,35 @@ public class ImageMetadataService {
         }
     }
 
+    /**
+     * 검증에 사용하는 EXIF 추출값
+     */
+    @lombok.Data
+    @lombok.Builder
+    public static class ImageMetadataSnapshot {
+        private boolean metadataAvailable;
+        private LocalDateTime captureTime;
+        private Double latitude;
+        private Double longitude;
+        private String cameraInfo;
+        private Integer width;
+        private Integer height;
+        private boolean edited;
+
+        public static ImageMetadataSnapshot from(ChallengeImage challengeImage) {
+            return ImageMetadataSnapshot.builder()
+                    .metadataAvailable(challengeImage.getMetadataAvailable())
+                    .captureTime(challengeImage.getCaptureTime())
+                    .latitude(challengeImage.getLatitude())
+                    .longitude(challengeImage.getLongitude())
+                    .cameraInfo(challengeImage.getCameraInfo())
+                    .width(challengeImage.getWidth())
+                    .height(challengeImage.getHeight())
+                    .edited(challengeImage.getEdited())
+                    .build();
+        }
+    }
+
     /**
      * 이미지 메타데이터 검증 결과 DTO
      */
@@ -0,0 +1,164 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 전체 회원 통계 스냅샷
+ * member_profiles를 주기적으로 한 번만 읽어 정렬된 탄소절감량/포인트 배열과 평균을 보관하고,
+ * 회원별 "나보다 높은 회원 수"는 이진 탐색으로 계산한다.
+ * 갱신 주기(refresh-millis)를 최대 보관 시간(max-age-millis)보다 짧게 두어 평소에는 백그라운드에서만 갱신되고,
+ * 요청 스레드는 기동 직후이거나 백그라운드 갱신이 밀린 경우에만 직접 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberPopulationSnapshotService {
+
+    private final MemberProfileRepository memberProfileRepository;
+
+    @Value("${stats.population.max-age-millis:600000}")
+    private long maxAgeMillis;
+
+    private volatile PopulationSnapshot snapshot;
+
+    @Scheduled(fixedDelayString = "${stats.population.refresh-millis:240000}", initialDelay = 0)
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("회원 통계 스냅샷 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 스냅샷 조회 (없거나 오래되었으면 갱신)
+     */
+    public PopulationSnapshot getSnapshot() {
+        PopulationSnapshot current = snapshot;
+        if (current == null || System.currentTimeMillis() - current.createdAtMillis() > maxAgeMillis) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null || System.currentTimeMillis() - current.createdAtMillis() > maxAgeMillis) {
+                    current = refresh();
+                }
+            }
+        }
+        return current;
+    }
+
+    public PopulationSnapshot refresh() {
+        long startTime = System.currentTimeMillis();
+        // 조회 한 번뿐이므로 별도 트랜잭션 없이 리포지토리의 읽기 전용 트랜잭션을 사용한다
+        List<Object[]> rows = memberProfileRepository.findAllStatValues();
+
+        double[] totalCarbon = new double[rows.size()];
+        double[] monthlyCarbon = new double[rows.size()];
+        long[] totalPoints = new long[rows.size()];
+        long[] monthlyPoints = new long[rows.size()];
+        int totalCarbonCount = 0, monthlyCarbonCount = 0, totalPointsCount = 0, monthlyPointsCount = 0;
+        double totalCarbonSum = 0.0;
+
+        // null 값은 비교 대상에서 제외 (기존 집계와 동일)
+        for (Object[] row : rows) {
+            if (row[0] != null) {
+                totalCarbon[totalCarbonCount++] = ((Number) row[0]).doubleValue();
+                totalCarbonSum += ((Number) row[0]).doubleValue();
+            }
+            if (row[1] != null) {
+                monthlyCarbon[monthlyCarbonCount++] = ((Number) row[1]).doubleValue();
+            }
+            if (row[2] != null) {
+                totalPoints[totalPointsCount++] = ((Number) row[2]).longValue();
+            }
+            if (row[3] != null) {
+                monthlyPoints[monthlyPointsCount++] = ((Number) row[3]).longValue();
+            }
+        }
+
+        PopulationSnapshot created = new PopulationSnapshot(
+                rows.size(),
+                sorted(totalCarbon, totalCarbonCount),
+                sorted(monthlyCarbon, monthlyCarbonCount),
+                sorted(totalPoints, totalPointsCount),
+                sorted(monthlyPoints, monthlyPointsCount),
+                totalCarbonCount > 0 ? totalCarbonSum / totalCarbonCount : 0.0,
+                System.currentTimeMillis());
+        this.snapshot = created;
+
+        log.info("회원 통계 스냅샷 갱신: {}명, {}ms", rows.size(), System.currentTimeMillis() - startTime);
+        return created;
+    }
+
+    private static double[] sorted(double[] values, int length) {
+        double[] copy = Arrays.copyOf(values, length);
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    private static long[] sorted(long[] values, int length) {
+        long[] copy = Arrays.copyOf(values, length);
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    public record PopulationSnapshot(
+            int totalUsers,
+            double[] totalCarbon,
+            double[] monthlyCarbon,
+            long[] totalPoints,
+            long[] monthlyPoints,
+            double averageTotalCarbon,
+            long createdAtMillis) {
+
+        public int countHigherTotalCarbon(double value) {
+            return countGreater(totalCarbon, value);
+        }
+
+        public int countHigherMonthlyCarbon(double value) {
+            return countGreater(monthlyCarbon, value);
+        }
+
+        public int countHigherTotalPoints(double value) {
+            return countGreater(totalPoints, value);
+        }
+
+        public int countHigherMonthlyPoints(double value) {
+            return countGreater(monthlyPoints, value);
+        }
+
+        // 정렬된 배열에서 value보다 큰 원소 수 (upper bound)
+        private static int countGreater(double[] sortedValues, double value) {
+            int low = 0, high = sortedValues.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sortedValues[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return sortedValues.length - low;
+        }
+
+        private static int countGreater(long[] sortedValues, double value) {
+            int low = 0, high = sortedValues.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sortedValues[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return sortedValues.length - low;
+        }
+    }
+}
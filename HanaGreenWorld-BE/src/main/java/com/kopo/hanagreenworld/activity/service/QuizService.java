@@ -1,5 +1,6 @@
 package com.kopo.hanagreenworld.activity.service;
 
+import com.kopo.hanagreenworld.activity.domain.ImpactCategory;
 import com.kopo.hanagreenworld.activity.domain.Quiz;
 import com.kopo.hanagreenworld.activity.domain.QuizRecord;
 import com.kopo.hanagreenworld.activity.repository.QuizRepository;
@@ -30,20 +31,21 @@ public class QuizService {
     private final MemberProfileService memberProfileService;
     private final EcoSeedService ecoSeedService;
     private final QuizGeneratorService quizGeneratorService;
+    private final QuizStreakService quizStreakService;
+    private final DailyQuizCacheService dailyQuizCacheService;
+    private final EnvironmentalImpactRollupService environmentalImpactRollupService;
 
     @Transactional(readOnly = true)
     public Quiz getDailyQuiz(Long memberId) {
-        LocalDateTime today = LocalDate.now().atStartOfDay();
-        LocalDateTime tomorrow = today.plusDays(1);
+        LocalDate todayDate = LocalDate.now();
 
-        // 오늘 이미 퀴즈를 풀었는지 확인
-        if (quizRecordRepository.existsByMember_MemberIdAndActivityDateBetween(memberId, today, tomorrow)) {
+        // 오늘 이미 퀴즈를 풀었는지 확인 (참여 비트맵)
+        if (dailyQuizCacheService.hasAttempted(memberId, todayDate)) {
             throw new BusinessException(ErrorCode.QUIZ_ALREADY_ATTEMPTED);
         }
 
         // 오늘의 일일 퀴즈 반환
-        LocalDate todayDate = LocalDate.now();
-        return quizRepository.findByQuizDate(todayDate)
+        return dailyQuizCacheService.getQuiz(todayDate)
                 .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_GENERATION_FAILED));
     }
 
@@ -58,20 +60,20 @@ public class QuizService {
 
     @Transactional
     public QuizRecord attemptQuiz(Long memberId, Long quizId, Integer selectedAnswer) {
-        // 오늘 자정 시작과 끝 시간 계산
-        LocalDateTime today = LocalDate.now().atStartOfDay();
-        LocalDateTime tomorrow = today.plusDays(1);
-        
-        // 이미 퀴즈를 풀었는지 확인
-        if (quizRecordRepository.existsByMember_MemberIdAndActivityDateBetween(memberId, today, tomorrow)) {
+        LocalDate todayDate = LocalDate.now();
+
+        // 이미 퀴즈를 풀었는지 확인하며 참여 표시 (트랜잭션 롤백 시 해제)
+        if (!dailyQuizCacheService.markAttempted(memberId, todayDate)) {
             throw new BusinessException(ErrorCode.QUIZ_ALREADY_ATTEMPTED);
         }
 
-        // 퀴즈와 회원 정보 조회
-        Quiz quiz = quizRepository.findById(quizId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+        // 퀴즈 조회 (오늘의 퀴즈는 캐시에서, 정답 판정도 캐시된 정답으로 수행)
+        Quiz quiz = dailyQuizCacheService.getQuiz(todayDate)
+                .filter(cached -> cached.getId().equals(quizId))
+                .orElseGet(() -> quizRepository.findById(quizId)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND)));
+        // 인증된 회원이므로 조회 없이 참조만 사용
+        Member member = memberRepository.getReferenceById(memberId);
 
         // 퀴즈 기록 생성
         QuizRecord record = QuizRecord.builder()
@@ -82,13 +84,15 @@ public class QuizService {
 
         QuizRecord savedRecord = quizRecordRepository.save(record);
 
+        // 연속 정답 상태 갱신 (이력 재조회 없이 O(1))
+        int streak = quizStreakService.recordAttempt(member, todayDate, savedRecord.getIsCorrect());
+
         // 정답인 경우 포인트 적립
         if (savedRecord.getIsCorrect()) {
             // 가중치 기반 랜덤 보상 생성 (5~10 매우 높음, 드물게 100~10000)
             int baseReward = generateWeightedReward();
 
             // 연속 정답 보너스 계산
-            Integer streak = quizRecordRepository.getCurrentStreak(memberId);
             Integer bonusPoints = calculateBonusPoints(streak);
 
             int totalReward = baseReward + bonusPoints;
@@ -104,6 +108,7 @@ public class QuizService {
             
             // MemberProfile에 활동횟수 업데이트 (탄소절감량 제외)
             memberProfileService.updateMemberActivityWithoutCarbon(memberId);
+            environmentalImpactRollupService.record(memberId, ImpactCategory.QUIZ, 0.0, todayDate);
         }
 
         return savedRecord;
@@ -135,9 +140,6 @@ public class QuizService {
 
     @Transactional(readOnly = true)
     public Boolean hasParticipatedToday(Long memberId) {
-        LocalDateTime today = LocalDate.now().atStartOfDay();
-        LocalDateTime tomorrow = today.plusDays(1);
-        
-        return quizRecordRepository.existsByMember_MemberIdAndActivityDateBetween(memberId, today, tomorrow);
+        return dailyQuizCacheService.hasAttempted(memberId, LocalDate.now());
     }
 }
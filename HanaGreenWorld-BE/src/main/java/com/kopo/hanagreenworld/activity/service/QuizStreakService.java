@@ -0,0 +1,83 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.activity.domain.QuizStreak;
+import com.kopo.hanagreenworld.activity.repository.QuizRecordRepository;
+import com.kopo.hanagreenworld.activity.repository.QuizStreakRepository;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 퀴즈 연속 정답 상태 관리
+ * 퀴즈 제출 시 QuizStreak 한 행만 갱신하고, 행이 없는 회원은 최초 1회 이력에서 복원한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizStreakService {
+
+    private final QuizStreakRepository quizStreakRepository;
+    private final QuizRecordRepository quizRecordRepository;
+    private final MemberRepository memberRepository;
+
+    /**
+     * 퀴즈 기록 저장 직후 호출 - 정답이면 연속 정답 갱신 후 유효한 연속 정답 수를 반환한다
+     */
+    @Transactional
+    public int recordAttempt(Member member, LocalDate date, boolean isCorrect) {
+        QuizStreak streak = quizStreakRepository.findByMember_MemberId(member.getMemberId())
+                .orElseGet(() -> quizStreakRepository.save(rebuild(member)));
+        if (isCorrect) {
+            streak.recordCorrect(date);
+        }
+        return streak.getEffectiveStreak(date);
+    }
+
+    /**
+     * 전체 회원 연속 정답 상태를 퀴즈 이력에서 다시 계산 (배포 시 1회 / 관리자 수동 실행)
+     */
+    @Transactional
+    public int backfillAll() {
+        List<Long> memberIds = quizRecordRepository.findDistinctMemberIds();
+        log.info("퀴즈 연속 정답 백필 시작: 대상 회원 {}명", memberIds.size());
+
+        int updated = 0;
+        for (Long memberId : memberIds) {
+            Member member = memberRepository.findById(memberId).orElse(null);
+            if (member == null) {
+                continue;
+            }
+            QuizStreak rebuilt = rebuild(member);
+            quizStreakRepository.findByMember_MemberId(memberId)
+                    .ifPresentOrElse(
+                            existing -> existing.overwrite(rebuilt.getCurrentStreak(), rebuilt.getBestStreak(), rebuilt.getLastCorrectDate()),
+                            () -> quizStreakRepository.save(rebuilt));
+            updated++;
+        }
+
+        log.info("퀴즈 연속 정답 백필 완료: {}명", updated);
+        return updated;
+    }
+
+    /**
+     * 정답 이력(오래된 순)을 한 번 순회하여 현재/최고 연속 정답을 계산
+     */
+    private QuizStreak rebuild(Member member) {
+        List<LocalDateTime> correctDates = quizRecordRepository.findCorrectActivityDatesByMemberId(member.getMemberId());
+
+        QuizStreak streak = QuizStreak.builder()
+                .member(member)
+                .build();
+        for (LocalDateTime correctDate : correctDates) {
+            streak.recordCorrect(correctDate.toLocalDate());
+        }
+        return streak;
+    }
+}
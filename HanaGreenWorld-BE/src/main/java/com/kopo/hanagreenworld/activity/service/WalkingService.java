@@ -1,5 +1,6 @@
 package com.kopo.hanagreenworld.activity.service;
 
+import com.kopo.hanagreenworld.activity.domain.ImpactCategory;
 import com.kopo.hanagreenworld.activity.domain.WalkingRecord;
 import com.kopo.hanagreenworld.activity.dto.WalkingConsentRequest;
 import com.kopo.hanagreenworld.activity.dto.WalkingConsentResponse;
@@ -35,6 +36,7 @@ public class WalkingService {
     private final MemberProfileRepository memberProfileRepository;
     private final MemberProfileService memberProfileService;
     private final EcoSeedService ecoSeedService;
+    private final EnvironmentalImpactRollupService environmentalImpactRollupService;
 
     // 걷기 측정 동의 상태 조회
     @Transactional(readOnly = true)
@@ -135,6 +137,7 @@ public class WalkingService {
 
             // 3단계: MemberProfile에 탄소절감량과 활동횟수 업데이트
             memberProfileService.updateMemberActivityWithCarbon(memberId, carbonSaved.doubleValue());
+            environmentalImpactRollupService.record(memberId, ImpactCategory.WALKING, carbonSaved.doubleValue(), targetDate);
 
             // 4단계: 동의 상태의 마지막 동기화 시간 업데이트
             profile.updateWalkingLastSync();
@@ -1,6 +1,7 @@
 package com.kopo.hanagreenworld.admin.controller;
 
 import com.kopo.hanagreenworld.activity.domain.Quiz;
+import com.kopo.hanagreenworld.activity.service.DailyQuizCacheService;
 import com.kopo.hanagreenworld.activity.service.QuizGeneratorService;
 import com.kopo.hanagreenworld.activity.repository.QuizRepository;
 import com.kopo.hanagreenworld.admin.dto.QuizUpdateRequest;
@@ -23,6 +24,7 @@ public class AdminQuizController {
 
     private final QuizGeneratorService quizGeneratorService;
     private final QuizRepository quizRepository;
+    private final DailyQuizCacheService dailyQuizCacheService;
 
     @Operation(summary = "새 퀴즈 생성", description = "Gemini API를 사용하여 새로운 환경 퀴즈를 생성합니다.")
     @PostMapping("/generate")
@@ -36,6 +38,7 @@ public class AdminQuizController {
     @DeleteMapping("/{quizId}")
     public ResponseEntity<ApiResponse<Void>> deleteQuiz(@PathVariable Long quizId) {
         quizRepository.deleteById(quizId);
+        dailyQuizCacheService.evict(quizId);
         return ResponseEntity.ok(ApiResponse.success("퀴즈가 삭제되었습니다.", null));
     }
 
@@ -47,15 +50,12 @@ public class AdminQuizController {
         Quiz quiz = quizRepository.findById(quizId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.QUIZ_NOT_FOUND));
 
-        Quiz updatedQuiz = Quiz.builder()
-                .question(request.getQuestion())
-                .options(request.getOptions())
-                .correctAnswer(request.getCorrectAnswer())
-                .explanation(request.getExplanation())
-                .pointsReward(request.getPointsReward())
-                .build();
+        // 새 퀴즈를 만들지 않고 기존 퀴즈(출제일 포함)를 수정한다
+        quiz.update(request.getQuestion(), request.getOptions(), request.getCorrectAnswer(),
+                request.getExplanation(), request.getPointsReward());
 
-        Quiz savedQuiz = quizRepository.save(updatedQuiz);
+        Quiz savedQuiz = quizRepository.save(quiz);
+        dailyQuizCacheService.evict(quizId);
         return ResponseEntity.ok(ApiResponse.success("퀴즈가 수정되었습니다.", savedQuiz));
     }
 
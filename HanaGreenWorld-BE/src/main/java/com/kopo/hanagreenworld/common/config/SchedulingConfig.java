@@ -1,8 +1,10 @@
 package com.kopo.hanagreenworld.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
 import java.util.concurrent.Executor;
@@ -12,12 +14,16 @@ import java.util.concurrent.Executors;
 @EnableScheduling
 public class SchedulingConfig implements SchedulingConfigurer {
 
+    // 트리거와 노드별 주기 작업(수신함 수집, 캐시 갱신)용 - 정기 작업 본문은 ScheduledJobOrchestrator의 작업별 스레드에서 실행
+    @Value("${scheduler.pool-size:4}")
+    private int poolSize;
+
     @Override
     public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
         taskRegistrar.setScheduler(taskExecutor());
     }
 
     public Executor taskExecutor() {
-        return Executors.newScheduledThreadPool(1);
+        return Executors.newScheduledThreadPool(poolSize, new CustomizableThreadFactory("scheduling-"));
     }
 }
@@ -0,0 +1,20 @@
+package com.kopo.hanagreenworld.common.config;
+
+import com.kopo.hanagreenworld.common.sql.SqlExecutionTimingListener;
+import com.kopo.hanagreenworld.common.sql.SqlStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SqlStatementConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlExecutionTimingListener.class.getName());
+        };
+    }
+}
@@ -1,10 +1,13 @@
 package com.kopo.hanagreenworld.common.config;
 
+import com.kopo.hanagreenworld.common.sql.SqlBudgetInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -13,8 +16,11 @@ import java.nio.file.Paths;
 import java.util.List;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final SqlBudgetInterceptor sqlBudgetInterceptor;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**") // 모든 경로에 대해
@@ -23,6 +29,12 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true); // 쿠키와 같은 인증 정보 허용
     }
 
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 엔드포인트별 SQL 실행 예산 (@SqlBudget)
+        registry.addInterceptor(sqlBudgetInterceptor);
+    }
+
     @Override
     public void configureMessageConverters(List<HttpMessageConverter<?>> converters) {
         // UTF-8 인코딩 설정
@@ -38,11 +50,8 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // challenge_images 폴더의 정적 파일 서빙 설정
-        String uploadPath = Paths.get("challenge_images").toAbsolutePath().toString();
-        registry.addResourceHandler("/challenge_images/**")
-                .addResourceLocations("file:" + uploadPath + "/");
-        
+        // challenge_images 폴더는 ChallengeImageFileController가 sendfile로 서빙
+
         // uploads 폴더도 지원 (기존 호환성)
         String uploadsPath = Paths.get("uploads").toAbsolutePath().toString();
         registry.addResourceHandler("/uploads/**")
@@ -0,0 +1,127 @@
+package com.kopo.hanagreenworld.common.controller;
+
+import com.kopo.hanagreenworld.activity.domain.ChallengeImage;
+import com.kopo.hanagreenworld.activity.service.ChallengeImageStorageService;
+import com.kopo.hanagreenworld.activity.service.ImageDerivativeService;
+import com.kopo.hanagreenworld.activity.service.ImageDerivativeService.DerivativeFile;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * 챌린지 이미지 서빙 (원본 및 축소 파생본)
+ * 컨테이너가 sendfile을 지원하면 커널 zero-copy 전송을 사용하고,
+ * 지원하지 않으면 FileChannel.transferTo로 응답 스트림에 직접 전송한다.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Challenge Image File Controller", description = "챌린지 이미지 파일 서빙 API")
+public class ChallengeImageFileController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 업로드 파일명은 UUID라 내용이 바뀌지 않는다
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final ChallengeImageStorageService challengeImageStorageService;
+    private final ImageDerivativeService imageDerivativeService;
+
+    @GetMapping("/challenge_images/{filename:.+}")
+    @Operation(summary = "챌린지 이미지 조회",
+            description = "업로드된 챌린지 인증 이미지를 반환합니다. variant(thumbnail, preview, ai) 지정 시 축소본을 반환합니다.")
+    public void getImage(@PathVariable String filename,
+                         @RequestParam(required = false) String variant,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        Optional<ImageDerivativeService.ImageVariant> imageVariant = ImageDerivativeService.ImageVariant.fromParameter(variant);
+        if (imageVariant.isPresent()) {
+            Optional<DerivativeFile> derivative =
+                    imageDerivativeService.getOrCreate(filename, imageVariant.get());
+            if (derivative.isPresent()) {
+                // 전송이 끝날 때까지 캐시 제거 대상에서 제외 (sendfile은 핸들러 반환 후 열리므로 쓰지 않음)
+                try (DerivativeFile file = derivative.get()) {
+                    serve(file.path(), MediaType.IMAGE_JPEG_VALUE, file.eTag(), false, request, response);
+                }
+                return;
+            }
+            // 파생본을 만들 수 없으면 원본으로 응답
+        }
+
+        Optional<Path> resolved = challengeImageStorageService.resolvePath(filename);
+        if (resolved.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        Optional<ChallengeImage> challengeImage = challengeImageStorageService.findByFilename(filename);
+        String eTag = challengeImage.map(image -> "\"" + image.getImageHash() + "\"").orElse(null);
+        String contentType = challengeImage.map(ChallengeImage::getContentType)
+                .orElseGet(() -> MediaTypeFactory.getMediaType(filename)
+                        .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+
+        serve(resolved.get(), contentType, eTag, true, request, response);
+    }
+
+    private void serve(Path filePath, String contentType, String eTag, boolean allowSendfile,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (eTag != null && eTag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            response.setHeader(HttpHeaders.ETAG, eTag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            response.setContentType(contentType);
+            response.setContentLengthLong(size);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            if (eTag != null) {
+                response.setHeader(HttpHeaders.ETAG, eTag);
+            }
+
+            if (allowSendfile && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                // Tomcat NIO 커넥터가 응답 완료 후 sendfile로 전송
+                request.setAttribute(SENDFILE_FILENAME, filePath.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, 0L);
+                request.setAttribute(SENDFILE_END, size);
+                return;
+            }
+
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                long transferred = channel.transferTo(position, size - position, out);
+                if (transferred <= 0) {
+                    // 전송 중 파일이 줄어들면 transferTo가 0을 반환하므로 멈추고 연결을 끊어 잘린 응답임을 알린다
+                    log.warn("이미지 전송 중 파일 크기 변경 - {}: {}/{}B", filePath, position, size);
+                    throw new EOFException("이미지 전송 중 파일이 줄어들었습니다: " + filePath);
+                }
+                position += transferred;
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.kopo.hanagreenworld.common.sql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔드포인트별 SQL 실행 예산
+ * 요청 하나에서 실행된 SQL 수가 statements를 넘거나, 같은 SQL이 repeatedStatements번 이상 반복되면(N+1 의심)
+ * 경고를 남기고, sql-budget.enforce가 켜져 있으면(테스트) 응답 본문을 쓰기 전에 500으로 실패시킨다.
+ * 컨트롤러 클래스에 붙이면 해당 클래스의 모든 핸들러에 적용된다 (메서드 선언이 우선).
+ * Hibernate가 실행하는 SQL만 센다 (JdbcTemplate으로 직접 실행하는 SQL은 포함되지 않는다).
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface SqlBudget {
+
+    /**
+     * 요청당 최대 SQL 실행 수
+     */
+    int statements();
+
+    /**
+     * 같은 SQL의 최대 반복 수 (0이면 sql-budget.repeat-threshold 사용)
+     */
+    int repeatedStatements() default 0;
+}
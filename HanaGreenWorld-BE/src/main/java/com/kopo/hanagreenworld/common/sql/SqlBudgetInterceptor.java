@@ -0,0 +1,30 @@
+package com.kopo.hanagreenworld.common.sql;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 핸들러에 선언된 @SqlBudget을 현재 요청의 SQL 집계에 연결
+ */
+@Component
+public class SqlBudgetInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementContext context = SqlStatementTracker.current();
+        if (context != null && handler instanceof HandlerMethod handlerMethod) {
+            SqlBudget budget = handlerMethod.getMethodAnnotation(SqlBudget.class);
+            if (budget == null) {
+                budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), SqlBudget.class);
+            }
+            if (budget != null) {
+                context.setBudget(budget);
+            }
+        }
+        return true;
+    }
+}
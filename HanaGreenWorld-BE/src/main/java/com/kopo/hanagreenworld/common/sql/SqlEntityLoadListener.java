@@ -0,0 +1,37 @@
+package com.kopo.hanagreenworld.common.sql;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로드된 엔티티 수 집계 (조회 결과 행 수의 근사치 - 네이티브/프로젝션 조회 행은 포함되지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlEntityLoadListener implements PostLoadEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void register() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        SqlStatementContext context = SqlStatementTracker.current();
+        if (context != null) {
+            context.onEntityLoad();
+        }
+    }
+}
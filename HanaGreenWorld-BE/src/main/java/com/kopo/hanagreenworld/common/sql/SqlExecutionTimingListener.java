@@ -0,0 +1,39 @@
+package com.kopo.hanagreenworld.common.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 세션별 JDBC 실행 시간 측정 (hibernate.session.events.auto로 세션마다 생성됨)
+ */
+public class SqlExecutionTimingListener implements SessionEventListener {
+
+    private long statementStartedAt;
+    private long batchStartedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(statementStartedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStartedAt);
+    }
+
+    private void record(long startedAt) {
+        SqlStatementContext context = SqlStatementTracker.current();
+        if (context != null && startedAt > 0) {
+            context.onExecution(System.nanoTime() - startedAt);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.kopo.hanagreenworld.common.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * HTTP 요청 또는 정기 작업 하나의 SQL 실행 집계 (해당 스레드에서만 갱신)
+ */
+public class SqlStatementContext {
+
+    private static final int MAX_DISTINCT_STATEMENTS = 512;
+
+    private final long startedAt = System.nanoTime();
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+
+    private String label;
+    private SqlBudget budget;
+    private int statements;
+    private int entitiesLoaded;
+    private long executionNanos;
+    private String mostRepeatedSql;
+    private int mostRepeatedCount;
+    private boolean violationReported;
+
+    SqlStatementContext(String label) {
+        this.label = label;
+    }
+
+    void onStatement(String sql) {
+        statements++;
+        // 바인딩 파라미터는 ?로 남아 있으므로 같은 문자열이 반복되면 루프 안의 조회로 본다
+        Integer count = executionsBySql.get(sql);
+        if (count == null && executionsBySql.size() >= MAX_DISTINCT_STATEMENTS) {
+            return;
+        }
+        int repeated = count == null ? 1 : count + 1;
+        executionsBySql.put(sql, repeated);
+        if (repeated > mostRepeatedCount) {
+            mostRepeatedCount = repeated;
+            mostRepeatedSql = sql;
+        }
+    }
+
+    void onExecution(long nanos) {
+        executionNanos += nanos;
+    }
+
+    void onEntityLoad() {
+        entitiesLoaded++;
+    }
+
+    void setLabel(String label) {
+        this.label = label;
+    }
+
+    void setBudget(SqlBudget budget) {
+        this.budget = budget;
+    }
+
+    boolean isViolationReported() {
+        return violationReported;
+    }
+
+    void markViolationReported() {
+        this.violationReported = true;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public SqlBudget getBudget() {
+        return budget;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public long getExecutionMillis() {
+        return executionNanos / 1_000_000L;
+    }
+
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startedAt) / 1_000_000L;
+    }
+
+    public String getMostRepeatedSql() {
+        return mostRepeatedSql;
+    }
+
+    public int getMostRepeatedCount() {
+        return mostRepeatedCount;
+    }
+
+    /**
+     * 응답 헤더로 내보낼 값
+     */
+    void writeHeaders(BiConsumer<String, String> header) {
+        header.accept("X-SQL-Statements", String.valueOf(statements));
+        header.accept("X-SQL-Time-Ms", String.valueOf(getExecutionMillis()));
+        header.accept("X-SQL-Entities", String.valueOf(entitiesLoaded));
+        header.accept("X-SQL-Max-Repeat", String.valueOf(mostRepeatedCount));
+    }
+}
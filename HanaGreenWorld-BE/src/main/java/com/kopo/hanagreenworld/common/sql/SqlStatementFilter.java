@@ -0,0 +1,54 @@
+package com.kopo.hanagreenworld.common.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 단위 SQL 실행 추적 (인증 필터의 회원 조회까지 포함하도록 가장 바깥에서 실행)
+ * 응답 본문을 쓰기 전 SqlStatementResponseAdvice가 집계를 헤더로 내보내고 예산을 강제한다.
+ * 여기서는 응답이 이미 커밋되었을 수 있으므로 경고와 지표만 남긴다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private final SqlStatementTracker sqlStatementTracker;
+
+    @Value("${sql-budget.headers:true}")
+    private boolean headers;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        SqlStatementContext context = sqlStatementTracker.begin(request.getMethod() + " " + request.getRequestURI());
+        if (context == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // 경로 변수가 들어간 URI 대신 매핑 패턴으로 집계 (지표 키 수 제한)
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            context.setLabel(request.getMethod() + " " + (pattern != null ? pattern : "(unmapped)"));
+            if (headers && !response.isCommitted()) {
+                context.writeHeaders(response::setHeader);
+            }
+            sqlStatementTracker.end(context);
+        }
+    }
+}
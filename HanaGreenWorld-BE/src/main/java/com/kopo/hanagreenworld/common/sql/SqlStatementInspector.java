@@ -0,0 +1,18 @@
+package com.kopo.hanagreenworld.common.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 모든 SQL을 현재 요청/작업 집계에 더한다 (SQL은 바꾸지 않음)
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementContext context = SqlStatementTracker.current();
+        if (context != null) {
+            context.onStatement(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,80 @@
+package com.kopo.hanagreenworld.common.sql;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트(요청 매핑 패턴)/정기 작업별 SQL 실행 누적 지표
+ */
+@Component
+public class SqlStatementMetrics {
+
+    private static final int MAX_LABELS = 1000;
+
+    private final Map<String, UnitMetrics> units = new ConcurrentHashMap<>();
+
+    void record(SqlStatementContext context, boolean budgetExceeded, boolean repeated) {
+        UnitMetrics metrics = units.get(context.getLabel());
+        if (metrics == null) {
+            if (units.size() >= MAX_LABELS) {
+                return;
+            }
+            metrics = units.computeIfAbsent(context.getLabel(), label -> new UnitMetrics());
+        }
+        metrics.executions.increment();
+        metrics.statements.add(context.getStatements());
+        metrics.maxStatements.accumulate(context.getStatements());
+        metrics.entitiesLoaded.add(context.getEntitiesLoaded());
+        metrics.executionMillis.add(context.getExecutionMillis());
+        if (budgetExceeded) {
+            metrics.budgetExceeded.increment();
+        }
+        if (repeated) {
+            metrics.repeatedDetected.increment();
+            metrics.lastRepeatedSql = context.getMostRepeatedSql();
+        }
+    }
+
+    /**
+     * 누적 SQL 실행 수가 많은 순
+     */
+    public List<Snapshot> snapshot() {
+        return units.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingLong(Snapshot::totalStatements).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        units.clear();
+    }
+
+    private static final class UnitMetrics {
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0L);
+        private final LongAdder entitiesLoaded = new LongAdder();
+        private final LongAdder executionMillis = new LongAdder();
+        private final LongAdder budgetExceeded = new LongAdder();
+        private final LongAdder repeatedDetected = new LongAdder();
+        private volatile String lastRepeatedSql;
+
+        private Snapshot snapshot(String label) {
+            long count = Math.max(executions.sum(), 1L);
+            return new Snapshot(label, executions.sum(), statements.sum(), statements.sum() / (double) count,
+                    maxStatements.get(), entitiesLoaded.sum() / (double) count, executionMillis.sum() / (double) count,
+                    budgetExceeded.sum(), repeatedDetected.sum(), lastRepeatedSql);
+        }
+    }
+
+    public record Snapshot(String label, long executions, long totalStatements, double avgStatements,
+                           long maxStatements, double avgEntitiesLoaded, double avgSqlMillis,
+                           long budgetExceeded, long nPlusOneSuspected, String lastRepeatedSql) {
+    }
+}
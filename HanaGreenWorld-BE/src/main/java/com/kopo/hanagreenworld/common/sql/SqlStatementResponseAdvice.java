@@ -0,0 +1,50 @@
+package com.kopo.hanagreenworld.common.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전에 SQL 예산 확인 및 집계 헤더 추가 (본문을 쓰면 응답이 커밋되어 필터에서는 늦다)
+ * sql-budget.enforce가 켜져 있고 핸들러에 선언한 예산을 넘었으면 본문 대신 예외를 던져 500으로 응답한다.
+ * 본문을 직렬화하는 동안의 지연 로딩은 이 시점 이후라 강제 대상이 아니며, 필터의 경고/지표에만 반영된다.
+ */
+@ControllerAdvice
+@RequiredArgsConstructor
+public class SqlStatementResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final SqlStatementTracker sqlStatementTracker;
+
+    @Value("${sql-budget.headers:true}")
+    private boolean headers;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatementContext context = SqlStatementTracker.current();
+        if (context == null) {
+            return body;
+        }
+        // 예외 처리 응답에서 다시 호출되면 이미 보고한 위반은 건너뛰고 오류 본문을 쓴다
+        String violation = sqlStatementTracker.checkBudget(context);
+        if (violation != null) {
+            throw new IllegalStateException(violation);
+        }
+        if (headers) {
+            context.writeHeaders(response.getHeaders()::set);
+        }
+        return body;
+    }
+}
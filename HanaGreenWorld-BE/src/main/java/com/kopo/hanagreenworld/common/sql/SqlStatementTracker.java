@@ -0,0 +1,115 @@
+package com.kopo.hanagreenworld.common.sql;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청/작업 단위 SQL 실행 추적
+ * 시작한 스레드에 집계를 걸어두고 Hibernate 훅(SqlStatementInspector 등)이 여기에 더한다.
+ * 끝날 때 예산(@SqlBudget 또는 기본값)과 같은 SQL 반복 수를 확인해 경고하고 지표에 남긴다.
+ * 예산 강제(sql-budget.enforce)는 HTTP 핸들러에 선언한 @SqlBudget에만 적용되며, 응답 본문을 쓰기 전에
+ * SqlStatementResponseAdvice가 checkBudget으로 확인한다. 정기 작업은 예산을 선언할 수 없어 경고와 지표만 남긴다.
+ * Hibernate를 거치지 않는 JdbcTemplate SQL(카드 거래 일괄 수신 등)은 집계되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlStatementTracker {
+
+    private static final ThreadLocal<SqlStatementContext> CURRENT = new ThreadLocal<>();
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final SqlStatementMetrics sqlStatementMetrics;
+
+    @Value("${sql-budget.default-max-statements:100}")
+    private int defaultMaxStatements;
+
+    @Value("${sql-budget.repeat-threshold:10}")
+    private int repeatThreshold;
+
+    @Value("${sql-budget.enforce:false}")
+    private boolean enforce;
+
+    static SqlStatementContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 추적 시작 (이미 추적 중인 스레드면 null - 바깥 단위에 합산된다)
+     */
+    public SqlStatementContext begin(String label) {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        SqlStatementContext context = new SqlStatementContext(label);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * 핸들러에 선언한 예산 위반 여부 (응답 본문을 쓰기 전에 확인, 요청당 한 번만 보고)
+     *
+     * @return sql-budget.enforce가 켜져 있고 선언한 예산을 넘었으면 위반 내용, 아니면 null
+     */
+    String checkBudget(SqlStatementContext context) {
+        SqlBudget budget = context.getBudget();
+        if (!enforce || budget == null || context.isViolationReported()) {
+            return null;
+        }
+        int maxStatements = maxStatements(budget);
+        int maxRepeats = maxRepeats(budget);
+        if (context.getStatements() <= maxStatements && context.getMostRepeatedCount() < maxRepeats) {
+            return null;
+        }
+        context.markViolationReported();
+        return String.format("SQL 예산 위반 - %s: %d건 (예산 %d건), 같은 SQL 최대 %d회 (허용 %d회 미만) - %s",
+                context.getLabel(), context.getStatements(), maxStatements, context.getMostRepeatedCount(), maxRepeats,
+                abbreviate(context.getMostRepeatedSql()));
+    }
+
+    /**
+     * 추적 종료 - 예산 초과와 N+1 의심을 경고하고 지표에 남긴다
+     */
+    public void end(SqlStatementContext context) {
+        if (context == null) {
+            return;
+        }
+        CURRENT.remove();
+
+        SqlBudget budget = context.getBudget();
+        int maxStatements = maxStatements(budget);
+        boolean budgetExceeded = context.getStatements() > maxStatements;
+        boolean repeated = context.getMostRepeatedCount() >= maxRepeats(budget);
+        sqlStatementMetrics.record(context, budgetExceeded, repeated);
+
+        if (repeated) {
+            log.warn("N+1 의심 - {}: 같은 SQL {}회 실행 - {}", context.getLabel(), context.getMostRepeatedCount(),
+                    abbreviate(context.getMostRepeatedSql()));
+        }
+        if (budgetExceeded) {
+            log.warn("SQL 예산 초과 - {}: {}건 (예산 {}건{}), 로드 엔티티 {}개, SQL {}ms / 전체 {}ms", context.getLabel(),
+                    context.getStatements(), maxStatements, budget != null ? "" : ", 기본값", context.getEntitiesLoaded(),
+                    context.getExecutionMillis(), context.getElapsedMillis());
+        } else {
+            log.debug("SQL 실행 집계 - {}: {}건, 로드 엔티티 {}개, SQL {}ms", context.getLabel(),
+                    context.getStatements(), context.getEntitiesLoaded(), context.getExecutionMillis());
+        }
+    }
+
+    private int maxStatements(SqlBudget budget) {
+        return budget != null ? budget.statements() : defaultMaxStatements;
+    }
+
+    private int maxRepeats(SqlBudget budget) {
+        return budget != null && budget.repeatedStatements() > 0 ? budget.repeatedStatements() : repeatThreshold;
+    }
+
+    private static String abbreviate(String sql) {
+        if (sql == null || sql.length() <= MAX_LOGGED_SQL_LENGTH) {
+            return sql;
+        }
+        return sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
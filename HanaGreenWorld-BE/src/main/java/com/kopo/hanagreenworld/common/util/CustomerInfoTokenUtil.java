@@ -0,0 +1,32 @@
+package com.kopo.hanagreenworld.common.util;
+
+import com.kopo.hanagreenworld.member.domain.Member;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 관계사 연동용 고객 정보 토큰 생성
+ * 회원 CI를 Base64로 인코딩하며, CI가 없는 회원은 휴대폰 번호와 이름으로 만든 임시 CI를 쓴다.
+ */
+public final class CustomerInfoTokenUtil {
+
+    private CustomerInfoTokenUtil() {
+    }
+
+    public static String createCustomerInfoToken(Member member) {
+        return Base64.getEncoder().encodeToString(resolveCi(member).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String resolveCi(Member member) {
+        String ci = member.getCi();
+        if (ci == null || ci.trim().isEmpty()) {
+            ci = generateMockCI(member);
+        }
+        return ci;
+    }
+
+    private static String generateMockCI(Member member) {
+        return "CI_" + member.getPhoneNumber().replace("-", "") + "_" + member.getName().hashCode();
+    }
+}
@@ -1,13 +1,18 @@
 package com.kopo.hanagreenworld.integration.controller;
 
+import com.kopo.hanagreenworld.merchant.dto.CardTransactionBulkRequest;
+import com.kopo.hanagreenworld.merchant.dto.CardTransactionBulkResponse;
 import com.kopo.hanagreenworld.merchant.event.CardTransactionCreatedEvent;
-import com.kopo.hanagreenworld.merchant.service.EcoMerchantMatchingService;
+import com.kopo.hanagreenworld.merchant.service.CardTransactionBulkIngestService;
+import com.kopo.hanagreenworld.merchant.service.CardTransactionEventBus;
+import com.kopo.hanagreenworld.merchant.service.CardTransactionEventBus.PublishResult;
 import com.kopo.hanagreenworld.common.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -21,12 +26,16 @@ import java.util.Map;
 @Tag(name = "Card Transaction Webhook", description = "카드 거래 웹훅 API")
 public class CardTransactionWebhookController {
 
-    private final ApplicationEventPublisher eventPublisher;
+    private static final String RETRY_AFTER_SECONDS = "30";
+
+    private final CardTransactionEventBus cardTransactionEventBus;
+    private final CardTransactionBulkIngestService cardTransactionBulkIngestService;
 
     @PostMapping("/card-transaction")
     @Operation(
         summary = "카드 거래 웹훅", 
-        description = "하나카드에서 카드 거래 발생 시 친환경 가맹점 매칭 및 원큐씨앗 지급을 처리합니다."
+        description = "하나카드에서 카드 거래 발생 시 이벤트를 수신함에 저장하고 친환경 가맹점 매칭 및 원큐씨앗 지급을 비동기로 처리합니다. "
+                + "처리 대기열이 가득 찬 경우 429를 반환합니다."
     )
     public ResponseEntity<ApiResponse<Map<String, Object>>> handleCardTransactionWebhook(
             @RequestBody Map<String, Object> request) {
@@ -50,17 +59,22 @@ public class CardTransactionWebhookController {
                 transactionDate = LocalDateTime.now();
             }
 
-            // 이벤트 발행 (비동기 처리로 중복 방지)
+            // 수신함 저장 후 이벤트 실행기로 전달 (처리는 비동기)
             CardTransactionCreatedEvent event = CardTransactionCreatedEvent.of(
                 transactionId, userId, merchantName, businessNumber, 
                 amount, transactionDate, category, merchantCategory
             );
-            eventPublisher.publishEvent(event);
+            PublishResult result = cardTransactionEventBus.publish(event);
 
+            if (result == PublishResult.REJECTED) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .body(ApiResponse.error("카드 거래 이벤트 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."));
+            }
 
             return ResponseEntity.ok(ApiResponse.success(
-                "카드 거래 웹훅 이벤트가 발행되었습니다.",
-                Map.of("transactionId", transactionId, "status", "event_published")
+                "카드 거래 웹훅 이벤트가 접수되었습니다.",
+                Map.of("transactionId", transactionId, "status", result.name().toLowerCase())
             ));
 
         } catch (Exception e) {
@@ -69,4 +83,25 @@ public class CardTransactionWebhookController {
             );
         }
     }
+
+    @PostMapping("/card-transactions")
+    @Operation(
+        summary = "카드 거래 일괄 수신",
+        description = "장애 복구 등으로 밀린 카드 거래를 배열로 받아 한 번에 처리합니다. "
+                + "이미 수신한 거래 ID는 건너뛰며, 결과는 동기로 반환합니다."
+    )
+    public ResponseEntity<ApiResponse<CardTransactionBulkResponse>> handleCardTransactionBulk(
+            @RequestBody CardTransactionBulkRequest request) {
+
+        try {
+            CardTransactionBulkResponse response = cardTransactionBulkIngestService.ingest(request);
+            return ResponseEntity.ok(ApiResponse.success("카드 거래 일괄 수신이 완료되었습니다.", response));
+
+        } catch (Exception e) {
+            log.error("카드 거래 일괄 수신 실패: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("카드 거래 일괄 수신에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
 }
@@ -8,7 +8,9 @@ import com.kopo.hanagreenworld.point.dto.EcoSeedEarnRequest;
 import com.kopo.hanagreenworld.point.domain.PointCategory;
 import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
 import com.kopo.hanagreenworld.point.domain.PointTransaction;
+import com.kopo.hanagreenworld.activity.domain.ImpactCategory;
 import com.kopo.hanagreenworld.activity.service.ElectronicReceiptRecordService;
+import com.kopo.hanagreenworld.activity.service.EnvironmentalImpactRollupService;
 import com.kopo.hanagreenworld.common.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -36,6 +38,7 @@ public class ElectronicReceiptWebhookController {
     private final EcoSeedService ecoSeedService;
     private final PointTransactionRepository pointTransactionRepository;
     private final ElectronicReceiptRecordService electronicReceiptRecordService;
+    private final EnvironmentalImpactRollupService environmentalImpactRollupService;
 
     @PostMapping("/electronic-receipt")
     @Operation(summary = "전자영수증 웹훅", description = "하나은행에서 전자영수증 발급 시 자동으로 포인트를 적립합니다.")
@@ -110,7 +113,9 @@ public class ElectronicReceiptWebhookController {
 
             ecoSeedService.earnEcoSeedsForWebhook(memberId, earnRequest);
 
-            memberProfileService.updateMemberActivityWithCarbon(memberId, 0.0005);
+            memberProfileService.updateMemberActivityWithCarbon(memberId, EnvironmentalImpactRollupService.RECEIPT_CARBON_SAVED);
+            environmentalImpactRollupService.record(memberId, ImpactCategory.RECEIPT,
+                    EnvironmentalImpactRollupService.RECEIPT_CARBON_SAVED, transactionDate.toLocalDate());
 
             // 전자확인증 기록 저장
             electronicReceiptRecordService.createElectronicReceiptRecord(
@@ -3,6 +3,7 @@ package com.kopo.hanagreenworld.integration.controller;
 import com.kopo.hanagreenworld.common.dto.ApiResponse;
 import com.kopo.hanagreenworld.common.util.SecurityUtil;
 import com.kopo.hanagreenworld.integration.dto.*;
+import com.kopo.hanagreenworld.integration.service.AmortizationEngine;
 import com.kopo.hanagreenworld.integration.service.GroupIntegrationService;
 import com.kopo.hanagreenworld.integration.service.HanamoneyIntegrationService;
 import com.kopo.hanagreenworld.integration.util.LoanCalculationUtil;
@@ -23,6 +24,7 @@ public class GroupIntegrationController {
 
     private final GroupIntegrationService groupIntegrationService;
     private final HanamoneyIntegrationService hanamoneyIntegrationService;
+    private final AmortizationEngine amortizationEngine;
 
     @PostMapping("/customer-info")
     @PreAuthorize("hasRole('USER')")
@@ -243,24 +245,24 @@ public class GroupIntegrationController {
             if (integrated.getCardInfo() != null && integrated.getCardInfo().isAvailable()) {
                 
                 // 통합 정보에서 카드 데이터 추출
-                java.util.Map<String, Object> cardData = integrated.getCardInfo().getCardData();
-                if (cardData != null && cardData.containsKey("cards")) {
-                    @SuppressWarnings("unchecked")
-                    java.util.List<java.util.Map<String, Object>> cardList = 
-                        (java.util.List<java.util.Map<String, Object>>) cardData.get("cards");
-                    
-                    for (java.util.Map<String, Object> cardInfo : cardList) {
+                CardCustomerInfoResponse cardData = integrated.getCardInfo().getCardData();
+                if (cardData != null && cardData.getCards() != null) {
+                    for (CardCustomerInfoResponse.CardInfo cardInfo : cardData.getCards()) {
                         cards.add(CardListResponse.CardInfo.builder()
-                                .cardNumber(cardInfo.get("cardNumber").toString())
-                                .cardName(cardInfo.get("cardName").toString())
-                                .cardType(cardInfo.get("cardType").toString())
-                                .cardStatus(cardInfo.get("cardStatus").toString())
-                                .creditLimit((java.math.BigDecimal) cardInfo.get("creditLimit"))
-                                .availableLimit((java.math.BigDecimal) cardInfo.get("availableLimit"))
-                                .monthlyUsage((java.math.BigDecimal) cardInfo.get("monthlyUsage"))
-                                .issueDate((java.time.LocalDateTime) cardInfo.get("issueDate"))
-                                .expiryDate((java.time.LocalDateTime) cardInfo.get("expiryDate"))
-                                .benefits((java.util.List<String>) cardInfo.get("benefits"))
+                                .cardNumber(cardInfo.getCardNumber())
+                                .cardName(cardInfo.getCardName())
+                                .cardType(cardInfo.getCardType())
+                                .cardStatus(cardInfo.getCardStatus())
+                                .creditLimit(cardInfo.getCreditLimit() != null ? cardInfo.getCreditLimit() : java.math.BigDecimal.ZERO)
+                                .availableLimit(cardInfo.getAvailableLimit() != null ? cardInfo.getAvailableLimit() : java.math.BigDecimal.ZERO)
+                                .monthlyUsage(cardInfo.getMonthlyUsage() != null ? cardInfo.getMonthlyUsage() : java.math.BigDecimal.ZERO)
+                                .issueDate(cardInfo.getIssueDate())
+                                .expiryDate(cardInfo.getExpiryDate())
+                                .benefits(cardInfo.getBenefits() != null
+                                        ? cardInfo.getBenefits().stream()
+                                                .map(CardCustomerInfoResponse.BenefitInfo::getDescription)
+                                                .collect(java.util.stream.Collectors.toList())
+                                        : new java.util.ArrayList<>())
                                 .build());
                     }
                 }
@@ -357,23 +359,18 @@ public class GroupIntegrationController {
                         java.time.LocalDateTime startDate = product.getStartDate() != null ? product.getStartDate() : java.time.LocalDateTime.now().minusYears(2);
                         java.time.LocalDateTime maturityDate = product.getMaturityDate() != null ? product.getMaturityDate() : java.time.LocalDateTime.now().plusYears(3);
                         
-                        // 월 상환금과 월 이자 계산
-                        LoanCalculationUtil.LoanPaymentInfo paymentInfo = LoanCalculationUtil.calculateLoanPaymentInfo(
-                                loanAmount,
-                                remainingAmount,
-                                interestRate,
-                                startDate,
-                                maturityDate
-                        );
-                        
-                        // 기존 monthlyPayment가 있으면 우선 사용
-                        java.math.BigDecimal finalMonthlyPayment = paymentInfo.getMonthlyPayment();
-                        if (product.getMonthlyPayment() != null && product.getMonthlyPayment().compareTo(java.math.BigDecimal.ZERO) > 0) {
-                            finalMonthlyPayment = product.getMonthlyPayment();
+                        // 월 상환금 (기존 monthlyPayment가 있으면 우선 사용, 없으면 캐시된 상환 스케줄에서)
+                        java.math.BigDecimal finalMonthlyPayment = product.getMonthlyPayment();
+                        if (finalMonthlyPayment == null || finalMonthlyPayment.compareTo(java.math.BigDecimal.ZERO) <= 0) {
+                            finalMonthlyPayment = amortizationEngine.monthlyPayment(
+                                    loanAmount,
+                                    interestRate.divide(new java.math.BigDecimal("100")), // 퍼센트를 소수로 변환
+                                    LoanCalculationUtil.calculateLoanTermMonths(startDate, maturityDate)
+                            );
                         }
                         
                         // 월 이자는 항상 현재 잔여금액 기준으로 계산
-                        java.math.BigDecimal monthlyInterest = LoanCalculationUtil.calculateMonthlyInterest(
+                        java.math.BigDecimal monthlyInterest = amortizationEngine.monthlyInterest(
                                 remainingAmount,
                                 interestRate.divide(new java.math.BigDecimal("100")) // 퍼센트를 소수로 변환
                         );
@@ -482,6 +479,41 @@ public class GroupIntegrationController {
         }
     }
 
+    @GetMapping("/loan-schedule")
+    @PreAuthorize("hasRole('USER')")
+    @Operation(
+        summary = "대출 상환 스케줄 시뮬레이션",
+        description = "대출 금액, 연이율(%), 기간(월), 상환 방식(EQUAL_PAYMENT, EQUAL_PRINCIPAL, BULLET)으로 " +
+                     "회차별 원금/이자/잔액을 계산합니다."
+    )
+    public ResponseEntity<ApiResponse<LoanScheduleResponse>> getLoanSchedule(
+            @RequestParam java.math.BigDecimal principal,
+            @RequestParam java.math.BigDecimal interestRate,
+            @RequestParam int termMonths,
+            @RequestParam(defaultValue = "EQUAL_PAYMENT") AmortizationEngine.RepaymentMethod repaymentMethod) {
+        
+        try {
+            AmortizationEngine.AmortizationSchedule schedule = amortizationEngine.schedule(
+                    principal,
+                    interestRate.divide(new java.math.BigDecimal("100")), // 퍼센트를 소수로 변환
+                    termMonths,
+                    repaymentMethod
+            );
+            
+            return ResponseEntity.ok(ApiResponse.success("대출 상환 스케줄 계산이 완료되었습니다.",
+                    LoanScheduleResponse.from(schedule, interestRate)));
+
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400)
+                    .body(ApiResponse.error(e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("대출 상환 스케줄 계산 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(500)
+                    .body(ApiResponse.error("대출 상환 스케줄 계산에 실패했습니다."));
+        }
+    }
+
     @lombok.Getter
     @lombok.Builder
     @lombok.NoArgsConstructor
@@ -0,0 +1,81 @@
+package com.kopo.hanagreenworld.integration.domain;
+
+import com.kopo.hanagreenworld.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 하나카드 거래 로컬 복제본 (최근 보관 기간만)
+ * 하나카드 증분 동기화 API로 거래 ID 커서 이후분만 받아 추가하므로,
+ * 화면 조회 시 전체 거래 이력을 매번 받아오지 않는다.
+ */
+@Entity
+@Table(
+    name = "card_transaction_replicas",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_card_tx_replica_transaction", columnNames = "card_transaction_id")
+    },
+    indexes = {
+        @Index(name = "idx_card_tx_replica_member_date", columnList = "member_id, transaction_date")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CardTransactionReplica extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "replica_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "card_transaction_id", nullable = false)
+    private Long cardTransactionId; // 하나카드 거래 ID (동기화 커서)
+
+    @Column(name = "transaction_date", nullable = false)
+    private LocalDateTime transactionDate;
+
+    @Column(name = "merchant_name", length = 200)
+    private String merchantName;
+
+    @Column(name = "category", length = 100)
+    private String category;
+
+    @Column(name = "merchant_category", length = 50)
+    private String merchantCategory;
+
+    @Column(name = "business_number", length = 20)
+    private String businessNumber;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "cashback_amount", nullable = false)
+    private Long cashbackAmount;
+
+    @Column(name = "tags", length = 500)
+    private String tags;
+
+    @Builder
+    public CardTransactionReplica(Long memberId, Long cardTransactionId, LocalDateTime transactionDate,
+                                  String merchantName, String category, String merchantCategory,
+                                  String businessNumber, Long amount, Long cashbackAmount, String tags) {
+        this.memberId = memberId;
+        this.cardTransactionId = cardTransactionId;
+        this.transactionDate = transactionDate;
+        this.merchantName = merchantName;
+        this.category = category;
+        this.merchantCategory = merchantCategory;
+        this.businessNumber = businessNumber;
+        this.amount = amount != null ? amount : 0L;
+        this.cashbackAmount = cashbackAmount != null ? cashbackAmount : 0L;
+        this.tags = tags;
+    }
+}
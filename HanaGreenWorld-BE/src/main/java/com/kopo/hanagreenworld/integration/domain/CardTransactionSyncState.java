@@ -0,0 +1,74 @@
+package com.kopo.hanagreenworld.integration.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 회원별 카드 거래 동기화 커서 (마지막으로 받은 하나카드 거래 ID)
+ * 마지막 동기화 때의 활성 카드 ID도 보관해, 재활성화된 카드처럼 커서보다 작은 ID의 거래가
+ * 새로 보이게 되면 커서를 처음으로 되돌린다.
+ */
+@Entity
+@Table(name = "card_transaction_sync_states")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CardTransactionSyncState {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "last_transaction_id", nullable = false)
+    private Long lastTransactionId;
+
+    @Column(name = "last_synced_at")
+    private LocalDateTime lastSyncedAt;
+
+    @Column(name = "card_ids", length = 500)
+    private String cardIds;
+
+    public CardTransactionSyncState(Long memberId) {
+        this.memberId = memberId;
+        this.lastTransactionId = 0L;
+    }
+
+    public void advance(Long nextCursor, LocalDateTime syncedAt) {
+        if (nextCursor != null && nextCursor > this.lastTransactionId) {
+            this.lastTransactionId = nextCursor;
+        }
+        this.lastSyncedAt = syncedAt;
+    }
+
+    /**
+     * 지난 동기화 이후 새로 보이게 된 카드가 있는지 (카드 목록을 처음 기록하는 경우는 제외)
+     */
+    public boolean hasNewCards(Collection<Long> currentCardIds) {
+        if (cardIds == null || currentCardIds == null) {
+            return false;
+        }
+        Set<String> known = Arrays.stream(cardIds.split(",")).collect(Collectors.toSet());
+        return currentCardIds.stream().anyMatch(id -> !known.contains(String.valueOf(id)));
+    }
+
+    public void updateCards(Collection<Long> currentCardIds) {
+        if (currentCardIds != null) {
+            this.cardIds = currentCardIds.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+        }
+    }
+
+    public void rewind() {
+        this.lastTransactionId = 0L;
+    }
+
+    public boolean isSyncedAfter(LocalDateTime threshold) {
+        return lastSyncedAt != null && lastSyncedAt.isAfter(threshold);
+    }
+}
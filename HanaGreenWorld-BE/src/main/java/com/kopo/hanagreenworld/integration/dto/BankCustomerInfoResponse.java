@@ -9,6 +9,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 하나은행 고객 정보 응답 (/api/integration/customer-info 의 data)
+ * 하나은행 BankCustomerInfoResponse와 같은 구조로 유지한다.
+ */
 @Getter
 @Builder
 @NoArgsConstructor
@@ -34,7 +38,9 @@ public class BankCustomerInfoResponse {
         private String accountType;
         private String accountName;
         private BigDecimal balance;
+        private String currency;
         private String status;
+        private Boolean isActive;
         private LocalDateTime openDate;
     }
 
@@ -46,8 +52,16 @@ public class BankCustomerInfoResponse {
         private Long productId;
         private String productName;
         private String productType;
+        private String productCode;
         private BigDecimal amount;
-        private String status;
+        private BigDecimal remainingAmount;
+        private BigDecimal interestRate;
+        private BigDecimal baseRate;
+        private BigDecimal preferentialRate;
+        private BigDecimal monthlyPayment;
+        private LocalDateTime startDate;
+        private LocalDateTime maturityDate;
         private LocalDateTime subscriptionDate;
+        private String status;
     }
 }
@@ -0,0 +1,87 @@
+package com.kopo.hanagreenworld.integration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 하나카드 고객 정보 응답 (/api/integration/customer-info 의 data)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardCustomerInfoResponse {
+
+    private CustomerBasicInfo customerInfo;
+
+    private List<CardInfo> cards;
+
+    private CardHanamoneyResponse hanamoneyInfo;
+
+    private LocalDateTime responseTime;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CustomerBasicInfo {
+        private String name;
+        private String email;
+        private String phoneNumber;
+        private String customerGrade;
+        private LocalDateTime joinDate;
+        private Boolean isActive;
+        private BigDecimal totalCreditLimit; // 총 신용한도
+        private BigDecimal usedCreditAmount; // 사용한 신용금액
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CardInfo {
+        private String cardNumber; // 마스킹된 카드번호
+        private String cardName;
+        private String cardType;
+        private String cardStatus;
+        private BigDecimal creditLimit;
+        private BigDecimal availableLimit;
+        private BigDecimal monthlyUsage;
+        private LocalDateTime issueDate;
+        private LocalDateTime expiryDate;
+        private List<BenefitInfo> benefits;
+        private List<TransactionInfo> transactions;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BenefitInfo {
+        private String benefitType;
+        private String category;
+        private Double cashbackRate;
+        private String description;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TransactionInfo {
+        private LocalDateTime transactionDate;
+        private String merchantName;
+        private String category;
+        private String merchantCategory;
+        private Long amount;
+        private Long cashbackAmount;
+        private Double cashbackRate;
+        private String description;
+    }
+}
@@ -0,0 +1,24 @@
+package com.kopo.hanagreenworld.integration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 하나카드 하나머니 멤버십 응답 (/api/integration/hanamoney-info, hanamoney-earn 의 data)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardHanamoneyResponse {
+    private String membershipLevel;
+    private BigDecimal currentPoints;
+    private BigDecimal accumulatedPoints;
+    private Boolean isSubscribed;
+    private LocalDateTime joinDate;
+}
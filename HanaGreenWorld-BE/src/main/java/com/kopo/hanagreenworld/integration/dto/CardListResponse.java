@@ -34,6 +34,7 @@ public class CardListResponse {
         private LocalDateTime issueDate;
         private LocalDateTime expiryDate;
         private List<String> benefits;
+        private String cardImageUrl;
     }
 
     @Getter
@@ -0,0 +1,49 @@
+package com.kopo.hanagreenworld.integration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 하나카드 거래 증분 동기화 응답 (/api/integration/cards/{memberId}/transactions/sync)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardTransactionSyncResponse {
+
+    private List<TransactionItem> transactions;
+
+    private List<TransactionItem> lateTransactions;
+
+    private List<Long> cardIds;
+
+    private Long nextCursor;
+
+    private boolean hasMore;
+
+    private Long nextLateCursor;
+
+    private boolean hasMoreLate;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TransactionItem {
+        private Long transactionId;
+        private LocalDateTime transactionDate;
+        private String merchantName;
+        private String category;
+        private String merchantCategory;
+        private String businessNumber;
+        private Long amount;
+        private Long cashbackAmount;
+        private String tags;
+    }
+}
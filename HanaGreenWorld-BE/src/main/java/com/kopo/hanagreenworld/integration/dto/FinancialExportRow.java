@@ -0,0 +1,21 @@
+package com.kopo.hanagreenworld.integration.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 관계사 금융 데이터 일괄 보내기 한 줄 (/api/integration/financial-export NDJSON 레코드)
+ * 하나은행은 적금 잔액/대출 금액, 하나카드는 월간 사용액만 채운다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinancialExportRow {
+    private String customerInfoToken;
+    private Long savingsBalance;
+    private Long loanBalance;
+    private Long monthlyCardUsage;
+}
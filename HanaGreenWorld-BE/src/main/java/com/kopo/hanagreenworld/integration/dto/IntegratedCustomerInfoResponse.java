@@ -108,7 +108,7 @@ public class IntegratedCustomerInfoResponse {
         private String hanamoneyLevel;
         private List<String> mainCards; // 주요 카드 목록
         private String errorMessage; // 조회 실패 시 오류 메시지
-        private java.util.Map<String, Object> cardData; // 실제 카드 데이터
+        private CardCustomerInfoResponse cardData; // 실제 카드 데이터
     }
 
     @Getter
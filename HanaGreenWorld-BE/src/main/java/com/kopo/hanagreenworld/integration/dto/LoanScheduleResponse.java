@@ -0,0 +1,41 @@
+package com.kopo.hanagreenworld.integration.dto;
+
+import com.kopo.hanagreenworld.integration.service.AmortizationEngine;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 대출 상환 스케줄 시뮬레이션 응답 (금액은 원 단위)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanScheduleResponse {
+    private AmortizationEngine.RepaymentMethod repaymentMethod;
+    private Long principal;
+    private BigDecimal interestRate;   // 연이율 (%)
+    private Integer termMonths;
+    private Long regularPayment;       // 원리금균등: 월 납입금, 원금균등: 첫 회차 납입금, 만기일시: 월 이자
+    private Long totalInterest;
+    private Long totalPayment;
+    private List<AmortizationEngine.Installment> installments;
+
+    public static LoanScheduleResponse from(AmortizationEngine.AmortizationSchedule schedule, BigDecimal interestRate) {
+        return LoanScheduleResponse.builder()
+                .repaymentMethod(schedule.getKey().method())
+                .principal(schedule.getKey().principal())
+                .interestRate(interestRate)
+                .termMonths(schedule.getKey().termMonths())
+                .regularPayment(schedule.getRegularPayment())
+                .totalInterest(schedule.getTotalInterest())
+                .totalPayment(schedule.getTotalPayment())
+                .installments(schedule.getInstallments())
+                .build();
+    }
+}
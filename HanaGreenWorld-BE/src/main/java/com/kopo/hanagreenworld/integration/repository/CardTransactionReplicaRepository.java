@@ -0,0 +1,29 @@
+package com.kopo.hanagreenworld.integration.repository;
+
+import com.kopo.hanagreenworld.integration.domain.CardTransactionReplica;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CardTransactionReplicaRepository extends JpaRepository<CardTransactionReplica, Long> {
+
+    List<CardTransactionReplica> findByMemberIdOrderByTransactionDateDesc(Long memberId);
+
+    List<CardTransactionReplica> findByMemberIdAndTransactionDateBetweenOrderByTransactionDateDesc(
+            Long memberId, LocalDateTime startDate, LocalDateTime endDate);
+
+    @Query("SELECT r.cardTransactionId FROM CardTransactionReplica r WHERE r.cardTransactionId IN :cardTransactionIds")
+    List<Long> findExistingCardTransactionIds(@Param("cardTransactionIds") Collection<Long> cardTransactionIds);
+
+    // 보관 기간이 지난 복제본 정리
+    @Modifying
+    @Query("DELETE FROM CardTransactionReplica r WHERE r.memberId = :memberId AND r.transactionDate < :before")
+    int deleteByMemberIdAndTransactionDateBefore(@Param("memberId") Long memberId, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,9 @@
+package com.kopo.hanagreenworld.integration.repository;
+
+import com.kopo.hanagreenworld.integration.domain.CardTransactionSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CardTransactionSyncStateRepository extends JpaRepository<CardTransactionSyncState, Long> {
+}
@@ -0,0 +1,324 @@
+package com.kopo.hanagreenworld.integration.service;
+
+import com.kopo.hanagreenworld.integration.util.LoanCalculationUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대출 상환 스케줄 계산기
+ * 원리금균등/원금균등/만기일시 상환 스케줄을 원 단위 정수로 만들고 (원금, 월 이자율, 기간, 방식)별로 캐시한다.
+ * 월 이자율은 LoanCalculationUtil과 같이 연이율/12를 소수 10자리에서 반올림한 고정소수점 값을 쓰므로
+ * 회차 이자는 정수 연산만으로 BigDecimal 계산과 같은 값이 나온다.
+ * 원리금균등 월 납입금은 double로 빠르게 구하고, 반올림 경계에 너무 가까우면 BigDecimal로 다시 계산한다.
+ */
+@Slf4j
+@Component
+public class AmortizationEngine {
+
+    private static final BigDecimal TWELVE = BigDecimal.valueOf(12);
+    private static final int RATE_SCALE = 10;
+    private static final long RATE_UNIT = 10_000_000_000L;        // 월 이자율 1.0
+    private static final long MAX_FAST_BALANCE = 10_000_000_000_000L; // 정수 이자 계산이 넘치지 않는 잔액 상한
+    private static final double FAST_PATH_RELATIVE_ERROR = 1e-12;  // double 계산 오차 한도 (실제 오차보다 넉넉하게)
+
+    @Value("${loan.schedule-cache.max-size:2000}")
+    private int maxSize;
+
+    // 접근 순서 기준 LinkedHashMap (스케줄 키 -> 스케줄)
+    private final LinkedHashMap<ScheduleKey, AmortizationSchedule> schedules = new LinkedHashMap<>(256, 0.75f, true);
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong fastPathFallbacks = new AtomicLong();
+
+    public enum RepaymentMethod {
+        EQUAL_PAYMENT,    // 원리금균등
+        EQUAL_PRINCIPAL,  // 원금균등
+        BULLET            // 만기일시
+    }
+
+    public record ScheduleKey(long principal, long monthlyRateE10, int termMonths, RepaymentMethod method) {
+    }
+
+    public record Installment(int period, long payment, long principal, long interest, long remainingBalance) {
+    }
+
+    public record CacheStats(int size, int maxSize, long hits, long misses, long fastPathFallbacks) {
+    }
+
+    /**
+     * 원리금균등 월 납입금 (LoanCalculationUtil.calculateMonthlyPayment와 같은 값)
+     *
+     * @param annualInterestRate 연이율 (소수, 예: 0.045)
+     */
+    public BigDecimal monthlyPayment(BigDecimal principal, BigDecimal annualInterestRate, int loanTermMonths) {
+        ScheduleKey key = keyOf(principal, annualInterestRate, loanTermMonths, RepaymentMethod.EQUAL_PAYMENT);
+        if (key == null) {
+            return LoanCalculationUtil.calculateMonthlyPayment(principal, annualInterestRate, loanTermMonths);
+        }
+        return BigDecimal.valueOf(schedule(key).getRegularPayment());
+    }
+
+    /**
+     * 잔액 기준 월 이자 (LoanCalculationUtil.calculateMonthlyInterest와 같은 값)
+     *
+     * @param annualInterestRate 연이율 (소수, 예: 0.045)
+     */
+    public BigDecimal monthlyInterest(BigDecimal remainingAmount, BigDecimal annualInterestRate) {
+        if (remainingAmount == null || annualInterestRate == null || remainingAmount.signum() <= 0) {
+            return LoanCalculationUtil.calculateMonthlyInterest(remainingAmount, annualInterestRate);
+        }
+        long balance = toWon(remainingAmount);
+        long rate = toMonthlyRate(annualInterestRate);
+        if (balance < 0 || rate < 0) {
+            return LoanCalculationUtil.calculateMonthlyInterest(remainingAmount, annualInterestRate);
+        }
+        return BigDecimal.valueOf(interest(balance, rate));
+    }
+
+    /**
+     * 전체 상환 스케줄 (원금은 원 단위로 반올림)
+     *
+     * @param annualInterestRate 연이율 (소수, 예: 0.045)
+     */
+    public AmortizationSchedule schedule(BigDecimal principal, BigDecimal annualInterestRate, int loanTermMonths,
+                                         RepaymentMethod method) {
+        if (principal == null || annualInterestRate == null || loanTermMonths <= 0 || loanTermMonths > 600) {
+            throw new IllegalArgumentException("대출 스케줄 파라미터 오류 - 원금, 연이율, 기간(1~600개월)을 확인하세요.");
+        }
+        ScheduleKey key = keyOf(principal.setScale(0, RoundingMode.HALF_UP), annualInterestRate, loanTermMonths, method);
+        if (key == null) {
+            throw new IllegalArgumentException("계산할 수 없는 대출 조건입니다 - 원금: " + principal + ", 연이율: " + annualInterestRate);
+        }
+        return schedule(key);
+    }
+
+    public AmortizationSchedule schedule(ScheduleKey key) {
+        synchronized (schedules) {
+            AmortizationSchedule cached = schedules.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+
+        misses.incrementAndGet();
+        AmortizationSchedule built = build(key);
+        synchronized (schedules) {
+            schedules.put(key, built);
+            Iterator<ScheduleKey> iterator = schedules.keySet().iterator();
+            while (schedules.size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        return built;
+    }
+
+    public CacheStats getStats() {
+        synchronized (schedules) {
+            return new CacheStats(schedules.size(), maxSize, hits.get(), misses.get(), fastPathFallbacks.get());
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (schedules) {
+            schedules.clear();
+        }
+        log.info("대출 상환 스케줄 캐시 초기화");
+    }
+
+    /**
+     * 캐시 키 (고정소수점으로 표현할 수 없는 조건이면 null - BigDecimal 계산으로 처리)
+     */
+    ScheduleKey keyOf(BigDecimal principal, BigDecimal annualInterestRate, int loanTermMonths, RepaymentMethod method) {
+        if (principal == null || annualInterestRate == null || loanTermMonths <= 0 || loanTermMonths > 600) {
+            return null;
+        }
+        long won = toWon(principal);
+        long rate = toMonthlyRate(annualInterestRate);
+        if (won <= 0 || rate < 0) {
+            return null;
+        }
+        return new ScheduleKey(won, rate, loanTermMonths, method);
+    }
+
+    /**
+     * 원리금균등 월 납입금 - P * r * (1 + r)^n / ((1 + r)^n - 1)을 원 단위로 반올림
+     */
+    long annuityPayment(long principal, long monthlyRateE10, int termMonths) {
+        if (monthlyRateE10 == 0) {
+            // 무이자 대출
+            return (principal * 2 + termMonths) / (termMonths * 2L);
+        }
+
+        double rate = monthlyRateE10 / (double) RATE_UNIT;
+        // (1 + r)^n - 1 을 expm1/log1p로 구해 작은 이자율에서도 자릿수 손실이 없게 한다
+        double growthMinusOne = Math.expm1(termMonths * Math.log1p(rate));
+        double payment = principal * rate * (1.0 + 1.0 / growthMinusOne);
+
+        if (Double.isFinite(payment) && payment < MAX_FAST_BALANCE) {
+            double floor = Math.floor(payment);
+            double fraction = payment - floor;
+            if (Math.abs(fraction - 0.5) > payment * FAST_PATH_RELATIVE_ERROR + 1e-9) {
+                return (long) floor + (fraction > 0.5 ? 1 : 0);
+            }
+        }
+
+        // 반올림 경계 근처 - BigDecimal로 정확히 계산
+        fastPathFallbacks.incrementAndGet();
+        return exactAnnuityPayment(principal, monthlyRateE10, termMonths);
+    }
+
+    static long exactAnnuityPayment(long principal, long monthlyRateE10, int termMonths) {
+        BigDecimal monthlyRate = BigDecimal.valueOf(monthlyRateE10, RATE_SCALE);
+        BigDecimal powerTerm = BigDecimal.ONE.add(monthlyRate).pow(termMonths);
+        return BigDecimal.valueOf(principal).multiply(monthlyRate).multiply(powerTerm)
+                .divide(powerTerm.subtract(BigDecimal.ONE), 0, RoundingMode.HALF_UP)
+                .longValueExact();
+    }
+
+    /**
+     * 회차 이자 = 잔액 × 월 이자율 (원 단위 반올림, 정수 연산)
+     * 잔액을 10^5 단위로 나눠 곱하여 잔액 10^13원, 월 이자율 100% 미만에서 long 범위를 넘지 않는다.
+     */
+    static long interest(long balance, long monthlyRateE10) {
+        if (balance <= 0 || monthlyRateE10 == 0) {
+            return 0L;
+        }
+        long high = balance / 100_000L;
+        long low = balance % 100_000L;
+        long highProduct = high * monthlyRateE10;
+        long lowProduct = low * monthlyRateE10;
+        long rest = (highProduct % 100_000L) * 100_000L + lowProduct;
+        return highProduct / 100_000L + (rest + RATE_UNIT / 2) / RATE_UNIT;
+    }
+
+    private AmortizationSchedule build(ScheduleKey key) {
+        int termMonths = key.termMonths();
+        long rate = key.monthlyRateE10();
+        long[] principalParts = new long[termMonths];
+        long[] interestParts = new long[termMonths];
+        long balance = key.principal();
+        long regularPayment;
+
+        switch (key.method()) {
+            case EQUAL_PAYMENT -> {
+                regularPayment = annuityPayment(key.principal(), rate, termMonths);
+                for (int i = 0; i < termMonths; i++) {
+                    long interest = interest(balance, rate);
+                    // 마지막 회차에서 반올림 차이를 정리한다
+                    long principalPart = i == termMonths - 1
+                            ? balance
+                            : Math.max(0L, Math.min(balance, regularPayment - interest));
+                    principalParts[i] = principalPart;
+                    interestParts[i] = interest;
+                    balance -= principalPart;
+                }
+            }
+            case EQUAL_PRINCIPAL -> {
+                long principalPerMonth = key.principal() / termMonths; // 나머지는 마지막 회차에
+                for (int i = 0; i < termMonths; i++) {
+                    long principalPart = i == termMonths - 1 ? balance : principalPerMonth;
+                    principalParts[i] = principalPart;
+                    interestParts[i] = interest(balance, rate);
+                    balance -= principalPart;
+                }
+                regularPayment = principalParts[0] + interestParts[0];
+            }
+            case BULLET -> {
+                long interest = interest(balance, rate);
+                for (int i = 0; i < termMonths; i++) {
+                    principalParts[i] = i == termMonths - 1 ? balance : 0L;
+                    interestParts[i] = interest;
+                }
+                regularPayment = interest;
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 상환 방식: " + key.method());
+        }
+        return new AmortizationSchedule(key, regularPayment, principalParts, interestParts);
+    }
+
+    private static long toWon(BigDecimal amount) {
+        BigDecimal normalized = amount.stripTrailingZeros();
+        if (normalized.scale() > 0 || normalized.compareTo(BigDecimal.valueOf(MAX_FAST_BALANCE)) >= 0) {
+            return -1L;
+        }
+        return normalized.longValue();
+    }
+
+    private static long toMonthlyRate(BigDecimal annualInterestRate) {
+        if (annualInterestRate.signum() < 0) {
+            return -1L;
+        }
+        long rate = annualInterestRate.divide(TWELVE, RATE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValue();
+        return rate < RATE_UNIT ? rate : -1L;
+    }
+
+    /**
+     * 상환 스케줄 (불변, 회차별 원금/이자를 원 단위 배열로 보관)
+     */
+    public static final class AmortizationSchedule {
+
+        private final ScheduleKey key;
+        private final long regularPayment;
+        private final long[] principalParts;
+        private final long[] interestParts;
+        private final long totalInterest;
+
+        private AmortizationSchedule(ScheduleKey key, long regularPayment, long[] principalParts, long[] interestParts) {
+            this.key = key;
+            this.regularPayment = regularPayment;
+            this.principalParts = principalParts;
+            this.interestParts = interestParts;
+            long sum = 0L;
+            for (long interest : interestParts) {
+                sum += interest;
+            }
+            this.totalInterest = sum;
+        }
+
+        public ScheduleKey getKey() {
+            return key;
+        }
+
+        /**
+         * 대표 월 납입금 (원리금균등: 매월 납입금, 원금균등: 첫 회차 납입금, 만기일시: 월 이자)
+         */
+        public long getRegularPayment() {
+            return regularPayment;
+        }
+
+        public long getTotalInterest() {
+            return totalInterest;
+        }
+
+        public long getTotalPayment() {
+            return key.principal() + totalInterest;
+        }
+
+        public int size() {
+            return principalParts.length;
+        }
+
+        public List<Installment> getInstallments() {
+            List<Installment> installments = new ArrayList<>(principalParts.length);
+            long balance = key.principal();
+            for (int i = 0; i < principalParts.length; i++) {
+                balance -= principalParts[i];
+                installments.add(new Installment(i + 1, principalParts[i] + interestParts[i],
+                        principalParts[i], interestParts[i], balance));
+            }
+            return installments;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.kopo.hanagreenworld.integration.service;
+
+import com.kopo.hanagreenworld.common.dto.ApiResponse;
+import com.kopo.hanagreenworld.common.util.CustomerInfoTokenUtil;
+import com.kopo.hanagreenworld.integration.domain.CardTransactionReplica;
+import com.kopo.hanagreenworld.integration.domain.CardTransactionSyncState;
+import com.kopo.hanagreenworld.integration.dto.CardTransactionSyncResponse;
+import com.kopo.hanagreenworld.integration.repository.CardTransactionReplicaRepository;
+import com.kopo.hanagreenworld.integration.repository.CardTransactionSyncStateRepository;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 하나카드 거래 증분 동기화
+ * 회원별 커서(마지막 거래 ID) 이후분만 페이지 단위로 받아 로컬 복제본에 추가하고,
+ * 보관 기간이 지난 복제본은 정리하여 카드 보유 기간과 관계없이 조회/전송량을 일정하게 유지한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CardTransactionSyncService {
+
+    private static final ParameterizedTypeReference<ApiResponse<CardTransactionSyncResponse>> SYNC_RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final RestTemplate restTemplate;
+    private final MemberRepository memberRepository;
+    private final GroupIntegrationService groupIntegrationService;
+    private final CardTransactionReplicaRepository cardTransactionReplicaRepository;
+    private final CardTransactionSyncStateRepository cardTransactionSyncStateRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${integration.card.url}")
+    private String cardServiceUrl;
+
+    @Value("${integration.card-sync.retention-days:180}")
+    private int retentionDays;
+
+    @Value("${integration.card-sync.page-size:200}")
+    private int pageSize;
+
+    @Value("${integration.card-sync.max-pages:20}")
+    private int maxPages;
+
+    @Value("${integration.card-sync.min-interval-seconds:60}")
+    private long minIntervalSeconds;
+
+    @Value("${integration.card-sync.late-commit-lookback-seconds:600}")
+    private long lateCommitLookbackSeconds;
+
+    /**
+     * 보관 기간 내 거래 (최신순) - 마지막 동기화가 오래되었으면 먼저 증분 동기화
+     */
+    public List<CardTransactionReplica> getRecentTransactions(Long memberId) {
+        syncIfStale(memberId);
+        return cardTransactionReplicaRepository.findByMemberIdOrderByTransactionDateDesc(memberId);
+    }
+
+    public List<CardTransactionReplica> getTransactionsBetween(Long memberId, LocalDateTime startDate, LocalDateTime endDate) {
+        syncIfStale(memberId);
+        return cardTransactionReplicaRepository
+                .findByMemberIdAndTransactionDateBetweenOrderByTransactionDateDesc(memberId, startDate, endDate);
+    }
+
+    public void syncIfStale(Long memberId) {
+        LocalDateTime threshold = LocalDateTime.now().minusSeconds(minIntervalSeconds);
+        boolean fresh = cardTransactionSyncStateRepository.findById(memberId)
+                .map(state -> state.isSyncedAfter(threshold))
+                .orElse(false);
+        if (fresh) {
+            return;
+        }
+        try {
+            sync(memberId);
+        } catch (Exception e) {
+            // 하나카드 서버 장애 시 기존 복제본으로 응답
+            log.warn("카드 거래 증분 동기화 실패 - 회원ID: {}, 에러: {}", memberId, e.getMessage());
+        }
+    }
+
+    /**
+     * 커서 이후 거래를 페이지 단위로 받아 반영 (페이지마다 복제본과 커서를 함께 커밋)
+     * 첫 페이지에서는 지난 동기화 직전부터 생성된 거래 중 ID가 커서 이하인 것(늦게 커밋된 거래)도 함께 받고
+     * (한 페이지를 넘으면 늦은 거래 커서로 끝까지 이어 받아 첫 페이지와 함께 커밋),
+     * 활성 카드가 새로 보이면 커서를 처음으로 되돌려 보관 기간 전체를 다시 받는다.
+     */
+    public int sync(Long memberId) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다."));
+        String customerInfoToken = CustomerInfoTokenUtil.createCustomerInfoToken(member);
+
+        LocalDateTime since = LocalDateTime.now().minusDays(retentionDays);
+        Optional<CardTransactionSyncState> state = cardTransactionSyncStateRepository.findById(memberId);
+        long cursor = state.map(CardTransactionSyncState::getLastTransactionId).orElse(0L);
+        LocalDateTime createdAfter = state.map(CardTransactionSyncState::getLastSyncedAt)
+                .map(lastSyncedAt -> lastSyncedAt.minusSeconds(lateCommitLookbackSeconds))
+                .orElse(null);
+
+        int received = 0;
+        boolean hasMore = true;
+        for (int page = 0; page < maxPages && hasMore; page++) {
+            CardTransactionSyncResponse data = fetchPage(memberId, customerInfoToken, cursor, since,
+                    page == 0 ? createdAfter : null, 0L);
+
+            boolean rewind = page == 0 && cursor > 0
+                    && state.map(s -> s.hasNewCards(data.getCardIds())).orElse(false);
+            CardTransactionSyncResponse pageData = data;
+            if (rewind) {
+                log.info("새로 활성화된 카드 발견, 보관 기간 전체 재동기화 - 회원ID: {}, 카드: {}", memberId, data.getCardIds());
+                cursor = 0L;
+                pageData = fetchPage(memberId, customerInfoToken, cursor, since, null, 0L);
+            }
+
+            List<CardTransactionSyncResponse.TransactionItem> items = new ArrayList<>();
+            if (pageData.getTransactions() != null) {
+                items.addAll(pageData.getTransactions());
+            }
+            if (!rewind) {
+                items.addAll(fetchLateTransactions(memberId, customerInfoToken, cursor, since, createdAfter, data));
+            }
+            long nextCursor = pageData.getNextCursor() != null ? pageData.getNextCursor() : cursor;
+            List<Long> cardIds = pageData.getCardIds();
+
+            received += transactionTemplate.execute(status -> applyPage(memberId, items, nextCursor, cardIds, rewind));
+            cursor = nextCursor;
+            hasMore = pageData.isHasMore() && pageData.getTransactions() != null && !pageData.getTransactions().isEmpty();
+        }
+
+        // 보관 기간이 지난 복제본 정리
+        int pruned = transactionTemplate.execute(status ->
+                cardTransactionReplicaRepository.deleteByMemberIdAndTransactionDateBefore(memberId, since));
+
+        log.info("카드 거래 증분 동기화 완료 - 회원ID: {}, 신규: {}건, 정리: {}건, 커서: {}, 남은 페이지: {}",
+                memberId, received, pruned, cursor, hasMore);
+        return received;
+    }
+
+    private int applyPage(Long memberId, List<CardTransactionSyncResponse.TransactionItem> items, long nextCursor,
+                          List<Long> cardIds, boolean rewind) {
+        int saved = 0;
+        if (!items.isEmpty()) {
+            // 동시 동기화로 이미 들어온 거래와 한 응답 안의 중복은 건너뜀
+            Set<Long> existing = new HashSet<>(cardTransactionReplicaRepository.findExistingCardTransactionIds(
+                    items.stream().map(CardTransactionSyncResponse.TransactionItem::getTransactionId).toList()));
+            List<CardTransactionReplica> replicas = items.stream()
+                    .filter(item -> existing.add(item.getTransactionId()))
+                    .map(item -> CardTransactionReplica.builder()
+                            .memberId(memberId)
+                            .cardTransactionId(item.getTransactionId())
+                            .transactionDate(item.getTransactionDate())
+                            .merchantName(item.getMerchantName())
+                            .category(item.getCategory())
+                            .merchantCategory(item.getMerchantCategory())
+                            .businessNumber(item.getBusinessNumber())
+                            .amount(item.getAmount())
+                            .cashbackAmount(item.getCashbackAmount())
+                            .tags(item.getTags())
+                            .build())
+                    .toList();
+            cardTransactionReplicaRepository.saveAll(replicas);
+            saved = replicas.size();
+        }
+
+        CardTransactionSyncState state = cardTransactionSyncStateRepository.findById(memberId)
+                .orElseGet(() -> new CardTransactionSyncState(memberId));
+        if (rewind) {
+            state.rewind();
+        }
+        state.advance(nextCursor, LocalDateTime.now());
+        state.updateCards(cardIds);
+        cardTransactionSyncStateRepository.save(state);
+        return saved;
+    }
+
+    /**
+     * 첫 응답의 늦은 거래에 더해, hasMoreLate인 동안 같은 커서/기준 시각으로 남은 늦은 거래 페이지를 받는다
+     * (늦은 거래 커서는 매 페이지 증가하므로 반복은 createdAfter 이후 생성분을 다 받으면 끝난다)
+     */
+    private List<CardTransactionSyncResponse.TransactionItem> fetchLateTransactions(
+            Long memberId, String customerInfoToken, long cursor, LocalDateTime since, LocalDateTime createdAfter,
+            CardTransactionSyncResponse first) {
+        List<CardTransactionSyncResponse.TransactionItem> lateItems = new ArrayList<>();
+        CardTransactionSyncResponse latePage = first;
+        long lateCursor = 0L;
+        while (true) {
+            if (latePage.getLateTransactions() != null) {
+                lateItems.addAll(latePage.getLateTransactions());
+            }
+            Long nextLateCursor = latePage.getNextLateCursor();
+            if (createdAfter == null || !latePage.isHasMoreLate() || nextLateCursor == null || nextLateCursor <= lateCursor) {
+                return lateItems;
+            }
+            lateCursor = nextLateCursor;
+            latePage = fetchPage(memberId, customerInfoToken, cursor, since, createdAfter, lateCursor);
+        }
+    }
+
+    private CardTransactionSyncResponse fetchPage(Long memberId, String customerInfoToken, long afterId,
+                                                  LocalDateTime since, LocalDateTime createdAfter, long lateAfterId) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(cardServiceUrl)
+                .path("/api/integration/cards/{memberId}/transactions/sync")
+                .queryParam("afterId", afterId)
+                .queryParam("since", since.withNano(0))
+                .queryParam("limit", pageSize);
+        if (createdAfter != null) {
+            builder.queryParam("createdAfter", createdAfter.withNano(0));
+            builder.queryParam("lateAfterId", lateAfterId);
+        }
+        String url = builder.buildAndExpand(memberId).toUriString();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Internal-Service", groupIntegrationService.generateInternalServiceToken());
+        headers.set("X-Customer-Info", customerInfoToken);
+
+        ResponseEntity<ApiResponse<CardTransactionSyncResponse>> response =
+                restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), SYNC_RESPONSE_TYPE);
+
+        ApiResponse<CardTransactionSyncResponse> body = response.getBody();
+        if (body == null || !body.isSuccess() || body.getData() == null) {
+            throw new IllegalStateException("하나카드 거래 동기화 응답 오류: "
+                    + (body != null ? body.getMessage() : response.getStatusCode()));
+        }
+        return body.getData();
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.kopo.hanagreenworld.integration.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.kopo.hanagreenworld.integration.dto.FinancialExportRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관계사 금융 데이터 일괄 조회
+ * 회원 묶음(최대 1000명)의 고객 정보 토큰을 한 번에 보내고, 한 줄에 한 고객씩 오는 NDJSON 응답을
+ * 전체를 메모리에 올리지 않고 줄 단위로 읽어 토큰별로 모은다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FinancialExportClient {
+
+    public static final int MAX_TOKENS_PER_REQUEST = 1000;
+
+    private static final String EXPORT_PATH = "/api/integration/financial-export";
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final GroupIntegrationService groupIntegrationService;
+
+    @Value("${integration.bank.url}")
+    private String bankServiceUrl;
+
+    @Value("${integration.card.url}")
+    private String cardServiceUrl;
+
+    /**
+     * 하나은행 적금 잔액/대출 금액 (고객 정보 토큰 -> 행, 가입하지 않은 고객은 빠진다)
+     */
+    public Map<String, FinancialExportRow> exportBank(List<String> customerInfoTokens) {
+        return export(bankServiceUrl, customerInfoTokens, null);
+    }
+
+    /**
+     * 하나카드 리포트 월 사용액 (고객 정보 토큰 -> 행, 거래가 없는 고객은 빠진다)
+     */
+    public Map<String, FinancialExportRow> exportCard(List<String> customerInfoTokens, YearMonth reportMonth) {
+        return export(cardServiceUrl, customerInfoTokens, reportMonth);
+    }
+
+    private Map<String, FinancialExportRow> export(String baseUrl, List<String> customerInfoTokens, YearMonth reportMonth) {
+        if (customerInfoTokens.isEmpty()) {
+            return Map.of();
+        }
+        if (customerInfoTokens.size() > MAX_TOKENS_PER_REQUEST) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_TOKENS_PER_REQUEST + "명까지 요청할 수 있습니다.");
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON));
+        headers.set("X-Internal-Service", groupIntegrationService.generateInternalServiceToken());
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("requestingService", "GREEN_WORLD");
+        body.put("customerInfoTokens", customerInfoTokens);
+        if (reportMonth != null) {
+            body.put("reportMonth", reportMonth.toString());
+        }
+
+        ObjectReader rowReader = objectMapper.readerFor(FinancialExportRow.class);
+        Map<String, FinancialExportRow> rows = restTemplate.execute(baseUrl + EXPORT_PATH, HttpMethod.POST,
+                restTemplate.httpEntityCallback(new HttpEntity<>(body, headers)),
+                response -> {
+                    Map<String, FinancialExportRow> result = new HashMap<>(customerInfoTokens.size() * 2);
+                    try (MappingIterator<FinancialExportRow> iterator = rowReader.readValues(response.getBody())) {
+                        while (iterator.hasNextValue()) {
+                            FinancialExportRow row = iterator.nextValue();
+                            if (row.getCustomerInfoToken() != null) {
+                                result.put(row.getCustomerInfoToken(), row);
+                            }
+                        }
+                    }
+                    return result;
+                });
+
+        log.info("금융 데이터 일괄 조회 - {}, 요청 {}명, 응답 {}명", baseUrl, customerInfoTokens.size(),
+                rows != null ? rows.size() : 0);
+        return rows != null ? rows : Map.of();
+    }
+
+}
@@ -1,5 +1,10 @@
 package com.kopo.hanagreenworld.integration.service;
 
+import com.kopo.hanagreenworld.common.dto.ApiResponse;
+import com.kopo.hanagreenworld.common.util.CustomerInfoTokenUtil;
+import com.kopo.hanagreenworld.integration.dto.BankCustomerInfoResponse;
+import com.kopo.hanagreenworld.integration.dto.CardCustomerInfoResponse;
+import com.kopo.hanagreenworld.integration.dto.CardHanamoneyResponse;
 import com.kopo.hanagreenworld.integration.dto.IntegratedCustomerInfoRequest;
 import com.kopo.hanagreenworld.integration.dto.IntegratedCustomerInfoResponse;
 import com.kopo.hanagreenworld.integration.util.LoanCalculationUtil;
@@ -8,6 +13,7 @@ import com.kopo.hanagreenworld.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,8 +29,17 @@ import java.util.*;
 @Transactional(readOnly = true)
 public class GroupIntegrationService {
 
+    // 응답 본문을 중간 Map 없이 DTO로 바로 역직렬화 (RestTemplate Jackson 변환기가 스트림에서 직접 바인딩)
+    private static final ParameterizedTypeReference<ApiResponse<BankCustomerInfoResponse>> BANK_CUSTOMER_INFO_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<CardCustomerInfoResponse>> CARD_CUSTOMER_INFO_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<ProductOwnership>> PRODUCT_OWNERSHIP_TYPE =
+            new ParameterizedTypeReference<>() {};
+
     private final MemberRepository memberRepository;
     private final RestTemplate restTemplate;
+    private final AmortizationEngine amortizationEngine;
 
     @Value("${integration.bank.url}")
     private String bankServiceUrl;
@@ -46,16 +61,10 @@ public class GroupIntegrationService {
             Member member = memberRepository.findById(request.getMemberId())
                     .orElseThrow(() -> new RuntimeException("회원 정보를 찾을 수 없습니다."));
 
-            // CI 추출
-            String ci = member.getCi();
-            if (ci == null || ci.trim().isEmpty()) {
-                ci = generateMockCI(member);
-            }
-
             // 내부 서비스 토큰 생성
             String internalServiceToken = generateInternalServiceToken();
 
-            String customerInfoToken = Base64.getEncoder().encodeToString(ci.getBytes());
+            String customerInfoToken = CustomerInfoTokenUtil.createCustomerInfoToken(member);
             String consentToken = generateConsentToken(member.getMemberId());
 
             IntegratedCustomerInfoResponse.BankInfo bankInfo = null;
@@ -97,10 +106,11 @@ public class GroupIntegrationService {
 
             HttpEntity<Map<String, String>> entity = new HttpEntity<>(requestBody, headers);
 
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+            ResponseEntity<ApiResponse<BankCustomerInfoResponse>> response =
+                    restTemplate.exchange(url, HttpMethod.POST, entity, BANK_CUSTOMER_INFO_TYPE);
             
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                IntegratedCustomerInfoResponse.BankInfo bankInfo = parseBankResponse(response.getBody());
+                IntegratedCustomerInfoResponse.BankInfo bankInfo = parseBankResponse(response.getBody().getData());
                 return bankInfo;
             } else {
                 return IntegratedCustomerInfoResponse.BankInfo.builder()
@@ -134,10 +144,11 @@ public class GroupIntegrationService {
 
             HttpEntity<Map<String, String>> entity = new HttpEntity<>(requestBody, headers);
             
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+            ResponseEntity<ApiResponse<CardCustomerInfoResponse>> response =
+                    restTemplate.exchange(url, HttpMethod.POST, entity, CARD_CUSTOMER_INFO_TYPE);
             
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return parseCardResponse(response.getBody());
+                return parseCardResponse(response.getBody().getData());
             } else {
                 return IntegratedCustomerInfoResponse.CardInfo.builder()
                         .isAvailable(false)
@@ -179,66 +190,64 @@ public class GroupIntegrationService {
                 .build();
     }
 
-    private IntegratedCustomerInfoResponse.BankInfo parseBankResponse(Map<String, Object> response) {
+    private IntegratedCustomerInfoResponse.BankInfo parseBankResponse(BankCustomerInfoResponse data) {
         try {
-            Map<String, Object> data = (Map<String, Object>) response.get("data");
             if (data == null) {
                 return createErrorBankInfo("응답 데이터가 없습니다.");
             }
             
-            Map<String, Object> customerInfo = (Map<String, Object>) data.get("customerInfo");
-            List<Map<String, Object>> accounts = (List<Map<String, Object>>) data.get("accounts");
-            List<Map<String, Object>> products = (List<Map<String, Object>>) data.get("products");
+            List<BankCustomerInfoResponse.AccountInfo> accounts = data.getAccounts();
+            List<BankCustomerInfoResponse.ProductInfo> products = data.getProducts();
 
             BigDecimal totalBalance = BigDecimal.ZERO;
             List<IntegratedCustomerInfoResponse.BankInfo.AccountInfo> accountDetails = new ArrayList<>();
             List<IntegratedCustomerInfoResponse.BankInfo.ProductDetail> productDetails = new ArrayList<>();
 
             if (accounts != null) {
-                for (Map<String, Object> account : accounts) {
+                for (BankCustomerInfoResponse.AccountInfo account : accounts) {
+                    BigDecimal balance = account.getBalance() != null ? account.getBalance() : BigDecimal.ZERO;
+                    boolean active = account.getIsActive() == null || account.getIsActive();
 
                     accountDetails.add(IntegratedCustomerInfoResponse.BankInfo.AccountInfo.builder()
-                            .accountNumber(account.get("accountNumber") != null ? account.get("accountNumber").toString() : "")
-                            .accountType(account.get("accountType") != null ? account.get("accountType").toString() : "")
-                            .accountName(account.get("accountName") != null ? account.get("accountName").toString() : "")
-                            .balance(account.get("balance") != null ? new BigDecimal(account.get("balance").toString()) : BigDecimal.ZERO)
-                            .currency(account.get("currency") != null ? account.get("currency").toString() : "KRW")
-                            .openDate(account.get("openDate") != null ? java.time.LocalDateTime.parse(account.get("openDate").toString()) : null)
-                            .isActive(account.get("isActive") != null ? (Boolean) account.get("isActive") : true)
+                            .accountNumber(account.getAccountNumber() != null ? account.getAccountNumber() : "")
+                            .accountType(account.getAccountType() != null ? account.getAccountType() : "")
+                            .accountName(account.getAccountName() != null ? account.getAccountName() : "")
+                            .balance(balance)
+                            .currency(account.getCurrency() != null ? account.getCurrency() : "KRW")
+                            .openDate(account.getOpenDate())
+                            .isActive(active)
                             .build());
 
-                    if ("DEMAND_DEPOSIT".equals(account.get("accountType"))) {
+                    if ("DEMAND_DEPOSIT".equals(account.getAccountType())) {
                         productDetails.add(IntegratedCustomerInfoResponse.BankInfo.ProductDetail.builder()
-                                .productCode(account.get("accountNumber") != null ? account.get("accountNumber").toString() : "")
-                                .productName(account.get("accountName") != null ? account.get("accountName").toString() : "입출금예금")
+                                .productCode(account.getAccountNumber() != null ? account.getAccountNumber() : "")
+                                .productName(account.getAccountName() != null ? account.getAccountName() : "입출금예금")
                                 .productType("DEMAND_DEPOSIT")
-                                .amount(account.get("balance") != null ? new BigDecimal(account.get("balance").toString()) : BigDecimal.ZERO)
-                                .subscriptionDate(account.get("openDate") != null ? java.time.LocalDateTime.parse(account.get("openDate").toString()) : null)
-                                .status(account.get("isActive") != null && (Boolean) account.get("isActive") ? "ACTIVE" : "INACTIVE")
+                                .amount(balance)
+                                .subscriptionDate(account.getOpenDate())
+                                .status(active ? "ACTIVE" : "INACTIVE")
                                 .build());
                     }
 
-                    if (account.get("balance") != null) {
-                        totalBalance = totalBalance.add(new BigDecimal(account.get("balance").toString()));
-                    }
+                    totalBalance = totalBalance.add(balance);
                 }
             }
 
             List<String> mainProducts = products != null ?
                     products.stream()
-                            .map(product -> product.get("productName").toString())
+                            .map(BankCustomerInfoResponse.ProductInfo::getProductName)
                             .limit(3)
                             .collect(java.util.stream.Collectors.toList()) : new ArrayList<>();
 
             if (products != null) {
-                for (Map<String, Object> product : products) {
+                for (BankCustomerInfoResponse.ProductInfo product : products) {
                     
                     // 기본 정보 설정
-                    String productType = product.get("productType") != null ? product.get("productType").toString() : "";
-                    BigDecimal amount = product.get("amount") != null ? new BigDecimal(product.get("amount").toString()) : BigDecimal.ZERO;
-                    BigDecimal interestRate = product.get("interestRate") != null ? new BigDecimal(product.get("interestRate").toString()) : null;
-                    java.time.LocalDateTime startDate = product.get("startDate") != null ? java.time.LocalDateTime.parse(product.get("startDate").toString()) : null;
-                    java.time.LocalDateTime maturityDate = product.get("maturityDate") != null ? java.time.LocalDateTime.parse(product.get("maturityDate").toString()) : null;
+                    String productType = product.getProductType() != null ? product.getProductType() : "";
+                    BigDecimal amount = product.getAmount() != null ? product.getAmount() : BigDecimal.ZERO;
+                    BigDecimal interestRate = product.getInterestRate();
+                    LocalDateTime startDate = product.getStartDate();
+                    LocalDateTime maturityDate = product.getMaturityDate();
                     
                     // 월 상환금과 월 이자 계산 (대출 상품인 경우)
                     BigDecimal monthlyPayment = null;
@@ -249,24 +258,23 @@ public class GroupIntegrationService {
                     if (isLoanProduct(productType) && amount.compareTo(BigDecimal.ZERO) > 0) {
                         // 대출 상품이고 금액이 있는 경우 계산
                         BigDecimal defaultInterestRate = interestRate != null ? interestRate : new BigDecimal("4.5");
-                        java.time.LocalDateTime defaultStartDate = startDate != null ? startDate : java.time.LocalDateTime.now().minusYears(2);
-                        java.time.LocalDateTime defaultMaturityDate = maturityDate != null ? maturityDate : java.time.LocalDateTime.now().plusYears(3);
-                        BigDecimal remainingAmount = product.get("remainingAmount") != null ? new BigDecimal(product.get("remainingAmount").toString()) : amount;
+                        LocalDateTime defaultStartDate = startDate != null ? startDate : LocalDateTime.now().minusYears(2);
+                        LocalDateTime defaultMaturityDate = maturityDate != null ? maturityDate : LocalDateTime.now().plusYears(3);
+                        BigDecimal remainingAmount = product.getRemainingAmount() != null ? product.getRemainingAmount() : amount;
                         
                         // 기존 monthlyPayment가 있으면 우선 사용
-                        if (product.get("monthlyPayment") != null) {
-                            monthlyPayment = new BigDecimal(product.get("monthlyPayment").toString());
+                        if (product.getMonthlyPayment() != null) {
+                            monthlyPayment = product.getMonthlyPayment();
                         } else {
-                            monthlyPayment = LoanCalculationUtil.calculateMonthlyPaymentFromLoanInfo(
+                            monthlyPayment = amortizationEngine.monthlyPayment(
                                     amount,
                                     defaultInterestRate.divide(new BigDecimal("100")), // 퍼센트를 소수로 변환
-                                    defaultStartDate,
-                                    defaultMaturityDate
+                                    LoanCalculationUtil.calculateLoanTermMonths(defaultStartDate, defaultMaturityDate)
                             );
                         }
                         
                         // 월 이자는 항상 현재 잔여금액 기준으로 계산
-                        monthlyInterest = LoanCalculationUtil.calculateMonthlyInterest(
+                        monthlyInterest = amortizationEngine.monthlyInterest(
                                 remainingAmount,
                                 defaultInterestRate.divide(new BigDecimal("100")) // 퍼센트를 소수로 변환
                         );
@@ -274,39 +282,34 @@ public class GroupIntegrationService {
                         // 총 월 납입금 = 월 상환금 + 월 이자
                         totalMonthlyPayment = monthlyPayment.add(monthlyInterest);
                         
-                        // 우대금리는 기존 데이터에서 가져오기
-                        if (product.get("preferentialRate") != null) {
-                            preferentialRate = new BigDecimal(product.get("preferentialRate").toString());
-                        } else {
-                            // 기본 우대금리 설정
-                            preferentialRate = new BigDecimal("1.0"); // 기본 우대금리 1.0%
-                        }
+                        // 우대금리는 기존 데이터에서 가져오고, 없으면 기본 우대금리 1.0%
+                        preferentialRate = product.getPreferentialRate() != null
+                                ? product.getPreferentialRate() : new BigDecimal("1.0");
                     }
                     
                     productDetails.add(IntegratedCustomerInfoResponse.BankInfo.ProductDetail.builder()
-                            .productCode(product.get("productCode") != null ? product.get("productCode").toString() : "")
-                            .productName(product.get("productName") != null ? product.get("productName").toString() : "")
+                            .productCode(product.getProductCode() != null ? product.getProductCode() : "")
+                            .productName(product.getProductName() != null ? product.getProductName() : "")
                             .productType(productType)
                             .amount(amount)
-                            .remainingAmount(product.get("remainingAmount") != null ? new BigDecimal(product.get("remainingAmount").toString()) : null)
+                            .remainingAmount(product.getRemainingAmount())
                             .interestRate(interestRate)
-                            .baseRate(product.get("baseRate") != null ? new BigDecimal(product.get("baseRate").toString()) : null)
-                            .preferentialRate(preferentialRate != null ? preferentialRate : (product.get("preferentialRate") != null ? new BigDecimal(product.get("preferentialRate").toString()) : null))
+                            .baseRate(product.getBaseRate())
+                            .preferentialRate(preferentialRate != null ? preferentialRate : product.getPreferentialRate())
                             .monthlyPayment(monthlyPayment)
                             .monthlyInterest(monthlyInterest)
                             .totalMonthlyPayment(totalMonthlyPayment)
                             .startDate(startDate)
                             .maturityDate(maturityDate)
-                            .subscriptionDate(product.get("subscriptionDate") != null ? java.time.LocalDateTime.parse(product.get("subscriptionDate").toString()) : null)
-                            .status(product.get("status") != null ? product.get("status").toString() : "UNKNOWN")
+                            .subscriptionDate(product.getSubscriptionDate())
+                            .status(product.getStatus() != null ? product.getStatus() : "UNKNOWN")
                             .build());
                 }
             }
 
             return IntegratedCustomerInfoResponse.BankInfo.builder()
                     .isAvailable(true)
-                    .customerGrade(customerInfo != null && customerInfo.get("customerGrade") != null ? 
-                            customerInfo.get("customerGrade").toString() : "STANDARD")
+                    .customerGrade(data.getCustomerGrade() != null ? data.getCustomerGrade() : "STANDARD")
                     .accountCount(accounts != null ? accounts.size() : 0)
                     .productCount(products != null ? products.size() : 0)
                     .totalBalance(totalBalance)
@@ -334,9 +337,8 @@ public class GroupIntegrationService {
                 .build();
     }
 
-    private IntegratedCustomerInfoResponse.CardInfo parseCardResponse(Map<String, Object> response) {
+    private IntegratedCustomerInfoResponse.CardInfo parseCardResponse(CardCustomerInfoResponse data) {
         try {
-            Map<String, Object> data = (Map<String, Object>) response.get("data");
             if (data == null) {
                 return IntegratedCustomerInfoResponse.CardInfo.builder()
                         .isAvailable(false)
@@ -344,35 +346,28 @@ public class GroupIntegrationService {
                         .build();
             }
 
-            // 카드 데이터 직접 저장
-            java.util.Map<String, Object> cardData = new java.util.HashMap<>();
-            cardData.put("cards", data.get("cards"));
-            cardData.put("summary", data.get("summary"));
-            cardData.put("responseTime", data.get("responseTime"));
-
-            // 기존 로직 유지 (호환성을 위해)
-            Map<String, Object> customerInfo = (Map<String, Object>) data.get("customerInfo");
-            List<Map<String, Object>> cards = (List<Map<String, Object>>) data.get("cards");
-            Map<String, Object> hanamoneyInfo = (Map<String, Object>) data.get("hanamoneyInfo");
+            CardCustomerInfoResponse.CustomerBasicInfo customerInfo = data.getCustomerInfo();
+            List<CardCustomerInfoResponse.CardInfo> cards = data.getCards();
+            CardHanamoneyResponse hanamoneyInfo = data.getHanamoneyInfo();
 
             List<String> mainCards = cards != null ?
                     cards.stream()
-                            .map(card -> card.get("cardName").toString())
+                            .map(CardCustomerInfoResponse.CardInfo::getCardName)
                             .limit(3)
                             .collect(java.util.stream.Collectors.toList()) : new ArrayList<>();
 
             return IntegratedCustomerInfoResponse.CardInfo.builder()
                     .isAvailable(true)
-                    .customerGrade(customerInfo != null ? customerInfo.get("customerGrade").toString() : "BRONZE")
+                    .customerGrade(customerInfo != null ? customerInfo.getCustomerGrade() : "BRONZE")
                     .cardCount(cards != null ? cards.size() : 0)
-                    .totalCreditLimit(customerInfo != null ? new BigDecimal(customerInfo.get("totalCreditLimit").toString()) : BigDecimal.ZERO)
-                    .availableCredit(customerInfo != null ? new BigDecimal(customerInfo.get("totalCreditLimit").toString())
-                            .subtract(new BigDecimal(customerInfo.get("usedCreditAmount").toString())) : BigDecimal.ZERO)
-                    .hasHanamoney(hanamoneyInfo != null && Boolean.parseBoolean(hanamoneyInfo.get("isSubscribed").toString()))
-                    .hanamoneyPoints(hanamoneyInfo != null ? new BigDecimal(hanamoneyInfo.get("currentPoints").toString()) : BigDecimal.ZERO)
-                    .hanamoneyLevel(hanamoneyInfo != null ? hanamoneyInfo.get("membershipLevel").toString() : "BRONZE")
+                    .totalCreditLimit(customerInfo != null ? customerInfo.getTotalCreditLimit() : BigDecimal.ZERO)
+                    .availableCredit(customerInfo != null ? customerInfo.getTotalCreditLimit()
+                            .subtract(customerInfo.getUsedCreditAmount()) : BigDecimal.ZERO)
+                    .hasHanamoney(hanamoneyInfo != null && Boolean.TRUE.equals(hanamoneyInfo.getIsSubscribed()))
+                    .hanamoneyPoints(hanamoneyInfo != null ? hanamoneyInfo.getCurrentPoints() : BigDecimal.ZERO)
+                    .hanamoneyLevel(hanamoneyInfo != null ? hanamoneyInfo.getMembershipLevel() : "BRONZE")
                     .mainCards(mainCards)
-                    .cardData(cardData)
+                    .cardData(data)
                     .build();
 
         } catch (Exception e) {
@@ -383,10 +378,6 @@ public class GroupIntegrationService {
         }
     }
 
-    private String generateMockCI(Member member) {
-        return "CI_" + member.getPhoneNumber().replace("-", "") + "_" + member.getName().hashCode();
-    }
-
     private String generateConsentToken(Long memberId) {
         return "CONSENT_" + memberId + "_" + System.currentTimeMillis();
     }
@@ -396,12 +387,7 @@ public class GroupIntegrationService {
             Member member = memberRepository.findById(memberId)
                     .orElseThrow(() -> new RuntimeException("회원 정보를 찾을 수 없습니다."));
 
-            // CI 추출
-            String ci = member.getCi();
-            if (ci == null || ci.trim().isEmpty()) {
-                ci = generateMockCI(member);
-            }
-            String customerInfoToken = Base64.getEncoder().encodeToString(ci.getBytes());
+            String customerInfoToken = CustomerInfoTokenUtil.createCustomerInfoToken(member);
 
             // 하나은행 서비스에 상품 보유 여부 확인 요청
             String url = bankServiceUrl + "/api/integration/check-product-ownership";
@@ -417,14 +403,12 @@ public class GroupIntegrationService {
 
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
             
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+            ResponseEntity<ApiResponse<ProductOwnership>> response =
+                    restTemplate.exchange(url, HttpMethod.POST, entity, PRODUCT_OWNERSHIP_TYPE);
             
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                Map<String, Object> responseData = (Map<String, Object>) response.getBody();
-                Map<String, Object> data = (Map<String, Object>) responseData.get("data");
-                Boolean hasProduct = (Boolean) data.get("hasProduct");
-
-                return hasProduct != null ? hasProduct : false;
+                ProductOwnership data = response.getBody().getData();
+                return data != null && Boolean.TRUE.equals(data.hasProduct());
             } else {
                 return false;
             }
@@ -456,4 +440,6 @@ public class GroupIntegrationService {
                "BUSINESS_LOAN".equals(productType);
     }
 
+    private record ProductOwnership(Boolean hasProduct) {
+    }
 }
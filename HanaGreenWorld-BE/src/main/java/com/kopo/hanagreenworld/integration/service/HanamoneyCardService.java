@@ -1,14 +1,18 @@
 package com.kopo.hanagreenworld.integration.service;
 
+import com.kopo.hanagreenworld.common.dto.ApiResponse;
+import com.kopo.hanagreenworld.common.util.CustomerInfoTokenUtil;
+import com.kopo.hanagreenworld.integration.dto.CardHanamoneyResponse;
 import com.kopo.hanagreenworld.member.domain.Member;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.Base64;
 import java.util.Map;
 
 @Service
@@ -16,62 +20,105 @@ import java.util.Map;
 @Slf4j
 public class HanamoneyCardService {
 
+    private static final ParameterizedTypeReference<ApiResponse<CardHanamoneyResponse>> HANAMONEY_RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<EarnStatus>> EARN_STATUS_RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+
     private final RestTemplate restTemplate;
     private final GroupIntegrationService groupIntegrationService;
 
     @Value("${integration.card.url}")
     private String cardServiceUrl;
 
-    public boolean earnHanamoney(Member member, Long amount, String description) {
+    /**
+     * 하나머니 적립 요청 (referenceId로 하나카드에서 멱등 처리)
+     * 응답을 받지 못한 경우에는 적립 여부를 알 수 없으므로 UNKNOWN을 반환하고,
+     * 같은 referenceId로 다시 요청하거나 getEarnStatus로 반영 여부를 확인해야 한다.
+     */
+    public EarnOutcome earnHanamoney(Member member, Long amount, String description, String referenceId) {
         try {
             String url = cardServiceUrl + "/api/integration/hanamoney-earn";
 
-            // CI 추출 및 customerInfoToken 생성
-            String ci = member.getCi();
-            if (ci == null || ci.trim().isEmpty()) {
-                ci = "CI_" + member.getPhoneNumber().replace("-", "") + "_" + member.getName().hashCode();
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.set("X-Internal-Service", groupIntegrationService.generateInternalServiceToken());
+
+            Map<String, Object> requestBody = Map.of(
+                    "customerInfoToken", CustomerInfoTokenUtil.createCustomerInfoToken(member),
+                    "requestingService", "GREEN_WORLD",
+                    "amount", amount,
+                    "description", description,
+                    "referenceId", referenceId
+            );
+
+            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+
+            ResponseEntity<ApiResponse<CardHanamoneyResponse>> response =
+                    restTemplate.exchange(url, HttpMethod.POST, entity, HANAMONEY_RESPONSE_TYPE);
+
+            ApiResponse<CardHanamoneyResponse> responseBody = response.getBody();
+            if (responseBody != null && responseBody.isSuccess()) {
+                log.info("하나머니 적립 성공 - 회원ID: {}, 금액: {}, 참조ID: {}", member.getMemberId(), amount, referenceId);
+                return EarnOutcome.APPLIED;
             }
+            log.error("하나머니 적립 응답 이상 - 회원ID: {}, 참조ID: {}, 응답: {}", member.getMemberId(), referenceId,
+                    responseBody != null ? responseBody.getMessage() : response.getStatusCode());
+            return EarnOutcome.UNKNOWN;
 
-            String customerInfoToken = Base64.getEncoder().encodeToString(ci.getBytes());
-            String internalServiceToken = groupIntegrationService.generateInternalServiceToken();
+        } catch (HttpClientErrorException e) {
+            // 하나카드가 요청을 거절 (멤버십 없음, 잘못된 토큰 등) - 적립되지 않았다
+            log.error("하나머니 적립 거절 - 회원ID: {}, 참조ID: {}, Status: {}, 응답: {}",
+                    member.getMemberId(), referenceId, e.getStatusCode(), e.getResponseBodyAsString());
+            return EarnOutcome.REJECTED;
+
+        } catch (Exception e) {
+            // 타임아웃/5xx - 하나카드에서 반영되었을 수 있다
+            log.error("하나카드 서비스 연결 실패 - 회원ID: {}, 참조ID: {}: {}", member.getMemberId(), referenceId, e.getMessage());
+            return EarnOutcome.UNKNOWN;
+        }
+    }
+
+    /**
+     * 참조 ID로 하나머니 적립 반영 여부 조회 (확인할 수 없으면 null)
+     */
+    public Boolean getEarnStatus(Member member, String referenceId) {
+        try {
+            String url = cardServiceUrl + "/api/integration/hanamoney-earn/status";
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("X-Internal-Service", internalServiceToken);
+            headers.set("X-Internal-Service", groupIntegrationService.generateInternalServiceToken());
 
             Map<String, Object> requestBody = Map.of(
-                    "customerInfoToken", customerInfoToken,
+                    "customerInfoToken", CustomerInfoTokenUtil.createCustomerInfoToken(member),
                     "requestingService", "GREEN_WORLD",
-                    "amount", amount,
-                    "description", description
+                    "referenceId", referenceId
             );
 
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
+            ResponseEntity<ApiResponse<EarnStatus>> response = restTemplate.exchange(url, HttpMethod.POST,
+                    new HttpEntity<>(requestBody, headers), EARN_STATUS_RESPONSE_TYPE);
 
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-                Boolean success = (Boolean) responseBody.get("success");
-                
-                if (Boolean.TRUE.equals(success)) {
-                    log.info("하나머니 적립 성공 - 회원ID: {}, 금액: {}", member.getMemberId(), amount);
-                    return true;
-                } else {
-                    log.error("하나머니 적립 실패 - 회원ID: {}, 응답: {}", member.getMemberId(), responseBody);
-                    return false;
-                }
-            } else {
-                log.error("하나머니 적립 API 호출 실패 - Status: {}", response.getStatusCode());
-                return false;
+            ApiResponse<EarnStatus> responseBody = response.getBody();
+            if (responseBody == null || !responseBody.isSuccess() || responseBody.getData() == null) {
+                return null;
             }
+            return responseBody.getData().applied();
 
         } catch (Exception e) {
-            log.error("하나카드 서비스 연결 실패", e);
-            return false;
+            log.error("하나머니 적립 반영 여부 조회 실패 - 회원ID: {}, 참조ID: {}: {}",
+                    member.getMemberId(), referenceId, e.getMessage());
+            return null;
         }
     }
 
-}
+    public enum EarnOutcome {
+        APPLIED,    // 적립 반영 (같은 참조 ID로 이미 반영된 경우 포함)
+        REJECTED,   // 하나카드가 거절 - 적립되지 않음
+        UNKNOWN     // 응답 없음/서버 오류 - 반영 여부 미확정
+    }
 
+    private record EarnStatus(String referenceId, Boolean applied) {
+    }
+}
 
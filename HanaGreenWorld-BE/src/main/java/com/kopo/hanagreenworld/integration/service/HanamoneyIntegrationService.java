@@ -1,5 +1,8 @@
 package com.kopo.hanagreenworld.integration.service;
 
+import com.kopo.hanagreenworld.common.dto.ApiResponse;
+import com.kopo.hanagreenworld.common.util.CustomerInfoTokenUtil;
+import com.kopo.hanagreenworld.integration.dto.CardHanamoneyResponse;
 import com.kopo.hanagreenworld.integration.dto.HanamoneyInfoRequest;
 import com.kopo.hanagreenworld.integration.dto.HanamoneyInfoResponse;
 import com.kopo.hanagreenworld.member.domain.Member;
@@ -7,6 +10,7 @@ import com.kopo.hanagreenworld.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,17 +19,18 @@ import org.springframework.web.client.RestTemplate;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class HanamoneyIntegrationService {
 
+    private static final ParameterizedTypeReference<ApiResponse<CardHanamoneyResponse>> HANAMONEY_RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+
     private final MemberRepository memberRepository;
     private final RestTemplate restTemplate;
     private final GroupIntegrationService groupIntegrationService;
@@ -43,12 +48,7 @@ public class HanamoneyIntegrationService {
             Member member = memberRepository.findById(request.getMemberId())
                     .orElseThrow(() -> new RuntimeException("회원 정보를 찾을 수 없습니다."));
 
-            String ci = member.getCi();
-            if (ci == null || ci.trim().isEmpty()) {
-                ci = generateMockCI(member);
-            }
-
-            String customerInfoToken = Base64.getEncoder().encodeToString(ci.getBytes());
+            String customerInfoToken = CustomerInfoTokenUtil.createCustomerInfoToken(member);
 
             String internalServiceToken = groupIntegrationService.generateInternalServiceToken();
             String consentToken = generateConsentToken(member.getMemberId());
@@ -82,10 +82,11 @@ public class HanamoneyIntegrationService {
 
             HttpEntity<Map<String, String>> entity = new HttpEntity<>(requestBody, headers);
 
-            ResponseEntity<Map> response = restTemplate.exchange(url, HttpMethod.POST, entity, Map.class);
+            ResponseEntity<ApiResponse<CardHanamoneyResponse>> response =
+                    restTemplate.exchange(url, HttpMethod.POST, entity, HANAMONEY_RESPONSE_TYPE);
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return parseHanamoneyResponse(response.getBody());
+                return parseHanamoneyResponse(response.getBody().getData());
             } else {
                 throw new RuntimeException("하나머니 정보 조회 실패 - Status: " + response.getStatusCode());
             }
@@ -96,23 +97,21 @@ public class HanamoneyIntegrationService {
         }
     }
 
-    private HanamoneyInfoResponse parseHanamoneyResponse(Map<String, Object> response) {
+    private HanamoneyInfoResponse parseHanamoneyResponse(CardHanamoneyResponse data) {
         try {
-            Map<String, Object> data = (Map<String, Object>) response.get("data");
-            
             if (data == null) {
                 throw new RuntimeException("응답 데이터가 null입니다.");
             }
             
             HanamoneyInfoResponse.HanamoneyInfo hanamoneyInfo = 
                     HanamoneyInfoResponse.HanamoneyInfo.builder()
-                            .membershipId(data.get("membershipLevel").toString())
-                            .currentBalance(new BigDecimal(data.get("currentPoints").toString()))
-                            .totalEarned(new BigDecimal(data.get("accumulatedPoints").toString()))
+                            .membershipId(data.getMembershipLevel())
+                            .currentBalance(data.getCurrentPoints())
+                            .totalEarned(data.getAccumulatedPoints())
                             .totalSpent(BigDecimal.ZERO)
-                            .membershipLevel(data.get("membershipLevel").toString())
-                            .isActive(Boolean.parseBoolean(data.get("isSubscribed").toString()))
-                            .joinDate(LocalDateTime.parse(data.get("joinDate").toString()))
+                            .membershipLevel(data.getMembershipLevel())
+                            .isActive(Boolean.TRUE.equals(data.getIsSubscribed()))
+                            .joinDate(data.getJoinDate())
                             .build();
 
             List<HanamoneyInfoResponse.TransactionInfo> transactions = getRecentTransactions();
@@ -150,10 +149,6 @@ public class HanamoneyIntegrationService {
         return transactions;
     }
 
-    private String generateMockCI(Member member) {
-        return "CI_" + member.getPhoneNumber().replace("-", "") + "_" + member.getName().hashCode();
-    }
-
     private String generateConsentToken(Long memberId) {
         return "CONSENT_" + memberId + "_" + System.currentTimeMillis();
     }
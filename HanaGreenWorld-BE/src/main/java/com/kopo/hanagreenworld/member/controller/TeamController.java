@@ -4,6 +4,7 @@ import com.kopo.hanagreenworld.member.dto.*;
 import com.kopo.hanagreenworld.member.service.TeamService;
 import com.kopo.hanagreenworld.common.exception.BusinessException;
 import com.kopo.hanagreenworld.common.exception.ErrorCode;
+import com.kopo.hanagreenworld.common.sql.SqlBudget;
 import java.util.List;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -125,6 +126,7 @@ public class TeamController {
 
     @GetMapping("/list")
     @Operation(summary = "팀 목록 조회", description = "가입 가능한 팀 목록을 조회합니다.")
+    @SqlBudget(statements = 20)
     public ResponseEntity<?> getTeamList() {
         try {
             var response = teamService.getTeamList();
@@ -216,6 +218,7 @@ public class TeamController {
     
     @GetMapping("/my-join-requests")
     @Operation(summary = "내 가입 신청 내역 조회", description = "현재 사용자가 보낸 팀 가입 신청 내역을 조회합니다.")
+    @SqlBudget(statements = 10)
     public ResponseEntity<?> getMyJoinRequests() {
         log.info("내 가입 신청 내역 조회 요청");
         try {
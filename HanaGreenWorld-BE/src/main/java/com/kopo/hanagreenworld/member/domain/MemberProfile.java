@@ -7,6 +7,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
 
 @Entity
 @Table(name = "member_profiles")
@@ -14,6 +16,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class MemberProfile extends DateTimeEntity {
 
+    // 이번달 누적값의 월 기준 시간대 (월간 작업 실행 키와 같은 기준)
+    public static final ZoneId MONTH_ZONE = ZoneId.of("Asia/Seoul");
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "profile_id")
@@ -49,6 +54,10 @@ public class MemberProfile extends DateTimeEntity {
     @Column(name = "current_month_points")
     private Long currentMonthPoints = 0L;
 
+    // 이번달 누적값이 속한 월 (yyyy-MM, 기존 행은 null이며 다음 초기화에서 채워진다)
+    @Column(name = "current_month", length = 7)
+    private String currentMonth;
+
     @Column(name = "walking_consent")
     private Boolean walkingConsent = false;
 
@@ -102,6 +111,7 @@ public class MemberProfile extends DateTimeEntity {
         this.member = member;
         this.nickname = nickname;
         this.ecoLevel = ecoLevel != null ? ecoLevel : EcoLevel.BEGINNER;
+        this.currentMonth = currentYearMonth().toString();
     }
 
     public EcoLevel getNextLevel() {
@@ -144,24 +154,41 @@ public class MemberProfile extends DateTimeEntity {
     }
 
     public void updateCurrentMonthPoints(Long points) {
+        rollCurrentMonth(currentYearMonth());
         this.currentMonthPoints += points;
     }
 
     public void updateCarbonSaved(Double carbonSaved) {
+        rollCurrentMonth(currentYearMonth());
         this.totalCarbonSaved += carbonSaved;
         this.currentMonthCarbonSaved += carbonSaved;
     }
 
     public void incrementActivityCount() {
+        rollCurrentMonth(currentYearMonth());
         this.totalActivitiesCount++;
         this.currentMonthActivitiesCount++;
     }
 
+    /**
+     * 이번달 누적값을 주어진 월 기준으로 맞춤
+     * 지난달 값이 남아 있으면 0으로 시작하고, 이미 그 월(또는 이후)의 값이면 그대로 둔다.
+     * 월이 기록되지 않은 기존 행은 값을 유지한 채 월만 기록한다.
+     */
+    public void rollCurrentMonth(YearMonth month) {
+        String key = month.toString();
+        if (this.currentMonth != null && this.currentMonth.compareTo(key) < 0) {
+            this.currentMonthCarbonSaved = 0.0;
+            this.currentMonthActivitiesCount = 0;
+            this.currentMonthPoints = 0L;
+        }
+        if (this.currentMonth == null || this.currentMonth.compareTo(key) < 0) {
+            this.currentMonth = key;
+        }
+    }
 
-    public void resetCurrentMonthData() {
-        this.currentMonthCarbonSaved = 0.0;
-        this.currentMonthActivitiesCount = 0;
-        this.currentMonthPoints = 0L;
+    public static YearMonth currentYearMonth() {
+        return YearMonth.now(MONTH_ZONE);
     }
 
     // 걷기 관련 메서드들
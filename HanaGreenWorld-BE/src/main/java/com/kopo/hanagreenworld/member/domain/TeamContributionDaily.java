@@ -0,0 +1,52 @@
+package com.kopo.hanagreenworld.member.domain;
+
+import jakarta.persistence.*;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 팀 기여 일간 집계 (팀, 회원, 날짜 단위)
+ * 적립/챌린지 승인 시점의 소속 팀 기준으로 upsert되어, 이후 팀을 옮겨도 과거 기여는 당시 팀에 남는다.
+ * 팀 통계는 (team_id, contribution_date) 인덱스 범위 합계로 계산한다.
+ */
+@Entity
+@Table(
+    name = "team_contribution_daily",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_team_contribution_team_member_date",
+                columnNames = {"team_id", "member_id", "contribution_date"})
+    },
+    indexes = {
+        @Index(name = "idx_team_contribution_team_date", columnList = "team_id, contribution_date")
+    }
+)
+@Getter
+@NoArgsConstructor
+public class TeamContributionDaily {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "team_contribution_id")
+    private Long id;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "contribution_date", nullable = false)
+    private LocalDate contributionDate;
+
+    @Column(name = "points", nullable = false)
+    private Long points = 0L;
+
+    @Column(name = "carbon_saved", nullable = false)
+    private Double carbonSaved = 0.0;
+
+    @Column(name = "completed_challenges", nullable = false)
+    private Integer completedChallenges = 0;
+}
@@ -16,4 +16,8 @@ public interface EcoReportRepository extends JpaRepository<EcoReport, Long> {
     Optional<EcoReport> findByMember_MemberIdAndReportMonth(Long memberId, String reportMonth);
 
     List<EcoReport> findByMember_MemberIdOrderByReportMonthDesc(Long memberId);
+
+    // 해당 월 리포트가 이미 있는 회원 (누락 리포트 재생성용)
+    @Query("SELECT r.member.memberId FROM EcoReport r WHERE r.reportMonth = :reportMonth")
+    List<Long> findMemberIdsByReportMonth(@Param("reportMonth") String reportMonth);
 }
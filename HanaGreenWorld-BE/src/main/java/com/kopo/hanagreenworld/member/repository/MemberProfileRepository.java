@@ -2,12 +2,65 @@ package com.kopo.hanagreenworld.member.repository;
 
 import com.kopo.hanagreenworld.member.domain.MemberProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MemberProfileRepository extends JpaRepository<MemberProfile, Long> {
     
     Optional<MemberProfile> findByMember_MemberId(Long memberId);
-}
\ No newline at end of file
+
+    List<MemberProfile> findByMember_MemberIdIn(Collection<Long> memberIds);
+
+    // 통계 스냅샷용 - 엔티티 대신 비교 대상 컬럼만 한 번에 조회
+    @Query("SELECT p.totalCarbonSaved, p.currentMonthCarbonSaved, p.currentPoints, p.currentMonthPoints " +
+           "FROM MemberProfile p")
+    List<Object[]> findAllStatValues();
+
+    // 누적 카운터 일괄 반영 (회원 단위로 합산된 값)
+    // 이번달 값은 :month보다 이전 월의 값이면 새로 시작한다 (월 컬럼은 MySQL이 왼쪽부터 적용하므로 마지막에 갱신)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MemberProfile p SET " +
+           "p.currentPoints = p.currentPoints + :points, " +
+           "p.currentMonthPoints = CASE WHEN p.currentMonth < :month THEN :points " +
+           "ELSE p.currentMonthPoints + :points END, " +
+           "p.totalCarbonSaved = p.totalCarbonSaved + :carbonSaved, " +
+           "p.currentMonthCarbonSaved = CASE WHEN p.currentMonth < :month THEN :carbonSaved " +
+           "ELSE p.currentMonthCarbonSaved + :carbonSaved END, " +
+           "p.totalActivitiesCount = p.totalActivitiesCount + :activities, " +
+           "p.currentMonthActivitiesCount = CASE WHEN p.currentMonth < :month THEN :activities " +
+           "ELSE p.currentMonthActivitiesCount + :activities END, " +
+           "p.currentMonth = CASE WHEN p.currentMonth >= :month THEN p.currentMonth ELSE :month END " +
+           "WHERE p.member.memberId = :memberId")
+    int addActivityTotals(@Param("memberId") Long memberId, @Param("points") Long points,
+                          @Param("carbonSaved") Double carbonSaved, @Param("activities") Integer activities,
+                          @Param("month") String month);
+
+    // 월간 초기화 - :month 이전 월의 이번달 값만 0으로 (이미 :month로 넘어온 회원의 값은 유지)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MemberProfile p SET " +
+           "p.currentMonthCarbonSaved = 0.0, " +
+           "p.currentMonthActivitiesCount = 0, " +
+           "p.currentMonthPoints = 0, " +
+           "p.currentMonth = :month " +
+           "WHERE p.currentMonth IS NULL OR p.currentMonth < :month")
+    int resetCurrentMonthBefore(@Param("month") String month);
+
+    // 하나머니 전환 예약 - 잔액이 충분할 때만 원큐씨앗 차감 (0이면 잔액 부족)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MemberProfile p SET p.currentPoints = p.currentPoints - :points " +
+           "WHERE p.member.memberId = :memberId AND p.currentPoints >= :points")
+    int reservePoints(@Param("memberId") Long memberId, @Param("points") Long points);
+
+    // 하나머니 전환 취소 - 예약 시 차감한 원큐씨앗 복원
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MemberProfile p SET p.currentPoints = p.currentPoints + :points " +
+           "WHERE p.member.memberId = :memberId")
+    int restorePoints(@Param("memberId") Long memberId, @Param("points") Long points);
+}
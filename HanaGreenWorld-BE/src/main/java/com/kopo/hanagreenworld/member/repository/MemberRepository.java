@@ -4,8 +4,10 @@ import com.kopo.hanagreenworld.member.domain.Member;
 import com.kopo.hanagreenworld.member.domain.MemberStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,4 +29,8 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     @Query("SELECT m.memberId FROM Member m WHERE m.status = 'ACTIVE'")
     List<Long> findActiveMemberIds();
-}
\ No newline at end of file
+
+    // 존재하는 회원 ID만 조회 (카드 거래 일괄 수신용)
+    @Query("SELECT m.memberId FROM Member m WHERE m.memberId IN :memberIds")
+    List<Long> findExistingMemberIds(@Param("memberIds") Collection<Long> memberIds);
+}
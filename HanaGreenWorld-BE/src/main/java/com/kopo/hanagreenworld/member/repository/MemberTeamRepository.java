@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,9 +15,17 @@ public interface MemberTeamRepository extends JpaRepository<MemberTeam, Long> {
 
     Optional<MemberTeam> findByMember_MemberIdAndIsActiveTrue(Long memberId);
 
+    @Query("SELECT mt FROM MemberTeam mt JOIN FETCH mt.team WHERE mt.member.memberId IN :memberIds AND mt.isActive = true")
+    List<MemberTeam> findActiveByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+
     @Query("SELECT COUNT(mt) FROM MemberTeam mt WHERE mt.team.id = :teamId AND mt.isActive = true")
     Integer countActiveMembersByTeamId(@Param("teamId") Long teamId);
 
+    // 팀 목록용 팀별 활성 멤버 수 ([팀 ID, 멤버 수])
+    @Query("SELECT mt.team.id, COUNT(mt) FROM MemberTeam mt WHERE mt.team.id IN :teamIds AND mt.isActive = true " +
+           "GROUP BY mt.team.id")
+    List<Object[]> countActiveMembersByTeamIds(@Param("teamIds") Collection<Long> teamIds);
+
     boolean existsByMember_MemberIdAndTeam_IdAndIsActiveTrue(Long memberId, Long teamId);
 
     long countByTeam_IdAndIsActiveTrue(Long teamId);
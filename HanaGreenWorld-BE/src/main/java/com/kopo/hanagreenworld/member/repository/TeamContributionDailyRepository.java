@@ -0,0 +1,86 @@
+package com.kopo.hanagreenworld.member.repository;
+
+import com.kopo.hanagreenworld.member.domain.TeamContributionDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TeamContributionDailyRepository extends JpaRepository<TeamContributionDaily, Long> {
+
+    // 기여 시점 누적 (팀, 회원, 날짜 행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO team_contribution_daily " +
+                   "(team_id, member_id, contribution_date, points, carbon_saved, completed_challenges) " +
+                   "VALUES (:teamId, :memberId, :contributionDate, :points, :carbonSaved, :completed) " +
+                   "ON DUPLICATE KEY UPDATE points = points + VALUES(points), " +
+                   "carbon_saved = carbon_saved + VALUES(carbon_saved), " +
+                   "completed_challenges = completed_challenges + VALUES(completed_challenges)", nativeQuery = true)
+    int upsert(@Param("teamId") Long teamId, @Param("memberId") Long memberId,
+               @Param("contributionDate") LocalDate contributionDate, @Param("points") Long points,
+               @Param("carbonSaved") Double carbonSaved, @Param("completed") Integer completed);
+
+    // 팀 기간 합계 ([포인트, 탄소절감량, 완료 챌린지 수])
+    @Query("SELECT COALESCE(SUM(t.points), 0), COALESCE(SUM(t.carbonSaved), 0), COALESCE(SUM(t.completedChallenges), 0) " +
+           "FROM TeamContributionDaily t " +
+           "WHERE t.teamId = :teamId AND t.contributionDate BETWEEN :startDate AND :endDate")
+    List<Object[]> sumByTeamBetween(@Param("teamId") Long teamId,
+                                    @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 팀 누적 합계 ([포인트, 탄소절감량, 완료 챌린지 수])
+    @Query("SELECT COALESCE(SUM(t.points), 0), COALESCE(SUM(t.carbonSaved), 0), COALESCE(SUM(t.completedChallenges), 0) " +
+           "FROM TeamContributionDaily t WHERE t.teamId = :teamId")
+    List<Object[]> sumByTeam(@Param("teamId") Long teamId);
+
+    // 팀 목록용 팀별 기간 합계 ([팀 ID, 포인트, 탄소절감량, 완료 챌린지 수], 기여가 없는 팀은 빠진다)
+    @Query("SELECT t.teamId, COALESCE(SUM(t.points), 0), COALESCE(SUM(t.carbonSaved), 0), COALESCE(SUM(t.completedChallenges), 0) " +
+           "FROM TeamContributionDaily t " +
+           "WHERE t.teamId IN :teamIds AND t.contributionDate BETWEEN :startDate AND :endDate GROUP BY t.teamId")
+    List<Object[]> sumByTeamsBetween(@Param("teamIds") Collection<Long> teamIds,
+                                     @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 팀 목록용 팀별 누적 합계 ([팀 ID, 포인트, 탄소절감량, 완료 챌린지 수])
+    @Query("SELECT t.teamId, COALESCE(SUM(t.points), 0), COALESCE(SUM(t.carbonSaved), 0), COALESCE(SUM(t.completedChallenges), 0) " +
+           "FROM TeamContributionDaily t WHERE t.teamId IN :teamIds GROUP BY t.teamId")
+    List<Object[]> sumByTeams(@Param("teamIds") Collection<Long> teamIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM team_contribution_daily", nativeQuery = true)
+    int deleteAllRows();
+
+    // 백필: 현재 소속 팀 가입 이후의 적립 거래(원장 + 아카이브)
+    @Modifying
+    @Query(value = "INSERT INTO team_contribution_daily " +
+                   "(team_id, member_id, contribution_date, points, carbon_saved, completed_challenges) " +
+                   "SELECT mt.team_id, t.member_id, DATE(t.occurred_at), SUM(t.points_amount), 0, 0 FROM (" +
+                   "SELECT pt.member_id, pt.occurred_at, pt.points_amount FROM point_transactions pt " +
+                   "WHERE pt.transaction_type = 'EARN' " +
+                   "UNION ALL " +
+                   "SELECT a.member_id, a.occurred_at, a.points_amount FROM point_transactions_archive a " +
+                   "WHERE a.transaction_type = 'EARN') t " +
+                   "JOIN member_teams mt ON mt.member_id = t.member_id AND mt.is_active = true " +
+                   "WHERE t.occurred_at >= COALESCE(mt.joined_at, mt.created_at) " +
+                   "GROUP BY mt.team_id, t.member_id, DATE(t.occurred_at)", nativeQuery = true)
+    int backfillPoints();
+
+    // 백필: 현재 소속 팀 가입 이후 승인된 챌린지
+    @Modifying
+    @Query(value = "INSERT INTO team_contribution_daily " +
+                   "(team_id, member_id, contribution_date, points, carbon_saved, completed_challenges) " +
+                   "SELECT mt.team_id, cr.member_id, DATE(COALESCE(cr.verified_at, cr.activity_date)), 0, " +
+                   "COALESCE(SUM(c.carbon_saved), 0), COUNT(*) " +
+                   "FROM challenge_records cr JOIN challenges c ON c.challenge_id = cr.challenge_id " +
+                   "JOIN member_teams mt ON mt.member_id = cr.member_id AND mt.is_active = true " +
+                   "WHERE cr.verification_status = 'APPROVED' " +
+                   "AND COALESCE(cr.verified_at, cr.activity_date) >= COALESCE(mt.joined_at, mt.created_at) " +
+                   "GROUP BY mt.team_id, cr.member_id, DATE(COALESCE(cr.verified_at, cr.activity_date)) " +
+                   "ON DUPLICATE KEY UPDATE carbon_saved = carbon_saved + VALUES(carbon_saved), " +
+                   "completed_challenges = completed_challenges + VALUES(completed_challenges)", nativeQuery = true)
+    int backfillChallenges();
+}
@@ -2,6 +2,7 @@ package com.kopo.hanagreenworld.member.repository;
 
 import com.kopo.hanagreenworld.member.domain.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -46,5 +47,17 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
         )
         """)
     Integer findTeamRankByTotalPoints(@Param("teamId") Long teamId);
-}
 
+    // 팀 누적 카운터 일괄 반영 (팀 단위로 합산된 값)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Team t SET
+            t.totalTeamPoints = t.totalTeamPoints + :points,
+            t.currentTeamPoints = t.currentTeamPoints + :points,
+            t.totalCarbonSaved = t.totalCarbonSaved + :carbonSaved,
+            t.currentCarbonSaved = t.currentCarbonSaved + :carbonSaved
+        WHERE t.id = :teamId
+        """)
+    int addTeamTotals(@Param("teamId") Long teamId, @Param("points") Long points,
+                      @Param("carbonSaved") Double carbonSaved);
+}
@@ -4,21 +4,16 @@ import com.kopo.hanagreenworld.member.domain.EcoReport;
 import com.kopo.hanagreenworld.member.domain.Member;
 import com.kopo.hanagreenworld.member.repository.EcoReportRepository;
 import com.kopo.hanagreenworld.member.repository.MemberRepository;
-import com.kopo.hanagreenworld.activity.domain.WalkingRecord;
-import com.kopo.hanagreenworld.activity.domain.QuizRecord;
-import com.kopo.hanagreenworld.activity.domain.ElectronicReceiptRecord;
-import com.kopo.hanagreenworld.activity.domain.ChallengeRecord;
-import com.kopo.hanagreenworld.activity.repository.WalkingRecordRepository;
-import com.kopo.hanagreenworld.activity.repository.QuizRecordRepository;
-import com.kopo.hanagreenworld.activity.repository.ElectronicReceiptRecordRepository;
-import com.kopo.hanagreenworld.activity.repository.ChallengeRecordRepository;
+import com.kopo.hanagreenworld.activity.domain.ImpactCategory;
 import com.kopo.hanagreenworld.point.domain.PointTransaction;
 import com.kopo.hanagreenworld.point.domain.PointCategory;
-import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
 import com.kopo.hanagreenworld.product.service.BenefitCalculationService;
 import com.kopo.hanagreenworld.member.service.RankingService;
+import com.kopo.hanagreenworld.activity.service.EnvironmentalImpactRollupService;
 import com.kopo.hanagreenworld.activity.service.EnvironmentalImpactService;
 import com.kopo.hanagreenworld.point.service.EcoSeedService;
+import com.kopo.hanagreenworld.point.service.MemberSeedTotalCache;
+import com.kopo.hanagreenworld.point.service.PointDailySummaryService;
 import com.kopo.hanagreenworld.member.domain.MemberProfile;
 import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -30,7 +25,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -44,19 +40,26 @@ public class EcoReportService {
     private final EcoReportRepository ecoReportRepository;
     private final MemberRepository memberRepository;
     private final MemberProfileRepository memberProfileRepository;
-    private final WalkingRecordRepository walkingRecordRepository;
-    private final QuizRecordRepository quizRecordRepository;
-    private final ElectronicReceiptRecordRepository electronicReceiptRecordRepository;
-    private final ChallengeRecordRepository challengeRecordRepository;
-    private final PointTransactionRepository pointTransactionRepository;
     private final BenefitCalculationService benefitCalculationService;
     private final RankingService rankingService;
     private final EnvironmentalImpactService environmentalImpactService;
     private final EcoSeedService ecoSeedService;
+    private final EnvironmentalImpactRollupService environmentalImpactRollupService;
+    private final PointDailySummaryService pointDailySummaryService;
+    private final MemberSeedTotalCache memberSeedTotalCache;
     private final ObjectMapper objectMapper;
 
     @Transactional
     public EcoReport generateMonthlyReport(Long memberId, String reportMonth) {
+        return generateMonthlyReport(memberId, reportMonth, null);
+    }
+
+    /**
+     * @param financialData 일괄 조회로 미리 받은 금융 데이터 (없으면 회원별로 관계사에 조회)
+     */
+    @Transactional
+    public EcoReport generateMonthlyReport(Long memberId, String reportMonth,
+                                           BenefitCalculationService.FinancialData financialData) {
         log.info("월간 리포트 생성 시작 - memberId: {}, reportMonth: {}", memberId, reportMonth);
         
         try {
@@ -67,7 +70,7 @@ public class EcoReportService {
                     .findByMember_MemberIdAndReportMonth(memberId, reportMonth);
             if (existingReport.isPresent()) {
                 log.info("기존 리포트가 존재합니다. 업데이트합니다.");
-                return updateExistingReport(existingReport.get(), memberId, reportMonth);
+                return updateExistingReport(existingReport.get(), memberId, reportMonth, financialData);
             }
             
             // 활동 데이터 집계
@@ -77,7 +80,8 @@ public class EcoReportService {
             LevelInfo levelInfo = getLevelInfo(memberId);
             
             // 금융 혜택 계산
-            String financialBenefit = benefitCalculationService.calculateFinancialBenefit(memberId, levelInfo.currentLevel);
+            String financialBenefit = benefitCalculationService.calculateFinancialBenefit(memberId, levelInfo.currentLevel,
+                    YearMonth.parse(reportMonth), financialData);
 
             // 랭킹 계산
             String userRanking = calculateRealRanking(memberId, activityData.totalSeeds, reportMonth);
@@ -117,6 +121,12 @@ public class EcoReportService {
 
     @Transactional
     public EcoReport updateExistingReport(EcoReport existingReport, Long memberId, String reportMonth) {
+        return updateExistingReport(existingReport, memberId, reportMonth, null);
+    }
+
+    @Transactional
+    public EcoReport updateExistingReport(EcoReport existingReport, Long memberId, String reportMonth,
+                                          BenefitCalculationService.FinancialData financialData) {
         log.info("기존 리포트 업데이트 시작 - reportId: {}", existingReport.getId());
         
         // 활동 데이터 재집계
@@ -129,7 +139,8 @@ public class EcoReportService {
         existingReport.updateTopActivity(activityData.topActivity);
         existingReport.updateLevelInfo(levelInfo.currentLevel, levelInfo.nextLevel, 
                                     levelInfo.levelProgress, levelInfo.pointsToNextLevel);
-        existingReport.updateFinancialBenefit(benefitCalculationService.calculateFinancialBenefit(memberId, levelInfo.currentLevel));
+        existingReport.updateFinancialBenefit(benefitCalculationService.calculateFinancialBenefit(memberId, levelInfo.currentLevel,
+                YearMonth.parse(reportMonth), financialData));
         existingReport.updateUserRanking(calculateRealRanking(memberId, activityData.totalSeeds, reportMonth));
         existingReport.updateEnvironmentalImpact(environmentalImpactService.calculateEnvironmentalImpact(activityData.totalCarbonKg));
         
@@ -148,33 +159,24 @@ public class EcoReportService {
         log.info("활동 데이터 집계 시작 - memberId: {}, reportMonth: {}", memberId, reportMonth);
         
         // 해당 월의 시작일과 종료일 계산
-        LocalDateTime startDate = LocalDateTime.parse(reportMonth + "-01T00:00:00");
-        LocalDateTime endDate = startDate.plusMonths(1).minusSeconds(1);
-        
-        // 걷기 활동 데이터
-        List<WalkingRecord> walkingRecords = walkingRecordRepository
-                .findByMember_MemberIdAndActivityDateBetweenOrderByActivityDateDesc(memberId, startDate, endDate);
-        
-        // 퀴즈 활동 데이터
-        List<QuizRecord> quizRecords = quizRecordRepository
-                .findByMember_MemberIdAndActivityDateBetweenOrderByActivityDateDesc(memberId, startDate, endDate);
-        
-        // 전자영수증 활동 데이터
-        List<ElectronicReceiptRecord> receiptRecords = electronicReceiptRecordRepository
-                .findByMemberAndDateRange(memberId, startDate, endDate);
-        
-        // 챌린지 활동 데이터
-        List<ChallengeRecord> challengeRecords = challengeRecordRepository
-                .findByMember_MemberIdAndActivityDateBetween(memberId, startDate, endDate);
+        LocalDate startDate = LocalDate.parse(reportMonth + "-01");
+        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
+
+        // 카테고리별 적립 합계/건수 (일간 적립 집계에서 카테고리 수만큼의 행)
+        Map<PointCategory, PointDailySummaryService.CategoryTotal> categoryTotals =
+                pointDailySummaryService.getCategoryTotals(memberId, startDate, endDate);
+        PointDailySummaryService.CategoryTotal empty = new PointDailySummaryService.CategoryTotal(0L, 0L);
 
         // 활동 별 집계
         Map<String, ActivityStats> activityStatsMap = new HashMap<>();
 
-        // 걷기 활동 집계
-        long walkingCount = walkingRecords.size();
-        long walkingPoints = walkingRecords.stream().mapToLong(WalkingRecord::getPointsAwarded).sum();
-        BigDecimal walkingCarbon = walkingRecords.stream()
-                .map(WalkingRecord::getCarbonSaved)
+        // 걷기 활동 집계 (탄소절감량은 월간 환경 임팩트 집계에서 조회)
+        PointDailySummaryService.CategoryTotal walking = categoryTotals.getOrDefault(PointCategory.WALKING, empty);
+        long walkingCount = walking.count();
+        long walkingPoints = walking.points();
+        BigDecimal walkingCarbon = environmentalImpactRollupService.getMonthlyRollups(memberId, startDate).stream()
+                .filter(rollup -> rollup.getCategory() == ImpactCategory.WALKING)
+                .map(rollup -> BigDecimal.valueOf(rollup.getCarbonSaved()))
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         if (walkingCount > 0) {
@@ -182,16 +184,18 @@ public class EcoReportService {
         }
         
         // 퀴즈 활동 집계
-        long quizCount = quizRecords.size();
-        long quizPoints = quizRecords.stream().mapToLong(QuizRecord::getPointsAwarded).sum();
+        PointDailySummaryService.CategoryTotal quiz = categoryTotals.getOrDefault(PointCategory.DAILY_QUIZ, empty);
+        long quizCount = quiz.count();
+        long quizPoints = quiz.points();
         
         if (quizCount > 0) {
             activityStatsMap.put("퀴즈", new ActivityStats("퀴즈", quizCount, quizPoints, "#3B82F6"));
         }
         
         // 전자영수증 활동 집계
-        long receiptCount = receiptRecords.size();
-        long receiptPoints = receiptRecords.stream().mapToLong(ElectronicReceiptRecord::getPointsEarned).sum();
+        PointDailySummaryService.CategoryTotal receipt = categoryTotals.getOrDefault(PointCategory.ELECTRONIC_RECEIPT, empty);
+        long receiptCount = receipt.count();
+        long receiptPoints = receipt.points();
         BigDecimal receiptCarbon = BigDecimal.ZERO; // 전자영수증은 탄소 절약량이 없음
         
         if (receiptCount > 0) {
@@ -199,10 +203,9 @@ public class EcoReportService {
         }
         
         // 챌린지 활동 집계
-        long challengeCount = challengeRecords.size();
-        long challengePoints = challengeRecords.stream()
-                .mapToLong(record -> record.getPointsAwarded() != null ? record.getPointsAwarded() : 0L)
-                .sum();
+        PointDailySummaryService.CategoryTotal challenge = categoryTotals.getOrDefault(PointCategory.ECO_CHALLENGE, empty);
+        long challengeCount = challenge.count();
+        long challengePoints = challenge.points();
         
         log.info("챌린지 활동 집계 - count: {}, points: {}", challengeCount, challengePoints);
         
@@ -332,7 +335,7 @@ public class EcoReportService {
             
             // 해당 월의 모든 사용자 포인트 조회
             Map<Long, Long> monthlyUserPoints = calculateMonthlyUserPoints(reportMonth);
-            log.info("월간 사용자 포인트 데이터: {}", monthlyUserPoints);
+            log.debug("월간 사용자 포인트 데이터: {}명", monthlyUserPoints.size());
             
             // 현재 사용자의 랭킹 계산
             long betterUsers = 0;
@@ -385,108 +388,53 @@ public class EcoReportService {
         }
     }
 
+    // 월간 리포트 집계 대상 적립 카테고리
+    private static final List<PointCategory> REPORT_POINT_CATEGORIES = List.of(
+            PointCategory.WALKING, PointCategory.DAILY_QUIZ,
+            PointCategory.ELECTRONIC_RECEIPT, PointCategory.ECO_CHALLENGE);
+
     private Map<Long, Long> calculateMonthlyUserPoints(String reportMonth) {
         try {
             // 해당 월의 시작일과 종료일 계산
-            LocalDateTime startDate = LocalDateTime.parse(reportMonth + "-01T00:00:00");
-            LocalDateTime endDate = startDate.plusMonths(1).minusSeconds(1);
+            LocalDate startDate = LocalDate.parse(reportMonth + "-01");
+            LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
             
             log.info("월간 사용자 포인트 계산 시작 - reportMonth: {}, startDate: {}, endDate: {}", 
                     reportMonth, startDate, endDate);
             
-            // 모든 사용자 조회 (성능 최적화: ID만 조회)
-            List<Long> allMemberIds = memberRepository.findAll().stream()
-                    .map(Member::getMemberId)
-                    .collect(Collectors.toList());
-            
-            log.info("총 사용자 수: {}", allMemberIds.size());
+            // 회원별 합계를 일간 적립 집계에서 한 번에 조회
+            Map<Long, Long> earnedByMember = pointDailySummaryService
+                    .getMemberTotals(startDate, endDate, REPORT_POINT_CATEGORIES);
             
-            Map<Long, Long> monthlyPoints = new HashMap<>();
-            
-            // 배치 처리로 성능 최적화
-            int batchSize = 10; // 한 번에 10명씩 처리
-            for (int i = 0; i < allMemberIds.size(); i += batchSize) {
-                int endIndex = Math.min(i + batchSize, allMemberIds.size());
-                List<Long> batchMemberIds = allMemberIds.subList(i, endIndex);
-                
-                for (Long memberId : batchMemberIds) {
-                    try {
-                        Long monthlyPointsForUser = calculateUserMonthlyPoints(memberId, startDate, endDate);
-                        monthlyPoints.put(memberId, monthlyPointsForUser);
-                    } catch (Exception e) {
-                        log.warn("사용자 {} 포인트 계산 실패: {}", memberId, e.getMessage());
-                        monthlyPoints.put(memberId, 0L);
-                    }
-                }
-                
-                // 배치 간 짧은 대기 (DB 부하 방지)
-                if (endIndex < allMemberIds.size()) {
-                    try {
-                        Thread.sleep(10); // 10ms 대기
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
-                }
-            }
-
-            return monthlyPoints;
+            // 활동이 없는 회원(0점)은 순위/최고점/합계에 영향을 주지 않고, 전체 회원 수는 프로필 수로 따로 센다
+            // 따라서 전체 회원을 읽어 0으로 채우지 않는다
+            log.info("해당 월 적립 회원 수: {}", earnedByMember.size());
+            return earnedByMember;
             
         } catch (Exception e) {
             return new HashMap<>();
         }
     }
 
-    private Long calculateUserMonthlyPoints(Long memberId, LocalDateTime startDate, LocalDateTime endDate) {
-        try {
-            // 걷기 포인트
-            List<WalkingRecord> walkingRecords = walkingRecordRepository
-                    .findByMember_MemberIdAndActivityDateBetweenOrderByActivityDateDesc(memberId, startDate, endDate);
-            long walkingPoints = walkingRecords.stream().mapToLong(WalkingRecord::getPointsAwarded).sum();
-            
-            // 퀴즈 포인트
-            List<QuizRecord> quizRecords = quizRecordRepository
-                    .findByMember_MemberIdAndActivityDateBetweenOrderByActivityDateDesc(memberId, startDate, endDate);
-            long quizPoints = quizRecords.stream().mapToLong(QuizRecord::getPointsAwarded).sum();
-            
-            // 전자영수증 포인트
-            List<ElectronicReceiptRecord> receiptRecords = electronicReceiptRecordRepository
-                    .findByMemberAndDateRange(memberId, startDate, endDate);
-            long receiptPoints = receiptRecords.stream().mapToLong(ElectronicReceiptRecord::getPointsEarned).sum();
-            
-            // 챌린지 포인트
-            List<ChallengeRecord> challengeRecords = challengeRecordRepository
-                    .findByMember_MemberIdAndActivityDateBetween(memberId, startDate, endDate);
-            long challengePoints = challengeRecords.stream()
-                    .mapToLong(record -> record.getPointsAwarded() != null ? record.getPointsAwarded() : 0L)
-                    .sum();
-            
-            return walkingPoints + quizPoints + receiptPoints + challengePoints;
-            
-        } catch (Exception e) {
-            log.error("사용자 월간 포인트 계산 실패 - memberId: {}, error: {}", memberId, e.getMessage(), e);
-            return 0L;
-        }
-    }
-
     public String getUserCurrentLevel(Long userId) {
         try {
-            // 사용자의 총 원큐씨앗 조회
-            Long totalSeeds = pointTransactionRepository.findTotalSeedsByUserId(userId);
-            
-            // 레벨별 기준점
-            if (totalSeeds >= 10000) {
-                return "EXPERT";      // 10,000 이상: 전문가
-            } else if (totalSeeds >= 5000) {
-                return "INTERMEDIATE"; // 5,000 이상: 실천가
-            } else {
-                return "BEGINNER";     // 5,000 미만: 입문자
-            }
-            
+            // 사용자의 총 원큐씨앗 조회 (누적 적립 캐시)
+            return levelOf(memberSeedTotalCache.getTotalEarned(userId));
         } catch (Exception e) {
             log.error("사용자 레벨 조회 실패 - 사용자ID: {}, 에러: {}", userId, e.getMessage(), e);
             return "BEGINNER"; // 기본값
         }
     }
 
+    public static String levelOf(long totalSeeds) {
+        // 레벨별 기준점
+        if (totalSeeds >= 10000) {
+            return "EXPERT";      // 10,000 이상: 전문가
+        } else if (totalSeeds >= 5000) {
+            return "INTERMEDIATE"; // 5,000 이상: 실천가
+        } else {
+            return "BEGINNER";     // 5,000 미만: 입문자
+        }
+    }
+
 }
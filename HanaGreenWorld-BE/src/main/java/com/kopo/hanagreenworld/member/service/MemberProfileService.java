@@ -100,22 +100,6 @@ public class MemberProfileService {
     }
 
 
-    @Transactional
-    public void resetCurrentMonthData(Long memberId) {
-        try {
-            Optional<MemberProfile> profileOpt = memberProfileRepository.findByMember_MemberId(memberId);
-            if (profileOpt.isPresent()) {
-                MemberProfile profile = profileOpt.get();
-                profile.resetCurrentMonthData();
-                memberProfileRepository.save(profile);
-                
-                log.info("이번달 데이터 초기화 완료: memberId={}", memberId);
-            }
-        } catch (Exception e) {
-            log.error("이번달 데이터 초기화 실패: memberId={}, error={}", memberId, e.getMessage(), e);
-        }
-    }
-
     @Transactional
     public void updateMemberActivityWithCarbon(Long memberId, Double carbonSaved) {
         try {
@@ -0,0 +1,113 @@
+package com.kopo.hanagreenworld.member.service;
+
+import com.kopo.hanagreenworld.member.repository.TeamContributionDailyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 팀 기여 일간 집계 기록/조회
+ * 적립과 챌린지 승인 경로에서 호출되어 기여 시점의 소속 팀에 누적하고,
+ * 팀 통계는 팀 단위 날짜 범위 합계로 조회한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TeamContributionService {
+
+    private final TeamContributionDailyRepository teamContributionDailyRepository;
+
+    @Transactional
+    public void record(Long teamId, Long memberId, long points, double carbonSaved, int completedChallenges, LocalDate date) {
+        if (points == 0 && carbonSaved == 0.0 && completedChallenges == 0) {
+            return;
+        }
+        teamContributionDailyRepository.upsert(teamId, memberId, date, points, carbonSaved, completedChallenges);
+    }
+
+    @Transactional(readOnly = true)
+    public TeamContribution getMonthlyContribution(Long teamId, LocalDate month) {
+        LocalDate start = month.withDayOfMonth(1);
+        return toContribution(teamContributionDailyRepository.sumByTeamBetween(teamId, start, start.plusMonths(1).minusDays(1)));
+    }
+
+    @Transactional(readOnly = true)
+    public TeamContribution getTotalContribution(Long teamId) {
+        return toContribution(teamContributionDailyRepository.sumByTeam(teamId));
+    }
+
+    /**
+     * 팀 목록용 이번 달 기여 (팀 ID -> 기여, 기여가 없는 팀은 빠진다)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, TeamContribution> getMonthlyContributions(Collection<Long> teamIds, LocalDate month) {
+        if (teamIds.isEmpty()) {
+            return Map.of();
+        }
+        LocalDate start = month.withDayOfMonth(1);
+        return toContributions(teamContributionDailyRepository.sumByTeamsBetween(
+                teamIds, start, start.plusMonths(1).minusDays(1)));
+    }
+
+    /**
+     * 팀 목록용 누적 기여 (팀 ID -> 기여, 기여가 없는 팀은 빠진다)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, TeamContribution> getTotalContributions(Collection<Long> teamIds) {
+        if (teamIds.isEmpty()) {
+            return Map.of();
+        }
+        return toContributions(teamContributionDailyRepository.sumByTeams(teamIds));
+    }
+
+    /**
+     * 적립 거래/챌린지 기록으로부터 집계를 다시 생성 (배포 시 1회 / 관리자 수동 실행)
+     * 과거 소속 이력이 없으므로 현재 소속 팀의 가입 시점 이후 기여만 반영한다.
+     */
+    @Transactional
+    public int backfill() {
+        long startTime = System.currentTimeMillis();
+
+        teamContributionDailyRepository.deleteAllRows();
+        int pointRows = teamContributionDailyRepository.backfillPoints();
+        int challengeRows = teamContributionDailyRepository.backfillChallenges();
+
+        log.info("팀 기여 집계 백필 완료: 포인트 {}행, 챌린지 {}행, {}ms",
+                pointRows, challengeRows, System.currentTimeMillis() - startTime);
+        return pointRows + challengeRows;
+    }
+
+    private TeamContribution toContribution(List<Object[]> rows) {
+        if (rows.isEmpty() || rows.get(0) == null) {
+            return new TeamContribution(0L, 0.0, 0);
+        }
+        Object[] row = rows.get(0);
+        return new TeamContribution(
+                ((Number) row[0]).longValue(),
+                ((Number) row[1]).doubleValue(),
+                ((Number) row[2]).intValue());
+    }
+
+    private Map<Long, TeamContribution> toContributions(List<Object[]> rows) {
+        Map<Long, TeamContribution> result = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            result.put(((Number) row[0]).longValue(), new TeamContribution(
+                    ((Number) row[1]).longValue(),
+                    ((Number) row[2]).doubleValue(),
+                    ((Number) row[3]).intValue()));
+        }
+        return result;
+    }
+
+    public record TeamContribution(long points, double carbonSaved, int completedChallenges) {
+
+        static final TeamContribution EMPTY = new TeamContribution(0L, 0.0, 0);
+    }
+}
@@ -24,10 +24,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -44,6 +49,7 @@ public class TeamService {
     private final ChallengeRecordRepository challengeRecordRepository;
     private final TeamJoinRequestRepository teamJoinRequestRepository;
     private final TeamChatService teamChatService;
+    private final TeamContributionService teamContributionService;
 
     public TeamResponse getMyTeam() {
         Member currentMember = SecurityUtil.getCurrentMember();
@@ -167,27 +173,10 @@ public class TeamService {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
 
-        String currentMonth = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
-
-        Long monthlyPoints = team.getCurrentTeamPoints();
-        Long totalPoints = team.getTotalTeamPoints();
-        Double carbonSavedKg = team.getTotalCarbonSaved();
-
-        if (monthlyPoints == null || monthlyPoints == 0) {
-            monthlyPoints = pointTransactionRepository.findMonthlyTeamPoints(teamId, currentMonth);
-        }
-        if (totalPoints == null || totalPoints == 0) {
-            totalPoints = pointTransactionRepository.findTotalTeamPoints(teamId);
-        }
-        if (carbonSavedKg == null || carbonSavedKg == 0.0) {
-            carbonSavedKg = challengeRecordRepository.calculateTeamCarbonSaved(teamId);
-        }
-        
-        // 월간 탄소절감량 계산
-        Double monthlyCarbonSaved = team.getCurrentCarbonSaved();
-        if (monthlyCarbonSaved == null || monthlyCarbonSaved == 0.0) {
-            monthlyCarbonSaved = calculateMonthlyCarbonSaved(teamId, currentMonth);
-        }
+        // 팀 기여 일간 집계의 이번 달 / 누적 범위 합계
+        TeamContributionService.TeamContribution monthly =
+                teamContributionService.getMonthlyContribution(teamId, LocalDate.now());
+        TeamContributionService.TeamContribution total = teamContributionService.getTotalContribution(teamId);
 
         // 랭킹
         Integer monthlyRank = teamRepository.findTeamRankByCurrentPoints(teamId);
@@ -196,18 +185,15 @@ public class TeamService {
         // 활성 멤버 수
         Integer activeMembers = memberTeamRepository.countActiveMembersByTeamId(teamId);
         
-        // 이번 달 완료된 챌린지 수
-        Integer completedChallengesThisMonth = challengeRecordRepository.countTeamCompletedChallengesThisMonth(teamId, currentMonth);
-
         TeamResponse.TeamStatsResponse result = TeamResponse.TeamStatsResponse.builder()
-                .monthlyPoints(monthlyPoints != null ? monthlyPoints : 0L)
-                .totalPoints(totalPoints != null ? totalPoints : 0L)
+                .monthlyPoints(monthly.points())
+                .totalPoints(total.points())
                 .monthlyRank(monthlyRank != null ? monthlyRank : 999)
                 .totalRank(totalRank != null ? totalRank : 999)
-                .carbonSavedKg(carbonSavedKg != null ? carbonSavedKg : 0.0)
-                .monthlyCarbonSaved(monthlyCarbonSaved != null ? monthlyCarbonSaved : 0.0)
+                .carbonSavedKg(total.carbonSaved())
+                .monthlyCarbonSaved(monthly.carbonSaved())
                 .activeMembers(activeMembers)
-                .completedChallengesThisMonth(completedChallengesThisMonth)
+                .completedChallengesThisMonth(monthly.completedChallenges())
                 .build();
 
         return result;
@@ -288,28 +274,79 @@ public class TeamService {
         return TeamResponse.from(team, stats, leader, currentChallenge, completedChallenges);
     }
 
+    /**
+     * 팀 목록 - 통계/팀장/완료 챌린지 수를 팀마다 조회하지 않고 목록 전체에 대해 한 번씩 묶어 조회한다
+     * 랭킹은 활성 팀 전체가 목록에 있으므로 쿼리 없이 목록 안에서 계산한다 (findTeamRankBy*와 같은 기준).
+     */
     public List<TeamResponse> getTeamList() {
         List<Team> teams = teamRepository.findByIsActiveTrueOrderByTotalTeamPointsDesc();
-        
+        if (teams.isEmpty()) {
+            return List.of();
+        }
+        List<Long> teamIds = teams.stream().map(Team::getId).collect(Collectors.toList());
+
+        Map<Long, TeamContributionService.TeamContribution> monthly =
+                teamContributionService.getMonthlyContributions(teamIds, LocalDate.now());
+        Map<Long, TeamContributionService.TeamContribution> total =
+                teamContributionService.getTotalContributions(teamIds);
+        Map<Long, Long> activeMembers = toCountMap(memberTeamRepository.countActiveMembersByTeamIds(teamIds));
+        Map<Long, Long> completedChallenges = toCountMap(
+                challengeRecordRepository.countByTeamIdsAndVerificationStatus(teamIds, "APPROVED"));
+        Map<Long, Member> leaders = memberRepository.findAllById(
+                        teams.stream().map(Team::getLeaderId).filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Member::getMemberId, Function.identity()));
+
+        // 현재 진행 중인 챌린지 조회
+        Challenge currentChallenge = challengeRepository.findByIsActiveTrue().stream()
+                .findFirst()
+                .orElse(null);
+
         return teams.stream().map(team -> {
-            TeamResponse.TeamStatsResponse stats = getTeamStats(team.getId());
+            TeamContributionService.TeamContribution teamMonthly =
+                    monthly.getOrDefault(team.getId(), TeamContributionService.TeamContribution.EMPTY);
+            TeamContributionService.TeamContribution teamTotal =
+                    total.getOrDefault(team.getId(), TeamContributionService.TeamContribution.EMPTY);
+
+            TeamResponse.TeamStatsResponse stats = TeamResponse.TeamStatsResponse.builder()
+                    .monthlyPoints(teamMonthly.points())
+                    .totalPoints(teamTotal.points())
+                    .monthlyRank(rankAmong(teams, team, Team::getCurrentTeamPoints))
+                    .totalRank(rankAmong(teams, team, Team::getTotalTeamPoints))
+                    .carbonSavedKg(teamTotal.carbonSaved())
+                    .monthlyCarbonSaved(teamMonthly.carbonSaved())
+                    .activeMembers(activeMembers.getOrDefault(team.getId(), 0L).intValue())
+                    .completedChallengesThisMonth(teamMonthly.completedChallenges())
+                    .build();
 
-            // 팀장 정보 조회
-            Member leader = memberRepository.findById(team.getLeaderId()).orElse(null);
-            
-            // 현재 진행 중인 챌린지 조회
-            Challenge currentChallenge = challengeRepository.findByIsActiveTrue().stream()
-                    .findFirst()
-                    .orElse(null);
-            
-            // 완료된 팀 챌린지 수 계산 (팀 챌린지만)
-            Integer completedChallenges = challengeRecordRepository.countByTeamIdAndVerificationStatus(
-                    team.getId(), "APPROVED");
-            
-            return TeamResponse.from(team, stats, leader, currentChallenge, completedChallenges);
+            return TeamResponse.from(team, stats, leaders.get(team.getLeaderId()), currentChallenge,
+                    completedChallenges.getOrDefault(team.getId(), 0L).intValue());
         }).collect(Collectors.toList());
     }
 
+    private static int rankAmong(List<Team> activeTeams, Team team, Function<Team, Long> points) {
+        long own = valueOf(points.apply(team));
+        int higher = 0;
+        for (Team other : activeTeams) {
+            if (valueOf(points.apply(other)) > own) {
+                higher++;
+            }
+        }
+        return higher + 1;
+    }
+
+    private static long valueOf(Long points) {
+        return points != null ? points : 0L;
+    }
+
+    private static Map<Long, Long> toCountMap(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            counts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
     @Transactional
     public TeamResponse createTeam(TeamCreateRequest request) {
         Member currentMember = SecurityUtil.getCurrentMember();
@@ -366,12 +403,24 @@ public class TeamService {
         List<com.kopo.hanagreenworld.member.domain.TeamJoinRequest> requests = teamJoinRequestRepository
                 .findByUserIdOrderByCreatedAtDesc(currentMember.getMemberId());
 
+        // 신청한 팀과 처리자를 신청마다 조회하지 않고 한 번씩 묶어 조회
+        Map<Long, Team> teams = teamRepository.findAllById(
+                        requests.stream().map(com.kopo.hanagreenworld.member.domain.TeamJoinRequest::getTeamId)
+                                .filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+        Map<Long, Member> processors = memberRepository.findAllById(
+                        requests.stream().map(com.kopo.hanagreenworld.member.domain.TeamJoinRequest::getProcessedBy)
+                                .filter(Objects::nonNull).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Member::getMemberId, Function.identity()));
+
         return requests.stream()
                 .map(req -> {
-                    Team team = teamRepository.findById(req.getTeamId()).orElse(null);
+                    Team team = teams.get(req.getTeamId());
                     String processedByName = null;
                     if (req.getProcessedBy() != null) {
-                        Member processor = memberRepository.findById(req.getProcessedBy()).orElse(null);
+                        Member processor = processors.get(req.getProcessedBy());
                         processedByName = processor != null ? processor.getName() : "알 수 없음";
                     }
                     
@@ -637,6 +686,8 @@ public class TeamService {
         List<MemberTeam> memberTeams = memberTeamRepository.findByTeam_IdAndIsActiveTrueOrderByJoinedAtAsc(teamId);
 
         String currentMonth = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
+        LocalDateTime monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+        LocalDateTime nextMonthStart = monthStart.plusMonths(1);
 
         List<TeamMembersResponse.TeamMemberResponse> members = memberTeams.stream()
                 .map(mt -> {
@@ -644,7 +695,7 @@ public class TeamService {
                     
                     // 실제 포인트 계산
                     Long totalPoints = pointTransactionRepository.sumEarnedPointsByMemberId(memberId);
-                    Long monthlyPoints = pointTransactionRepository.sumCurrentMonthEarnedPointsByMemberId(memberId);
+                    Long monthlyPoints = pointTransactionRepository.sumEarnedPointsByMemberIdBetween(memberId, monthStart, nextMonthStart);
                     
                     return TeamMembersResponse.TeamMemberResponse.builder()
                             .id(memberId)
@@ -719,14 +770,4 @@ public class TeamService {
                     team.getId(), kickedMember.getName(), e.getMessage());
         }
     }
-
-    private Double calculateMonthlyCarbonSaved(Long teamId, String reportDate) {
-        try {
-            return challengeRecordRepository.calculateTeamMonthlyCarbonSaved(teamId, reportDate);
-        } catch (Exception e) {
-            log.error("월간 탄소절감량 계산 실패: teamId={}, reportDate={}, error={}", 
-                    teamId, reportDate, e.getMessage());
-            return 0.0;
-        }
-    }
 }
@@ -0,0 +1,35 @@
+package com.kopo.hanagreenworld.merchant.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 카드 거래 이벤트 전용 실행기
+ * 큐가 가득 차면 즉시 거절(AbortPolicy)하여 웹훅 스레드가 처리를 떠안지 않도록 하고,
+ * 거절된 이벤트는 수신함에 남아 수집기가 다시 넘긴다.
+ */
+@Configuration
+public class CardTransactionEventExecutorConfig {
+
+    @Bean(name = "cardTransactionEventExecutor")
+    public ThreadPoolTaskExecutor cardTransactionEventExecutor(
+            @Value("${card-event.executor.core-size:2}") int coreSize,
+            @Value("${card-event.executor.max-size:4}") int maxSize,
+            @Value("${card-event.executor.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("card-event-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        // 종료 시 최대 30초간 남은 작업을 처리하고, 끝내지 못한 이벤트는 재시작 후 수신함에서 재개
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
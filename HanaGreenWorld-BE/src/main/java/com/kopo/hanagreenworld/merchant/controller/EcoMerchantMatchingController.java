@@ -1,5 +1,6 @@
 package com.kopo.hanagreenworld.merchant.controller;
 
+import com.kopo.hanagreenworld.common.sql.SqlBudget;
 import com.kopo.hanagreenworld.merchant.service.EcoMerchantMatchingService;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
@@ -32,8 +33,12 @@ public class EcoMerchantMatchingController {
             Long amount = ((Number) request.get("amount")).longValue();
             String transactionDate = (String) request.get("transactionDate");
 
-            Map<String, Object> result = ecoMerchantMatchingService.processEcoMerchantTransaction(
-                userId, businessNumber, merchantName, amount, transactionDate);
+            // 카드 거래 ID가 오면 그것으로, 없으면 거래 내용으로 중복 적립을 막는다
+            Map<String, Object> result = request.get("transactionId") instanceof Number transactionId
+                ? ecoMerchantMatchingService.processEcoMerchantTransaction(
+                    transactionId.longValue(), userId, businessNumber, merchantName, amount, transactionDate)
+                : ecoMerchantMatchingService.processEcoMerchantTransaction(
+                    userId, businessNumber, merchantName, amount, transactionDate);
 
             return ResponseEntity.ok(result);
 
@@ -51,6 +56,7 @@ public class EcoMerchantMatchingController {
         summary = "친환경 가맹점 이용 내역 조회",
         description = "사용자의 친환경 가맹점 이용 내역을 조회합니다."
     )
+    @SqlBudget(statements = 10)
     public ResponseEntity<Map<String, Object>> getUserEcoMerchantHistory(@PathVariable Long userId) {
 
         try {
@@ -0,0 +1,149 @@
+package com.kopo.hanagreenworld.merchant.domain;
+
+import com.kopo.hanagreenworld.common.domain.DateTimeEntity;
+import com.kopo.hanagreenworld.merchant.event.CardTransactionCreatedEvent;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카드 거래 웹훅 수신함
+ * 웹훅을 받으면 먼저 여기에 저장(커밋)한 뒤 처리 스레드로 넘기므로,
+ * 큐가 가득 차거나 서버가 재시작되어도 이벤트가 유실되지 않는다.
+ */
+@Entity
+@Table(
+    name = "card_transaction_inbox",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_card_tx_inbox_transaction", columnNames = "transaction_id")
+    },
+    indexes = {
+        @Index(name = "idx_card_tx_inbox_status_next", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_card_tx_inbox_batch", columnList = "ingest_batch_id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CardTransactionInbox extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "inbox_id")
+    private Long id;
+
+    @Column(name = "transaction_id", nullable = false)
+    private Long transactionId; // 하나카드의 거래 ID
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "merchant_name", length = 200)
+    private String merchantName;
+
+    @Column(name = "business_number", length = 20)
+    private String businessNumber;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "transaction_date", nullable = false)
+    private LocalDateTime transactionDate;
+
+    @Column(name = "category", length = 100)
+    private String category;
+
+    @Column(name = "merchant_category", length = 50)
+    private String merchantCategory;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private InboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "ingest_batch_id", length = 36)
+    private String ingestBatchId; // 일괄 수신 시 선점한 배치 ID (단건 웹훅은 null)
+
+    @Builder
+    public CardTransactionInbox(Long transactionId, Long userId, String merchantName, String businessNumber,
+                                Long amount, LocalDateTime transactionDate, String category, String merchantCategory) {
+        this.transactionId = transactionId;
+        this.userId = userId;
+        this.merchantName = merchantName;
+        this.businessNumber = businessNumber;
+        this.amount = amount;
+        this.transactionDate = transactionDate;
+        this.category = category;
+        this.merchantCategory = merchantCategory;
+        this.status = InboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public static CardTransactionInbox from(CardTransactionCreatedEvent event) {
+        return CardTransactionInbox.builder()
+                .transactionId(event.getTransactionId())
+                .userId(event.getUserId())
+                .merchantName(event.getMerchantName())
+                .businessNumber(event.getBusinessNumber())
+                .amount(event.getAmount())
+                .transactionDate(event.getTransactionDate())
+                .category(event.getCategory())
+                .merchantCategory(event.getMerchantCategory())
+                .build();
+    }
+
+    public CardTransactionCreatedEvent toEvent() {
+        return CardTransactionCreatedEvent.of(transactionId, userId, merchantName, businessNumber,
+                amount, transactionDate, category, merchantCategory);
+    }
+
+    public void complete() {
+        this.status = InboxStatus.COMPLETED;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    /**
+     * 재시도할 수 없는 실패 (관리자 재처리 대상)
+     */
+    public void fail(String error) {
+        this.status = InboxStatus.FAILED;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 일시적 실패: 최대 시도 횟수 전까지는 지수 백오프로 재시도 예약
+     */
+    public void retryLater(String error, int maxAttempts, long baseBackoffSeconds) {
+        if (attempts >= maxAttempts) {
+            fail(error);
+            return;
+        }
+        this.status = InboxStatus.PENDING;
+        this.lastError = truncate(error);
+        this.nextAttemptAt = LocalDateTime.now().plusSeconds(baseBackoffSeconds << Math.max(0, attempts - 1));
+    }
+
+    private String truncate(String error) {
+        return error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+
+    public enum InboxStatus {
+        PENDING, PROCESSING, COMPLETED, FAILED
+    }
+}
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import jakarta.persistence.*;
 
 import com.kopo.hanagreenworld.common.domain.DateTimeEntity;
+import com.kopo.hanagreenworld.merchant.listener.EcoMerchantChangeListener;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -18,6 +19,7 @@ import lombok.NoArgsConstructor;
         @Index(name = "idx_merchant_active", columnList = "is_active")
     }
 )
+@EntityListeners(EcoMerchantChangeListener.class)
 @Getter
 @NoArgsConstructor
 public class EcoMerchant extends DateTimeEntity {
@@ -0,0 +1,31 @@
+package com.kopo.hanagreenworld.merchant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardTransactionBulkRequest {
+    private List<Item> transactions; // 단건 웹훅과 같은 형식의 카드 거래 목록
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long transactionId; // 하나카드 거래 ID
+        private Long userId;
+        private String merchantName;
+        private String businessNumber;
+        private Long amount;
+        private String category;
+        private String merchantCategory;
+        private String transactionDate; // ISO-8601 (없으면 수신 시각)
+    }
+}
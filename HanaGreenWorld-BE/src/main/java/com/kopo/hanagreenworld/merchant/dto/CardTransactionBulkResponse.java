@@ -0,0 +1,26 @@
+package com.kopo.hanagreenworld.merchant.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardTransactionBulkResponse {
+    private Integer receivedCount; // 요청된 거래 수
+    private Integer invalidCount; // 필수 값 누락 등으로 제외된 거래 수
+    private Integer duplicateCount; // 이미 수신했거나 처리된 거래 수
+    private Integer generalMerchantCount; // 친환경 가맹점이 아닌 거래 수
+    private Integer matchedCount; // 친환경 가맹점 혜택이 지급된 거래 수
+    private Integer failedCount; // 회원을 찾을 수 없어 실패 처리된 거래 수
+    private List<Long> invalidTransactionIds;
+    private List<Long> failedTransactionIds;
+    private Long totalSeedsAwarded; // 지급된 원큐씨앗 합계
+    private Integer affectedMembers;
+    private Long elapsedMillis;
+}
@@ -0,0 +1,40 @@
+package com.kopo.hanagreenworld.merchant.listener;
+
+import com.kopo.hanagreenworld.merchant.domain.EcoMerchant;
+import com.kopo.hanagreenworld.merchant.service.EcoMerchantIndex;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 친환경 가맹점 변경 시 메모리 인덱스 무효화
+ * 커밋 전에 재구성하면 변경 전 데이터를 다시 읽으므로 커밋 후에 표시한다.
+ * (EntityManagerFactory 생성 중에 만들어지므로 인덱스는 지연 조회)
+ */
+@Component
+@RequiredArgsConstructor
+public class EcoMerchantChangeListener {
+
+    private final ObjectProvider<EcoMerchantIndex> ecoMerchantIndex;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(EcoMerchant merchant) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ecoMerchantIndex.getObject().markStale();
+                }
+            });
+            return;
+        }
+        ecoMerchantIndex.getObject().markStale();
+    }
+}
@@ -0,0 +1,126 @@
+package com.kopo.hanagreenworld.merchant.repository;
+
+import com.kopo.hanagreenworld.merchant.event.CardTransactionCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카드 거래 일괄 수신용 JDBC 배치 쓰기
+ * 원장/거래 테이블은 IDENTITY 키라 Hibernate가 insert를 배치로 묶지 못하므로,
+ * 생성된 키가 필요 없는 일괄 수신 경로는 JdbcTemplate 배치로 직접 기록한다.
+ * (rewriteBatchedStatements 설정 시 다중 행 INSERT로 전송)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CardTransactionBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 수신함 선점 - 이미 있는 거래 ID는 무시되고, 새로 들어간 행만 배치 ID를 가진다
+     */
+    public void claimInbox(List<CardTransactionCreatedEvent> events, String batchId, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO card_transaction_inbox (transaction_id, user_id, merchant_name, business_number, " +
+                "amount, transaction_date, category, merchant_category, status, attempts, next_attempt_at, " +
+                "processed_at, ingest_batch_id, created_at, modified_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'COMPLETED', 1, ?, ?, ?, ?, ?)",
+                events, BATCH_SIZE, (ps, event) -> {
+                    ps.setLong(1, event.getTransactionId());
+                    ps.setLong(2, event.getUserId());
+                    ps.setString(3, event.getMerchantName());
+                    ps.setString(4, event.getBusinessNumber());
+                    ps.setLong(5, event.getAmount());
+                    ps.setTimestamp(6, Timestamp.valueOf(event.getTransactionDate()));
+                    ps.setString(7, event.getCategory());
+                    ps.setString(8, event.getMerchantCategory());
+                    ps.setTimestamp(9, timestamp);
+                    ps.setTimestamp(10, timestamp);
+                    ps.setString(11, batchId);
+                    ps.setTimestamp(12, timestamp);
+                    ps.setTimestamp(13, timestamp);
+                });
+    }
+
+    public List<Long> findClaimedTransactionIds(String batchId) {
+        return jdbcTemplate.queryForList(
+                "SELECT transaction_id FROM card_transaction_inbox WHERE ingest_batch_id = ?", Long.class, batchId);
+    }
+
+    /**
+     * 처리할 수 없는 거래는 실패로 남겨 관리자 재처리 대상이 되게 한다
+     */
+    public void failInbox(Map<Long, String> errors, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(
+                "UPDATE card_transaction_inbox SET status = 'FAILED', last_error = ?, processed_at = NULL, " +
+                "modified_at = ? WHERE transaction_id = ?",
+                List.copyOf(errors.entrySet()), BATCH_SIZE, (ps, entry) -> {
+                    ps.setString(1, entry.getValue());
+                    ps.setTimestamp(2, timestamp);
+                    ps.setLong(3, entry.getKey());
+                });
+    }
+
+    public void insertPointEarns(List<PointEarnRow> rows) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO point_transactions (member_id, transaction_type, category, description, points_amount, " +
+                "balance_after, occurred_at, created_at, modified_at) VALUES (?, 'EARN', ?, ?, ?, ?, ?, ?, ?)",
+                rows, BATCH_SIZE, (ps, row) -> {
+                    Timestamp occurredAt = Timestamp.valueOf(row.occurredAt());
+                    ps.setLong(1, row.memberId());
+                    ps.setString(2, row.category());
+                    ps.setString(3, row.description());
+                    ps.setInt(4, row.pointsAmount());
+                    ps.setLong(5, row.balanceAfter());
+                    ps.setTimestamp(6, occurredAt);
+                    ps.setTimestamp(7, occurredAt);
+                    ps.setTimestamp(8, occurredAt);
+                });
+    }
+
+    public void insertEcoMerchantTransactions(List<EcoMerchantTransactionRow> rows, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO eco_merchant_transactions (member_id, eco_merchant_id, card_transaction_id, merchant_name, " +
+                "business_number, transaction_amount, transaction_date, category, merchant_category, earned_seeds, " +
+                "user_level, benefit_rate, is_processed, created_at, modified_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, TRUE, ?, ?)",
+                rows, BATCH_SIZE, (ps, row) -> {
+                    ps.setLong(1, row.memberId());
+                    ps.setLong(2, row.merchantId());
+                    ps.setLong(3, row.cardTransactionId());
+                    ps.setString(4, row.merchantName());
+                    ps.setString(5, row.businessNumber());
+                    ps.setLong(6, row.transactionAmount());
+                    ps.setTimestamp(7, Timestamp.valueOf(row.transactionDate()));
+                    ps.setString(8, row.category());
+                    ps.setString(9, row.merchantCategory());
+                    ps.setLong(10, row.earnedSeeds());
+                    ps.setString(11, row.userLevel());
+                    ps.setBigDecimal(12, row.benefitRate());
+                    ps.setTimestamp(13, timestamp);
+                    ps.setTimestamp(14, timestamp);
+                });
+    }
+
+    public record PointEarnRow(Long memberId, String category, String description, int pointsAmount,
+                               long balanceAfter, LocalDateTime occurredAt) {
+    }
+
+    public record EcoMerchantTransactionRow(Long memberId, Long merchantId, Long cardTransactionId,
+                                            String merchantName, String businessNumber, Long transactionAmount,
+                                            LocalDateTime transactionDate, String category, String merchantCategory,
+                                            Long earnedSeeds, String userLevel, BigDecimal benefitRate) {
+    }
+}
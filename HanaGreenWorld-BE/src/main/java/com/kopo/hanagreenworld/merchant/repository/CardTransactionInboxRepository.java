@@ -0,0 +1,47 @@
+package com.kopo.hanagreenworld.merchant.repository;
+
+import com.kopo.hanagreenworld.merchant.domain.CardTransactionInbox;
+import com.kopo.hanagreenworld.merchant.domain.CardTransactionInbox.InboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CardTransactionInboxRepository extends JpaRepository<CardTransactionInbox, Long> {
+
+    boolean existsByTransactionId(Long transactionId);
+
+    long countByStatus(InboxStatus status);
+
+    // 재시도 시각이 된 대기 이벤트 (오래된 순)
+    @Query("SELECT i.id FROM CardTransactionInbox i WHERE i.status = :status " +
+           "AND i.nextAttemptAt <= :now ORDER BY i.id")
+    List<Long> findIdsByStatusDueBefore(@Param("status") InboxStatus status, @Param("now") LocalDateTime now,
+                                        Pageable pageable);
+
+    // 처리 선점: 대기 상태인 경우에만 PROCESSING으로 전환 (수집기와 즉시 처리의 중복 실행 방지)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CardTransactionInbox i SET i.status = :to, i.attempts = i.attempts + 1, " +
+           "i.modifiedAt = :now WHERE i.id = :id AND i.status = :from")
+    int claim(@Param("id") Long id, @Param("from") InboxStatus from, @Param("to") InboxStatus to,
+              @Param("now") LocalDateTime now);
+
+    // 처리 중 서버가 종료된 이벤트를 다시 대기 상태로
+    @Modifying
+    @Query("UPDATE CardTransactionInbox i SET i.status = :to, i.nextAttemptAt = :now, i.modifiedAt = :now " +
+           "WHERE i.status = :from AND i.modifiedAt < :staleBefore")
+    int releaseStale(@Param("from") InboxStatus from, @Param("to") InboxStatus to,
+                     @Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now);
+
+    // 실패 이벤트 재처리 (시도 횟수 초기화)
+    @Modifying
+    @Query("UPDATE CardTransactionInbox i SET i.status = :to, i.attempts = 0, " +
+           "i.nextAttemptAt = :now, i.modifiedAt = :now WHERE i.status = :from")
+    int resetStatus(@Param("from") InboxStatus from, @Param("to") InboxStatus to, @Param("now") LocalDateTime now);
+}
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,8 @@ public interface EcoMerchantTransactionRepository extends JpaRepository<EcoMerch
     // 회원별 친환경 가맹점 거래 내역 조회 (최신순)
     List<EcoMerchantTransaction> findByMember_MemberIdOrderByTransactionDateDesc(Long memberId);
 
+    long countByMember_MemberId(Long memberId);
+
     // 회원별 친환경 가맹점 거래 내역 조회 (페이징)
     Page<EcoMerchantTransaction> findByMember_MemberIdOrderByTransactionDateDesc(Long memberId, Pageable pageable);
 
@@ -28,8 +31,8 @@ public interface EcoMerchantTransactionRepository extends JpaRepository<EcoMerch
     // 카드 거래 ID로 조회 (중복 방지용)
     Optional<EcoMerchantTransaction> findByCardTransactionId(Long cardTransactionId);
 
-    // 회원별 이번 달 거래 내역 조회
-    @Query("SELECT emt FROM EcoMerchantTransaction emt " +
+    // 회원별 이번 달 거래 내역 조회 (가맹점 카테고리를 함께 쓰므로 가맹점을 같이 로드)
+    @Query("SELECT emt FROM EcoMerchantTransaction emt JOIN FETCH emt.ecoMerchant " +
            "WHERE emt.member.memberId = :memberId " +
            "AND YEAR(emt.transactionDate) = YEAR(CURRENT_DATE) " +
            "AND MONTH(emt.transactionDate) = MONTH(CURRENT_DATE) " +
@@ -85,4 +88,8 @@ public interface EcoMerchantTransactionRepository extends JpaRepository<EcoMerch
            "GROUP BY emt.businessNumber, emt.merchantName " +
            "ORDER BY totalSeeds DESC")
     List<Object[]> getMerchantStatsByMemberId(@Param("memberId") Long memberId);
+
+    // 이미 처리된 카드 거래 ID (일괄 수신 중복 제거용)
+    @Query("SELECT t.cardTransactionId FROM EcoMerchantTransaction t WHERE t.cardTransactionId IN :cardTransactionIds")
+    List<Long> findProcessedCardTransactionIds(@Param("cardTransactionIds") Collection<Long> cardTransactionIds);
 }
@@ -0,0 +1,287 @@
+package com.kopo.hanagreenworld.merchant.service;
+
+import com.kopo.hanagreenworld.activity.domain.ImpactCategory;
+import com.kopo.hanagreenworld.activity.service.EnvironmentalImpactRollupService;
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.common.exception.ErrorCode;
+import com.kopo.hanagreenworld.member.domain.MemberProfile;
+import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.member.repository.MemberTeamRepository;
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import com.kopo.hanagreenworld.member.service.EcoReportService;
+import com.kopo.hanagreenworld.member.service.MemberProfileService;
+import com.kopo.hanagreenworld.member.service.TeamContributionService;
+import com.kopo.hanagreenworld.merchant.dto.CardTransactionBulkRequest;
+import com.kopo.hanagreenworld.merchant.dto.CardTransactionBulkResponse;
+import com.kopo.hanagreenworld.merchant.event.CardTransactionCreatedEvent;
+import com.kopo.hanagreenworld.merchant.repository.CardTransactionBulkRepository;
+import com.kopo.hanagreenworld.merchant.repository.CardTransactionBulkRepository.EcoMerchantTransactionRow;
+import com.kopo.hanagreenworld.merchant.repository.CardTransactionBulkRepository.PointEarnRow;
+import com.kopo.hanagreenworld.merchant.repository.EcoMerchantTransactionRepository;
+import com.kopo.hanagreenworld.point.domain.PointCategory;
+import com.kopo.hanagreenworld.point.service.MemberSeedTotalCache;
+import com.kopo.hanagreenworld.point.service.PointDailySummaryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 카드 거래 일괄 수신 (장애 후 재전송 등)
+ * 수신함 유니크 키로 중복을 걸러낸 뒤, 가맹점은 메모리 인덱스로, 회원/레벨/잔액은 청크 단위로
+ * 한 번에 조회하고, 거래 행은 JDBC 배치로 쓰며 회원·팀 누적값은 합산해서 한 번씩 갱신한다.
+ * 적립 규칙은 단건 웹훅 처리(EcoMerchantMatchingService)와 같다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CardTransactionBulkIngestService {
+
+    private static final int MAX_BULK_SIZE = 20000;
+    private static final String ECO_MERCHANT_CATEGORY = "친환경 가맹점";
+    private static final String MEMBER_NOT_FOUND = "회원을 찾을 수 없습니다";
+
+    private final CardTransactionBulkRepository cardTransactionBulkRepository;
+    private final EcoMerchantTransactionRepository ecoMerchantTransactionRepository;
+    private final MemberRepository memberRepository;
+    private final MemberProfileRepository memberProfileRepository;
+    private final MemberProfileService memberProfileService;
+    private final MemberTeamRepository memberTeamRepository;
+    private final TeamRepository teamRepository;
+    private final TeamContributionService teamContributionService;
+    private final PointDailySummaryService pointDailySummaryService;
+    private final EnvironmentalImpactRollupService environmentalImpactRollupService;
+    private final MemberSeedTotalCache memberSeedTotalCache;
+    private final EcoMerchantIndex ecoMerchantIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${card-event.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    public CardTransactionBulkResponse ingest(CardTransactionBulkRequest request) {
+        if (request == null || request.getTransactions() == null || request.getTransactions().isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        if (request.getTransactions().size() > MAX_BULK_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        long startTime = System.currentTimeMillis();
+        BulkTotals totals = new BulkTotals();
+
+        // 요청 내 중복 제거 후 거래 시각 순으로 처리 (레벨이 순서대로 오르도록)
+        Map<Long, CardTransactionCreatedEvent> events = new LinkedHashMap<>();
+        for (CardTransactionBulkRequest.Item item : request.getTransactions()) {
+            CardTransactionCreatedEvent event = toEvent(item);
+            if (event == null) {
+                totals.invalidIds.add(item != null ? item.getTransactionId() : null);
+            } else if (events.putIfAbsent(event.getTransactionId(), event) != null) {
+                totals.duplicates++;
+            }
+        }
+        List<CardTransactionCreatedEvent> ordered = events.values().stream()
+                .sorted(Comparator.comparing(CardTransactionCreatedEvent::getTransactionDate)
+                        .thenComparing(CardTransactionCreatedEvent::getTransactionId))
+                .toList();
+
+        for (int from = 0; from < ordered.size(); from += chunkSize) {
+            List<CardTransactionCreatedEvent> chunk = ordered.subList(from, Math.min(from + chunkSize, ordered.size()));
+            transactionTemplate.executeWithoutResult(status -> ingestChunk(chunk, totals));
+            log.info("카드 거래 일괄 수신 진행: {}/{} (매칭 {}건, 중복 {}건)",
+                    Math.min(from + chunkSize, ordered.size()), ordered.size(), totals.matched, totals.duplicates);
+        }
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        log.info("카드 거래 일괄 수신 완료: 요청 {}건, 매칭 {}건, 일반 {}건, 중복 {}건, 실패 {}건, 제외 {}건, {}ms",
+                request.getTransactions().size(), totals.matched, totals.general, totals.duplicates,
+                totals.failedIds.size(), totals.invalidIds.size(), elapsed);
+
+        return CardTransactionBulkResponse.builder()
+                .receivedCount(request.getTransactions().size())
+                .invalidCount(totals.invalidIds.size())
+                .duplicateCount(totals.duplicates)
+                .generalMerchantCount(totals.general)
+                .matchedCount(totals.matched)
+                .failedCount(totals.failedIds.size())
+                .invalidTransactionIds(totals.invalidIds)
+                .failedTransactionIds(totals.failedIds)
+                .totalSeedsAwarded(totals.seeds)
+                .affectedMembers(totals.members.size())
+                .elapsedMillis(elapsed)
+                .build();
+    }
+
+    private void ingestChunk(List<CardTransactionCreatedEvent> chunk, BulkTotals totals) {
+        LocalDateTime now = LocalDateTime.now();
+        String batchId = UUID.randomUUID().toString();
+
+        // 1. 수신함 선점 (다른 요청/단건 웹훅이 이미 받은 거래는 제외)
+        cardTransactionBulkRepository.claimInbox(chunk, batchId, now);
+        Set<Long> claimed = new HashSet<>(cardTransactionBulkRepository.findClaimedTransactionIds(batchId));
+        if (!claimed.isEmpty()) {
+            // 수신함 도입 이전에 처리된 거래
+            ecoMerchantTransactionRepository.findProcessedCardTransactionIds(claimed).forEach(claimed::remove);
+        }
+        totals.duplicates += chunk.size() - claimed.size();
+
+        // 2. 가맹점 매칭
+        List<Match> matches = new ArrayList<>();
+        for (CardTransactionCreatedEvent event : chunk) {
+            if (!claimed.contains(event.getTransactionId())) {
+                continue;
+            }
+            ecoMerchantIndex.find(event.getBusinessNumber()).ifPresentOrElse(
+                    merchant -> matches.add(new Match(event, merchant)),
+                    () -> totals.general++);
+        }
+        if (matches.isEmpty()) {
+            return;
+        }
+
+        // 3. 회원 확인
+        Set<Long> userIds = matches.stream().map(match -> match.event().getUserId()).collect(Collectors.toSet());
+        Set<Long> memberIds = new HashSet<>(memberRepository.findExistingMemberIds(userIds));
+        Map<Long, String> failures = new HashMap<>();
+        matches.removeIf(match -> {
+            if (memberIds.contains(match.event().getUserId())) {
+                return false;
+            }
+            failures.put(match.event().getTransactionId(), MEMBER_NOT_FOUND + ": " + match.event().getUserId());
+            return true;
+        });
+        if (!failures.isEmpty()) {
+            cardTransactionBulkRepository.failInbox(failures, now);
+            totals.failedIds.addAll(failures.keySet());
+        }
+        if (matches.isEmpty()) {
+            return;
+        }
+
+        // 4. 레벨/잔액을 이어가며 적립액 계산
+        Map<Long, Long> seedTotals = memberSeedTotalCache.getTotalsEarned(memberIds);
+        Map<Long, Long> balances = loadBalances(memberIds);
+        Map<Long, MemberDelta> deltas = new HashMap<>();
+        List<PointEarnRow> pointRows = new ArrayList<>(matches.size());
+        List<EcoMerchantTransactionRow> ecoRows = new ArrayList<>(matches.size());
+
+        for (Match match : matches) {
+            CardTransactionCreatedEvent event = match.event();
+            EcoMerchantIndex.MerchantEntry merchant = match.merchant();
+            Long memberId = event.getUserId();
+
+            long seedTotal = seedTotals.getOrDefault(memberId, 0L);
+            String level = EcoReportService.levelOf(seedTotal);
+            long seeds = Math.round(event.getAmount() * EcoMerchantMatchingService.rateOf(level));
+            long balance = balances.getOrDefault(memberId, 0L) + seeds;
+            seedTotals.put(memberId, seedTotal + seeds);
+            balances.put(memberId, balance);
+
+            pointRows.add(new PointEarnRow(memberId, PointCategory.ECO_MERCHANT.name(), merchant.name(),
+                    (int) seeds, balance, now));
+            ecoRows.add(new EcoMerchantTransactionRow(memberId, merchant.merchantId(), event.getTransactionId(),
+                    event.getMerchantName(), event.getBusinessNumber(), event.getAmount(), event.getTransactionDate(),
+                    ECO_MERCHANT_CATEGORY, merchant.category().name(), seeds, level,
+                    BigDecimal.valueOf(seeds).divide(BigDecimal.valueOf(event.getAmount()), 4, RoundingMode.HALF_UP)));
+
+            MemberDelta delta = deltas.computeIfAbsent(memberId, k -> new MemberDelta());
+            delta.points += seeds;
+            delta.count++;
+            delta.countsByDate.merge(event.getTransactionDate().toLocalDate(), 1, Integer::sum);
+        }
+
+        // 5. 거래 행 배치 기록
+        cardTransactionBulkRepository.insertPointEarns(pointRows);
+        cardTransactionBulkRepository.insertEcoMerchantTransactions(ecoRows, now);
+
+        // 6. 회원/팀 누적값 (회원·팀 단위 합산)
+        Map<Long, Long> teamByMember = memberTeamRepository.findActiveByMemberIds(deltas.keySet()).stream()
+                .collect(Collectors.toMap(mt -> mt.getMember().getMemberId(), mt -> mt.getTeam().getId(), (a, b) -> a));
+        Map<Long, Long> teamPoints = new HashMap<>();
+        deltas.forEach((memberId, delta) -> {
+            memberProfileRepository.addActivityTotals(memberId, delta.points, 0.0, delta.count,
+                    MemberProfile.currentYearMonth().toString());
+            pointDailySummaryService.recordEarn(memberId, PointCategory.ECO_MERCHANT, delta.points, delta.count,
+                    now.toLocalDate());
+            delta.countsByDate.forEach((date, count) ->
+                    environmentalImpactRollupService.record(memberId, ImpactCategory.ECO_MERCHANT, 0.0, count, date));
+
+            Long teamId = teamByMember.get(memberId);
+            if (teamId != null && delta.points > 0) {
+                teamPoints.merge(teamId, delta.points, Long::sum);
+                teamContributionService.record(teamId, memberId, delta.points, 0.0, 0, now.toLocalDate());
+            }
+            totals.seeds += delta.points;
+            totals.members.add(memberId);
+        });
+        teamPoints.forEach((teamId, points) -> teamRepository.addTeamTotals(teamId, points, 0.0));
+
+        totals.matched += matches.size();
+    }
+
+    private CardTransactionCreatedEvent toEvent(CardTransactionBulkRequest.Item item) {
+        if (item == null || item.getTransactionId() == null || item.getUserId() == null
+                || item.getAmount() == null || item.getAmount() <= 0) {
+            return null;
+        }
+        LocalDateTime transactionDate;
+        try {
+            transactionDate = item.getTransactionDate() != null
+                    ? LocalDateTime.parse(item.getTransactionDate()) : LocalDateTime.now();
+        } catch (Exception e) {
+            return null;
+        }
+        return CardTransactionCreatedEvent.of(item.getTransactionId(), item.getUserId(), item.getMerchantName(),
+                item.getBusinessNumber(), item.getAmount(), transactionDate, item.getCategory(),
+                item.getMerchantCategory());
+    }
+
+    private Map<Long, Long> loadBalances(Set<Long> memberIds) {
+        Map<Long, Long> balances = new HashMap<>();
+        for (MemberProfile profile : memberProfileRepository.findByMember_MemberIdIn(memberIds)) {
+            balances.put(profile.getMember().getMemberId(), profile.getCurrentPoints());
+        }
+        // 프로필이 없는 회원은 단건 적립과 같이 새로 생성
+        for (Long memberId : memberIds) {
+            if (!balances.containsKey(memberId)) {
+                balances.put(memberId, memberProfileService.getOrCreateMemberProfile(memberId).getCurrentPoints());
+            }
+        }
+        return balances;
+    }
+
+    private record Match(CardTransactionCreatedEvent event, EcoMerchantIndex.MerchantEntry merchant) {
+    }
+
+    private static class MemberDelta {
+        private final Map<LocalDate, Integer> countsByDate = new HashMap<>();
+        private long points = 0L;
+        private int count = 0;
+    }
+
+    private static class BulkTotals {
+        private final List<Long> invalidIds = new ArrayList<>();
+        private final List<Long> failedIds = new ArrayList<>();
+        private final Set<Long> members = new HashSet<>();
+        private int duplicates = 0;
+        private int general = 0;
+        private int matched = 0;
+        private long seeds = 0L;
+    }
+}
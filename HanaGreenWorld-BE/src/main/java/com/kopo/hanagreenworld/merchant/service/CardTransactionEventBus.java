@@ -0,0 +1,167 @@
+package com.kopo.hanagreenworld.merchant.service;
+
+import com.kopo.hanagreenworld.merchant.domain.CardTransactionInbox;
+import com.kopo.hanagreenworld.merchant.domain.CardTransactionInbox.InboxStatus;
+import com.kopo.hanagreenworld.merchant.event.CardTransactionCreatedEvent;
+import com.kopo.hanagreenworld.merchant.repository.CardTransactionInboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카드 거래 이벤트 버스
+ * 웹훅 수신 시 이벤트를 수신함에 커밋한 뒤 전용 실행기로 넘기고 바로 응답한다.
+ * 실행기 큐가 가득 차면 수신함에 남겨 두었다가(지연) 수집기가 여유가 생길 때 넘기며,
+ * 지연된 이벤트까지 한도를 넘으면 새 웹훅을 거절(429)해 송신 측이 재전송하도록 한다.
+ */
+@Slf4j
+@Service
+public class CardTransactionEventBus {
+
+    private static final String TRANSACTION_UNIQUE_KEY = "uk_card_tx_inbox_transaction";
+
+    private final CardTransactionInboxRepository cardTransactionInboxRepository;
+    private final CardTransactionEventProcessor cardTransactionEventProcessor;
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${card-event.max-pending:10000}")
+    private long maxPending;
+
+    @Value("${card-event.sweep-grace-seconds:10}")
+    private long sweepGraceSeconds;
+
+    @Value("${card-event.stale-processing-minutes:5}")
+    private long staleProcessingMinutes;
+
+    // 수신함에서 대기 중인 이벤트 수 (수집기가 주기적으로 DB 값으로 보정)
+    private final AtomicLong pendingBacklog = new AtomicLong();
+
+    public CardTransactionEventBus(CardTransactionInboxRepository cardTransactionInboxRepository,
+                                   CardTransactionEventProcessor cardTransactionEventProcessor,
+                                   @Qualifier("cardTransactionEventExecutor") ThreadPoolTaskExecutor executor,
+                                   TransactionTemplate transactionTemplate) {
+        this.cardTransactionInboxRepository = cardTransactionInboxRepository;
+        this.cardTransactionEventProcessor = cardTransactionEventProcessor;
+        this.executor = executor;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public enum PublishResult {
+        QUEUED, DEFERRED, DUPLICATE, REJECTED
+    }
+
+    public record SweepResult(int releasedStale, long pendingBacklog, int dispatched) {
+    }
+
+    public PublishResult publish(CardTransactionCreatedEvent event) {
+        if (isSaturated()) {
+            log.warn("카드 거래 이벤트 거절 (대기 {}건) - 거래ID: {}", pendingBacklog.get(), event.getTransactionId());
+            return PublishResult.REJECTED;
+        }
+
+        Long inboxId;
+        try {
+            inboxId = transactionTemplate.execute(status -> {
+                if (cardTransactionInboxRepository.existsByTransactionId(event.getTransactionId())) {
+                    return null;
+                }
+                return cardTransactionInboxRepository.save(CardTransactionInbox.from(event)).getId();
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 거래 ID의 웹훅이 동시에 들어온 경우만 중복으로 보고, 그 밖의 제약 위반은 그대로 올린다
+            if (!isDuplicateTransaction(e)) {
+                throw e;
+            }
+            inboxId = null;
+        }
+        if (inboxId == null) {
+            log.info("이미 수신한 카드 거래 이벤트 - 거래ID: {}", event.getTransactionId());
+            return PublishResult.DUPLICATE;
+        }
+
+        // 수신함 커밋 이후에 처리 스레드로 넘긴다
+        return dispatch(inboxId) ? PublishResult.QUEUED : PublishResult.DEFERRED;
+    }
+
+    /**
+     * 수집기: 처리 중 멈춘 이벤트를 되돌리고, 재시도 시각이 된 대기 이벤트를 실행기 여유만큼 넘긴다
+     */
+    public SweepResult sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer released = transactionTemplate.execute(status -> cardTransactionInboxRepository.releaseStale(
+                InboxStatus.PROCESSING, InboxStatus.PENDING, now.minusMinutes(staleProcessingMinutes), now));
+        if (released != null && released > 0) {
+            log.warn("처리 중 멈춘 카드 거래 이벤트 {}건을 대기 상태로 되돌렸습니다.", released);
+        }
+
+        long backlog = cardTransactionInboxRepository.countByStatus(InboxStatus.PENDING);
+        pendingBacklog.set(backlog);
+
+        int capacity = remainingCapacity();
+        int dispatched = 0;
+        if (backlog > 0 && capacity > 0) {
+            // 방금 큐에 넣은 이벤트를 다시 넘기지 않도록 유예 시간을 둔다
+            List<Long> ids = cardTransactionInboxRepository.findIdsByStatusDueBefore(
+                    InboxStatus.PENDING, now.minusSeconds(sweepGraceSeconds), PageRequest.of(0, capacity));
+            for (Long id : ids) {
+                if (!dispatch(id)) {
+                    break;
+                }
+                dispatched++;
+            }
+        }
+        if (dispatched > 0) {
+            log.info("카드 거래 이벤트 수집: 대기 {}건 중 {}건 처리 요청", backlog, dispatched);
+        }
+        return new SweepResult(released != null ? released : 0, backlog, dispatched);
+    }
+
+    @Transactional
+    public int retryFailed() {
+        return cardTransactionInboxRepository.resetStatus(InboxStatus.FAILED, InboxStatus.PENDING, LocalDateTime.now());
+    }
+
+    public int remainingCapacity() {
+        return executor.getThreadPoolExecutor().getQueue().remainingCapacity();
+    }
+
+    private boolean dispatch(Long inboxId) {
+        try {
+            executor.execute(() -> cardTransactionEventProcessor.process(inboxId));
+            return true;
+        } catch (TaskRejectedException e) {
+            pendingBacklog.incrementAndGet();
+            log.warn("카드 거래 이벤트 실행기 포화, 수신함에서 지연 처리 - 수신함ID: {}", inboxId);
+            return false;
+        }
+    }
+
+    private boolean isDuplicateTransaction(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(TRANSACTION_UNIQUE_KEY);
+            }
+        }
+        // 제약 이름을 얻지 못한 드라이버 메시지에 대한 보조 판정
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(TRANSACTION_UNIQUE_KEY);
+    }
+
+    private boolean isSaturated() {
+        return remainingCapacity() == 0 && pendingBacklog.get() >= maxPending;
+    }
+}
@@ -0,0 +1,89 @@
+package com.kopo.hanagreenworld.merchant.service;
+
+import com.kopo.hanagreenworld.merchant.domain.CardTransactionInbox;
+import com.kopo.hanagreenworld.merchant.domain.CardTransactionInbox.InboxStatus;
+import com.kopo.hanagreenworld.merchant.repository.CardTransactionInboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 수신함에 저장된 카드 거래 이벤트 처리 (이벤트 실행기 스레드에서 실행)
+ * 선점 -> 친환경 가맹점 매칭/원큐씨앗 적립 -> 결과 기록을 각각 별도 트랜잭션으로 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardTransactionEventProcessor {
+
+    private final CardTransactionInboxRepository cardTransactionInboxRepository;
+    private final EcoMerchantMatchingService ecoMerchantMatchingService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${card-event.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${card-event.retry-backoff-seconds:30}")
+    private long retryBackoffSeconds;
+
+    public void process(Long inboxId) {
+        Integer claimed = transactionTemplate.execute(status ->
+                cardTransactionInboxRepository.claim(inboxId, InboxStatus.PENDING, InboxStatus.PROCESSING,
+                        LocalDateTime.now()));
+        if (claimed == null || claimed == 0) {
+            // 이미 다른 스레드가 처리 중이거나 완료된 이벤트
+            return;
+        }
+
+        CardTransactionInbox inbox = cardTransactionInboxRepository.findById(inboxId).orElse(null);
+        if (inbox == null) {
+            return;
+        }
+
+        try {
+            Map<String, Object> result = ecoMerchantMatchingService.processEcoMerchantTransaction(
+                    inbox.getTransactionId(),
+                    inbox.getUserId(),
+                    inbox.getBusinessNumber(),
+                    inbox.getMerchantName(),
+                    inbox.getAmount(),
+                    inbox.getTransactionDate().toString()
+            );
+
+            if (result.containsKey("error")) {
+                // 매칭 서비스가 예외를 삼킨 경우 일부 적립이 이미 커밋되었을 수 있어 재시도하지 않는다
+                log.error("카드 거래 이벤트 처리 실패 - 거래ID: {}, 에러: {}",
+                        inbox.getTransactionId(), result.get("error"));
+                finish(inboxId, entry -> entry.fail(String.valueOf(result.get("error"))));
+                return;
+            }
+
+            boolean isEcoMerchant = (Boolean) result.getOrDefault("isEcoMerchant", false);
+            if (isEcoMerchant) {
+                log.info("친환경 가맹점 매칭 성공 - 거래ID: {}, 가맹점: {}, 추가씨앗: {}",
+                        inbox.getTransactionId(), result.get("merchantName"), result.get("additionalSeeds"));
+            } else {
+                log.info("일반 가맹점 - 거래ID: {}, 가맹점: {}",
+                        inbox.getTransactionId(), inbox.getMerchantName());
+            }
+            finish(inboxId, CardTransactionInbox::complete);
+
+        } catch (Exception e) {
+            // 트랜잭션이 롤백된 실패는 같은 거래 ID로 안전하게 재시도할 수 있다
+            log.warn("카드 거래 이벤트 처리 중 오류, 재시도 예약 - 거래ID: {}, 시도: {}, 에러: {}",
+                    inbox.getTransactionId(), inbox.getAttempts(), e.getMessage());
+            finish(inboxId, entry -> entry.retryLater(e.getMessage(), maxAttempts, retryBackoffSeconds));
+        }
+    }
+
+    private void finish(Long inboxId, Consumer<CardTransactionInbox> action) {
+        transactionTemplate.executeWithoutResult(status ->
+                cardTransactionInboxRepository.findById(inboxId).ifPresent(action));
+    }
+}
@@ -0,0 +1,199 @@
+package com.kopo.hanagreenworld.merchant.service;
+
+import com.kopo.hanagreenworld.merchant.domain.EcoMerchant;
+import com.kopo.hanagreenworld.merchant.repository.EcoMerchantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 활성 친환경 가맹점 메모리 인덱스 (사업자번호 매칭용)
+ * 사업자번호를 숫자만 남겨 long 키로 바꾸고, 선형 탐사 방식의 개방 주소 해시 테이블에
+ * 보관하여 카드 결제 웹훅마다 eco_merchants를 조회하지 않는다.
+ * 가맹점이 저장/수정/삭제되면 커밋 후 무효화되고 다음 조회 시 다시 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EcoMerchantIndex {
+
+    private static final int MAX_DIGITS = 18;
+
+    private final EcoMerchantRepository ecoMerchantRepository;
+
+    private volatile MerchantTable table;
+    private volatile boolean stale = true;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            getTable();
+        } catch (Exception e) {
+            log.error("친환경 가맹점 인덱스 초기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${eco-merchant.index.refresh-millis:600000}", initialDelay = 600000)
+    public void scheduledRefresh() {
+        // DB에서 직접 변경된 경우를 위한 주기적 재구성
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("친환경 가맹점 인덱스 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    public Optional<MerchantEntry> find(String businessNumber) {
+        long key = normalize(businessNumber);
+        if (key < 0) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(getTable().get(key));
+    }
+
+    /**
+     * 가맹점 변경 시 호출 (다음 조회에서 재구성)
+     */
+    public void markStale() {
+        stale = true;
+    }
+
+    @Transactional(readOnly = true)
+    public synchronized IndexStats refresh() {
+        long startTime = System.currentTimeMillis();
+        // 조회 중 들어온 변경은 다시 반영되도록 읽기 전에 플래그를 내린다
+        stale = false;
+        List<EcoMerchant> merchants = ecoMerchantRepository.findByIsActiveTrue();
+
+        MerchantTable built = new MerchantTable(merchants.size());
+        int skipped = 0;
+        for (EcoMerchant merchant : merchants) {
+            long key = normalize(merchant.getBusinessNumber());
+            if (key < 0) {
+                skipped++;
+                continue;
+            }
+            MerchantEntry previous = built.put(key, new MerchantEntry(merchant.getId(), merchant.getBusinessNumber(),
+                    merchant.getName(), merchant.getCategory()));
+            if (previous != null) {
+                log.warn("친환경 가맹점 사업자번호 중복: {} / {}", previous.businessNumber(), merchant.getBusinessNumber());
+            }
+        }
+        table = built;
+
+        IndexStats stats = built.stats(skipped, System.currentTimeMillis() - startTime);
+        log.info("친환경 가맹점 인덱스 구성: {}개 (용량 {}, 최대 탐사 {}, 제외 {}), {}ms",
+                stats.size(), stats.capacity(), stats.maxProbe(), stats.skipped(), stats.buildMillis());
+        return stats;
+    }
+
+    /**
+     * 사업자번호 정규화 ("123-45-67890" -> 1234567890), 숫자가 없거나 너무 길면 -1
+     */
+    public static long normalize(String businessNumber) {
+        if (businessNumber == null) {
+            return -1;
+        }
+        long value = 0;
+        int digits = 0;
+        for (int i = 0; i < businessNumber.length(); i++) {
+            char c = businessNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_DIGITS) {
+                    return -1;
+                }
+                value = value * 10 + (c - '0');
+            }
+        }
+        return digits == 0 ? -1 : value;
+    }
+
+    private MerchantTable getTable() {
+        MerchantTable current = table;
+        if (current == null || stale) {
+            synchronized (this) {
+                if (table == null || stale) {
+                    refresh();
+                }
+                current = table;
+            }
+        }
+        return current;
+    }
+
+    public record MerchantEntry(Long merchantId, String businessNumber, String name,
+                                EcoMerchant.MerchantCategory category) {
+    }
+
+    public record IndexStats(int size, int capacity, int maxProbe, int skipped, long buildMillis) {
+    }
+
+    /**
+     * long 키 개방 주소 해시 테이블 (구성 후 읽기 전용)
+     */
+    private static final class MerchantTable {
+
+        private final long[] keys;
+        private final MerchantEntry[] values;
+        private final int mask;
+        private int size;
+
+        private MerchantTable(int expected) {
+            // 적재율 0.5 이하 유지
+            int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+            this.keys = new long[capacity];
+            this.values = new MerchantEntry[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private MerchantEntry get(long key) {
+            int slot = slot(key);
+            while (values[slot] != null) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        private MerchantEntry put(long key, MerchantEntry entry) {
+            int slot = slot(key);
+            while (values[slot] != null) {
+                if (keys[slot] == key) {
+                    MerchantEntry previous = values[slot];
+                    values[slot] = entry;
+                    return previous;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = entry;
+            size++;
+            return null;
+        }
+
+        private int slot(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+
+        private IndexStats stats(int skipped, long buildMillis) {
+            int maxProbe = 0;
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (values[slot] != null) {
+                    int probe = (slot - slot(keys[slot])) & mask;
+                    maxProbe = Math.max(maxProbe, probe + 1);
+                }
+            }
+            return new IndexStats(size, keys.length, maxProbe, skipped, buildMillis);
+        }
+    }
+}
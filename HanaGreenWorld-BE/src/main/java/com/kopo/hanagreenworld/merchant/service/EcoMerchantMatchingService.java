@@ -1,10 +1,12 @@
 package com.kopo.hanagreenworld.merchant.service;
 
-import com.kopo.hanagreenworld.merchant.domain.EcoMerchant;
+import com.kopo.hanagreenworld.activity.domain.ImpactCategory;
+import com.kopo.hanagreenworld.activity.service.EnvironmentalImpactRollupService;
 import com.kopo.hanagreenworld.merchant.domain.EcoMerchantTransaction;
 import com.kopo.hanagreenworld.merchant.repository.EcoMerchantRepository;
 import com.kopo.hanagreenworld.merchant.repository.EcoMerchantTransactionRepository;
 import com.kopo.hanagreenworld.point.service.EcoSeedService;
+import com.kopo.hanagreenworld.point.service.MemberSeedTotalCache;
 import com.kopo.hanagreenworld.point.dto.EcoSeedEarnRequest;
 import com.kopo.hanagreenworld.point.domain.PointCategory;
 import com.kopo.hanagreenworld.point.domain.PointTransaction;
@@ -23,7 +25,9 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 
 @Slf4j
 @Service
@@ -34,27 +38,65 @@ public class EcoMerchantMatchingService {
     private final EcoMerchantRepository ecoMerchantRepository;
     private final EcoMerchantTransactionRepository ecoMerchantTransactionRepository;
     private final EcoSeedService ecoSeedService;
-    private final EcoReportService ecoReportService;
+    private final EcoMerchantIndex ecoMerchantIndex;
+    private final MemberSeedTotalCache memberSeedTotalCache;
     private final MemberProfileService memberProfileService;
     private final PointTransactionRepository pointTransactionRepository;
     private final MemberRepository memberRepository;
+    private final EnvironmentalImpactRollupService environmentalImpactRollupService;
 
-    public Optional<EcoMerchant> findEcoMerchantByBusinessNumber(String businessNumber) {
+    public Optional<EcoMerchantIndex.MerchantEntry> findEcoMerchantByBusinessNumber(String businessNumber) {
         if (businessNumber == null || businessNumber.trim().isEmpty()) {
             return Optional.empty();
         }
         
-        return ecoMerchantRepository.findByBusinessNumberAndIsActiveTrue(businessNumber);
+        // 매칭에 필요한 값은 인덱스 항목에 모두 있으므로 eco_merchants를 다시 조회하지 않는다
+        return ecoMerchantIndex.find(businessNumber);
     }
 
+    /**
+     * 카드 거래 ID 없이 들어온 매칭 요청 처리
+     * 같은 요청이 재전송되어도 한 번만 적립되도록 거래 내용으로 고정 ID를 만든다.
+     * 거래일시가 없으면 같은 가맹점/금액의 다른 거래와 구분할 수 없으므로 적립하지 않고 오류로 응답한다.
+     */
     @Transactional
     public Map<String, Object> processEcoMerchantTransaction(Long userId, String businessNumber, 
                                                            String merchantName, Long amount, 
                                                            String transactionDate) {
+        if (transactionDate == null || transactionDate.isBlank()) {
+            log.warn("거래일시 없는 친환경 가맹점 매칭 요청 - 사용자ID: {}, 사업자번호: {}", userId, businessNumber);
+            Map<String, Object> result = new HashMap<>();
+            result.put("isEcoMerchant", false);
+            result.put("error", "거래 ID가 없으면 거래일시는 필수입니다.");
+            return result;
+        }
+        return processEcoMerchantTransaction(syntheticTransactionId(userId, businessNumber, amount, transactionDate),
+                userId, businessNumber, merchantName, amount, transactionDate.trim());
+    }
+
+    /**
+     * 사용자/사업자번호/금액/거래일시로 만든 결정적 거래 ID
+     * 실제 카드 거래 ID(양수)와 겹치지 않도록 음수 범위를 사용한다.
+     */
+    static long syntheticTransactionId(Long userId, String businessNumber, Long amount, String transactionDate) {
+        if (transactionDate == null || transactionDate.isBlank()) {
+            throw new IllegalArgumentException("거래일시 없이 거래 ID를 만들 수 없습니다.");
+        }
+        String key = userId + "|" + businessNumber + "|" + amount + "|" + transactionDate.trim();
+        long hash = UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).getMostSignificantBits();
+        return hash | Long.MIN_VALUE;
+    }
+
+    /**
+     * 카드 거래 ID 기준 처리 (웹훅 이벤트 재처리 시 같은 거래를 중복 적립하지 않는다)
+     */
+    @Transactional
+    public Map<String, Object> processEcoMerchantTransaction(Long cardTransactionId, Long userId, String businessNumber,
+                                                           String merchantName, Long amount,
+                                                           String transactionDate) {
         Map<String, Object> result = new HashMap<>();
         
         try {
-            Long cardTransactionId = System.currentTimeMillis();
             var existingTransaction = ecoMerchantTransactionRepository.findByCardTransactionId(cardTransactionId);
             
             if (existingTransaction.isPresent()) {
@@ -64,19 +106,20 @@ public class EcoMerchantMatchingService {
                 return result;
             }
             
-            // 1. 사업자 번호로 친환경 가맹점 찾기
-            Optional<EcoMerchant> ecoMerchantOpt = findEcoMerchantByBusinessNumber(businessNumber);
+            // 1. 사업자 번호로 친환경 가맹점 찾기 (메모리 인덱스)
+            Optional<EcoMerchantIndex.MerchantEntry> merchantEntry = findEcoMerchantByBusinessNumber(businessNumber);
             
-            if (ecoMerchantOpt.isEmpty()) {
+            if (merchantEntry.isEmpty()) {
                 result.put("isEcoMerchant", false);
                 result.put("message", "일반 가맹점");
                 return result;
             }
             
-            EcoMerchant ecoMerchant = ecoMerchantOpt.get();
+            EcoMerchantIndex.MerchantEntry ecoMerchant = merchantEntry.get();
 
-            // 2. 사용자의 현재 레벨 조회
-            String currentLevel = ecoReportService.getUserCurrentLevel(userId);
+            // 2. 사용자의 현재 레벨 조회 (누적 적립 캐시)
+            long totalSeedsBefore = memberSeedTotalCache.getTotalEarned(userId);
+            String currentLevel = EcoReportService.levelOf(totalSeedsBefore);
 
             // 3. 레벨에 따른 원큐씨앗 지급
             Long additionalSeeds = calculateEcoSeedsByLevel(currentLevel, amount);
@@ -85,7 +128,7 @@ public class EcoMerchantMatchingService {
             EcoSeedEarnRequest earnRequest = EcoSeedEarnRequest.builder()
                     .pointsAmount(additionalSeeds.intValue())
                     .category(PointCategory.ECO_MERCHANT)
-                    .description(String.format("%s", ecoMerchant.getName()))
+                    .description(String.format("%s", ecoMerchant.name()))
                     .build();
             
             ecoSeedService.earnEcoSeedsForWebhook(userId, earnRequest);
@@ -93,22 +136,22 @@ public class EcoMerchantMatchingService {
             memberProfileService.updateMemberActivityWithoutCarbon(userId);
             
             // 5. 친환경 가맹점 거래 내역 저장
-            Member member = memberRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다: " + userId));
+            // 회원은 적립 시 이미 확인했으므로 참조만 사용
+            Member member = memberRepository.getReferenceById(userId);
             
             java.time.LocalDateTime parsedTransactionDate = java.time.LocalDateTime.parse(transactionDate);
             BigDecimal benefitRate = BigDecimal.valueOf(additionalSeeds).divide(BigDecimal.valueOf(amount), 4, java.math.RoundingMode.HALF_UP);
             
             EcoMerchantTransaction ecoTransaction = EcoMerchantTransaction.builder()
                     .member(member)
-                    .ecoMerchant(ecoMerchant)
+                    .ecoMerchant(ecoMerchantRepository.getReferenceById(ecoMerchant.merchantId()))
                     .cardTransactionId(cardTransactionId)
                     .merchantName(merchantName)
                     .businessNumber(businessNumber)
                     .transactionAmount(amount)
                     .transactionDate(parsedTransactionDate)
                     .category("친환경 가맹점")
-                    .merchantCategory(ecoMerchant.getCategory().name())
+                    .merchantCategory(ecoMerchant.category().name())
                     .earnedSeeds(additionalSeeds)
                     .userLevel(currentLevel)
                     .benefitRate(benefitRate)
@@ -116,14 +159,15 @@ public class EcoMerchantMatchingService {
                     .build();
             
             ecoMerchantTransactionRepository.save(ecoTransaction);
+            environmentalImpactRollupService.record(userId, ImpactCategory.ECO_MERCHANT, 0.0, parsedTransactionDate.toLocalDate());
 
             result.put("isEcoMerchant", true);
-            result.put("merchantName", ecoMerchant.getName());
-            result.put("category", ecoMerchant.getCategory().getDisplayName());
+            result.put("merchantName", ecoMerchant.name());
+            result.put("category", ecoMerchant.category().getDisplayName());
             result.put("additionalSeeds", additionalSeeds);
-            result.put("totalSeeds", ecoSeedService.getUserTotalSeeds(userId));
+            result.put("totalSeeds", totalSeedsBefore + additionalSeeds);
             result.put("message", String.format("%s에서 친환경 가맹점 혜택으로 %d원큐씨앗 추가 지급!", 
-                    ecoMerchant.getName(), additionalSeeds));
+                    ecoMerchant.name(), additionalSeeds));
 
             return result;
             
@@ -181,9 +225,7 @@ public class EcoMerchantMatchingService {
             Long currentMonthMerchants = ecoMerchantTransactionRepository.countCurrentMonthDistinctMerchantsByMemberId(userId);
             
             // 전체 거래 수
-            List<EcoMerchantTransaction> allTransactions = ecoMerchantTransactionRepository
-                .findByMember_MemberIdOrderByTransactionDateDesc(userId);
-            long totalTransactions = allTransactions.size();
+            long totalTransactions = ecoMerchantTransactionRepository.countByMember_MemberId(userId);
             
             long averageAdditionalSeeds = totalTransactions == 0 ? 0 : totalAdditionalSeeds / totalTransactions;
             
@@ -218,13 +260,7 @@ public class EcoMerchantMatchingService {
     }
 
     private Long calculateEcoSeedsByLevel(String level, Long amount) {
-        // 레벨별 원큐씨앗 지급 비율
-        double rate = switch (level.toUpperCase()) {
-            case "BEGINNER" -> 0.005;  // 0.5% (레벨 1)
-            case "INTERMEDIATE" -> 0.01; // 1.0% (레벨 2)
-            case "EXPERT" -> 0.02;     // 2.0% (레벨 3)
-            default -> 0.005;          // 기본값 0.5%
-        };
+        double rate = rateOf(level);
         
         Long ecoSeeds = Math.round(amount * rate);
         log.info("💰 레벨별 원큐씨앗 계산 - 레벨: {}, 거래금액: {}, 비율: {}%, 지급씨앗: {}", 
@@ -232,4 +268,14 @@ public class EcoMerchantMatchingService {
         
         return ecoSeeds;
     }
+
+    static double rateOf(String level) {
+        // 레벨별 원큐씨앗 지급 비율
+        return switch (level.toUpperCase()) {
+            case "BEGINNER" -> 0.005;  // 0.5% (레벨 1)
+            case "INTERMEDIATE" -> 0.01; // 1.0% (레벨 2)
+            case "EXPERT" -> 0.02;     // 2.0% (레벨 3)
+            default -> 0.005;          // 기본값 0.5%
+        };
+    }
 }
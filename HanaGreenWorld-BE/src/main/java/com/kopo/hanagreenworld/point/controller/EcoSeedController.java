@@ -138,6 +138,13 @@ public class EcoSeedController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/transactions/category/{category}/summary")
+    @Operation(summary = "카테고리별 적립 요약 조회", description = "특정 카테고리의 누적/이번 달 적립 합계와 건수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getCategorySummary(@PathVariable PointCategory category) {
+        log.info("카테고리별 적립 요약 조회 요청: {}", category);
+        return ResponseEntity.ok(ecoSeedService.getCategorySummary(category));
+    }
+
     // 편의를 위한 API들
     @PostMapping("/earn/walking")
     @Operation(summary = "걷기로 원큐씨앗 적립", description = "걷기 활동으로 원큐씨앗을 적립합니다.")
@@ -0,0 +1,109 @@
+package com.kopo.hanagreenworld.point.domain;
+
+import com.kopo.hanagreenworld.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 원큐씨앗 → 하나머니 전환 예약 (전환 사가의 로컬 상태이자 하나카드 적립 요청 발신함)
+ * 예약 시 원큐씨앗을 먼저 차감해 두고, 하나카드 적립이 확인되면 확정(CONVERT 거래 기록),
+ * 거절되면 취소(차감분 복원)한다. 적립 요청은 referenceId로 하나카드에서 멱등 처리된다.
+ */
+@Entity
+@Table(
+    name = "hanamoney_conversions",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_hanamoney_conversion_reference", columnNames = "reference_id")
+    },
+    indexes = {
+        @Index(name = "idx_hanamoney_conversion_status_next", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_hanamoney_conversion_member", columnList = "member_id")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HanamoneyConversion extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "conversion_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "points_amount", nullable = false)
+    private Long pointsAmount;
+
+    @Column(name = "reference_id", length = 64, nullable = false)
+    private String referenceId; // 하나카드 적립 멱등 키
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private ConversionStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Builder
+    public HanamoneyConversion(Long memberId, Long pointsAmount) {
+        this.memberId = memberId;
+        this.pointsAmount = pointsAmount;
+        this.referenceId = "GW-CONV-" + UUID.randomUUID();
+        this.status = ConversionStatus.RESERVED;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void confirm() {
+        this.status = ConversionStatus.CONFIRMED;
+        this.completedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    public void cancel(String reason) {
+        this.status = ConversionStatus.CANCELLED;
+        this.completedAt = LocalDateTime.now();
+        this.lastError = truncate(reason);
+    }
+
+    /**
+     * 적립 여부를 알 수 없는 경우: 같은 참조 ID로 다시 요청하도록 지수 백오프로 예약
+     */
+    public void retryLater(String error, long baseBackoffSeconds, long maxBackoffSeconds) {
+        this.status = ConversionStatus.RESERVED;
+        this.lastError = truncate(error);
+        long backoff = baseBackoffSeconds << Math.min(Math.max(0, attempts - 1), 20);
+        this.nextAttemptAt = LocalDateTime.now().plusSeconds(Math.min(backoff, maxBackoffSeconds));
+    }
+
+    public boolean isCompleted() {
+        return status == ConversionStatus.CONFIRMED || status == ConversionStatus.CANCELLED;
+    }
+
+    private String truncate(String error) {
+        return error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+
+    public enum ConversionStatus {
+        RESERVED,   // 원큐씨앗 차감 완료, 하나카드 적립 대기 (또는 반영 여부 미확정)
+        SENDING,    // 하나카드 적립 요청 중 (선점)
+        CONFIRMED,  // 하나카드 적립 확인, CONVERT 거래 기록 완료
+        CANCELLED   // 하나카드 거절, 차감분 복원 완료
+    }
+}
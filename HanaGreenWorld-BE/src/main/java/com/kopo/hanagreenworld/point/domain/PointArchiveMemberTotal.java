@@ -0,0 +1,44 @@
+package com.kopo.hanagreenworld.point.domain;
+
+import jakarta.persistence.*;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아카이브로 옮겨진 거래의 회원/거래유형별 누적 합계
+ * 누적 적립/사용/전환 합계는 원장(point_transactions)의 합계에 이 값을 더해 계산한다.
+ */
+@Entity
+@Table(
+    name = "point_archive_member_totals",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_point_archive_member_type",
+                columnNames = {"member_id", "transaction_type"})
+    }
+)
+@Getter
+@NoArgsConstructor
+public class PointArchiveMemberTotal {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "point_archive_member_total_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", length = 20, nullable = false)
+    private PointTransactionType pointTransactionType;
+
+    @Column(name = "points_total", nullable = false)
+    private Long pointsTotal = 0L;
+
+    @Column(name = "abs_points_total", nullable = false)
+    private Long absPointsTotal = 0L;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Long transactionCount = 0L;
+}
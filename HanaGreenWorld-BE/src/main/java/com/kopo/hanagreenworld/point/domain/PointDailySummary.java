@@ -0,0 +1,46 @@
+package com.kopo.hanagreenworld.point.domain;
+
+import jakarta.persistence.*;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 회원별 일간 원큐씨앗 적립 집계 (회원, 날짜, 카테고리 단위)
+ * 적립 시 upsert로 누적되며 달력/카테고리 요약/월간 리포트가 원천 거래 대신 이 행을 읽는다.
+ */
+@Entity
+@Table(
+    name = "point_daily_summaries",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_point_daily_member_date_category",
+                columnNames = {"member_id", "summary_date", "category"})
+    }
+)
+@Getter
+@NoArgsConstructor
+public class PointDailySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "point_daily_summary_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "summary_date", nullable = false)
+    private LocalDate summaryDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", length = 30, nullable = false)
+    private PointCategory category;
+
+    @Column(name = "earned_points", nullable = false)
+    private Long earnedPoints = 0L;
+
+    @Column(name = "transaction_count", nullable = false)
+    private Integer transactionCount = 0;
+}
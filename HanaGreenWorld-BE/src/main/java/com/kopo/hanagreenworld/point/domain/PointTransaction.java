@@ -12,7 +12,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "point_transactions")
+@Table(
+    name = "point_transactions",
+    indexes = {
+        @Index(name = "idx_point_tx_member_type_occurred", columnList = "member_id, transaction_type, occurred_at"),
+        @Index(name = "idx_point_tx_member_occurred", columnList = "member_id, occurred_at"),
+        @Index(name = "idx_point_tx_occurred", columnList = "occurred_at")
+    }
+)
 @Getter
 @NoArgsConstructor
 public class PointTransaction extends DateTimeEntity {
@@ -22,8 +29,9 @@ public class PointTransaction extends DateTimeEntity {
     @Column(name = "transaction_id")
     private Long id;
 
+    // 파티션 테이블은 외래 키를 지원하지 않으므로 ddl-auto가 FK를 다시 만들지 않게 한다
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "member_id", nullable = false)
+    @JoinColumn(name = "member_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Member member;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,61 @@
+package com.kopo.hanagreenworld.point.domain;
+
+import jakarta.persistence.*;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 원큐씨앗 거래 내역 (point_transactions와 같은 컬럼 구성)
+ * 아카이빙 작업이 닫힌 월 단위로 원본 행을 그대로 옮기며, 애플리케이션은 조회하지 않는다.
+ */
+@Entity
+@Table(
+    name = "point_transactions_archive",
+    indexes = {
+        @Index(name = "idx_point_tx_archive_member_occurred", columnList = "member_id, occurred_at")
+    }
+)
+@Getter
+@NoArgsConstructor
+public class PointTransactionArchive {
+
+    // 원본 transaction_id를 그대로 유지
+    @Id
+    @Column(name = "transaction_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false)
+    private PointTransactionType pointTransactionType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false)
+    private PointCategory category;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "points_amount", nullable = false)
+    private Integer pointsAmount;
+
+    @Column(name = "balance_after")
+    private Long balanceAfter;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "modified_at")
+    private LocalDateTime modifiedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,39 @@
+package com.kopo.hanagreenworld.point.repository;
+
+import com.kopo.hanagreenworld.point.domain.HanamoneyConversion;
+import com.kopo.hanagreenworld.point.domain.HanamoneyConversion.ConversionStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface HanamoneyConversionRepository extends JpaRepository<HanamoneyConversion, Long> {
+
+    long countByStatus(ConversionStatus status);
+
+    // 재시도 시각이 된 미확정 전환 (오래된 순)
+    @Query("SELECT c.id FROM HanamoneyConversion c WHERE c.status = :status " +
+           "AND c.nextAttemptAt <= :now ORDER BY c.id")
+    List<Long> findIdsByStatusDueBefore(@Param("status") ConversionStatus status, @Param("now") LocalDateTime now,
+                                        Pageable pageable);
+
+    // 요청 선점: 대기 상태인 경우에만 SENDING으로 전환 (즉시 요청과 정산기의 중복 요청 방지)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE HanamoneyConversion c SET c.status = :to, c.attempts = c.attempts + 1, " +
+           "c.modifiedAt = :now WHERE c.id = :id AND c.status = :from")
+    int claim(@Param("id") Long id, @Param("from") ConversionStatus from, @Param("to") ConversionStatus to,
+              @Param("now") LocalDateTime now);
+
+    // 요청 중 서버가 종료된 전환을 다시 대기 상태로 (같은 참조 ID로 재요청하므로 중복 적립되지 않는다)
+    @Modifying
+    @Query("UPDATE HanamoneyConversion c SET c.status = :to, c.nextAttemptAt = :now, c.modifiedAt = :now " +
+           "WHERE c.status = :from AND c.modifiedAt < :staleBefore")
+    int releaseStale(@Param("from") ConversionStatus from, @Param("to") ConversionStatus to,
+                     @Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,63 @@
+package com.kopo.hanagreenworld.point.repository;
+
+import com.kopo.hanagreenworld.point.domain.PointCategory;
+import com.kopo.hanagreenworld.point.domain.PointDailySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PointDailySummaryRepository extends JpaRepository<PointDailySummary, Long> {
+
+    // 적립 시 누적 (회원, 날짜, 카테고리 행이 없으면 생성)
+    @Modifying
+    @Query(value = "INSERT INTO point_daily_summaries (member_id, summary_date, category, earned_points, transaction_count) " +
+                   "VALUES (:memberId, :summaryDate, :category, :points, :count) " +
+                   "ON DUPLICATE KEY UPDATE earned_points = earned_points + VALUES(earned_points), " +
+                   "transaction_count = transaction_count + VALUES(transaction_count)", nativeQuery = true)
+    int upsert(@Param("memberId") Long memberId, @Param("summaryDate") LocalDate summaryDate,
+               @Param("category") String category, @Param("points") Long points, @Param("count") Integer count);
+
+    // 달력용: 일자별 적립 합계 (최대 31행, [일, 합계])
+    @Query("SELECT DAY(s.summaryDate), SUM(s.earnedPoints) FROM PointDailySummary s " +
+           "WHERE s.memberId = :memberId AND s.summaryDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY s.summaryDate")
+    List<Object[]> sumDailyEarnings(@Param("memberId") Long memberId,
+                                    @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 카테고리별 적립 합계/건수 ([카테고리, 합계, 건수])
+    @Query("SELECT s.category, SUM(s.earnedPoints), SUM(s.transactionCount) FROM PointDailySummary s " +
+           "WHERE s.memberId = :memberId AND s.summaryDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY s.category")
+    List<Object[]> sumByCategory(@Param("memberId") Long memberId,
+                                 @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // 월간 리포트 랭킹용: 회원별 적립 합계 ([회원ID, 합계])
+    @Query("SELECT s.memberId, SUM(s.earnedPoints) FROM PointDailySummary s " +
+           "WHERE s.summaryDate BETWEEN :startDate AND :endDate AND s.category IN :categories " +
+           "GROUP BY s.memberId")
+    List<Object[]> sumByMember(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+                               @Param("categories") Collection<PointCategory> categories);
+
+    @Modifying
+    @Query(value = "DELETE FROM point_daily_summaries", nativeQuery = true)
+    int deleteAllRows();
+
+    // 백필: 적립 거래(원장 + 아카이브)에서 일 단위 집계
+    @Modifying
+    @Query(value = "INSERT INTO point_daily_summaries (member_id, summary_date, category, earned_points, transaction_count) " +
+                   "SELECT t.member_id, DATE(t.occurred_at), t.category, SUM(t.points_amount), COUNT(*) FROM (" +
+                   "SELECT pt.member_id, pt.occurred_at, pt.category, pt.points_amount FROM point_transactions pt " +
+                   "WHERE pt.transaction_type = 'EARN' " +
+                   "UNION ALL " +
+                   "SELECT a.member_id, a.occurred_at, a.category, a.points_amount FROM point_transactions_archive a " +
+                   "WHERE a.transaction_type = 'EARN') t " +
+                   "GROUP BY t.member_id, DATE(t.occurred_at), t.category", nativeQuery = true)
+    int backfillFromTransactions();
+}
@@ -0,0 +1,53 @@
+package com.kopo.hanagreenworld.point.repository;
+
+import com.kopo.hanagreenworld.point.domain.PointTransactionArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PointTransactionArchiveRepository extends JpaRepository<PointTransactionArchive, Long> {
+
+    // 보관 기간이 지난 원장 거래 ID (occurred_at 인덱스 범위 조회)
+    @Query(value = "SELECT pt.transaction_id FROM point_transactions pt " +
+                   "WHERE pt.occurred_at < :cutoff ORDER BY pt.occurred_at, pt.transaction_id LIMIT :limit",
+           nativeQuery = true)
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // 옮길 거래의 회원/유형별 합계를 아카이브 누적 합계에 더한다
+    @Modifying
+    @Query(value = "INSERT INTO point_archive_member_totals " +
+                   "(member_id, transaction_type, points_total, abs_points_total, transaction_count) " +
+                   "SELECT pt.member_id, pt.transaction_type, SUM(pt.points_amount), SUM(ABS(pt.points_amount)), COUNT(*) " +
+                   "FROM point_transactions pt WHERE pt.transaction_id IN :ids " +
+                   "GROUP BY pt.member_id, pt.transaction_type " +
+                   "ON DUPLICATE KEY UPDATE points_total = points_total + VALUES(points_total), " +
+                   "abs_points_total = abs_points_total + VALUES(abs_points_total), " +
+                   "transaction_count = transaction_count + VALUES(transaction_count)", nativeQuery = true)
+    int accumulateMemberTotals(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "INSERT INTO point_transactions_archive " +
+                   "(transaction_id, member_id, transaction_type, category, description, points_amount, " +
+                   "balance_after, occurred_at, created_at, modified_at, archived_at) " +
+                   "SELECT pt.transaction_id, pt.member_id, pt.transaction_type, pt.category, pt.description, " +
+                   "pt.points_amount, pt.balance_after, pt.occurred_at, pt.created_at, pt.modified_at, :archivedAt " +
+                   "FROM point_transactions pt WHERE pt.transaction_id IN :ids", nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM point_transactions WHERE transaction_id IN :ids", nativeQuery = true)
+    int deleteFromLedger(@Param("ids") Collection<Long> ids);
+
+    // 원장 파티션 이름 (파티셔닝 마이그레이션 전에는 빈 목록)
+    @Query(value = "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                   "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'point_transactions' " +
+                   "AND PARTITION_NAME IS NOT NULL ORDER BY PARTITION_ORDINAL_POSITION", nativeQuery = true)
+    List<String> findLedgerPartitionNames();
+}
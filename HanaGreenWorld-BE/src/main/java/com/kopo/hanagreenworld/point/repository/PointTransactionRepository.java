@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 @Repository
@@ -21,41 +22,38 @@ public interface PointTransactionRepository extends JpaRepository<PointTransacti
     // 회원별 특정 카테고리 거래 내역 조회
     List<PointTransaction> findByMember_MemberIdAndCategoryOrderByOccurredAtDesc(Long memberId, String category);
     
+    // 회원별 누적 합계는 원장 합계 + 아카이브로 옮겨진 합계(point_archive_member_totals)
+
     // 회원별 적립 내역 합계
-    @Query("SELECT COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
-        "WHERE pt.member.memberId = :memberId AND pt.pointTransactionType = 'EARN'")
+    @Query(value = "SELECT CAST(" +
+           "COALESCE((SELECT SUM(pt.points_amount) FROM point_transactions pt " +
+           "WHERE pt.member_id = :memberId AND pt.transaction_type = 'EARN'), 0) + " +
+           "COALESCE((SELECT SUM(a.points_total) FROM point_archive_member_totals a " +
+           "WHERE a.member_id = :memberId AND a.transaction_type = 'EARN'), 0) AS SIGNED)", nativeQuery = true)
     Long sumEarnedPointsByMemberId(@Param("memberId") Long memberId);
     
     // 회원별 사용 내역 합계
-    @Query("SELECT COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
-        "WHERE pt.member.memberId = :memberId AND pt.pointTransactionType = 'USE'")
+    @Query(value = "SELECT CAST(" +
+           "COALESCE((SELECT SUM(pt.points_amount) FROM point_transactions pt " +
+           "WHERE pt.member_id = :memberId AND pt.transaction_type = 'USE'), 0) + " +
+           "COALESCE((SELECT SUM(a.points_total) FROM point_archive_member_totals a " +
+           "WHERE a.member_id = :memberId AND a.transaction_type = 'USE'), 0) AS SIGNED)", nativeQuery = true)
     Long sumUsedPointsByMemberId(@Param("memberId") Long memberId);
     
     // 회원별 하나머니 전환 내역 합계 (CONVERT 타입)
-    @Query("SELECT COALESCE(SUM(ABS(pt.pointsAmount)), 0) FROM PointTransaction pt " +
-           "WHERE pt.member.memberId = :memberId AND pt.pointTransactionType = 'CONVERT'")
+    @Query(value = "SELECT CAST(" +
+           "COALESCE((SELECT SUM(ABS(pt.points_amount)) FROM point_transactions pt " +
+           "WHERE pt.member_id = :memberId AND pt.transaction_type = 'CONVERT'), 0) + " +
+           "COALESCE((SELECT SUM(a.abs_points_total) FROM point_archive_member_totals a " +
+           "WHERE a.member_id = :memberId AND a.transaction_type = 'CONVERT'), 0) AS SIGNED)", nativeQuery = true)
     Long sumConvertedPointsByMemberId(@Param("memberId") Long memberId);
     
-    // 회원별 이번 달 적립 포인트 합계
+    // 회원별 기간 적립 포인트 합계 (occurredAt 범위 조건: [start, end))
     @Query("SELECT COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
            "WHERE pt.member.memberId = :memberId AND pt.pointTransactionType = 'EARN' " +
-           "AND YEAR(pt.occurredAt) = YEAR(CURRENT_DATE) AND MONTH(pt.occurredAt) = MONTH(CURRENT_DATE)")
-    Long sumCurrentMonthEarnedPointsByMemberId(@Param("memberId") Long memberId);
-    
-    // 팀별 월간 포인트 합계
-    @Query("SELECT COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
-           "JOIN MemberTeam mt ON pt.member.memberId = mt.member.memberId " +
-           "WHERE mt.team.id = :teamId AND mt.isActive = true " +
-           "AND pt.pointTransactionType = 'EARN' " +
-           "AND DATE_FORMAT(pt.occurredAt, '%Y-%m') = :reportDate")
-    Long findMonthlyTeamPoints(@Param("teamId") Long teamId, @Param("reportDate") String reportDate);
-    
-    // 팀별 총 포인트 합계
-    @Query("SELECT COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
-           "JOIN MemberTeam mt ON pt.member.memberId = mt.member.memberId " +
-           "WHERE mt.team.id = :teamId AND mt.isActive = true " +
-           "AND pt.pointTransactionType = 'EARN'")
-    Long findTotalTeamPoints(@Param("teamId") Long teamId);
+           "AND pt.occurredAt >= :start AND pt.occurredAt < :end")
+    Long sumEarnedPointsByMemberIdBetween(@Param("memberId") Long memberId,
+                                          @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
     
     // 달력용: 특정 기간의 거래 내역 조회
     List<PointTransaction> findByMember_MemberIdAndPointTransactionTypeAndOccurredAtBetween(
@@ -67,7 +65,20 @@ public interface PointTransactionRepository extends JpaRepository<PointTransacti
     Optional<PointTransaction> findByMember_MemberIdAndDescriptionContaining(Long memberId, String description);
     
     // 사용자별 총 원큐씨앗 조회 (친환경 가맹점 매칭용)
-    @Query("SELECT COALESCE(SUM(pt.pointsAmount), 0) FROM PointTransaction pt " +
-        "WHERE pt.member.memberId = :userId AND pt.pointTransactionType = 'EARN'")
+    @Query(value = "SELECT CAST(" +
+           "COALESCE((SELECT SUM(pt.points_amount) FROM point_transactions pt " +
+           "WHERE pt.member_id = :userId AND pt.transaction_type = 'EARN'), 0) + " +
+           "COALESCE((SELECT SUM(a.points_total) FROM point_archive_member_totals a " +
+           "WHERE a.member_id = :userId AND a.transaction_type = 'EARN'), 0) AS SIGNED)", nativeQuery = true)
     Long findTotalSeedsByUserId(@Param("userId") Long userId);
-}    
+
+    // 회원별 총 원큐씨앗 일괄 조회 (회원 ID, 합계)
+    @Query(value = "SELECT t.member_id, CAST(SUM(t.total) AS SIGNED) FROM (" +
+           "SELECT pt.member_id, SUM(pt.points_amount) AS total FROM point_transactions pt " +
+           "WHERE pt.member_id IN (:userIds) AND pt.transaction_type = 'EARN' GROUP BY pt.member_id " +
+           "UNION ALL " +
+           "SELECT a.member_id, SUM(a.points_total) AS total FROM point_archive_member_totals a " +
+           "WHERE a.member_id IN (:userIds) AND a.transaction_type = 'EARN' GROUP BY a.member_id" +
+           ") t GROUP BY t.member_id", nativeQuery = true)
+    List<Object[]> findTotalSeedsByUserIds(@Param("userIds") Collection<Long> userIds);
+}
@@ -10,6 +10,9 @@ import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
 import com.kopo.hanagreenworld.member.repository.MemberRepository;
 import com.kopo.hanagreenworld.member.repository.MemberTeamRepository;
 import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import com.kopo.hanagreenworld.member.service.TeamContributionService;
+import com.kopo.hanagreenworld.point.domain.HanamoneyConversion;
+import com.kopo.hanagreenworld.point.domain.HanamoneyConversion.ConversionStatus;
 import com.kopo.hanagreenworld.point.domain.PointCategory;
 import com.kopo.hanagreenworld.point.domain.PointTransaction;
 import com.kopo.hanagreenworld.point.domain.PointTransactionType;
@@ -20,7 +23,6 @@ import com.kopo.hanagreenworld.point.dto.EcoSeedTransactionResponse;
 import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
 import com.kopo.hanagreenworld.common.exception.BusinessException;
 import com.kopo.hanagreenworld.common.exception.ErrorCode;
-import com.kopo.hanagreenworld.integration.service.HanamoneyCardService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -34,6 +36,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -42,6 +45,7 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.Base64;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Service
 @RequiredArgsConstructor
@@ -49,14 +53,19 @@ import java.time.LocalDate;
 @Slf4j
 public class EcoSeedService {
 
+    // 누적 합계 조회 시작일 (일간 적립 집계의 어떤 날짜보다도 이전)
+    private static final LocalDate SUMMARY_START_DATE = LocalDate.of(2000, 1, 1);
+
     private final PointTransactionRepository pointTransactionRepository;
     private final MemberProfileRepository memberProfileRepository;
     private final MemberRepository memberRepository;
     private final MemberTeamRepository memberTeamRepository;
     private final TeamRepository teamRepository;
-    private final HanamoneyCardService hanamoneyCardService;
+    private final HanamoneyConversionService hanamoneyConversionService;
     private final RestTemplate restTemplate;
     private final GroupIntegrationService groupIntegrationService;
+    private final PointDailySummaryService pointDailySummaryService;
+    private final TeamContributionService teamContributionService;
 
     @Value("${integration.card.url}")
     private String hanacardApiBaseUrl;
@@ -120,6 +129,10 @@ public class EcoSeedService {
             memberProfileRepository.save(profile);
             pointTransactionRepository.save(transaction);
             
+            // 일간 적립 집계 (달력/카테고리 요약용)
+            pointDailySummaryService.recordEarn(memberId, request.getCategory(),
+                    request.getPointsAmount().longValue(), transaction.getOccurredAt().toLocalDate());
+
             // 팀 포인트도 동기화 (EARN 타입일 때만)
             if (PointTransactionType.EARN.equals(transaction.getPointTransactionType())) {
                 updateTeamPoints(memberId, request.getPointsAmount().longValue());
@@ -163,6 +176,10 @@ public class EcoSeedService {
             memberProfileRepository.save(profile);
             pointTransactionRepository.save(transaction);
             
+            // 일간 적립 집계 (달력/카테고리 요약용)
+            pointDailySummaryService.recordEarn(memberId, request.getCategory(),
+                    request.getPointsAmount().longValue(), transaction.getOccurredAt().toLocalDate());
+
             // 팀 포인트도 동기화 (EARN 타입일 때만)
             if (PointTransactionType.EARN.equals(transaction.getPointTransactionType())) {
                 updateTeamPoints(memberId, request.getPointsAmount().longValue());
@@ -177,78 +194,49 @@ public class EcoSeedService {
     }
 
     /**
-     * 원큐씨앗을 하나머니로 전환 (트랜잭션으로 데이터 정합성 보장)
+     * 원큐씨앗을 하나머니로 전환 (예약 → 하나카드 적립 → 확정/취소 사가)
+     * 하나카드 호출 동안 DB 트랜잭션을 열어 두지 않으며, 응답을 받지 못한 전환은 정산기가 마무리한다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public EcoSeedResponse convertToHanaMoney(EcoSeedConvertRequest request) {
         Long memberId = SecurityUtil.getCurrentMemberId();
         if (memberId == null) {
             throw new BusinessException(ErrorCode.UNAUTHORIZED);
         }
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
-        
-        MemberProfile profile = getOrCreateMemberProfile(memberId);
-        
-        // 잔액 확인
-        if (profile.getCurrentPoints() < request.getPointsAmount()) {
-            throw new BusinessException(ErrorCode.INSUFFICIENT_ECO_SEEDS);
+        if (!memberRepository.existsById(memberId)) {
+            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
         }
-        
-        try {
-            // 전환 전 잔액 로깅
-            Long beforeEcoSeeds = profile.getCurrentPoints();
-            
-            log.info("하나머니 전환 시작: 회원ID={}, 전환금액={}, 전환전 원큐씨앗={}", 
-                    memberId, request.getPointsAmount(), beforeEcoSeeds);
-            
-            // 1. 먼저 하나카드 서버에서 하나머니 적립 시도
-            boolean hanamoneyEarnSuccess = hanamoneyCardService.earnHanamoney(
-                    member, 
-                    request.getPointsAmount().longValue(), 
-                    "원큐씨앗 전환: " + request.getPointsAmount() + "개"
-            );
-            
-            if (!hanamoneyEarnSuccess) {
-                log.error("하나카드 서버에서 하나머니 적립 실패 - 회원ID: {}, 금액: {}", 
-                        memberId, request.getPointsAmount());
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-            }
-            
-            // 2. 하나머니 적립이 성공했으면 원큐씨앗 차감
-            profile.updateCurrentPoints(-request.getPointsAmount().longValue());
-            
-            // 3. 거래 내역 생성 (CONVERT 타입 사용, 음수로 저장)
-            PointTransaction transaction = PointTransaction.builder()
-                    .member(member)
-                    .pointTransactionType(PointTransactionType.CONVERT)
-                    .category(PointCategory.HANA_MONEY_CONVERSION)
-                    .description("하나머니로 전환")
-                    .pointsAmount(-request.getPointsAmount()) // 음수로 저장
-                    .balanceAfter(profile.getCurrentPoints())
-                    .build();
-            
-            // 4. 원큐씨앗 차감과 거래 내역 저장
-            memberProfileRepository.save(profile);
-            pointTransactionRepository.save(transaction);
-            
-            // 전환 후 잔액 로깅
-            Long afterEcoSeeds = profile.getCurrentPoints();
-            
-            log.info("하나머니 전환 완료: 회원ID={}, 전환금액={}, 전환후 원큐씨앗={}", 
-                    memberId, request.getPointsAmount(), afterEcoSeeds);
-            
-            // 검증: 원큐씨앗 차감이 정확히 이루어졌는지 확인
-            if ((beforeEcoSeeds - afterEcoSeeds) != request.getPointsAmount().longValue()) {
-                log.error("원큐씨앗 차감 오류: 예상={}, 실제={}", request.getPointsAmount(), (beforeEcoSeeds - afterEcoSeeds));
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-            }
-            
-            return getEcoSeedInfo();
-        } catch (Exception e) {
-            log.error("하나머니 전환 실패: {} - {}", memberId, e.getMessage(), e);
+
+        long pointsAmount = request.getPointsAmount().longValue();
+        log.info("하나머니 전환 시작: 회원ID={}, 전환금액={}", memberId, pointsAmount);
+
+        // 1. 원큐씨앗 차감 + 전환 예약 (잔액 부족이면 예외)
+        HanamoneyConversion conversion = hanamoneyConversionService.reserve(memberId, pointsAmount);
+
+        // 2. 하나카드 적립 요청 후 확정/취소
+        ConversionStatus status = hanamoneyConversionService.process(conversion.getId());
+        if (status == ConversionStatus.CANCELLED) {
+            log.error("하나카드 서버에서 하나머니 적립 실패 - 회원ID: {}, 금액: {}", memberId, pointsAmount);
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
+
+        EcoSeedResponse info = getEcoSeedInfo();
+        if (status == ConversionStatus.CONFIRMED) {
+            log.info("하나머니 전환 완료: 회원ID={}, 전환금액={}, 전환후 원큐씨앗={}",
+                    memberId, pointsAmount, info.getCurrentSeeds());
+            return info;
+        }
+
+        // 응답을 받지 못한 경우 - 원큐씨앗은 차감된 상태로 정산기가 같은 참조 ID로 마무리한다
+        log.warn("하나머니 전환 확인 지연: 회원ID={}, 전환ID={}, 상태={}", memberId, conversion.getId(), status);
+        return EcoSeedResponse.builder()
+                .totalSeeds(info.getTotalSeeds())
+                .currentSeeds(info.getCurrentSeeds())
+                .monthlySeeds(info.getMonthlySeeds())
+                .usedSeeds(info.getUsedSeeds())
+                .convertedSeeds(info.getConvertedSeeds())
+                .message("하나머니 전환 요청이 접수되었습니다. 반영까지 잠시 걸릴 수 있습니다.")
+                .build();
     }
 
     @Transactional(readOnly = true)
@@ -279,6 +267,39 @@ public class EcoSeedService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 카테고리별 적립 요약 (전체 기간 / 이번 달)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getCategorySummary(PointCategory category) {
+        Long memberId = SecurityUtil.getCurrentMemberId();
+        if (memberId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        LocalDate today = LocalDate.now();
+        PointDailySummaryService.CategoryTotal empty = new PointDailySummaryService.CategoryTotal(0L, 0L);
+        PointDailySummaryService.CategoryTotal total = pointDailySummaryService
+                .getCategoryTotals(memberId, SUMMARY_START_DATE, today)
+                .getOrDefault(category, empty);
+        PointDailySummaryService.CategoryTotal monthly = pointDailySummaryService
+                .getCategoryTotals(memberId, today.withDayOfMonth(1), today)
+                .getOrDefault(category, empty);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("category", category.name());
+        response.put("categoryDisplayName", category.getDisplayName());
+        response.put("totalPoints", total.points());
+        response.put("totalCount", total.count());
+        response.put("currentMonthPoints", monthly.points());
+        response.put("currentMonthCount", monthly.count());
+        return response;
+    }
+
+    private Long sumCurrentMonthEarnedPoints(Long memberId) {
+        LocalDateTime monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+        return pointTransactionRepository.sumEarnedPointsByMemberIdBetween(memberId, monthStart, monthStart.plusMonths(1));
+    }
 
     private MemberProfile getOrCreateMemberProfile(Long memberId) {
         if (memberId == null) {
@@ -311,7 +332,7 @@ public class EcoSeedService {
         
         // point_transactions에서 실시간 계산
         Long totalEarned = pointTransactionRepository.sumEarnedPointsByMemberId(memberId);
-        Long currentMonthPoints = pointTransactionRepository.sumCurrentMonthEarnedPointsByMemberId(memberId);
+        Long currentMonthPoints = sumCurrentMonthEarnedPoints(memberId);
         
         Map<String, Object> response = new HashMap<>();
         response.put("currentPoints", profile.getCurrentPoints());
@@ -403,7 +424,7 @@ public class EcoSeedService {
         
         // point_transactions에서 실시간 계산
         Long totalEarned = pointTransactionRepository.sumEarnedPointsByMemberId(memberId);
-        Long currentMonthPoints = pointTransactionRepository.sumCurrentMonthEarnedPointsByMemberId(memberId);
+        Long currentMonthPoints = sumCurrentMonthEarnedPoints(memberId);
         
         // 현재 레벨 계산 (포인트에 따라 동적으로 계산)
         long currentPoints = totalEarned != null ? totalEarned : 0L;
@@ -541,21 +562,8 @@ public class EcoSeedService {
         LocalDate startDate = LocalDate.of(year, month, 1);
         LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
         
-        // 해당 월의 모든 거래 내역 조회 (EARN 타입만)
-        List<PointTransaction> transactions = pointTransactionRepository
-                .findByMember_MemberIdAndPointTransactionTypeAndOccurredAtBetween(
-                        memberId, 
-                        PointTransactionType.EARN, 
-                        startDate.atStartOfDay(), 
-                        endDate.atTime(23, 59, 59)
-                );
-        
-        // 일자별 씨앗 획득량 계산
-        Map<Integer, Long> dailyEarnings = new HashMap<>();
-        for (PointTransaction transaction : transactions) {
-            int day = transaction.getOccurredAt().getDayOfMonth();
-            dailyEarnings.merge(day, transaction.getPointsAmount().longValue(), Long::sum);
-        }
+        // 일자별 씨앗 획득량 (일간 집계에서 최대 31행 조회)
+        Map<Integer, Long> dailyEarnings = pointDailySummaryService.getDailyEarnings(memberId, startDate, endDate);
         
         // 해당 월의 총 획득 씨앗 계산
         Long totalMonthlyEarnings = dailyEarnings.values().stream()
@@ -595,6 +603,7 @@ public class EcoSeedService {
                 // 팀 포인트 업데이트
                 team.addPoints(points);
                 teamRepository.save(team);
+                teamContributionService.record(team.getId(), memberId, points, 0.0, 0, LocalDate.now());
                 
                 log.info("팀 포인트 동기화 완료: 팀ID={}, 추가포인트={}", team.getId(), points);
             }
@@ -0,0 +1,217 @@
+package com.kopo.hanagreenworld.point.service;
+
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.common.exception.ErrorCode;
+import com.kopo.hanagreenworld.integration.service.HanamoneyCardService;
+import com.kopo.hanagreenworld.integration.service.HanamoneyCardService.EarnOutcome;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.domain.MemberProfile;
+import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.point.domain.HanamoneyConversion;
+import com.kopo.hanagreenworld.point.domain.HanamoneyConversion.ConversionStatus;
+import com.kopo.hanagreenworld.point.domain.PointCategory;
+import com.kopo.hanagreenworld.point.domain.PointTransaction;
+import com.kopo.hanagreenworld.point.domain.PointTransactionType;
+import com.kopo.hanagreenworld.point.repository.HanamoneyConversionRepository;
+import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 원큐씨앗 → 하나머니 전환 사가
+ * 1. 예약: 원큐씨앗 차감과 전환 예약 행 저장을 한 트랜잭션으로 커밋
+ * 2. 요청: 트랜잭션 밖에서 하나카드에 참조 ID와 함께 적립 요청 (DB 커넥션을 잡은 채 대기하지 않는다)
+ * 3. 확정/취소: 적립되면 CONVERT 거래 기록, 거절되면 차감분 복원 (각각 짧은 트랜잭션)
+ * 응답을 받지 못한 전환은 정산기(sweep)가 같은 참조 ID로 다시 요청하고,
+ * 최대 시도 후이거나 재시도에서 거절된 경우에는 하나카드에 반영 여부를 조회해 확정 또는 취소한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HanamoneyConversionService {
+
+    private final HanamoneyConversionRepository hanamoneyConversionRepository;
+    private final MemberProfileRepository memberProfileRepository;
+    private final MemberRepository memberRepository;
+    private final PointTransactionRepository pointTransactionRepository;
+    private final HanamoneyCardService hanamoneyCardService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${hanamoney-conversion.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${hanamoney-conversion.retry-backoff-seconds:30}")
+    private long retryBackoffSeconds;
+
+    @Value("${hanamoney-conversion.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    @Value("${hanamoney-conversion.stale-sending-minutes:5}")
+    private long staleSendingMinutes;
+
+    @Value("${hanamoney-conversion.sweep-grace-seconds:10}")
+    private long sweepGraceSeconds;
+
+    @Value("${hanamoney-conversion.sweep-batch-size:100}")
+    private int sweepBatchSize;
+
+    public record SweepResult(int releasedStale, int processed, int confirmed, int cancelled) {
+    }
+
+    /**
+     * 전환 예약 - 잔액이 충분하면 원큐씨앗을 차감하고 예약 행을 저장한다
+     */
+    public HanamoneyConversion reserve(Long memberId, Long pointsAmount) {
+        return transactionTemplate.execute(status -> {
+            if (memberProfileRepository.reservePoints(memberId, pointsAmount) == 0) {
+                throw new BusinessException(ErrorCode.INSUFFICIENT_ECO_SEEDS);
+            }
+            return hanamoneyConversionRepository.save(HanamoneyConversion.builder()
+                    .memberId(memberId)
+                    .pointsAmount(pointsAmount)
+                    .build());
+        });
+    }
+
+    /**
+     * 전환 진행 (트랜잭션 밖에서 호출) - 선점에 실패하면 현재 상태를 반환한다
+     */
+    public ConversionStatus process(Long conversionId) {
+        Integer claimed = transactionTemplate.execute(status -> hanamoneyConversionRepository.claim(
+                conversionId, ConversionStatus.RESERVED, ConversionStatus.SENDING, LocalDateTime.now()));
+        HanamoneyConversion conversion = hanamoneyConversionRepository.findById(conversionId).orElse(null);
+        if (conversion == null) {
+            return null;
+        }
+        if (claimed == null || claimed == 0) {
+            // 이미 다른 스레드가 요청 중이거나 끝난 전환
+            return conversion.getStatus();
+        }
+
+        Member member = memberRepository.findById(conversion.getMemberId()).orElse(null);
+        if (member == null) {
+            return cancel(conversionId, "회원을 찾을 수 없습니다.");
+        }
+
+        if (conversion.getAttempts() > maxAttempts) {
+            // 마지막 요청 이후 백오프만큼 지났으므로 반영 여부만 조회하여 정산한다
+            return reconcile(conversion, member);
+        }
+
+        EarnOutcome outcome = hanamoneyCardService.earnHanamoney(member, conversion.getPointsAmount(),
+                "원큐씨앗 전환: " + conversion.getPointsAmount() + "개", conversion.getReferenceId());
+        return switch (outcome) {
+            case APPLIED -> confirm(conversionId);
+            // 앞선 시도의 결과를 모르는 상태라면 이번 거절이 미반영을 뜻하지 않으므로 반영 여부를 조회해 정산한다
+            case REJECTED -> conversion.getAttempts() > 1
+                    ? reconcile(conversion, member)
+                    : cancel(conversionId, "하나카드 적립 거절");
+            case UNKNOWN -> retryLater(conversionId, "하나카드 적립 응답 없음 (시도 " + conversion.getAttempts() + "회)");
+        };
+    }
+
+    /**
+     * 정산기 - 요청 중 멈춘 전환을 되돌리고, 재시도 시각이 된 미확정 전환을 다시 진행한다
+     */
+    public SweepResult sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer released = transactionTemplate.execute(status -> hanamoneyConversionRepository.releaseStale(
+                ConversionStatus.SENDING, ConversionStatus.RESERVED, now.minusMinutes(staleSendingMinutes), now));
+        if (released != null && released > 0) {
+            log.warn("요청 중 멈춘 하나머니 전환 {}건을 대기 상태로 되돌렸습니다.", released);
+        }
+
+        // 방금 예약되어 요청 스레드가 진행 중인 전환은 유예 시간 동안 건드리지 않는다
+        List<Long> ids = hanamoneyConversionRepository.findIdsByStatusDueBefore(
+                ConversionStatus.RESERVED, now.minusSeconds(sweepGraceSeconds), PageRequest.of(0, sweepBatchSize));
+        int confirmed = 0;
+        int cancelled = 0;
+        for (Long id : ids) {
+            ConversionStatus result = process(id);
+            if (result == ConversionStatus.CONFIRMED) {
+                confirmed++;
+            } else if (result == ConversionStatus.CANCELLED) {
+                cancelled++;
+            }
+        }
+        if (!ids.isEmpty()) {
+            log.info("하나머니 전환 정산: 대상 {}건, 확정 {}건, 취소 {}건", ids.size(), confirmed, cancelled);
+        }
+        return new SweepResult(released != null ? released : 0, ids.size(), confirmed, cancelled);
+    }
+
+    private ConversionStatus reconcile(HanamoneyConversion conversion, Member member) {
+        Boolean applied = hanamoneyCardService.getEarnStatus(member, conversion.getReferenceId());
+        if (applied == null) {
+            return retryLater(conversion.getId(), "하나머니 적립 반영 여부 조회 실패");
+        }
+        log.warn("하나머니 전환 정산 - 전환ID: {}, 참조ID: {}, 반영: {}",
+                conversion.getId(), conversion.getReferenceId(), applied);
+        return applied ? confirm(conversion.getId()) : cancel(conversion.getId(), "최대 재시도 후 미반영 확인");
+    }
+
+    private ConversionStatus confirm(Long conversionId) {
+        return transactionTemplate.execute(status -> {
+            HanamoneyConversion conversion = hanamoneyConversionRepository.findById(conversionId).orElseThrow();
+            if (conversion.isCompleted()) {
+                return conversion.getStatus();
+            }
+            Member member = memberRepository.getReferenceById(conversion.getMemberId());
+            Long balance = memberProfileRepository.findByMember_MemberId(conversion.getMemberId())
+                    .map(MemberProfile::getCurrentPoints)
+                    .orElse(0L);
+
+            // 차감은 예약 시 반영되었으므로 거래 내역만 남긴다 (CONVERT 타입, 음수로 저장)
+            pointTransactionRepository.save(PointTransaction.builder()
+                    .member(member)
+                    .pointTransactionType(PointTransactionType.CONVERT)
+                    .category(PointCategory.HANA_MONEY_CONVERSION)
+                    .description("하나머니로 전환")
+                    .pointsAmount(-Math.toIntExact(conversion.getPointsAmount()))
+                    .balanceAfter(balance)
+                    .build());
+            conversion.confirm();
+
+            log.info("하나머니 전환 확정 - 회원ID: {}, 전환금액: {}, 참조ID: {}",
+                    conversion.getMemberId(), conversion.getPointsAmount(), conversion.getReferenceId());
+            return conversion.getStatus();
+        });
+    }
+
+    private ConversionStatus cancel(Long conversionId, String reason) {
+        return transactionTemplate.execute(status -> {
+            HanamoneyConversion conversion = hanamoneyConversionRepository.findById(conversionId).orElseThrow();
+            if (conversion.isCompleted()) {
+                return conversion.getStatus();
+            }
+            // 벌크 갱신 전에 상태 변경이 먼저 flush되도록 순서를 지킨다
+            conversion.cancel(reason);
+            memberProfileRepository.restorePoints(conversion.getMemberId(), conversion.getPointsAmount());
+
+            log.warn("하나머니 전환 취소, 원큐씨앗 복원 - 회원ID: {}, 전환금액: {}, 사유: {}",
+                    conversion.getMemberId(), conversion.getPointsAmount(), reason);
+            return conversion.getStatus();
+        });
+    }
+
+    private ConversionStatus retryLater(Long conversionId, String error) {
+        return transactionTemplate.execute(status -> {
+            HanamoneyConversion conversion = hanamoneyConversionRepository.findById(conversionId).orElseThrow();
+            if (conversion.isCompleted()) {
+                return conversion.getStatus();
+            }
+            conversion.retryLater(error, retryBackoffSeconds, maxBackoffSeconds);
+            log.warn("하나머니 전환 재시도 예약 - 전환ID: {}, 다음 시도: {}, 사유: {}",
+                    conversionId, conversion.getNextAttemptAt(), error);
+            return conversion.getStatus();
+        });
+    }
+}
@@ -0,0 +1,138 @@
+package com.kopo.hanagreenworld.point.service;
+
+import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원별 누적 적립 원큐씨앗 캐시 (레벨 판정용)
+ * 최초 조회 시에만 원장(+아카이브) 합계를 읽고, 이후 적립은 일간 집계 기록 시점에
+ * 커밋 후 더해 주어 카드 결제마다 전체 원장을 합산하지 않도록 한다.
+ * 다른 경로로 원장이 바뀌는 경우를 대비해 TTL이 지나면 다시 합산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberSeedTotalCache {
+
+    private final PointTransactionRepository pointTransactionRepository;
+
+    @Value("${point.seed-total-cache.max-size:50000}")
+    private int maxSize;
+
+    @Value("${point.seed-total-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    // 접근 순서 기준 LinkedHashMap (회원 ID -> 누적 적립)
+    private final LinkedHashMap<Long, CachedTotal> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    public long getTotalEarned(Long memberId) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            CachedTotal cached = entries.get(memberId);
+            if (cached != null && cached.expiresAt() > now) {
+                return cached.total();
+            }
+        }
+
+        Long total = pointTransactionRepository.findTotalSeedsByUserId(memberId);
+        long value = total != null ? total : 0L;
+        synchronized (entries) {
+            entries.put(memberId, new CachedTotal(value, now + ttlSeconds * 1000L));
+            evictIfNeeded();
+        }
+        return value;
+    }
+
+    /**
+     * 여러 회원 일괄 조회 (캐시에 없는 회원만 한 번에 합산)
+     */
+    public Map<Long, Long> getTotalsEarned(Collection<Long> memberIds) {
+        long now = System.currentTimeMillis();
+        Map<Long, Long> totals = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        synchronized (entries) {
+            for (Long memberId : memberIds) {
+                CachedTotal cached = entries.get(memberId);
+                if (cached != null && cached.expiresAt() > now) {
+                    totals.put(memberId, cached.total());
+                } else {
+                    misses.add(memberId);
+                }
+            }
+        }
+        if (misses.isEmpty()) {
+            return totals;
+        }
+
+        Map<Long, Long> loaded = new HashMap<>();
+        for (Object[] row : pointTransactionRepository.findTotalSeedsByUserIds(misses)) {
+            loaded.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        synchronized (entries) {
+            for (Long memberId : misses) {
+                long value = loaded.getOrDefault(memberId, 0L);
+                entries.put(memberId, new CachedTotal(value, now + ttlSeconds * 1000L));
+                totals.put(memberId, value);
+            }
+            evictIfNeeded();
+        }
+        return totals;
+    }
+
+    /**
+     * 적립 반영 (트랜잭션 안이면 커밋 후에 더한다)
+     * 캐시에 없는 회원은 다음 조회 때 원장에서 읽으므로 무시한다.
+     */
+    public void addEarned(Long memberId, long points) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyEarned(memberId, points);
+                }
+            });
+            return;
+        }
+        applyEarned(memberId, points);
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        log.info("회원 누적 원큐씨앗 캐시 초기화");
+    }
+
+    private void applyEarned(Long memberId, long points) {
+        synchronized (entries) {
+            CachedTotal cached = entries.get(memberId);
+            if (cached != null) {
+                entries.put(memberId, new CachedTotal(cached.total() + points, cached.expiresAt()));
+            }
+        }
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Long, CachedTotal>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record CachedTotal(long total, long expiresAt) {
+    }
+}
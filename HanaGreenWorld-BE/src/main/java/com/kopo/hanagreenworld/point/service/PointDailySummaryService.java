@@ -0,0 +1,92 @@
+package com.kopo.hanagreenworld.point.service;
+
+import com.kopo.hanagreenworld.point.domain.PointCategory;
+import com.kopo.hanagreenworld.point.repository.PointDailySummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원별 일간 원큐씨앗 적립 집계
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointDailySummaryService {
+
+    private final PointDailySummaryRepository pointDailySummaryRepository;
+    private final MemberSeedTotalCache memberSeedTotalCache;
+
+    @Transactional
+    public void recordEarn(Long memberId, PointCategory category, long points, LocalDate date) {
+        recordEarn(memberId, category, points, 1, date);
+    }
+
+    @Transactional
+    public void recordEarn(Long memberId, PointCategory category, long points, int count, LocalDate date) {
+        pointDailySummaryRepository.upsert(memberId, date, category.name(), points, count);
+        memberSeedTotalCache.addEarned(memberId, points);
+    }
+
+    /**
+     * 일자별 적립 합계 (일 -> 합계, 일자순)
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, Long> getDailyEarnings(Long memberId, LocalDate startDate, LocalDate endDate) {
+        Map<Integer, Long> dailyEarnings = new LinkedHashMap<>();
+        for (Object[] row : pointDailySummaryRepository.sumDailyEarnings(memberId, startDate, endDate)) {
+            dailyEarnings.put(((Number) row[0]).intValue(), ((Number) row[1]).longValue());
+        }
+        return dailyEarnings;
+    }
+
+    /**
+     * 카테고리별 적립 합계/건수
+     */
+    @Transactional(readOnly = true)
+    public Map<PointCategory, CategoryTotal> getCategoryTotals(Long memberId, LocalDate startDate, LocalDate endDate) {
+        Map<PointCategory, CategoryTotal> totals = new EnumMap<>(PointCategory.class);
+        List<Object[]> rows = pointDailySummaryRepository.sumByCategory(memberId, startDate, endDate);
+        for (Object[] row : rows) {
+            totals.put((PointCategory) row[0],
+                    new CategoryTotal(((Number) row[1]).longValue(), ((Number) row[2]).longValue()));
+        }
+        return totals;
+    }
+
+    /**
+     * 기간 내 회원별 적립 합계 (지정 카테고리만)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> getMemberTotals(LocalDate startDate, LocalDate endDate, Collection<PointCategory> categories) {
+        Map<Long, Long> totals = new HashMap<>();
+        for (Object[] row : pointDailySummaryRepository.sumByMember(startDate, endDate, categories)) {
+            totals.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return totals;
+    }
+
+    /**
+     * 적립 거래 이력으로부터 전체 집계를 다시 생성
+     */
+    @Transactional
+    public int backfill() {
+        long startTime = System.currentTimeMillis();
+        pointDailySummaryRepository.deleteAllRows();
+        int rows = pointDailySummaryRepository.backfillFromTransactions();
+        log.info("원큐씨앗 일간 집계 백필 완료: {}행, {}ms", rows, System.currentTimeMillis() - startTime);
+        return rows;
+    }
+
+    public record CategoryTotal(long points, long count) {
+    }
+}
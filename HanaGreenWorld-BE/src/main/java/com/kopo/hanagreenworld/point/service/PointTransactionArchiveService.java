@@ -0,0 +1,154 @@
+package com.kopo.hanagreenworld.point.service;
+
+import com.kopo.hanagreenworld.point.repository.PointTransactionArchiveRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 원큐씨앗 원장(point_transactions) 아카이빙
+ * 보관 기간이 지난 닫힌 월의 거래를 청크 단위 트랜잭션으로 point_transactions_archive로 옮기고,
+ * 회원별 누적 합계는 point_archive_member_totals에 더해 누적 조회 결과가 바뀌지 않게 한다.
+ * 원장이 월 RANGE 파티션으로 전환된 경우(db/point_transactions_partitioning.sql)
+ * 비워진 과거 파티션을 제거하고 앞으로 쓸 월 파티션을 미리 만든다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointTransactionArchiveService {
+
+    private static final DateTimeFormatter PARTITION_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final String MAX_PARTITION = "pmax";
+    private static final Pattern MONTH_PARTITION = Pattern.compile("p\\d{6}");
+
+    // 파티션 DDL은 바인딩 파라미터를 쓸 수 없으므로 고정 문장에 검증된 월 파티션 이름/날짜만 넣는다
+    private static final String DROP_PARTITION_DDL = "ALTER TABLE point_transactions DROP PARTITION %s";
+    private static final String SPLIT_MAX_PARTITION_DDL = "ALTER TABLE point_transactions REORGANIZE PARTITION pmax INTO ("
+            + "PARTITION %s VALUES LESS THAN (TO_DAYS('%s')), PARTITION pmax VALUES LESS THAN MAXVALUE)";
+
+    private final PointTransactionArchiveRepository pointTransactionArchiveRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${point.archive.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${point.archive.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${point.archive.partition-ahead-months:2}")
+    private int partitionAheadMonths;
+
+    public ArchiveResult archiveClosedMonths() {
+        // 이번 달은 항상 원장에 남도록 최소 1개월 보관
+        YearMonth firstRetainedMonth = YearMonth.now().minusMonths(Math.max(1, retentionMonths));
+        LocalDateTime cutoff = firstRetainedMonth.atDay(1).atStartOfDay();
+        long startTime = System.currentTimeMillis();
+
+        long moved = 0;
+        while (true) {
+            Integer chunk = transactionTemplate.execute(status -> archiveChunk(cutoff));
+            if (chunk == null || chunk == 0) {
+                break;
+            }
+            moved += chunk;
+            log.info("원큐씨앗 원장 아카이빙 진행: {}건 이동 (기준 {})", moved, cutoff);
+        }
+
+        int dropped = dropArchivedPartitions(firstRetainedMonth);
+        int added = addFuturePartitions();
+
+        log.info("원큐씨앗 원장 아카이빙 완료: {}건 이동, 파티션 제거 {}개, 추가 {}개, {}ms",
+                moved, dropped, added, System.currentTimeMillis() - startTime);
+        return new ArchiveResult(moved, dropped, added, cutoff);
+    }
+
+    private int archiveChunk(LocalDateTime cutoff) {
+        List<Long> ids = pointTransactionArchiveRepository.findArchivableIds(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        pointTransactionArchiveRepository.accumulateMemberTotals(ids);
+        int copied = pointTransactionArchiveRepository.copyToArchive(ids, LocalDateTime.now());
+        int deleted = pointTransactionArchiveRepository.deleteFromLedger(ids);
+        if (copied != ids.size() || deleted != ids.size()) {
+            // 동시에 삭제된 행이 있으면 합계가 어긋나므로 청크 전체 롤백
+            throw new IllegalStateException("아카이빙 대상 거래 수가 일치하지 않습니다: 대상 "
+                    + ids.size() + ", 복사 " + copied + ", 삭제 " + deleted);
+        }
+        return ids.size();
+    }
+
+    /**
+     * 보관 기준 이전 월 파티션 제거 (모든 행이 옮겨진 경우에만)
+     */
+    private int dropArchivedPartitions(YearMonth firstRetainedMonth) {
+        List<String> partitions = pointTransactionArchiveRepository.findLedgerPartitionNames();
+        if (partitions.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime cutoff = firstRetainedMonth.atDay(1).atStartOfDay();
+        if (!pointTransactionArchiveRepository.findArchivableIds(cutoff, 1).isEmpty()) {
+            log.warn("보관 기준 이전 거래가 남아 있어 파티션 제거를 건너뜁니다.");
+            return 0;
+        }
+
+        String firstRetained = firstRetainedMonth.format(PARTITION_FORMAT);
+        int dropped = 0;
+        for (String partition : partitions) {
+            // p000000(초기 하한 파티션)을 포함해 pYYYYMM 이름은 사전순 = 시간순
+            if (MAX_PARTITION.equals(partition) || partition.compareTo(firstRetained) >= 0) {
+                continue;
+            }
+            if (!MONTH_PARTITION.matcher(partition).matches()) {
+                log.warn("월 파티션 형식이 아니어서 제거하지 않습니다: {}", partition);
+                continue;
+            }
+            executeDdl(String.format(DROP_PARTITION_DDL, partition));
+            log.info("원큐씨앗 원장 파티션 제거: {}", partition);
+            dropped++;
+        }
+        return dropped;
+    }
+
+    /**
+     * 이번 달부터 partitionAheadMonths개월 뒤까지의 월 파티션을 pmax에서 분할해 생성
+     */
+    private int addFuturePartitions() {
+        List<String> partitions = pointTransactionArchiveRepository.findLedgerPartitionNames();
+        if (partitions.isEmpty() || !partitions.contains(MAX_PARTITION)) {
+            return 0;
+        }
+
+        int added = 0;
+        YearMonth month = YearMonth.now();
+        for (int i = 0; i <= partitionAheadMonths; i++, month = month.plusMonths(1)) {
+            String partition = month.format(PARTITION_FORMAT);
+            if (partitions.contains(partition)) {
+                continue;
+            }
+            LocalDate upperBound = month.plusMonths(1).atDay(1);
+            executeDdl(String.format(SPLIT_MAX_PARTITION_DDL, partition, upperBound.format(DateTimeFormatter.ISO_LOCAL_DATE)));
+            log.info("원큐씨앗 원장 파티션 추가: {} (< {})", partition, upperBound);
+            added++;
+        }
+        return added;
+    }
+
+    private void executeDdl(String sql) {
+        transactionTemplate.executeWithoutResult(status -> entityManager.createNativeQuery(sql).executeUpdate());
+    }
+
+    public record ArchiveResult(long movedRows, int droppedPartitions, int addedPartitions, LocalDateTime cutoff) {
+    }
+}
@@ -1,17 +1,23 @@
 package com.kopo.hanagreenworld.product.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kopo.hanagreenworld.common.util.CustomerInfoTokenUtil;
 import com.kopo.hanagreenworld.integration.service.GroupIntegrationService;
-import com.kopo.hanagreenworld.integration.service.CardTransactionIntegrationService;
+import com.kopo.hanagreenworld.integration.service.FinancialExportClient;
+import com.kopo.hanagreenworld.integration.dto.FinancialExportRow;
 import com.kopo.hanagreenworld.integration.dto.IntegratedCustomerInfoRequest;
 import com.kopo.hanagreenworld.integration.dto.IntegratedCustomerInfoResponse;
-import com.kopo.hanagreenworld.integration.dto.CardConsumptionSummaryResponse;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -21,18 +27,28 @@ public class BenefitCalculationService {
 
     private final ObjectMapper objectMapper;
     private final GroupIntegrationService groupIntegrationService;
-    private final CardTransactionIntegrationService cardTransactionIntegrationService;
+    private final FinancialExportClient financialExportClient;
+    private final MemberRepository memberRepository;
 
     public String calculateFinancialBenefit(Long memberId, String currentLevel) {
+        return calculateFinancialBenefit(memberId, currentLevel, YearMonth.now(), null);
+    }
+
+    /**
+     * @param reportMonth 카드 사용액을 집계할 리포트 월 (미리 받은 데이터가 없을 때도 같은 월로 조회)
+     * @param prefetched loadFinancialData로 미리 받은 금융 데이터 (없으면 회원별로 관계사에 조회)
+     */
+    public String calculateFinancialBenefit(Long memberId, String currentLevel, YearMonth reportMonth,
+                                            FinancialData prefetched) {
         try {
             Map<String, Integer> benefit = new HashMap<>();
             
             // 실제 사용자 금융 데이터 조회
-            FinancialData financialData = getUserFinancialData(memberId);
+            FinancialData financialData = prefetched != null ? prefetched : getUserFinancialData(memberId, reportMonth);
             
-            long savingsBalance = financialData.savingsBalance;
-            long loanBalance = financialData.loanBalance;
-            long monthlyCardUsage = financialData.monthlyCardUsage;
+            long savingsBalance = financialData.savingsBalance();
+            long loanBalance = financialData.loanBalance();
+            long monthlyCardUsage = financialData.monthlyCardUsage();
 
             double savingsRate = 0.0;
             double loanRate = 0.0;
@@ -106,7 +122,49 @@ public class BenefitCalculationService {
         return "BEGINNER";
     }
 
-    private FinancialData getUserFinancialData(Long memberId) {
+    /**
+     * 회원 묶음의 금융 데이터를 관계사별 일괄 보내기 API로 한 번씩만 조회
+     * 관계사 응답에 없는 회원은 해당 금액을 0으로 본다.
+     * 한쪽이라도 실패하면 빈 맵을 반환하여 호출 측이 회원별 조회로 처리하게 한다.
+     *
+     * @param reportMonth 카드 사용액을 집계할 리포트 월
+     */
+    public Map<Long, FinancialData> loadFinancialData(List<Long> memberIds, YearMonth reportMonth) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            Map<Long, String> tokensByMemberId = new HashMap<>();
+            for (Member member : memberRepository.findAllById(memberIds)) {
+                tokensByMemberId.put(member.getMemberId(), CustomerInfoTokenUtil.createCustomerInfoToken(member));
+            }
+            List<String> tokens = new ArrayList<>(tokensByMemberId.values());
+
+            Map<String, FinancialExportRow> bankRows = financialExportClient.exportBank(tokens);
+            Map<String, FinancialExportRow> cardRows = financialExportClient.exportCard(tokens, reportMonth);
+
+            Map<Long, FinancialData> result = new HashMap<>(tokensByMemberId.size() * 2);
+            tokensByMemberId.forEach((memberId, token) -> {
+                FinancialExportRow bank = bankRows.get(token);
+                FinancialExportRow card = cardRows.get(token);
+                result.put(memberId, new FinancialData(
+                        bank != null && bank.getSavingsBalance() != null ? bank.getSavingsBalance() : 0L,
+                        bank != null && bank.getLoanBalance() != null ? bank.getLoanBalance() : 0L,
+                        card != null && card.getMonthlyCardUsage() != null ? card.getMonthlyCardUsage() : 0L));
+            });
+            return result;
+
+        } catch (Exception e) {
+            log.warn("금융 데이터 일괄 조회 실패, 회원별 조회로 대체 - {}명: {}", memberIds.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * 회원 한 명의 금융 데이터 조회 (일괄 조회에 실패했거나 미리 받은 데이터가 없을 때)
+     * 카드 사용액은 일괄 경로와 같은 보내기 API로 리포트 월 기준으로 받는다.
+     */
+    private FinancialData getUserFinancialData(Long memberId, YearMonth reportMonth) {
         try {
             // 은행 계좌 정보 조회 (적금, 대출)
             IntegratedCustomerInfoRequest bankRequest = IntegratedCustomerInfoRequest.builder()
@@ -134,12 +192,15 @@ public class BenefitCalculationService {
                 }
             }
             
-            // 카드 사용액 조회 (그린라이프 카드)
+            // 카드 사용액 조회 (리포트 월)
             long monthlyCardUsage = 0L;
             try {
-                CardConsumptionSummaryResponse cardSummary = cardTransactionIntegrationService.getConsumptionSummary(memberId);
-                if (cardSummary != null && cardSummary.getTotalAmount() != null) {
-                    monthlyCardUsage = cardSummary.getTotalAmount();
+                Member member = memberRepository.findById(memberId)
+                        .orElseThrow(() -> new IllegalArgumentException("회원을 찾을 수 없습니다: " + memberId));
+                String token = CustomerInfoTokenUtil.createCustomerInfoToken(member);
+                FinancialExportRow card = financialExportClient.exportCard(List.of(token), reportMonth).get(token);
+                if (card != null && card.getMonthlyCardUsage() != null) {
+                    monthlyCardUsage = card.getMonthlyCardUsage();
                 }
             } catch (Exception e) {
                 log.warn("카드 사용액 조회 실패: {}", e.getMessage());
@@ -153,15 +214,6 @@ public class BenefitCalculationService {
         }
     }
 
-    private static class FinancialData {
-        final long savingsBalance;
-        final long loanBalance;
-        final long monthlyCardUsage;
-        
-        FinancialData(long savingsBalance, long loanBalance, long monthlyCardUsage) {
-            this.savingsBalance = savingsBalance;
-            this.loanBalance = loanBalance;
-            this.monthlyCardUsage = monthlyCardUsage;
-        }
+    public record FinancialData(long savingsBalance, long loanBalance, long monthlyCardUsage) {
     }
 }
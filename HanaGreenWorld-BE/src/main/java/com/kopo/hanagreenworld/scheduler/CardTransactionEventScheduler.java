@@ -0,0 +1,25 @@
+package com.kopo.hanagreenworld.scheduler;
+
+import com.kopo.hanagreenworld.merchant.service.CardTransactionEventBus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardTransactionEventScheduler {
+
+    private final CardTransactionEventBus cardTransactionEventBus;
+
+    // 지연/재시도 대상 카드 거래 이벤트 수집 (재시작 시 남은 이벤트도 여기서 재개)
+    @Scheduled(fixedDelayString = "${card-event.sweep-delay-millis:5000}", initialDelay = 10000)
+    public void sweepCardTransactionEvents() {
+        try {
+            cardTransactionEventBus.sweep();
+        } catch (Exception e) {
+            log.error("카드 거래 이벤트 수집 스케줄러 실행 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,19 +1,22 @@
 package com.kopo.hanagreenworld.scheduler;
 
-import com.kopo.hanagreenworld.member.domain.EcoReport;
 import com.kopo.hanagreenworld.member.service.EcoReportService;
+import com.kopo.hanagreenworld.member.repository.EcoReportRepository;
 import com.kopo.hanagreenworld.member.repository.MemberRepository;
-import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.integration.service.FinancialExportClient;
+import com.kopo.hanagreenworld.product.service.BenefitCalculationService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
@@ -22,34 +25,92 @@ public class EcoReportScheduler {
 
     private final EcoReportService ecoReportService;
     private final MemberRepository memberRepository;
+    private final EcoReportRepository ecoReportRepository;
+    private final BenefitCalculationService benefitCalculationService;
 
-    @Scheduled(cron = "0 0 0 L * ?")
-    @Transactional
-    public void generateMonthlyReports() {
-
-        try {
-            // 이전 달 리포트 생성 (현재 날짜 기준)
-            LocalDateTime now = LocalDateTime.now();
-            String reportMonth = now.minusMonths(1).format(DateTimeFormatter.ofPattern("yyyy-MM"));
-
-            // 모든 활성 사용자 조회
-            List<Long> activeMemberIds = memberRepository.findActiveMemberIds();
-            log.info("활성 사용자 수: {}", activeMemberIds.size());
-            
-            int successCount = 0;
-            int failureCount = 0;
-            
-            for (Long memberId : activeMemberIds) {
+    @Value("${eco-report.export-chunk-size:1000}")
+    private int exportChunkSize;
+
+    /**
+     * 월간 리포트 일괄 생성 (ScheduledJobTriggers가 매월 말일부터 호출)
+     * 회원별 리포트는 각자 트랜잭션으로 저장되므로 한 회원 실패가 전체를 되돌리지 않는다.
+     * 금융 혜택 계산용 데이터는 회원 묶음마다 관계사별 일괄 보내기 API로 한 번씩 받아 쓰고,
+     * 일괄 조회에 실패한 묶음만 회원별 조회로 처리한다.
+     * 일부 회원만 실패하면 실패 수를 요약에 남기고 성공으로 기록해 월초 초기화/아카이빙이 이어지게 하고
+     * (실패한 회원은 generateMissingReports가 월초 첫 주 동안 다시 생성한다),
+     * 한 명도 생성하지 못했을 때(DB/관계사 장애 등)만 예외를 던져 다음 트리거에서 다시 생성한다.
+     *
+     * @param closingMonth 마감 월 (실행 키), 그 전달 리포트를 생성한다
+     */
+    public String generateMonthlyReports(YearMonth closingMonth) {
+        List<Long> activeMemberIds = memberRepository.findActiveMemberIds();
+        log.info("활성 사용자 수: {}", activeMemberIds.size());
+
+        ReportResult result = generateReports(closingMonth.minusMonths(1), activeMemberIds);
+        if (result.failureCount() > 0 && result.successCount() == 0) {
+            throw new IllegalStateException(result.summary());
+        }
+        if (result.failureCount() > 0) {
+            log.warn("월간 리포트 일부 실패 - {}", result.summary());
+        }
+        return result.summary();
+    }
+
+    /**
+     * 마감 월 리포트가 없는 활성 회원만 다시 생성 (일괄 생성에서 실패한 회원 재시도)
+     * 리포트는 일간/월간 집계에서 계산하므로 월간 초기화 이후에 실행해도 결과가 같다.
+     * 한 명이라도 실패하면 예외를 던져 다음 트리거에서 남은 회원만 다시 생성한다.
+     *
+     * @param closingMonth 마감 월 (실행 키)
+     */
+    public String generateMissingReports(YearMonth closingMonth) {
+        YearMonth targetMonth = closingMonth.minusMonths(1);
+        Set<Long> reported = new HashSet<>(ecoReportRepository.findMemberIdsByReportMonth(targetMonth.toString()));
+        List<Long> missingMemberIds = memberRepository.findActiveMemberIds().stream()
+                .filter(memberId -> !reported.contains(memberId))
+                .toList();
+        if (missingMemberIds.isEmpty()) {
+            return "리포트 월 " + targetMonth + ", 누락 없음";
+        }
+
+        ReportResult result = generateReports(targetMonth, missingMemberIds);
+        if (result.failureCount() > 0) {
+            throw new IllegalStateException(result.summary());
+        }
+        return result.summary();
+    }
+
+    private ReportResult generateReports(YearMonth targetMonth, List<Long> memberIds) {
+        String reportMonth = targetMonth.format(DateTimeFormatter.ofPattern("yyyy-MM"));
+
+        int successCount = 0;
+        int failureCount = 0;
+        int prefetchedCount = 0;
+        int chunkSize = Math.max(1, Math.min(exportChunkSize, FinancialExportClient.MAX_TOKENS_PER_REQUEST));
+
+        for (int from = 0; from < memberIds.size(); from += chunkSize) {
+            List<Long> chunk = memberIds.subList(from, Math.min(from + chunkSize, memberIds.size()));
+            Map<Long, BenefitCalculationService.FinancialData> financialData =
+                    benefitCalculationService.loadFinancialData(chunk, targetMonth);
+            prefetchedCount += financialData.size();
+
+            for (Long memberId : chunk) {
                 try {
-                    EcoReport report = ecoReportService.generateMonthlyReport(memberId, reportMonth);
+                    ecoReportService.generateMonthlyReport(memberId, reportMonth, financialData.get(memberId));
                     successCount++;
-                    
+
                 } catch (Exception e) {
                     failureCount++;
+                    log.warn("월간 리포트 생성 실패 - memberId: {}, reportMonth: {}: {}", memberId, reportMonth, e.getMessage());
                 }
             }
-        } catch (Exception e) {
-            log.error("월간 리포트 자동 생성 스케줄러 실패: {}", e.getMessage(), e);
         }
+
+        String summary = String.format("리포트 월 %s, 성공 %d명, 실패 %d명 (금융 데이터 일괄 조회 %d명)",
+                reportMonth, successCount, failureCount, prefetchedCount);
+        return new ReportResult(successCount, failureCount, summary);
+    }
+
+    private record ReportResult(int successCount, int failureCount, String summary) {
     }
 }
@@ -0,0 +1,25 @@
+package com.kopo.hanagreenworld.scheduler;
+
+import com.kopo.hanagreenworld.point.service.HanamoneyConversionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HanamoneyConversionScheduler {
+
+    private final HanamoneyConversionService hanamoneyConversionService;
+
+    // 미확정 하나머니 전환 정산 (요청 선점으로 여러 노드에서 돌아도 같은 전환을 동시에 요청하지 않는다)
+    @Scheduled(fixedDelayString = "${hanamoney-conversion.sweep-delay-millis:30000}", initialDelay = 30000)
+    public void sweepHanamoneyConversions() {
+        try {
+            hanamoneyConversionService.sweep();
+        } catch (Exception e) {
+            log.error("하나머니 전환 정산 스케줄러 실행 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
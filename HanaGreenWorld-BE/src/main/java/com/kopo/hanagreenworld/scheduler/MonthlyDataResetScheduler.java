@@ -1,15 +1,12 @@
 package com.kopo.hanagreenworld.scheduler;
 
 import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
-import com.kopo.hanagreenworld.member.service.MemberProfileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.List;
+import java.time.YearMonth;
 
 @Slf4j
 @Component
@@ -17,34 +14,20 @@ import java.util.List;
 public class MonthlyDataResetScheduler {
 
     private final MemberProfileRepository memberProfileRepository;
-    private final MemberProfileService memberProfileService;
 
-    @Scheduled(cron = "0 0 0 1 * ?")
+    /**
+     * 마감 월의 이번달 데이터 초기화 (ScheduledJobTriggers가 매월 1~7일 또는 관리자 요청 시, 월간 리포트 성공 후 호출)
+     * 이번달 누적값이 마감 월 이전 것인 회원만 0으로 돌린다.
+     * 새 달에 이미 활동한 회원은 적립 시점에 값이 새 달로 넘어가 있으므로, 월초 며칠 뒤에 실행해도 새 달 활동은 지워지지 않는다.
+     *
+     * @param closingMonth 마감 월 (실행 키)
+     */
     @Transactional
-    public void resetMonthlyData() {
+    public String resetMonthlyData(YearMonth closingMonth) {
+        YearMonth newMonth = closingMonth.plusMonths(1);
+        int resetCount = memberProfileRepository.resetCurrentMonthBefore(newMonth.toString());
 
-        try {
-            // 모든 활성 사용자 프로필 조회
-            List<Long> allMemberIds = memberProfileRepository.findAll()
-                    .stream()
-                    .map(profile -> profile.getMember().getMemberId())
-                    .toList();
-
-            int successCount = 0;
-            int failCount = 0;
-            
-            // 각 사용자의 이번달 데이터 초기화
-            for (Long memberId : allMemberIds) {
-                try {
-                    memberProfileService.resetCurrentMonthData(memberId);
-                    successCount++;
-                } catch (Exception e) {
-                    failCount++;
-                }
-            }
-
-        } catch (Exception e) {
-            log.error("월간 데이터 초기화 스케줄러 실행 중 오류 발생: {}", e.getMessage(), e);
-        }
+        log.info("월간 데이터 초기화 완료 - 마감 월: {}, 초기화 {}명", closingMonth, resetCount);
+        return String.format("마감 월 %s, 초기화 %d명", closingMonth, resetCount);
     }
 }
@@ -0,0 +1,123 @@
+package com.kopo.hanagreenworld.scheduler;
+
+import com.kopo.hanagreenworld.activity.controller.NewsUpdateScheduler;
+import com.kopo.hanagreenworld.activity.controller.QuizScheduler;
+import com.kopo.hanagreenworld.point.service.PointTransactionArchiveService;
+import com.kopo.hanagreenworld.scheduler.service.ScheduledJobOrchestrator;
+import com.kopo.hanagreenworld.scheduler.service.ScheduledJobOrchestrator.JobSpec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+/**
+ * 클러스터 단위 정기 작업 트리거
+ * 트리거는 실행 키만 정해 ScheduledJobOrchestrator에 넘기고 바로 반환한다.
+ * 월말/월초 작업은 같은 마감 월을 실행 키로 써서 리포트 → 초기화 → 아카이빙 순서를 보장하며,
+ * 실패하거나 선행 작업을 기다리는 동안에는 월초 첫 주(아카이빙은 2~9일) 동안 매시 다시 트리거된다.
+ * 초기화는 마감 월 이전 값만 0으로 돌리므로 월초 며칠 뒤에 실행되어도 새 달 활동은 남는다.
+ * 모든 트리거와 실행 키는 서비스 기준 시간대(Asia/Seoul)로 계산한다.
+ * (노드마다 돌아야 하는 캐시 갱신/수신함 수집은 기존 @Scheduled 그대로 둔다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobTriggers {
+
+    public static final String NEWS_UPDATE = "news-update";
+    public static final String DAILY_QUIZ = "daily-quiz";
+    public static final String ECO_REPORT = "eco-report";
+    public static final String ECO_REPORT_MISSING = "eco-report-missing";
+    public static final String MONTHLY_RESET = "monthly-reset";
+    public static final String POINT_ARCHIVE = "point-archive";
+
+    private static final String ZONE = "Asia/Seoul";
+    private static final ZoneId ZONE_ID = ZoneId.of(ZONE);
+
+    private static final JobSpec NEWS_UPDATE_JOB = JobSpec.of(NEWS_UPDATE);
+    private static final JobSpec DAILY_QUIZ_JOB = JobSpec.of(DAILY_QUIZ);
+    private static final JobSpec ECO_REPORT_JOB = JobSpec.of(ECO_REPORT);
+    private static final JobSpec ECO_REPORT_MISSING_JOB = JobSpec.of(ECO_REPORT_MISSING, ECO_REPORT);
+    private static final JobSpec MONTHLY_RESET_JOB = JobSpec.of(MONTHLY_RESET, ECO_REPORT);
+    private static final JobSpec POINT_ARCHIVE_JOB = JobSpec.of(POINT_ARCHIVE, MONTHLY_RESET);
+
+    private final ScheduledJobOrchestrator scheduledJobOrchestrator;
+    private final NewsUpdateScheduler newsUpdateScheduler;
+    private final QuizScheduler quizScheduler;
+    private final EcoReportScheduler ecoReportScheduler;
+    private final MonthlyDataResetScheduler monthlyDataResetScheduler;
+    private final PointTransactionArchiveService pointTransactionArchiveService;
+
+    // 매일 23:30 뉴스 수집
+    @Scheduled(cron = "0 30 23 * * *", zone = ZONE)
+    public void triggerNewsUpdate() {
+        scheduledJobOrchestrator.submit(NEWS_UPDATE_JOB, LocalDate.now(ZONE_ID).toString(), () -> {
+            newsUpdateScheduler.updateNewsData();
+            return "뉴스 수집 및 RAG 갱신 완료";
+        });
+    }
+
+    // 매일 23:50 내일 퀴즈 생성 (뉴스 수집과 별도 스레드)
+    @Scheduled(cron = "0 50 23 * * *", zone = ZONE)
+    public void triggerDailyQuiz() {
+        LocalDate quizDate = LocalDate.now(ZONE_ID).plusDays(1);
+        scheduledJobOrchestrator.submit(DAILY_QUIZ_JOB, quizDate.toString(), () -> {
+            quizScheduler.generateDailyQuiz();
+            return quizDate + " 퀴즈 준비 완료";
+        });
+    }
+
+    // 매월 말일 0시부터 매시 (성공하면 이후 트리거는 건너뜀)
+    @Scheduled(cron = "0 0 * L * ?", zone = ZONE)
+    public void triggerEcoReport() {
+        submitEcoReport(YearMonth.now(ZONE_ID));
+    }
+
+    // 말일에 끝내지 못한 지난달 리포트를 월초 첫 주 동안 매시 재시도
+    @Scheduled(cron = "0 15 * 1-7 * ?", zone = ZONE)
+    public void retryEcoReport() {
+        submitEcoReport(YearMonth.now(ZONE_ID).minusMonths(1));
+    }
+
+    // 일괄 생성에서 일부 실패한 회원의 지난달 리포트를 월초 첫 주 동안 매시 재생성 (초기화 순서와 무관)
+    @Scheduled(cron = "0 45 * 1-7 * ?", zone = ZONE)
+    public void triggerMissingEcoReports() {
+        YearMonth closingMonth = YearMonth.now(ZONE_ID).minusMonths(1);
+        scheduledJobOrchestrator.submit(ECO_REPORT_MISSING_JOB, closingMonth.toString(),
+                () -> ecoReportScheduler.generateMissingReports(closingMonth));
+    }
+
+    // 매월 1~7일 매시, 지난달 리포트 성공 후에만 실행 (새 달에 이미 적립된 값은 유지된다)
+    @Scheduled(cron = "0 0 * 1-7 * ?", zone = ZONE)
+    public void triggerMonthlyReset() {
+        submitMonthlyReset(YearMonth.now(ZONE_ID).minusMonths(1));
+    }
+
+    // 매월 2~9일 3시 30분부터 매시, 지난달 초기화 성공 후에만 실행
+    @Scheduled(cron = "0 30 3-23 2-9 * ?", zone = ZONE)
+    public void triggerPointArchive() {
+        scheduledJobOrchestrator.submit(POINT_ARCHIVE_JOB, YearMonth.now(ZONE_ID).minusMonths(1).toString(),
+                () -> pointTransactionArchiveService.archiveClosedMonths().toString());
+    }
+
+    /**
+     * 마감 월 초기화 요청 (관리자 수동 실행도 같은 실행 키/선행 조건으로 처리된다)
+     */
+    public void submitMonthlyReset(YearMonth closingMonth) {
+        scheduledJobOrchestrator.submit(MONTHLY_RESET_JOB, closingMonth.toString(),
+                () -> monthlyDataResetScheduler.resetMonthlyData(closingMonth));
+    }
+
+    public YearMonth lastClosedMonth() {
+        return YearMonth.now(ZONE_ID).minusMonths(1);
+    }
+
+    private void submitEcoReport(YearMonth closingMonth) {
+        scheduledJobOrchestrator.submit(ECO_REPORT_JOB, closingMonth.toString(),
+                () -> ecoReportScheduler.generateMonthlyReports(closingMonth));
+    }
+}
@@ -1,14 +1,26 @@
 package com.kopo.hanagreenworld.scheduler.controller;
 
-import com.kopo.hanagreenworld.scheduler.MonthlyDataResetScheduler;
+import com.kopo.hanagreenworld.activity.service.EnvironmentalImpactRollupService;
+import com.kopo.hanagreenworld.activity.service.QuizStreakService;
+import com.kopo.hanagreenworld.common.sql.SqlStatementMetrics;
+import com.kopo.hanagreenworld.member.service.TeamContributionService;
+import com.kopo.hanagreenworld.merchant.service.CardTransactionEventBus;
+import com.kopo.hanagreenworld.point.service.PointDailySummaryService;
+import com.kopo.hanagreenworld.point.service.PointTransactionArchiveService;
+import com.kopo.hanagreenworld.scheduler.ScheduledJobTriggers;
+import com.kopo.hanagreenworld.scheduler.domain.ScheduledJobRun;
+import com.kopo.hanagreenworld.scheduler.service.ScheduledJobOrchestrator;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.YearMonth;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -18,22 +30,37 @@ import java.util.Map;
 @Tag(name = "스케줄러 관리", description = "스케줄러 수동 실행 및 관리 API")
 public class SchedulerController {
 
-    private final MonthlyDataResetScheduler monthlyDataResetScheduler;
+    private final ScheduledJobTriggers scheduledJobTriggers;
+    private final QuizStreakService quizStreakService;
+    private final EnvironmentalImpactRollupService environmentalImpactRollupService;
+    private final PointDailySummaryService pointDailySummaryService;
+    private final PointTransactionArchiveService pointTransactionArchiveService;
+    private final TeamContributionService teamContributionService;
+    private final CardTransactionEventBus cardTransactionEventBus;
+    private final SqlStatementMetrics sqlStatementMetrics;
+    private final ScheduledJobOrchestrator scheduledJobOrchestrator;
 
     @PostMapping("/reset-monthly-data")
-    @Operation(summary = "월간 데이터 초기화 수동 실행", description = "모든 사용자의 이번달 데이터를 수동으로 초기화합니다.")
-    public ResponseEntity<Map<String, Object>> resetMonthlyDataManually() {
+    @Operation(summary = "월간 데이터 초기화 수동 실행", description = "마감 월(기본: 지난달)의 월간 데이터 초기화 작업을 요청합니다. "
+            + "정기 실행과 같은 실행 키로 처리되어 이미 완료된 달은 다시 초기화하지 않고, 해당 월 리포트가 완료되어야 실행됩니다. "
+            + "마감 월 이전의 이번달 값만 0으로 돌리므로 새 달에 이미 적립된 값은 유지됩니다. "
+            + "결과는 /job-runs에서 확인합니다.")
+    public ResponseEntity<Map<String, Object>> resetMonthlyDataManually(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
         try {
-            log.info("🔧 관리자가 월간 데이터 초기화를 수동 실행했습니다.");
+            YearMonth closingMonth = month != null ? month : scheduledJobTriggers.lastClosedMonth();
+            log.info("🔧 관리자가 월간 데이터 초기화를 수동 요청했습니다. (마감 월 {})", closingMonth);
             
-            monthlyDataResetScheduler.resetMonthlyData();
+            scheduledJobTriggers.submitMonthlyReset(closingMonth);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("message", "월간 데이터 초기화가 성공적으로 실행되었습니다.");
+            response.put("message", closingMonth + " 월간 데이터 초기화 작업을 요청했습니다.");
+            response.put("jobName", ScheduledJobTriggers.MONTHLY_RESET);
+            response.put("runKey", closingMonth.toString());
             response.put("timestamp", System.currentTimeMillis());
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.accepted().body(response);
             
         } catch (Exception e) {
             log.error("월간 데이터 초기화 수동 실행 실패: {}", e.getMessage(), e);
@@ -47,6 +74,87 @@ public class SchedulerController {
         }
     }
 
+    @PostMapping("/backfill-quiz-streaks")
+    @Operation(summary = "퀴즈 연속 정답 백필", description = "퀴즈 이력으로부터 회원별 연속 정답 상태를 다시 계산합니다.")
+    public ResponseEntity<Map<String, Object>> backfillQuizStreaks() {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            log.info("🔧 관리자가 퀴즈 연속 정답 백필을 수동 실행했습니다.");
+
+            int updated = quizStreakService.backfillAll();
+
+            response.put("success", true);
+            response.put("message", "퀴즈 연속 정답 백필이 완료되었습니다.");
+            response.put("updatedMembers", updated);
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("퀴즈 연속 정답 백필 실패: {}", e.getMessage(), e);
+
+            response.put("success", false);
+            response.put("message", "퀴즈 연속 정답 백필 중 오류가 발생했습니다: " + e.getMessage());
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    @PostMapping("/backfill-environmental-impact")
+    @Operation(summary = "환경 임팩트 집계 백필", description = "활동 이력으로부터 회원별 일간/월간 환경 임팩트 집계를 다시 생성합니다.")
+    public ResponseEntity<Map<String, Object>> backfillEnvironmentalImpact() {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            log.info("🔧 관리자가 환경 임팩트 집계 백필을 수동 실행했습니다.");
+
+            int dailyRows = environmentalImpactRollupService.backfill();
+
+            response.put("success", true);
+            response.put("message", "환경 임팩트 집계 백필이 완료되었습니다.");
+            response.put("dailyRows", dailyRows);
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("환경 임팩트 집계 백필 실패: {}", e.getMessage(), e);
+
+            response.put("success", false);
+            response.put("message", "환경 임팩트 집계 백필 중 오류가 발생했습니다: " + e.getMessage());
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    @PostMapping("/backfill-point-daily-summaries")
+    @Operation(summary = "원큐씨앗 일간 집계 백필", description = "적립 거래 이력으로부터 회원별 일간 원큐씨앗 집계를 다시 생성합니다.")
+    public ResponseEntity<Map<String, Object>> backfillPointDailySummaries() {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            log.info("🔧 관리자가 원큐씨앗 일간 집계 백필을 수동 실행했습니다.");
+
+            int rows = pointDailySummaryService.backfill();
+
+            response.put("success", true);
+            response.put("message", "원큐씨앗 일간 집계 백필이 완료되었습니다.");
+            response.put("rows", rows);
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("원큐씨앗 일간 집계 백필 실패: {}", e.getMessage(), e);
+
+            response.put("success", false);
+            response.put("message", "원큐씨앗 일간 집계 백필 중 오류가 발생했습니다: " + e.getMessage());
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
     @GetMapping("/status")
     @Operation(summary = "스케줄러 상태 확인", description = "스케줄러의 현재 상태를 확인합니다.")
     public ResponseEntity<Map<String, Object>> getSchedulerStatus() {
@@ -58,4 +166,148 @@ public class SchedulerController {
         
         return ResponseEntity.ok(status);
     }
+
+    @PostMapping("/archive-point-transactions")
+    @Operation(summary = "원큐씨앗 원장 아카이빙", description = "보관 기간이 지난 월의 거래 내역을 아카이브 테이블로 옮기고 원장 파티션을 정리합니다.")
+    public ResponseEntity<Map<String, Object>> archivePointTransactions() {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            log.info("🔧 관리자가 원큐씨앗 원장 아카이빙을 수동 실행했습니다.");
+
+            PointTransactionArchiveService.ArchiveResult result = pointTransactionArchiveService.archiveClosedMonths();
+
+            response.put("success", true);
+            response.put("message", "원큐씨앗 원장 아카이빙이 완료되었습니다.");
+            response.put("movedRows", result.movedRows());
+            response.put("droppedPartitions", result.droppedPartitions());
+            response.put("addedPartitions", result.addedPartitions());
+            response.put("cutoff", result.cutoff().toString());
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("원큐씨앗 원장 아카이빙 실패: {}", e.getMessage(), e);
+
+            response.put("success", false);
+            response.put("message", "원큐씨앗 원장 아카이빙 중 오류가 발생했습니다: " + e.getMessage());
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    @PostMapping("/backfill-team-contributions")
+    @Operation(summary = "팀 기여 집계 백필", description = "적립 거래와 챌린지 기록으로부터 팀 기여 일간 집계를 다시 생성합니다.")
+    public ResponseEntity<Map<String, Object>> backfillTeamContributions() {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            log.info("🔧 관리자가 팀 기여 집계 백필을 수동 실행했습니다.");
+
+            int rows = teamContributionService.backfill();
+
+            response.put("success", true);
+            response.put("message", "팀 기여 집계 백필이 완료되었습니다.");
+            response.put("rows", rows);
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("팀 기여 집계 백필 실패: {}", e.getMessage(), e);
+
+            response.put("success", false);
+            response.put("message", "팀 기여 집계 백필 중 오류가 발생했습니다: " + e.getMessage());
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    @PostMapping("/retry-card-transaction-events")
+    @Operation(summary = "카드 거래 이벤트 재처리", description = "처리에 실패한 카드 거래 웹훅 이벤트를 대기 상태로 되돌리고 즉시 수집을 실행합니다.")
+    public ResponseEntity<Map<String, Object>> retryCardTransactionEvents() {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            log.info("🔧 관리자가 카드 거래 이벤트 재처리를 수동 실행했습니다.");
+
+            int reset = cardTransactionEventBus.retryFailed();
+            CardTransactionEventBus.SweepResult result = cardTransactionEventBus.sweep();
+
+            response.put("success", true);
+            response.put("message", "카드 거래 이벤트 재처리가 요청되었습니다.");
+            response.put("resetFailed", reset);
+            response.put("pendingBacklog", result.pendingBacklog());
+            response.put("dispatched", result.dispatched());
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("카드 거래 이벤트 재처리 실패: {}", e.getMessage(), e);
+
+            response.put("success", false);
+            response.put("message", "카드 거래 이벤트 재처리 중 오류가 발생했습니다: " + e.getMessage());
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    @GetMapping("/sql-stats")
+    @Operation(summary = "SQL 실행 지표 조회", description = "엔드포인트/정기 작업별 요청당 평균·최대 SQL 실행 수, 로드 엔티티 수, SQL 시간, 예산 초과 및 N+1 의심 횟수를 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getSqlStats(@RequestParam(defaultValue = "false") boolean reset) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            List<SqlStatementMetrics.Snapshot> stats = sqlStatementMetrics.snapshot();
+            if (reset) {
+                sqlStatementMetrics.reset();
+                log.info("🔧 관리자가 SQL 실행 지표를 초기화했습니다.");
+            }
+
+            response.put("success", true);
+            response.put("message", "SQL 실행 지표 조회가 완료되었습니다.");
+            response.put("stats", stats);
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("SQL 실행 지표 조회 실패: {}", e.getMessage(), e);
+
+            response.put("success", false);
+            response.put("message", "SQL 실행 지표 조회 중 오류가 발생했습니다: " + e.getMessage());
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    @GetMapping("/job-runs")
+    @Operation(summary = "정기 작업 실행 이력 조회", description = "정기 작업(뉴스 수집, 퀴즈 생성, 월간 리포트, 월간 초기화, 원장 아카이빙)의 최근 실행 이력과 소요 시간을 조회합니다.")
+    public ResponseEntity<Map<String, Object>> getJobRuns(
+            @RequestParam(required = false) String jobName,
+            @RequestParam(defaultValue = "50") int limit) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            List<ScheduledJobRun> runs = scheduledJobOrchestrator.getRecentRuns(jobName, limit);
+
+            response.put("success", true);
+            response.put("message", "정기 작업 실행 이력 조회가 완료되었습니다.");
+            response.put("nodeId", scheduledJobOrchestrator.nodeId());
+            response.put("runs", runs);
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("정기 작업 실행 이력 조회 실패: {}", e.getMessage(), e);
+
+            response.put("success", false);
+            response.put("message", "정기 작업 실행 이력 조회 중 오류가 발생했습니다: " + e.getMessage());
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
 }
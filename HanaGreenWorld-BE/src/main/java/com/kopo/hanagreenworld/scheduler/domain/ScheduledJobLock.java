@@ -0,0 +1,33 @@
+package com.kopo.hanagreenworld.scheduler.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 잠금 (작업별 임대)
+ * 여러 인스턴스가 같은 작업을 동시에 실행하지 않도록, locked_until이 지난 행만
+ * 조건부 UPDATE로 가져간다. 실행 중인 노드는 주기적으로 임대를 연장한다.
+ */
+@Entity
+@Table(name = "scheduled_job_locks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScheduledJobLock {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy; // 잠금을 가진 노드 ID
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+}
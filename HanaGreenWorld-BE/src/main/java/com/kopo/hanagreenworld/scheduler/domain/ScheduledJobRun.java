@@ -0,0 +1,103 @@
+package com.kopo.hanagreenworld.scheduler.domain;
+
+import com.kopo.hanagreenworld.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업 실행 이력
+ * 실행 키(예: 마감 대상 월) 단위로 성공 여부를 남겨, 같은 키로는 한 번만 성공하게 하고
+ * 선행 작업 성공 여부 판단에도 사용한다.
+ */
+@Entity
+@Table(
+    name = "scheduled_job_runs",
+    indexes = {
+        @Index(name = "idx_job_run_name_key_status", columnList = "job_name, run_key, status"),
+        @Index(name = "idx_job_run_started", columnList = "started_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScheduledJobRun extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "run_id")
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Column(name = "run_key", nullable = false, length = 50)
+    private String runKey;
+
+    @Column(name = "node_id", nullable = false, length = 100)
+    private String nodeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    @Column(name = "message", length = 1000)
+    private String message;
+
+    @Builder
+    public ScheduledJobRun(String jobName, String runKey, String nodeId, Status status,
+                           LocalDateTime startedAt, String message) {
+        this.jobName = jobName;
+        this.runKey = runKey;
+        this.nodeId = nodeId;
+        this.status = status;
+        this.startedAt = startedAt;
+        this.message = truncate(message);
+        if (status != Status.RUNNING) {
+            this.finishedAt = startedAt;
+            this.durationMs = 0L;
+        }
+    }
+
+    public void succeed(String message, LocalDateTime now) {
+        finish(Status.SUCCEEDED, message, now);
+    }
+
+    public void fail(String message, LocalDateTime now) {
+        finish(Status.FAILED, message, now);
+    }
+
+    private void finish(Status status, String message, LocalDateTime now) {
+        this.status = status;
+        this.message = truncate(message);
+        this.finishedAt = now;
+        this.durationMs = Duration.between(startedAt, now).toMillis();
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= 1000) {
+            return message;
+        }
+        return message.substring(0, 1000);
+    }
+
+    public enum Status {
+        RUNNING,    // 실행 중
+        SUCCEEDED,  // 성공
+        FAILED,     // 실패 (다음 트리거에서 재시도)
+        SKIPPED     // 선행 작업 미완료로 건너뜀
+    }
+}
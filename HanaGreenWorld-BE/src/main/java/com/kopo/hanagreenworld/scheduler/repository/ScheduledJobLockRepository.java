@@ -0,0 +1,39 @@
+package com.kopo.hanagreenworld.scheduler.repository;
+
+import com.kopo.hanagreenworld.scheduler.domain.ScheduledJobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ScheduledJobLockRepository extends JpaRepository<ScheduledJobLock, String> {
+
+    /**
+     * 잠금 행이 없으면 만료된 상태로 만든다 (이미 있으면 무시)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scheduled_job_locks (job_name, locked_until) VALUES (:jobName, :expiredAt)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("jobName") String jobName, @Param("expiredAt") LocalDateTime expiredAt);
+
+    /**
+     * 임대가 만료된 경우에만 잠금 획득 (1이면 획득)
+     */
+    @Modifying
+    @Query("UPDATE ScheduledJobLock l SET l.lockedBy = :owner, l.lockedAt = :now, l.lockedUntil = :until " +
+           "WHERE l.jobName = :jobName AND l.lockedUntil < :now")
+    int acquire(@Param("jobName") String jobName, @Param("owner") String owner,
+                @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE ScheduledJobLock l SET l.lockedUntil = :until WHERE l.jobName = :jobName AND l.lockedBy = :owner")
+    int extend(@Param("jobName") String jobName, @Param("owner") String owner, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE ScheduledJobLock l SET l.lockedUntil = :now WHERE l.jobName = :jobName AND l.lockedBy = :owner")
+    int release(@Param("jobName") String jobName, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,34 @@
+package com.kopo.hanagreenworld.scheduler.repository;
+
+import com.kopo.hanagreenworld.scheduler.domain.ScheduledJobRun;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ScheduledJobRunRepository extends JpaRepository<ScheduledJobRun, Long> {
+
+    boolean existsByJobNameAndRunKeyAndStatus(String jobName, String runKey, ScheduledJobRun.Status status);
+
+    List<ScheduledJobRun> findByJobNameOrderByStartedAtDesc(String jobName, Pageable pageable);
+
+    List<ScheduledJobRun> findAllByOrderByStartedAtDesc(Pageable pageable);
+
+    /**
+     * 잠금을 새로 얻은 시점에 남아 있는 실행 중 이력은 중단된 노드의 것이므로 실패로 정리
+     */
+    @Modifying
+    @Query("UPDATE ScheduledJobRun r SET r.status = :failed, r.message = :message, r.finishedAt = :now " +
+           "WHERE r.jobName = :jobName AND r.status = :running")
+    int failAbandonedRuns(@Param("jobName") String jobName,
+                          @Param("running") ScheduledJobRun.Status running,
+                          @Param("failed") ScheduledJobRun.Status failed,
+                          @Param("message") String message,
+                          @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,230 @@
+package com.kopo.hanagreenworld.scheduler.service;
+
+import com.kopo.hanagreenworld.common.sql.SqlStatementContext;
+import com.kopo.hanagreenworld.common.sql.SqlStatementTracker;
+import com.kopo.hanagreenworld.scheduler.domain.ScheduledJobRun;
+import com.kopo.hanagreenworld.scheduler.repository.ScheduledJobLockRepository;
+import com.kopo.hanagreenworld.scheduler.repository.ScheduledJobRunRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스케줄 작업 실행기
+ * - 작업마다 전용 스레드에서 실행하여 느린 작업(AI 뉴스 수집 등)이 다른 작업을 밀지 않게 한다.
+ * - DB 임대 잠금으로 여러 인스턴스 중 한 곳에서만 실행하고, 실행 중에는 임대를 연장한다.
+ * - 실행 키별 성공 이력이 있으면 다시 실행하지 않고, 선행 작업이 같은 키로 성공해야 실행한다.
+ *   실패/건너뜀은 다음 트리거에서 재시도된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduledJobOrchestrator {
+
+    private static final LocalDateTime EXPIRED = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final ScheduledJobLockRepository scheduledJobLockRepository;
+    private final ScheduledJobRunRepository scheduledJobRunRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SqlStatementTracker sqlStatementTracker;
+
+    @Value("${scheduler.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${scheduler.lock.lease-minutes:10}")
+    private long leaseMinutes;
+
+    private final Map<String, ThreadPoolExecutor> executors = new ConcurrentHashMap<>();
+    private final Map<String, String> runningJobs = new ConcurrentHashMap<>(); // 작업명 -> 실행 키
+
+    private volatile String nodeId;
+
+    /**
+     * 작업 실행 요청 (트리거 스레드는 바로 반환된다)
+     */
+    public void submit(JobSpec spec, String runKey, JobBody body) {
+        try {
+            executorFor(spec.name()).execute(() -> runNow(spec, runKey, body));
+        } catch (RejectedExecutionException e) {
+            log.info("스케줄 작업이 이미 실행 중이어서 건너뜁니다 - 작업: {}, 실행키: {}", spec.name(), runKey);
+        }
+    }
+
+    void runNow(JobSpec spec, String runKey, JobBody body) {
+        String jobName = spec.name();
+        if (hasSucceeded(jobName, runKey)) {
+            log.debug("이미 완료된 스케줄 작업 - 작업: {}, 실행키: {}", jobName, runKey);
+            return;
+        }
+
+        for (String dependency : spec.dependsOn()) {
+            if (!hasSucceeded(dependency, runKey)) {
+                log.warn("선행 작업이 완료되지 않아 스케줄 작업을 건너뜁니다 - 작업: {}, 선행: {}, 실행키: {}",
+                        jobName, dependency, runKey);
+                scheduledJobRunRepository.save(ScheduledJobRun.builder()
+                        .jobName(jobName)
+                        .runKey(runKey)
+                        .nodeId(nodeId())
+                        .status(ScheduledJobRun.Status.SKIPPED)
+                        .startedAt(LocalDateTime.now())
+                        .message("선행 작업 미완료: " + dependency)
+                        .build());
+                return;
+            }
+        }
+
+        if (!tryLock(jobName)) {
+            log.info("다른 노드에서 실행 중인 스케줄 작업 - 작업: {}, 실행키: {}", jobName, runKey);
+            return;
+        }
+
+        runningJobs.put(jobName, runKey);
+        try {
+            // 잠금을 얻는 사이 다른 노드가 끝냈을 수 있다
+            if (hasSucceeded(jobName, runKey)) {
+                return;
+            }
+            execute(jobName, runKey, body);
+        } finally {
+            runningJobs.remove(jobName);
+            transactionTemplate.executeWithoutResult(status ->
+                    scheduledJobLockRepository.release(jobName, nodeId(), LocalDateTime.now()));
+        }
+    }
+
+    private void execute(String jobName, String runKey, JobBody body) {
+        ScheduledJobRun run = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            int abandoned = scheduledJobRunRepository.failAbandonedRuns(jobName, ScheduledJobRun.Status.RUNNING,
+                    ScheduledJobRun.Status.FAILED, "임대 만료로 중단된 실행", now);
+            if (abandoned > 0) {
+                log.warn("중단된 스케줄 작업 실행 이력 정리 - 작업: {}, {}건", jobName, abandoned);
+            }
+            return scheduledJobRunRepository.save(ScheduledJobRun.builder()
+                    .jobName(jobName)
+                    .runKey(runKey)
+                    .nodeId(nodeId())
+                    .status(ScheduledJobRun.Status.RUNNING)
+                    .startedAt(now)
+                    .build());
+        });
+
+        log.info("스케줄 작업 시작 - 작업: {}, 실행키: {}, 노드: {}", jobName, runKey, nodeId());
+        SqlStatementContext sql = sqlStatementTracker.begin("job:" + jobName);
+        try {
+            String message = body.run();
+            run.succeed(message, LocalDateTime.now());
+            log.info("스케줄 작업 완료 - 작업: {}, 실행키: {}, {}ms, {}", jobName, runKey, run.getDurationMs(), message);
+        } catch (Exception e) {
+            run.fail(e.getClass().getSimpleName() + ": " + e.getMessage(), LocalDateTime.now());
+            log.error("스케줄 작업 실패 - 작업: {}, 실행키: {}, {}ms", jobName, runKey, run.getDurationMs(), e);
+        } finally {
+            sqlStatementTracker.end(sql);
+        }
+        scheduledJobRunRepository.save(run);
+    }
+
+    /**
+     * 실행 중인 작업의 임대 연장 (임대 시간보다 충분히 짧은 주기)
+     */
+    @Scheduled(fixedDelayString = "${scheduler.lock.heartbeat-millis:60000}", initialDelay = 60000)
+    public void renewLeases() {
+        if (runningJobs.isEmpty()) {
+            return;
+        }
+        LocalDateTime until = LocalDateTime.now().plusMinutes(leaseMinutes);
+        for (String jobName : runningJobs.keySet()) {
+            try {
+                Integer extended = transactionTemplate.execute(status ->
+                        scheduledJobLockRepository.extend(jobName, nodeId(), until));
+                if (extended == null || extended == 0) {
+                    log.warn("스케줄 작업 임대를 잃었습니다 - 작업: {}, 노드: {}", jobName, nodeId());
+                }
+            } catch (Exception e) {
+                log.error("스케줄 작업 임대 연장 실패 - 작업: {}: {}", jobName, e.getMessage(), e);
+            }
+        }
+    }
+
+    public List<ScheduledJobRun> getRecentRuns(String jobName, int limit) {
+        PageRequest page = PageRequest.of(0, Math.min(Math.max(limit, 1), 500));
+        if (jobName == null || jobName.isBlank()) {
+            return scheduledJobRunRepository.findAllByOrderByStartedAtDesc(page);
+        }
+        return scheduledJobRunRepository.findByJobNameOrderByStartedAtDesc(jobName, page);
+    }
+
+    public String nodeId() {
+        if (nodeId == null) {
+            nodeId = configuredNodeId != null && !configuredNodeId.isBlank()
+                    ? configuredNodeId
+                    // pid@host + 재시작 구분용 접미사
+                    : ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+        return nodeId;
+    }
+
+    private boolean hasSucceeded(String jobName, String runKey) {
+        return scheduledJobRunRepository.existsByJobNameAndRunKeyAndStatus(jobName, runKey, ScheduledJobRun.Status.SUCCEEDED);
+    }
+
+    private boolean tryLock(String jobName) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer acquired = transactionTemplate.execute(status -> {
+            scheduledJobLockRepository.insertIfAbsent(jobName, EXPIRED);
+            return scheduledJobLockRepository.acquire(jobName, nodeId(), now, now.plusMinutes(leaseMinutes));
+        });
+        return acquired != null && acquired == 1;
+    }
+
+    /**
+     * 작업별 전용 실행기 (스레드 1개, 대기열 없음 - 실행 중이면 새 요청은 거절)
+     */
+    private ThreadPoolExecutor executorFor(String jobName) {
+        return executors.computeIfAbsent(jobName, name -> {
+            CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("job-" + name + "-");
+            threadFactory.setDaemon(true);
+            return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), threadFactory);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.values().forEach(ThreadPoolExecutor::shutdown);
+    }
+
+    /**
+     * 작업 정의 (이름과 같은 실행 키로 먼저 성공해야 하는 선행 작업)
+     */
+    public record JobSpec(String name, List<String> dependsOn) {
+
+        public static JobSpec of(String name, String... dependsOn) {
+            return new JobSpec(name, List.of(dependsOn));
+        }
+    }
+
+    @FunctionalInterface
+    public interface JobBody {
+        /**
+         * @return 실행 이력에 남길 요약
+         */
+        String run() throws Exception;
+    }
+}
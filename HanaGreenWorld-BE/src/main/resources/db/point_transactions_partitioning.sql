@@ -0,0 +1,68 @@
+-- =====================================================================
+-- point_transactions 월 RANGE 파티셔닝 마이그레이션 (MySQL 8.0)
+--
+-- 애플리케이션은 ddl-auto: update로 인덱스와 아카이브 테이블
+-- (point_transactions_archive, point_archive_member_totals)을 만들지만,
+-- 파티셔닝은 기본키/외래키 변경이 필요해 이 스크립트로 한 번 수동 적용한다.
+--
+-- 적용 순서
+--   1. 애플리케이션을 새 버전으로 한 번 기동해 인덱스/아카이브 테이블 생성
+--   2. POST /api/admin/scheduler/archive-point-transactions 로 보관 기간이 지난 월 이동
+--   3. 점검 시간에 이 스크립트 실행 (테이블 재작성, 행 수에 비례해 소요)
+--   4. 이후 매월 PointArchiveScheduler가 과거 파티션 제거와 다음 달 파티션 생성을 수행
+--
+-- 주의
+--   - 파티션 키(occurred_at)는 모든 유니크 키에 포함되어야 하므로 기본키를
+--     (transaction_id, occurred_at)로 변경한다. transaction_id는 AUTO_INCREMENT로 계속 유일하다.
+--   - 파티션 테이블은 외래키를 가질 수 없으므로 member_id -> members 외래키를 제거한다.
+--     (member_id 정합성은 애플리케이션의 Member 연관관계로 유지)
+--   - ddl-auto: update는 기존 테이블의 기본키/파티션을 변경하지 않는다.
+-- =====================================================================
+
+-- 1) member_id 외래키 제거 (Hibernate가 생성한 이름을 조회)
+SET @fk_name = (
+    SELECT CONSTRAINT_NAME FROM information_schema.KEY_COLUMN_USAGE
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'point_transactions'
+      AND COLUMN_NAME = 'member_id' AND REFERENCED_TABLE_NAME = 'members'
+    LIMIT 1);
+SET @drop_fk = IF(@fk_name IS NULL, 'SELECT 1',
+    CONCAT('ALTER TABLE point_transactions DROP FOREIGN KEY ', @fk_name));
+PREPARE stmt FROM @drop_fk;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 2) 기본키에 파티션 키 포함
+ALTER TABLE point_transactions
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (transaction_id, occurred_at);
+
+-- 3) 월 파티션 생성
+--    p000000에는 아카이빙되지 않은 과거 행이 모두 들어가고, 다음 아카이빙 때 비워진 뒤 제거된다.
+--    아래 월 목록은 적용 시점의 "보관 시작 월 ~ 다음 달"로 맞춰 수정한다.
+ALTER TABLE point_transactions
+    PARTITION BY RANGE (TO_DAYS(occurred_at)) (
+        PARTITION p000000 VALUES LESS THAN (TO_DAYS('2025-11-01')),
+        PARTITION p202511 VALUES LESS THAN (TO_DAYS('2025-12-01')),
+        PARTITION p202512 VALUES LESS THAN (TO_DAYS('2026-01-01')),
+        PARTITION p202601 VALUES LESS THAN (TO_DAYS('2026-02-01')),
+        PARTITION p202602 VALUES LESS THAN (TO_DAYS('2026-03-01')),
+        PARTITION p202603 VALUES LESS THAN (TO_DAYS('2026-04-01')),
+        PARTITION p202604 VALUES LESS THAN (TO_DAYS('2026-05-01')),
+        PARTITION p202605 VALUES LESS THAN (TO_DAYS('2026-06-01')),
+        PARTITION p202606 VALUES LESS THAN (TO_DAYS('2026-07-01')),
+        PARTITION p202607 VALUES LESS THAN (TO_DAYS('2026-08-01')),
+        PARTITION p202608 VALUES LESS THAN (TO_DAYS('2026-09-01')),
+        PARTITION p202609 VALUES LESS THAN (TO_DAYS('2026-10-01')),
+        PARTITION p202610 VALUES LESS THAN (TO_DAYS('2026-11-01')),
+        PARTITION p202611 VALUES LESS THAN (TO_DAYS('2026-12-01')),
+        PARTITION pmax VALUES LESS THAN MAXVALUE
+    );
+
+-- 4) 아카이브 테이블 압축 (선택, innodb_file_per_table 필요)
+ALTER TABLE point_transactions_archive ROW_FORMAT = COMPRESSED KEY_BLOCK_SIZE = 8;
+
+-- 롤백: 파티션 해제 후 기본키/외래키 복원
+-- ALTER TABLE point_transactions REMOVE PARTITIONING;
+-- ALTER TABLE point_transactions DROP PRIMARY KEY, ADD PRIMARY KEY (transaction_id);
+-- ALTER TABLE point_transactions ADD CONSTRAINT fk_point_transactions_member
+--     FOREIGN KEY (member_id) REFERENCES members (member_id);
@@ -0,0 +1,135 @@
+package com.kopo.hanagreenworld.activity.service;
+
+import com.kopo.hanagreenworld.activity.domain.QuizStreak;
+import com.kopo.hanagreenworld.activity.repository.QuizRecordRepository;
+import com.kopo.hanagreenworld.activity.repository.QuizStreakRepository;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QuizStreakServiceTest {
+
+	private static final Long MEMBER_ID = 7L;
+	private static final LocalDate DAY1 = LocalDate.of(2026, 10, 1);
+
+	private QuizStreakRepository quizStreakRepository;
+	private QuizRecordRepository quizRecordRepository;
+	private MemberRepository memberRepository;
+	private QuizStreakService quizStreakService;
+	private Member member;
+	private QuizStreak stored;
+
+	@BeforeEach
+	void setUp() {
+		quizStreakRepository = mock(QuizStreakRepository.class);
+		quizRecordRepository = mock(QuizRecordRepository.class);
+		memberRepository = mock(MemberRepository.class);
+		quizStreakService = new QuizStreakService(quizStreakRepository, quizRecordRepository, memberRepository);
+
+		member = Member.builder().loginId("green").name("김하나").phoneNumber("010-1234-5678").build();
+		ReflectionTestUtils.setField(member, "memberId", MEMBER_ID);
+
+		// 저장된 상태를 한 행으로 흉내 낸다
+		when(quizStreakRepository.findByMember_MemberId(MEMBER_ID)).thenAnswer(invocation -> Optional.ofNullable(stored));
+		when(quizStreakRepository.save(any(QuizStreak.class))).thenAnswer(invocation -> {
+			stored = invocation.getArgument(0);
+			return stored;
+		});
+	}
+
+	@Test
+	void firstCorrectAnswerStartsStreak() {
+		assertThat(quizStreakService.recordAttempt(member, DAY1, true)).isEqualTo(1);
+		assertThat(stored.getBestStreak()).isEqualTo(1);
+		assertThat(stored.getLastCorrectDate()).isEqualTo(DAY1);
+	}
+
+	@Test
+	void nextDayCorrectAnswerExtendsStreak() {
+		quizStreakService.recordAttempt(member, DAY1, true);
+		quizStreakService.recordAttempt(member, DAY1.plusDays(1), true);
+
+		assertThat(quizStreakService.recordAttempt(member, DAY1.plusDays(2), true)).isEqualTo(3);
+		assertThat(stored.getBestStreak()).isEqualTo(3);
+	}
+
+	@Test
+	void sameDayCorrectAnswerIsCountedOnce() {
+		quizStreakService.recordAttempt(member, DAY1, true);
+
+		assertThat(quizStreakService.recordAttempt(member, DAY1, true)).isEqualTo(1);
+		assertThat(stored.getCurrentStreak()).isEqualTo(1);
+	}
+
+	@Test
+	void gapRestartsStreakAndKeepsBest() {
+		quizStreakService.recordAttempt(member, DAY1, true);
+		quizStreakService.recordAttempt(member, DAY1.plusDays(1), true);
+
+		assertThat(quizStreakService.recordAttempt(member, DAY1.plusDays(3), true)).isEqualTo(1);
+		assertThat(stored.getBestStreak()).isEqualTo(2);
+	}
+
+	@Test
+	void wrongAnswerDoesNotExtendStreakAndBreaksItNextDay() {
+		quizStreakService.recordAttempt(member, DAY1, true);
+		quizStreakService.recordAttempt(member, DAY1.plusDays(1), true);
+
+		// 틀린 날은 연속 정답에 더하지 않는다 (어제까지의 연속 정답은 오늘 하루 동안 유효)
+		assertThat(quizStreakService.recordAttempt(member, DAY1.plusDays(2), false)).isEqualTo(2);
+		assertThat(stored.getLastCorrectDate()).isEqualTo(DAY1.plusDays(1));
+
+		// 틀린 다음 날 정답은 새로 시작
+		assertThat(quizStreakService.recordAttempt(member, DAY1.plusDays(3), true)).isEqualTo(1);
+		assertThat(stored.getBestStreak()).isEqualTo(2);
+	}
+
+	@Test
+	void effectiveStreakExpiresAfterMissedDay() {
+		quizStreakService.recordAttempt(member, DAY1, true);
+
+		assertThat(stored.getEffectiveStreak(DAY1.plusDays(1))).isEqualTo(1);
+		assertThat(stored.getEffectiveStreak(DAY1.plusDays(2))).isZero();
+		assertThat(quizStreakService.recordAttempt(member, DAY1.plusDays(2), false)).isZero();
+	}
+
+	@Test
+	void missingStateIsRebuiltFromHistory() {
+		when(quizRecordRepository.findCorrectActivityDatesByMemberId(MEMBER_ID)).thenReturn(List.of(
+				DAY1.atTime(9, 0), DAY1.plusDays(2).atTime(9, 0), DAY1.plusDays(3).atTime(23, 59)));
+
+		assertThat(quizStreakService.recordAttempt(member, DAY1.plusDays(4), true)).isEqualTo(3);
+		assertThat(stored.getBestStreak()).isEqualTo(3);
+	}
+
+	@Test
+	void backfillOverwritesExistingState() {
+		stored = QuizStreak.builder().member(member).currentStreak(9).bestStreak(9).lastCorrectDate(DAY1).build();
+		when(quizRecordRepository.findDistinctMemberIds()).thenReturn(List.of(MEMBER_ID));
+		when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.of(member));
+		when(quizRecordRepository.findCorrectActivityDatesByMemberId(MEMBER_ID)).thenReturn(List.of(
+				DAY1.atTime(9, 0), DAY1.plusDays(1).atTime(9, 0)));
+		QuizStreak existing = stored;
+
+		assertThat(quizStreakService.backfillAll()).isEqualTo(1);
+
+		assertThat(stored).isSameAs(existing);
+		assertThat(stored.getCurrentStreak()).isEqualTo(2);
+		assertThat(stored.getBestStreak()).isEqualTo(2);
+		assertThat(stored.getLastCorrectDate()).isEqualTo(DAY1.plusDays(1));
+		verify(quizStreakRepository, never()).save(any(QuizStreak.class));
+	}
+}
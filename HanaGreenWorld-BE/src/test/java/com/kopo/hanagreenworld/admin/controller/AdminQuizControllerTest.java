@@ -0,0 +1,98 @@
+package com.kopo.hanagreenworld.admin.controller;
+
+import com.kopo.hanagreenworld.activity.domain.Quiz;
+import com.kopo.hanagreenworld.activity.repository.QuizRecordRepository;
+import com.kopo.hanagreenworld.activity.repository.QuizRepository;
+import com.kopo.hanagreenworld.activity.service.DailyQuizCacheService;
+import com.kopo.hanagreenworld.activity.service.QuizGeneratorService;
+import com.kopo.hanagreenworld.admin.dto.QuizUpdateRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AdminQuizControllerTest {
+
+	private static final Long QUIZ_ID = 1L;
+
+	private final LocalDate today = LocalDate.now();
+
+	private QuizRepository quizRepository;
+	private DailyQuizCacheService dailyQuizCacheService;
+	private AdminQuizController adminQuizController;
+	private Quiz quiz;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		quizRepository = mock(QuizRepository.class);
+		dailyQuizCacheService = new DailyQuizCacheService(quizRepository, mock(QuizRecordRepository.class),
+				mock(ObjectProvider.class));
+		adminQuizController = new AdminQuizController(mock(QuizGeneratorService.class), quizRepository,
+				dailyQuizCacheService);
+
+		quiz = storedQuiz();
+		dailyQuizCacheService.prepare(quiz);
+	}
+
+	@Test
+	void deletedQuizIsNoLongerServedFromCache() {
+		when(quizRepository.findByQuizDate(today)).thenReturn(Optional.empty());
+
+		adminQuizController.deleteQuiz(QUIZ_ID);
+
+		assertThat(dailyQuizCacheService.getQuiz(today)).isEmpty();
+	}
+
+	@Test
+	void updatedQuizIsServedWithNewContent() {
+		// 캐시의 퀴즈와 별개로 DB에서 다시 읽은 인스턴스를 수정한다
+		Quiz stored = storedQuiz();
+		when(quizRepository.findById(QUIZ_ID)).thenReturn(Optional.of(stored));
+		when(quizRepository.save(any(Quiz.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(quizRepository.findByQuizDate(today)).thenReturn(Optional.of(stored));
+
+		QuizUpdateRequest request = new QuizUpdateRequest();
+		request.setQuestion("수정된 질문");
+		request.setOptions("[\"O\",\"X\"]");
+		request.setCorrectAnswer(1);
+		request.setExplanation("수정된 해설");
+		request.setPointsReward(20);
+		adminQuizController.updateQuiz(QUIZ_ID, request);
+
+		Quiz served = dailyQuizCacheService.getQuiz(today).orElseThrow();
+		assertThat(served.getId()).isEqualTo(QUIZ_ID);
+		assertThat(served.getQuestion()).isEqualTo("수정된 질문");
+		assertThat(served.getCorrectAnswer()).isEqualTo(1);
+		assertThat(served.getQuizDate()).isEqualTo(today);
+	}
+
+	@Test
+	void evictingAnotherQuizKeepsCachedQuiz() {
+		dailyQuizCacheService.evict(99L);
+
+		assertThat(dailyQuizCacheService.getQuiz(today)).containsSame(quiz);
+	}
+
+	private Quiz storedQuiz() {
+		Quiz stored = Quiz.builder()
+				.question("기존 질문")
+				.options("[\"O\",\"X\"]")
+				.correctAnswer(0)
+				.explanation("기존 해설")
+				.pointsReward(10)
+				.quizDate(today)
+				.build();
+		ReflectionTestUtils.setField(stored, "id", QUIZ_ID);
+		return stored;
+	}
+}
@@ -0,0 +1,243 @@
+package com.kopo.hanagreenworld.common.sql;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kopo.hanagreenworld.activity.controller.EnvironmentalImpactController;
+import com.kopo.hanagreenworld.activity.repository.ChallengeRecordRepository;
+import com.kopo.hanagreenworld.activity.repository.ChallengeRepository;
+import com.kopo.hanagreenworld.activity.repository.EnvironmentalImpactDailyRepository;
+import com.kopo.hanagreenworld.activity.repository.EnvironmentalImpactMonthlyRepository;
+import com.kopo.hanagreenworld.activity.service.EnvironmentalImpactRollupService;
+import com.kopo.hanagreenworld.activity.service.EnvironmentalImpactService;
+import com.kopo.hanagreenworld.chat.service.TeamChatService;
+import com.kopo.hanagreenworld.common.advice.GlobalExceptionHandler;
+import com.kopo.hanagreenworld.member.controller.TeamController;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.domain.Team;
+import com.kopo.hanagreenworld.member.domain.TeamJoinRequest;
+import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.member.repository.MemberTeamRepository;
+import com.kopo.hanagreenworld.member.repository.TeamContributionDailyRepository;
+import com.kopo.hanagreenworld.member.repository.TeamJoinRequestRepository;
+import com.kopo.hanagreenworld.member.repository.TeamRepository;
+import com.kopo.hanagreenworld.member.service.MemberProfileService;
+import com.kopo.hanagreenworld.member.service.TeamContributionService;
+import com.kopo.hanagreenworld.member.service.TeamService;
+import com.kopo.hanagreenworld.merchant.controller.EcoMerchantMatchingController;
+import com.kopo.hanagreenworld.merchant.repository.EcoMerchantRepository;
+import com.kopo.hanagreenworld.merchant.repository.EcoMerchantTransactionRepository;
+import com.kopo.hanagreenworld.merchant.service.EcoMerchantIndex;
+import com.kopo.hanagreenworld.merchant.service.EcoMerchantMatchingService;
+import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
+import com.kopo.hanagreenworld.point.service.EcoSeedService;
+import com.kopo.hanagreenworld.point.service.MemberSeedTotalCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * sql-budget.enforce=true에서 @SqlBudget 엔드포인트가 예산 안에서 응답하고, N+1이 있으면 본문을 쓰기 전에 실패하는지 확인
+ * DB 없이 실제 서비스에 리포지토리 목을 연결하고, 리포지토리 호출마다 SqlStatementInspector로 SQL 한 건을 기록한다
+ * (같은 메서드 호출은 같은 SQL로 보므로 루프 안의 조회는 반복 SQL로 잡힌다).
+ */
+class SqlBudgetEnforcementTest {
+
+	private static final int TEAM_COUNT = 30;
+	private static final SqlStatementInspector INSPECTOR = new SqlStatementInspector();
+
+	private final List<Team> teams = new ArrayList<>();
+
+	private SqlStatementTracker sqlStatementTracker;
+	private TeamRepository teamRepository;
+	private TeamJoinRequestRepository teamJoinRequestRepository;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		sqlStatementTracker = new SqlStatementTracker(new SqlStatementMetrics());
+		ReflectionTestUtils.setField(sqlStatementTracker, "defaultMaxStatements", 100);
+		ReflectionTestUtils.setField(sqlStatementTracker, "repeatThreshold", 10);
+		ReflectionTestUtils.setField(sqlStatementTracker, "enforce", true);
+		SqlStatementFilter sqlStatementFilter = new SqlStatementFilter(sqlStatementTracker);
+		ReflectionTestUtils.setField(sqlStatementFilter, "headers", true);
+		SqlStatementResponseAdvice sqlStatementResponseAdvice = new SqlStatementResponseAdvice(sqlStatementTracker);
+		ReflectionTestUtils.setField(sqlStatementResponseAdvice, "headers", true);
+
+		teamRepository = counting(TeamRepository.class);
+		teamJoinRequestRepository = counting(TeamJoinRequestRepository.class);
+		TeamService teamService = new TeamService(teamRepository, counting(MemberTeamRepository.class),
+				counting(MemberRepository.class), counting(PointTransactionRepository.class),
+				counting(ChallengeRepository.class), counting(ChallengeRecordRepository.class), teamJoinRequestRepository,
+				mock(TeamChatService.class), new TeamContributionService(counting(TeamContributionDailyRepository.class)));
+
+		EcoMerchantMatchingService ecoMerchantMatchingService = new EcoMerchantMatchingService(
+				counting(EcoMerchantRepository.class), counting(EcoMerchantTransactionRepository.class),
+				mock(EcoSeedService.class), mock(EcoMerchantIndex.class), mock(MemberSeedTotalCache.class),
+				mock(MemberProfileService.class), counting(PointTransactionRepository.class),
+				counting(MemberRepository.class), mock(EnvironmentalImpactRollupService.class));
+
+		EnvironmentalImpactService environmentalImpactService = new EnvironmentalImpactService(new ObjectMapper(),
+				counting(MemberProfileRepository.class), new EnvironmentalImpactRollupService(
+						counting(EnvironmentalImpactDailyRepository.class),
+						counting(EnvironmentalImpactMonthlyRepository.class)));
+
+		mockMvc = MockMvcBuilders
+				.standaloneSetup(new TeamController(teamService), new EcoMerchantMatchingController(ecoMerchantMatchingService),
+						new EnvironmentalImpactController(environmentalImpactService),
+						new SeededNPlusOneController(teamRepository))
+				.setControllerAdvice(sqlStatementResponseAdvice, new GlobalExceptionHandler())
+				.addInterceptors(new SqlBudgetInterceptor())
+				.addFilters(sqlStatementFilter)
+				.build();
+
+		for (long id = 1; id <= TEAM_COUNT; id++) {
+			Team team = Team.builder()
+					.teamName("팀" + id)
+					.description("슬로건" + id)
+					.leaderId(100 + id)
+					.maxMembers(20)
+					.isActive(true)
+					.build();
+			ReflectionTestUtils.setField(team, "id", id);
+			ReflectionTestUtils.setField(team, "createdAt", LocalDateTime.now());
+			teams.add(team);
+		}
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void teamListStaysWithinBudgetRegardlessOfTeamCount() throws Exception {
+		when(teamRepository.findByIsActiveTrueOrderByTotalTeamPointsDesc()).thenReturn(teams);
+
+		mockMvc.perform(get("/teams/list"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$", hasSize(TEAM_COUNT)))
+				.andExpect(header().string("X-SQL-Statements", "7"))
+				.andExpect(header().string("X-SQL-Max-Repeat", "1"));
+	}
+
+	@Test
+	void myJoinRequestsStayWithinBudget() throws Exception {
+		Member member = Member.builder().loginId("green").name("김하나").phoneNumber("010-1234-5678").build();
+		ReflectionTestUtils.setField(member, "memberId", 7L);
+		SecurityContextHolder.getContext()
+				.setAuthentication(new UsernamePasswordAuthenticationToken(member, null, List.of()));
+		List<TeamJoinRequest> requests = LongStream.rangeClosed(1, TEAM_COUNT)
+				.mapToObj(id -> TeamJoinRequest.builder()
+						.id(id)
+						.teamId(id)
+						.userId(7L)
+						.status(TeamJoinRequest.RequestStatus.REJECTED)
+						.createdAt(LocalDateTime.now())
+						.processedBy(100 + id)
+						.build())
+				.toList();
+		when(teamJoinRequestRepository.findByUserIdOrderByCreatedAtDesc(7L)).thenReturn(requests);
+
+		mockMvc.perform(get("/teams/my-join-requests"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$", hasSize(TEAM_COUNT)))
+				.andExpect(header().string("X-SQL-Statements", "3"));
+	}
+
+	@Test
+	void ecoMerchantHistoryStaysWithinBudget() throws Exception {
+		mockMvc.perform(get("/api/eco-merchant/7/history"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.success").value(true))
+				.andExpect(header().string("X-SQL-Statements", "8"));
+	}
+
+	@Test
+	void environmentalImpactStaysWithinBudget() throws Exception {
+		mockMvc.perform(get("/api/environmental-impact/7"))
+				.andExpect(status().isOk())
+				.andExpect(header().string("X-SQL-Statements", "2"));
+	}
+
+	@Test
+	void seededNPlusOneFailsBeforeBodyIsWritten() throws Exception {
+		for (Team team : teams) {
+			when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
+		}
+
+		mockMvc.perform(get("/test/sql-budget/n-plus-one"))
+				.andExpect(status().isInternalServerError())
+				.andExpect(content().string(not(containsString("팀1"))));
+	}
+
+	@Test
+	void seededNPlusOneIsOnlyReportedWhenNotEnforced() throws Exception {
+		ReflectionTestUtils.setField(sqlStatementTracker, "enforce", false);
+		for (Team team : teams) {
+			when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
+		}
+
+		mockMvc.perform(get("/test/sql-budget/n-plus-one"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$", hasSize(TEAM_COUNT)))
+				.andExpect(header().string("X-SQL-Max-Repeat", String.valueOf(TEAM_COUNT)));
+	}
+
+	/**
+	 * 리포지토리 호출마다 "타입.메서드"를 SQL 한 건으로 기록하는 목
+	 */
+	private static <T> T counting(Class<T> type) {
+		return mock(type, withSettings().invocationListeners(report -> INSPECTOR.inspect(
+				type.getSimpleName() + "." + ((InvocationOnMock) report.getInvocation()).getMethod().getName())));
+	}
+
+	/**
+	 * 팀마다 따로 조회하는 N+1 (변경 전 팀 목록과 같은 형태)
+	 */
+	@RestController
+	static class SeededNPlusOneController {
+
+		private final TeamRepository teamRepository;
+
+		SeededNPlusOneController(TeamRepository teamRepository) {
+			this.teamRepository = teamRepository;
+		}
+
+		@GetMapping("/test/sql-budget/n-plus-one")
+		@SqlBudget(statements = 20)
+		public ResponseEntity<List<String>> teamNames() {
+			List<String> names = new ArrayList<>();
+			for (long id = 1; id <= TEAM_COUNT; id++) {
+				teamRepository.findById(id).map(Team::getTeamName).ifPresent(names::add);
+			}
+			return ResponseEntity.ok(names);
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package com.kopo.hanagreenworld.common.sql;
+
+import com.kopo.hanagreenworld.common.config.JpaConfig;
+import com.kopo.hanagreenworld.common.config.SqlStatementConfig;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.merchant.domain.EcoMerchant;
+import com.kopo.hanagreenworld.merchant.domain.EcoMerchantTransaction;
+import com.kopo.hanagreenworld.merchant.service.EcoMerchantIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 EntityManagerFactory(내장 DB)에서 SQL 추적 훅이 등록되어 집계되는지 확인
+ * SqlBudgetEnforcementTest는 저장소 호출을 세는 모의 객체로 집계/강제 로직만 검증하므로,
+ * 여기서는 SqlStatementConfig와 SqlEntityLoadListener가 Hibernate에 걸리고 지연 로딩 SQL까지 세어지는지 본다.
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.sql.init.mode=never"
+})
+@Import({JpaConfig.class, SqlStatementConfig.class, SqlStatementTracker.class, SqlStatementMetrics.class,
+		SqlEntityLoadListener.class})
+class SqlStatementTrackingJpaTest {
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private SqlStatementTracker sqlStatementTracker;
+
+	@Autowired
+	private SqlEntityLoadListener sqlEntityLoadListener;
+
+	// 가맹점 저장 시 EcoMerchantChangeListener가 인덱스를 무효화한다
+	@MockitoBean
+	private EcoMerchantIndex ecoMerchantIndex;
+
+	@Test
+	void configRegistersInspectorTimingAndPostLoadListeners() {
+		assertThat(entityManagerFactory.getProperties())
+				.hasEntrySatisfying(AvailableSettings.STATEMENT_INSPECTOR,
+						inspector -> assertThat(inspector).isInstanceOf(SqlStatementInspector.class))
+				.containsEntry(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlExecutionTimingListener.class.getName());
+
+		EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+				.getServiceRegistry()
+				.getService(EventListenerRegistry.class);
+		assertThat(registry.getEventListenerGroup(EventType.POST_LOAD).listeners()).contains(sqlEntityLoadListener);
+	}
+
+	@Test
+	void lazyAssociationAccessIsCounted() {
+		Long transactionId = persistTransaction();
+
+		SqlStatementContext context = sqlStatementTracker.begin("lazy-association");
+		try {
+			EcoMerchantTransaction transaction = entityManager.find(EcoMerchantTransaction.class, transactionId);
+			int statementsAfterFind = context.getStatements();
+			int entitiesAfterFind = context.getEntitiesLoaded();
+
+			assertThat(transaction.getEcoMerchant().getCategory()).isEqualTo(EcoMerchant.MerchantCategory.ECO_FOOD);
+
+			assertThat(statementsAfterFind).isEqualTo(1);
+			assertThat(entitiesAfterFind).isEqualTo(1);
+			assertThat(context.getStatements()).isEqualTo(2);
+			assertThat(context.getEntitiesLoaded()).isEqualTo(2);
+			assertThat((Long) ReflectionTestUtils.getField(context, "executionNanos")).isPositive();
+		} finally {
+			sqlStatementTracker.end(context);
+		}
+	}
+
+	private Long persistTransaction() {
+		Member member = Member.builder()
+				.loginId("sql-tracking")
+				.email("sql-tracking@hana.com")
+				.password("password")
+				.name("sql-tracking")
+				.phoneNumber("010-0000-1111")
+				.build();
+		entityManager.persist(member);
+		EcoMerchant merchant = EcoMerchant.builder()
+				.businessNumber("123-45-67890")
+				.name("초록 식탁")
+				.category(EcoMerchant.MerchantCategory.ECO_FOOD)
+				.address("서울특별시 중구")
+				.latitude(new BigDecimal("37.5665000"))
+				.longitude(new BigDecimal("126.9780000"))
+				.build();
+		entityManager.persist(merchant);
+		EcoMerchantTransaction transaction = EcoMerchantTransaction.builder()
+				.member(member)
+				.ecoMerchant(merchant)
+				.cardTransactionId(1L)
+				.merchantName(merchant.getName())
+				.businessNumber(merchant.getBusinessNumber())
+				.transactionAmount(10_000L)
+				.transactionDate(LocalDateTime.now())
+				.earnedSeeds(100L)
+				.build();
+		entityManager.persist(transaction);
+		entityManager.flush();
+		entityManager.clear();
+		return transaction.getId();
+	}
+}
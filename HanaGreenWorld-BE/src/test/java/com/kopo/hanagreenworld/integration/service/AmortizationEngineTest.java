@@ -0,0 +1,124 @@
+package com.kopo.hanagreenworld.integration.service;
+
+import com.kopo.hanagreenworld.integration.service.AmortizationEngine.AmortizationSchedule;
+import com.kopo.hanagreenworld.integration.service.AmortizationEngine.Installment;
+import com.kopo.hanagreenworld.integration.service.AmortizationEngine.RepaymentMethod;
+import com.kopo.hanagreenworld.integration.service.AmortizationEngine.ScheduleKey;
+import com.kopo.hanagreenworld.integration.util.LoanCalculationUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AmortizationEngineTest {
+
+	private static final int LOAN_COUNT = 1000;
+
+	private AmortizationEngine amortizationEngine;
+
+	@BeforeEach
+	void setUp() {
+		amortizationEngine = new AmortizationEngine();
+		ReflectionTestUtils.setField(amortizationEngine, "maxSize", 2000);
+	}
+
+	@Test
+	void fixedPointPaymentMatchesBigDecimalCalculation() {
+		Random random = new Random(42);
+		for (int i = 0; i < LOAN_COUNT; i++) {
+			BigDecimal principal = randomPrincipal(random);
+			BigDecimal annualRate = randomAnnualRate(random);
+			int termMonths = randomTerm(random);
+
+			BigDecimal expected = LoanCalculationUtil.calculateMonthlyPayment(principal, annualRate, termMonths);
+			ScheduleKey key = amortizationEngine.keyOf(principal, annualRate, termMonths, RepaymentMethod.EQUAL_PAYMENT);
+
+			assertThat(key).isNotNull();
+			assertThat(amortizationEngine.annuityPayment(key.principal(), key.monthlyRateE10(), termMonths))
+					.as("원금 %s, 연이율 %s, %d개월", principal, annualRate, termMonths)
+					.isEqualTo(expected.longValueExact());
+			assertThat(amortizationEngine.monthlyPayment(principal, annualRate, termMonths))
+					.isEqualByComparingTo(expected);
+		}
+	}
+
+	@Test
+	void fixedPointInterestMatchesBigDecimalCalculation() {
+		Random random = new Random(7);
+		for (int i = 0; i < LOAN_COUNT; i++) {
+			BigDecimal principal = randomPrincipal(random);
+			BigDecimal remaining = BigDecimal.valueOf(principal.longValue() - principal.longValue() * random.nextInt(100) / 100);
+			BigDecimal annualRate = randomAnnualRate(random);
+
+			assertThat(amortizationEngine.monthlyInterest(remaining, annualRate))
+					.as("잔액 %s, 연이율 %s", remaining, annualRate)
+					.isEqualByComparingTo(LoanCalculationUtil.calculateMonthlyInterest(remaining, annualRate));
+		}
+	}
+
+	@Test
+	void everyScheduleRepaysExactPrincipal() {
+		Random random = new Random(11);
+		for (int i = 0; i < 200; i++) {
+			BigDecimal principal = randomPrincipal(random);
+			BigDecimal annualRate = randomAnnualRate(random);
+			int termMonths = randomTerm(random);
+			for (RepaymentMethod method : RepaymentMethod.values()) {
+				AmortizationSchedule schedule = amortizationEngine.schedule(principal, annualRate, termMonths, method);
+
+				assertThat(schedule.size()).isEqualTo(termMonths);
+				assertThat(schedule.getInstallments().stream().mapToLong(Installment::principal).sum())
+						.as("%s 원금 %s, 연이율 %s, %d개월", method, principal, annualRate, termMonths)
+						.isEqualTo(principal.longValueExact());
+				assertThat(schedule.getInstallments().get(termMonths - 1).remainingBalance()).isZero();
+			}
+		}
+	}
+
+	@Test
+	void interestFreeLoanSplitsPrincipalEvenly() {
+		BigDecimal principal = BigDecimal.valueOf(10_000_000L);
+
+		assertThat(amortizationEngine.monthlyPayment(principal, BigDecimal.ZERO, 36))
+				.isEqualByComparingTo(LoanCalculationUtil.calculateMonthlyPayment(principal, BigDecimal.ZERO, 36));
+	}
+
+	@Test
+	void fractionalPrincipalFallsBackToBigDecimalCalculation() {
+		BigDecimal principal = new BigDecimal("12345678.5");
+		BigDecimal annualRate = new BigDecimal("0.045");
+
+		assertThat(amortizationEngine.keyOf(principal, annualRate, 60, RepaymentMethod.EQUAL_PAYMENT)).isNull();
+		assertThat(amortizationEngine.monthlyPayment(principal, annualRate, 60))
+				.isEqualByComparingTo(LoanCalculationUtil.calculateMonthlyPayment(principal, annualRate, 60));
+	}
+
+	@Test
+	void repeatedLookupIsServedFromCache() {
+		BigDecimal principal = BigDecimal.valueOf(50_000_000L);
+		BigDecimal annualRate = new BigDecimal("0.0525");
+
+		AmortizationSchedule first = amortizationEngine.schedule(principal, annualRate, 120, RepaymentMethod.EQUAL_PAYMENT);
+		AmortizationSchedule second = amortizationEngine.schedule(principal, annualRate, 120, RepaymentMethod.EQUAL_PAYMENT);
+
+		assertThat(second).isSameAs(first);
+		assertThat(amortizationEngine.getStats().hits()).isEqualTo(1);
+		assertThat(amortizationEngine.getStats().misses()).isEqualTo(1);
+	}
+
+	private static BigDecimal randomPrincipal(Random random) {
+		return BigDecimal.valueOf((100L + random.nextInt(50_000)) * 10_000L);   // 100만 ~ 5억
+	}
+
+	private static BigDecimal randomAnnualRate(Random random) {
+		return BigDecimal.valueOf(200 + random.nextInt(1000), 4);               // 연 2.00% ~ 11.99%
+	}
+
+	private static int randomTerm(Random random) {
+		return 12 + random.nextInt(349);                                         // 12 ~ 360개월
+	}
+}
@@ -0,0 +1,158 @@
+package com.kopo.hanagreenworld.integration.service;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kopo.hanagreenworld.common.dto.ApiResponse;
+import com.kopo.hanagreenworld.integration.dto.CardCustomerInfoResponse;
+import com.kopo.hanagreenworld.integration.dto.CardHanamoneyResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 관계사 응답 DTO 바인딩 검증
+ * 하나카드 고객 정보 응답 모양의 본문을 기존 방식(Map 트리 + toString 변환)과 DTO 직접 바인딩으로 각각 읽어
+ * 같은 값을 얻는지 확인한다.
+ */
+class IntegrationPayloadBindingTest {
+
+	// 스프링 부트 기본 설정처럼 날짜를 ISO 문자열로 주고받는다
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+			.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+			.build();
+	private final JavaType typedResponse = objectMapper.getTypeFactory()
+			.constructParametricType(ApiResponse.class, CardCustomerInfoResponse.class);
+
+	@Test
+	void typedBindingReadsSameValuesAsMapParsing() throws Exception {
+		for (int[] shape : new int[][]{{1, 1}, {3, 200}, {10, 50}}) {
+			byte[] payload = objectMapper.writeValueAsBytes(samplePayload(shape[0], shape[1]));
+
+			assertThat(parseAsTyped(payload)).isEqualTo(parseAsMap(payload));
+		}
+	}
+
+	@Test
+	void typedBindingKeepsFieldTypes() throws Exception {
+		byte[] payload = objectMapper.writeValueAsBytes(samplePayload(2, 3));
+
+		ApiResponse<CardCustomerInfoResponse> response = objectMapper.readValue(payload, typedResponse);
+		CardCustomerInfoResponse data = response.getData();
+
+		assertThat(response.isSuccess()).isTrue();
+		assertThat(data.getCustomerInfo().getTotalCreditLimit()).isEqualByComparingTo("50000000");
+		assertThat(data.getHanamoneyInfo().getCurrentPoints()).isEqualByComparingTo("50000");
+		assertThat(data.getCards()).hasSize(2);
+		assertThat(data.getCards().get(1).getTransactions()).hasSize(3)
+				.first()
+				.satisfies(transaction -> {
+					assertThat(transaction.getAmount()).isEqualTo(10_000L);
+					assertThat(transaction.getTransactionDate()).isNotNull();
+				});
+	}
+
+	/**
+	 * 기존 방식 - Map으로 읽은 뒤 필드마다 캐스팅과 문자열 변환
+	 */
+	@SuppressWarnings("unchecked")
+	private long parseAsMap(byte[] payload) throws Exception {
+		Map<String, Object> response = objectMapper.readValue(payload, Map.class);
+		Map<String, Object> data = (Map<String, Object>) response.get("data");
+		Map<String, Object> customerInfo = (Map<String, Object>) data.get("customerInfo");
+		Map<String, Object> hanamoneyInfo = (Map<String, Object>) data.get("hanamoneyInfo");
+
+		long sum = new BigDecimal(customerInfo.get("totalCreditLimit").toString())
+				.subtract(new BigDecimal(customerInfo.get("usedCreditAmount").toString())).longValue();
+		sum += new BigDecimal(hanamoneyInfo.get("currentPoints").toString()).longValue();
+		for (Map<String, Object> card : (List<Map<String, Object>>) data.get("cards")) {
+			sum += card.get("cardName").toString().length();
+			for (Map<String, Object> transaction : (List<Map<String, Object>>) card.get("transactions")) {
+				sum += LocalDateTime.parse(transaction.get("transactionDate").toString()).getDayOfMonth();
+				sum += transaction.get("merchantName").toString().length();
+				sum += Long.parseLong(transaction.get("amount").toString());
+				sum += Long.parseLong(transaction.get("cashbackAmount").toString());
+			}
+		}
+		return sum;
+	}
+
+	/**
+	 * DTO 직접 바인딩 - 토큰 스트림에서 바로 필드 타입으로 읽는다
+	 */
+	private long parseAsTyped(byte[] payload) throws Exception {
+		ApiResponse<CardCustomerInfoResponse> response = objectMapper.readValue(payload, typedResponse);
+		CardCustomerInfoResponse data = response.getData();
+
+		long sum = data.getCustomerInfo().getTotalCreditLimit()
+				.subtract(data.getCustomerInfo().getUsedCreditAmount()).longValue();
+		sum += data.getHanamoneyInfo().getCurrentPoints().longValue();
+		for (CardCustomerInfoResponse.CardInfo card : data.getCards()) {
+			sum += card.getCardName().length();
+			for (CardCustomerInfoResponse.TransactionInfo transaction : card.getTransactions()) {
+				sum += transaction.getTransactionDate().getDayOfMonth();
+				sum += transaction.getMerchantName().length();
+				sum += transaction.getAmount();
+				sum += transaction.getCashbackAmount();
+			}
+		}
+		return sum;
+	}
+
+	private ApiResponse<CardCustomerInfoResponse> samplePayload(int cardCount, int transactionsPerCard) {
+		LocalDateTime now = LocalDateTime.now().withNano(0);
+		List<CardCustomerInfoResponse.CardInfo> cards = new ArrayList<>();
+		for (int c = 0; c < cardCount; c++) {
+			List<CardCustomerInfoResponse.TransactionInfo> transactions = new ArrayList<>();
+			for (int t = 0; t < transactionsPerCard; t++) {
+				transactions.add(CardCustomerInfoResponse.TransactionInfo.builder()
+						.transactionDate(now.minusHours(t))
+						.merchantName("친환경 가맹점 " + t)
+						.category(t % 2 == 0 ? "대중교통" : "친환경")
+						.merchantCategory("ECO_FOOD")
+						.amount(10_000L + t)
+						.cashbackAmount(100L + t % 10)
+						.cashbackRate(1.5)
+						.description("카드 결제")
+						.build());
+			}
+			cards.add(CardCustomerInfoResponse.CardInfo.builder()
+					.cardNumber("1234-****-****-" + (1000 + c))
+					.cardName("하나 그린카드 " + c)
+					.cardType("CREDIT")
+					.cardStatus("ACTIVE")
+					.creditLimit(new BigDecimal("5000000"))
+					.availableLimit(new BigDecimal("4000000"))
+					.monthlyUsage(new BigDecimal("1000000"))
+					.issueDate(now.minusYears(1))
+					.expiryDate(now.plusYears(4))
+					.benefits(List.of(CardCustomerInfoResponse.BenefitInfo.builder()
+							.benefitType("친환경 교통").category("대중교통").cashbackRate(2.0)
+							.description("지하철, 버스 이용 시 2% 캐시백").build()))
+					.transactions(transactions)
+					.build());
+		}
+
+		CardCustomerInfoResponse data = CardCustomerInfoResponse.builder()
+				.customerInfo(CardCustomerInfoResponse.CustomerBasicInfo.builder()
+						.name("홍길동").email("user@example.com").phoneNumber("010-0000-0000")
+						.customerGrade("GOLD").joinDate(now.minusYears(2)).isActive(true)
+						.totalCreditLimit(new BigDecimal("50000000")).usedCreditAmount(new BigDecimal("10000000"))
+						.build())
+				.cards(cards)
+				.hanamoneyInfo(CardHanamoneyResponse.builder()
+						.membershipLevel("GOLD").currentPoints(new BigDecimal("50000"))
+						.accumulatedPoints(new BigDecimal("200000")).isSubscribed(true).joinDate(now.minusYears(2))
+						.build())
+				.responseTime(now)
+				.build();
+		return ApiResponse.success("고객 정보 조회 성공", data);
+	}
+}
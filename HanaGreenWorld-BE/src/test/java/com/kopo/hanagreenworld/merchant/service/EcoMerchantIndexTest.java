@@ -0,0 +1,119 @@
+package com.kopo.hanagreenworld.merchant.service;
+
+import com.kopo.hanagreenworld.merchant.domain.EcoMerchant;
+import com.kopo.hanagreenworld.merchant.repository.EcoMerchantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EcoMerchantIndexTest {
+
+	private EcoMerchantRepository ecoMerchantRepository;
+	private EcoMerchantIndex ecoMerchantIndex;
+
+	@BeforeEach
+	void setUp() {
+		ecoMerchantRepository = mock(EcoMerchantRepository.class);
+		ecoMerchantIndex = new EcoMerchantIndex(ecoMerchantRepository);
+	}
+
+	@Test
+	void normalizeKeepsDigitsOnly() {
+		assertThat(EcoMerchantIndex.normalize("123-45-67890")).isEqualTo(1234567890L);
+		assertThat(EcoMerchantIndex.normalize(" 123 45 67890 ")).isEqualTo(1234567890L);
+		assertThat(EcoMerchantIndex.normalize("0012345")).isEqualTo(12345L);
+	}
+
+	@Test
+	void normalizeRejectsMissingOrOverlongNumbers() {
+		assertThat(EcoMerchantIndex.normalize(null)).isEqualTo(-1L);
+		assertThat(EcoMerchantIndex.normalize("")).isEqualTo(-1L);
+		assertThat(EcoMerchantIndex.normalize("사업자번호 없음")).isEqualTo(-1L);
+		assertThat(EcoMerchantIndex.normalize("123456789012345678")).isEqualTo(123456789012345678L);
+		assertThat(EcoMerchantIndex.normalize("1234567890123456789")).isEqualTo(-1L);
+	}
+
+	@Test
+	void findMatchesRegardlessOfFormatting() {
+		when(ecoMerchantRepository.findByIsActiveTrue()).thenReturn(List.of(
+				merchant(1L, "123-45-67890", "리필스테이션"),
+				merchant(2L, "2208162517", "전기차 충전소")));
+
+		assertThat(ecoMerchantIndex.find("1234567890"))
+				.hasValueSatisfying(entry -> {
+					assertThat(entry.merchantId()).isEqualTo(1L);
+					assertThat(entry.name()).isEqualTo("리필스테이션");
+				});
+		assertThat(ecoMerchantIndex.find("220-81-62517"))
+				.hasValueSatisfying(entry -> assertThat(entry.merchantId()).isEqualTo(2L));
+		assertThat(ecoMerchantIndex.find("999-99-99999")).isEmpty();
+		assertThat(ecoMerchantIndex.find(null)).isEmpty();
+	}
+
+	@Test
+	void skipsMerchantsWithoutBusinessNumber() {
+		when(ecoMerchantRepository.findByIsActiveTrue()).thenReturn(List.of(
+				merchant(1L, "123-45-67890", "리필스테이션"),
+				merchant(2L, "-", "번호 없음")));
+
+		EcoMerchantIndex.IndexStats stats = ecoMerchantIndex.refresh();
+
+		assertThat(stats.size()).isEqualTo(1);
+		assertThat(stats.skipped()).isEqualTo(1);
+	}
+
+	@Test
+	void findsEveryEntryInLargeTable() {
+		List<EcoMerchant> merchants = new ArrayList<>();
+		for (long i = 1; i <= 5_000; i++) {
+			merchants.add(merchant(i, String.valueOf(1_000_000_000L + i * 7919), "가맹점" + i));
+		}
+		when(ecoMerchantRepository.findByIsActiveTrue()).thenReturn(merchants);
+
+		EcoMerchantIndex.IndexStats stats = ecoMerchantIndex.refresh();
+
+		assertThat(stats.size()).isEqualTo(5_000);
+		assertThat(stats.capacity()).isGreaterThanOrEqualTo(10_000);
+		for (EcoMerchant merchant : merchants) {
+			assertThat(ecoMerchantIndex.find(merchant.getBusinessNumber()))
+					.hasValueSatisfying(entry -> assertThat(entry.merchantId()).isEqualTo(merchant.getId()));
+		}
+		assertThat(ecoMerchantIndex.find("1000000001")).isEmpty();
+	}
+
+	@Test
+	void rebuildsOnlyAfterMarkedStale() {
+		when(ecoMerchantRepository.findByIsActiveTrue())
+				.thenReturn(List.of(merchant(1L, "123-45-67890", "리필스테이션")))
+				.thenReturn(List.of(merchant(2L, "220-81-62517", "전기차 충전소")));
+
+		assertThat(ecoMerchantIndex.find("1234567890")).isPresent();
+		assertThat(ecoMerchantIndex.find("1234567890")).isPresent();
+		verify(ecoMerchantRepository, times(1)).findByIsActiveTrue();
+
+		ecoMerchantIndex.markStale();
+
+		assertThat(ecoMerchantIndex.find("1234567890")).isEmpty();
+		assertThat(ecoMerchantIndex.find("2208162517")).isPresent();
+		verify(ecoMerchantRepository, times(2)).findByIsActiveTrue();
+	}
+
+	private EcoMerchant merchant(Long id, String businessNumber, String name) {
+		EcoMerchant merchant = EcoMerchant.builder()
+				.businessNumber(businessNumber)
+				.name(name)
+				.category(EcoMerchant.MerchantCategory.ECO_FOOD)
+				.build();
+		ReflectionTestUtils.setField(merchant, "id", id);
+		return merchant;
+	}
+}
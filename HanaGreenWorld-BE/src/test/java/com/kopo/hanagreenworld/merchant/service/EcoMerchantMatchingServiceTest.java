@@ -0,0 +1,76 @@
+package com.kopo.hanagreenworld.merchant.service;
+
+import com.kopo.hanagreenworld.activity.service.EnvironmentalImpactRollupService;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.member.service.MemberProfileService;
+import com.kopo.hanagreenworld.merchant.repository.EcoMerchantRepository;
+import com.kopo.hanagreenworld.merchant.repository.EcoMerchantTransactionRepository;
+import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
+import com.kopo.hanagreenworld.point.service.EcoSeedService;
+import com.kopo.hanagreenworld.point.service.MemberSeedTotalCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class EcoMerchantMatchingServiceTest {
+
+	private static final String BUSINESS_NUMBER = "123-45-67890";
+
+	private EcoMerchantTransactionRepository ecoMerchantTransactionRepository;
+	private EcoSeedService ecoSeedService;
+	private EcoMerchantMatchingService ecoMerchantMatchingService;
+
+	@BeforeEach
+	void setUp() {
+		ecoMerchantTransactionRepository = mock(EcoMerchantTransactionRepository.class);
+		ecoSeedService = mock(EcoSeedService.class);
+		ecoMerchantMatchingService = new EcoMerchantMatchingService(mock(EcoMerchantRepository.class),
+				ecoMerchantTransactionRepository, ecoSeedService, mock(EcoMerchantIndex.class),
+				mock(MemberSeedTotalCache.class), mock(MemberProfileService.class),
+				mock(PointTransactionRepository.class), mock(MemberRepository.class),
+				mock(EnvironmentalImpactRollupService.class));
+	}
+
+	@Test
+	void purchasesWithoutDateAreRejectedInsteadOfSharingOneId() {
+		Map<String, Object> first = ecoMerchantMatchingService.processEcoMerchantTransaction(
+				7L, BUSINESS_NUMBER, "리필스테이션", 15_000L, null);
+		Map<String, Object> second = ecoMerchantMatchingService.processEcoMerchantTransaction(
+				7L, BUSINESS_NUMBER, "리필스테이션", 15_000L, " ");
+
+		assertThat(first).containsEntry("isEcoMerchant", false).containsKey("error");
+		assertThat(second).containsEntry("isEcoMerchant", false).containsKey("error");
+		assertThat(first.get("message")).isNotEqualTo("이미 처리된 거래");
+		assertThat(second.get("message")).isNotEqualTo("이미 처리된 거래");
+		verify(ecoMerchantTransactionRepository, never()).findByCardTransactionId(anyLong());
+		verifyNoInteractions(ecoSeedService);
+	}
+
+	@Test
+	void syntheticIdRequiresTransactionDate() {
+		assertThatThrownBy(() -> EcoMerchantMatchingService.syntheticTransactionId(7L, BUSINESS_NUMBER, 15_000L, null))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> EcoMerchantMatchingService.syntheticTransactionId(7L, BUSINESS_NUMBER, 15_000L, ""))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void syntheticIdIsStablePerPurchaseAndNegative() {
+		long id = EcoMerchantMatchingService.syntheticTransactionId(7L, BUSINESS_NUMBER, 15_000L, "2026-10-01T12:30:00");
+
+		assertThat(id).isNegative();
+		assertThat(EcoMerchantMatchingService.syntheticTransactionId(7L, BUSINESS_NUMBER, 15_000L, " 2026-10-01T12:30:00 "))
+				.isEqualTo(id);
+		assertThat(EcoMerchantMatchingService.syntheticTransactionId(7L, BUSINESS_NUMBER, 15_000L, "2026-10-01T12:31:00"))
+				.isNotEqualTo(id);
+	}
+}
@@ -0,0 +1,232 @@
+package com.kopo.hanagreenworld.point.service;
+
+import com.kopo.hanagreenworld.common.exception.BusinessException;
+import com.kopo.hanagreenworld.integration.service.HanamoneyCardService;
+import com.kopo.hanagreenworld.integration.service.HanamoneyCardService.EarnOutcome;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import com.kopo.hanagreenworld.point.domain.HanamoneyConversion;
+import com.kopo.hanagreenworld.point.domain.HanamoneyConversion.ConversionStatus;
+import com.kopo.hanagreenworld.point.domain.PointTransaction;
+import com.kopo.hanagreenworld.point.domain.PointTransactionType;
+import com.kopo.hanagreenworld.point.repository.HanamoneyConversionRepository;
+import com.kopo.hanagreenworld.point.repository.PointTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HanamoneyConversionServiceTest {
+
+	private static final Long MEMBER_ID = 7L;
+
+	private HanamoneyConversionRepository hanamoneyConversionRepository;
+	private MemberProfileRepository memberProfileRepository;
+	private MemberRepository memberRepository;
+	private PointTransactionRepository pointTransactionRepository;
+	private HanamoneyCardService hanamoneyCardService;
+	private HanamoneyConversionService hanamoneyConversionService;
+	private Member member;
+
+	@BeforeEach
+	void setUp() {
+		hanamoneyConversionRepository = mock(HanamoneyConversionRepository.class);
+		memberProfileRepository = mock(MemberProfileRepository.class);
+		memberRepository = mock(MemberRepository.class);
+		pointTransactionRepository = mock(PointTransactionRepository.class);
+		hanamoneyCardService = mock(HanamoneyCardService.class);
+		hanamoneyConversionService = new HanamoneyConversionService(hanamoneyConversionRepository,
+				memberProfileRepository, memberRepository, pointTransactionRepository, hanamoneyCardService,
+				new TransactionTemplate(mock(PlatformTransactionManager.class)));
+		ReflectionTestUtils.setField(hanamoneyConversionService, "maxAttempts", 5);
+		ReflectionTestUtils.setField(hanamoneyConversionService, "retryBackoffSeconds", 30L);
+		ReflectionTestUtils.setField(hanamoneyConversionService, "maxBackoffSeconds", 3600L);
+		ReflectionTestUtils.setField(hanamoneyConversionService, "staleSendingMinutes", 5L);
+		ReflectionTestUtils.setField(hanamoneyConversionService, "sweepGraceSeconds", 10L);
+		ReflectionTestUtils.setField(hanamoneyConversionService, "sweepBatchSize", 100);
+
+		member = Member.builder()
+				.loginId("green")
+				.name("김하나")
+				.phoneNumber("010-1234-5678")
+				.build();
+		ReflectionTestUtils.setField(member, "memberId", MEMBER_ID);
+		when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.of(member));
+		when(memberRepository.getReferenceById(MEMBER_ID)).thenReturn(member);
+		when(memberProfileRepository.findByMember_MemberId(MEMBER_ID)).thenReturn(Optional.empty());
+	}
+
+	@Test
+	void reserveDeductsSeedsAndSavesReservation() {
+		when(memberProfileRepository.reservePoints(MEMBER_ID, 500L)).thenReturn(1);
+		when(hanamoneyConversionRepository.save(any(HanamoneyConversion.class)))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+
+		HanamoneyConversion conversion = hanamoneyConversionService.reserve(MEMBER_ID, 500L);
+
+		assertThat(conversion.getStatus()).isEqualTo(ConversionStatus.RESERVED);
+		assertThat(conversion.getMemberId()).isEqualTo(MEMBER_ID);
+		assertThat(conversion.getPointsAmount()).isEqualTo(500L);
+		assertThat(conversion.getReferenceId()).startsWith("GW-CONV-");
+	}
+
+	@Test
+	void reserveFailsWithoutSavingWhenSeedsAreInsufficient() {
+		when(memberProfileRepository.reservePoints(MEMBER_ID, 500L)).thenReturn(0);
+
+		assertThatThrownBy(() -> hanamoneyConversionService.reserve(MEMBER_ID, 500L))
+				.isInstanceOf(BusinessException.class);
+		verify(hanamoneyConversionRepository, never()).save(any());
+	}
+
+	@Test
+	void processConfirmsWhenCardApplies() {
+		HanamoneyConversion conversion = stored(1L, 500L);
+		when(hanamoneyCardService.earnHanamoney(eq(member), eq(500L), anyString(), eq(conversion.getReferenceId())))
+				.thenReturn(EarnOutcome.APPLIED);
+
+		assertThat(hanamoneyConversionService.process(1L)).isEqualTo(ConversionStatus.CONFIRMED);
+
+		ArgumentCaptor<PointTransaction> saved = ArgumentCaptor.forClass(PointTransaction.class);
+		verify(pointTransactionRepository).save(saved.capture());
+		assertThat(saved.getValue().getPointTransactionType()).isEqualTo(PointTransactionType.CONVERT);
+		assertThat(saved.getValue().getPointsAmount()).isEqualTo(-500);
+		verify(memberProfileRepository, never()).restorePoints(anyLong(), anyLong());
+	}
+
+	@Test
+	void processCancelsAndRestoresSeedsWhenFirstAttemptIsRejected() {
+		HanamoneyConversion conversion = stored(1L, 500L);
+		when(hanamoneyCardService.earnHanamoney(any(), anyLong(), anyString(), anyString()))
+				.thenReturn(EarnOutcome.REJECTED);
+
+		assertThat(hanamoneyConversionService.process(1L)).isEqualTo(ConversionStatus.CANCELLED);
+
+		assertThat(conversion.getStatus()).isEqualTo(ConversionStatus.CANCELLED);
+		verify(memberProfileRepository).restorePoints(MEMBER_ID, 500L);
+		verify(hanamoneyCardService, never()).getEarnStatus(any(), anyString());
+	}
+
+	@Test
+	void rejectionAfterUnknownAttemptConfirmsWhenEarnWasApplied() {
+		HanamoneyConversion conversion = stored(1L, 500L);
+		ReflectionTestUtils.setField(conversion, "attempts", 1);
+		when(hanamoneyCardService.earnHanamoney(any(), anyLong(), anyString(), anyString()))
+				.thenReturn(EarnOutcome.REJECTED);
+		when(hanamoneyCardService.getEarnStatus(member, conversion.getReferenceId())).thenReturn(true);
+
+		assertThat(hanamoneyConversionService.process(1L)).isEqualTo(ConversionStatus.CONFIRMED);
+
+		verify(memberProfileRepository, never()).restorePoints(anyLong(), anyLong());
+		verify(pointTransactionRepository).save(any(PointTransaction.class));
+	}
+
+	@Test
+	void rejectionAfterUnknownAttemptCancelsOnlyWhenEarnWasNotApplied() {
+		HanamoneyConversion conversion = stored(1L, 500L);
+		ReflectionTestUtils.setField(conversion, "attempts", 1);
+		when(hanamoneyCardService.earnHanamoney(any(), anyLong(), anyString(), anyString()))
+				.thenReturn(EarnOutcome.REJECTED);
+		when(hanamoneyCardService.getEarnStatus(member, conversion.getReferenceId())).thenReturn(false);
+
+		assertThat(hanamoneyConversionService.process(1L)).isEqualTo(ConversionStatus.CANCELLED);
+
+		verify(memberProfileRepository).restorePoints(MEMBER_ID, 500L);
+	}
+
+	@Test
+	void rejectionAfterUnknownAttemptRetriesWhenStatusCannotBeChecked() {
+		HanamoneyConversion conversion = stored(1L, 500L);
+		ReflectionTestUtils.setField(conversion, "attempts", 1);
+		when(hanamoneyCardService.earnHanamoney(any(), anyLong(), anyString(), anyString()))
+				.thenReturn(EarnOutcome.REJECTED);
+		when(hanamoneyCardService.getEarnStatus(member, conversion.getReferenceId())).thenReturn(null);
+
+		assertThat(hanamoneyConversionService.process(1L)).isEqualTo(ConversionStatus.RESERVED);
+
+		verify(memberProfileRepository, never()).restorePoints(anyLong(), anyLong());
+	}
+
+	@Test
+	void unknownOutcomeSchedulesRetryWithSameReference() {
+		HanamoneyConversion conversion = stored(1L, 500L);
+		when(hanamoneyCardService.earnHanamoney(any(), anyLong(), anyString(), anyString()))
+				.thenReturn(EarnOutcome.UNKNOWN);
+
+		assertThat(hanamoneyConversionService.process(1L)).isEqualTo(ConversionStatus.RESERVED);
+
+		assertThat(conversion.getNextAttemptAt()).isAfter(LocalDateTime.now());
+		assertThat(conversion.getLastError()).contains("응답 없음");
+		verify(memberProfileRepository, never()).restorePoints(anyLong(), anyLong());
+	}
+
+	@Test
+	void sweepReleasesStaleConversionsAndSettlesDueOnes() {
+		HanamoneyConversion applied = stored(1L, 500L);
+		HanamoneyConversion rejected = stored(2L, 300L);
+		when(hanamoneyConversionRepository.releaseStale(eq(ConversionStatus.SENDING), eq(ConversionStatus.RESERVED),
+				any(), any())).thenReturn(2);
+		when(hanamoneyConversionRepository.findIdsByStatusDueBefore(eq(ConversionStatus.RESERVED), any(), any()))
+				.thenReturn(List.of(1L, 2L));
+		when(hanamoneyCardService.earnHanamoney(any(), anyLong(), anyString(), eq(applied.getReferenceId())))
+				.thenReturn(EarnOutcome.APPLIED);
+		when(hanamoneyCardService.earnHanamoney(any(), anyLong(), anyString(), eq(rejected.getReferenceId())))
+				.thenReturn(EarnOutcome.REJECTED);
+
+		HanamoneyConversionService.SweepResult result = hanamoneyConversionService.sweep();
+
+		assertThat(result).isEqualTo(new HanamoneyConversionService.SweepResult(2, 2, 1, 1));
+		verify(memberProfileRepository).restorePoints(MEMBER_ID, 300L);
+	}
+
+	@Test
+	void sweepSkipsConversionClaimedByAnotherThread() {
+		HanamoneyConversion conversion = stored(1L, 500L);
+		when(hanamoneyConversionRepository.claim(eq(1L), any(), any(), any())).thenReturn(0);
+		when(hanamoneyConversionRepository.findIdsByStatusDueBefore(eq(ConversionStatus.RESERVED), any(), any()))
+				.thenReturn(List.of(1L));
+
+		HanamoneyConversionService.SweepResult result = hanamoneyConversionService.sweep();
+
+		assertThat(result).isEqualTo(new HanamoneyConversionService.SweepResult(0, 1, 0, 0));
+		assertThat(conversion.getStatus()).isEqualTo(ConversionStatus.RESERVED);
+		verify(hanamoneyCardService, never()).earnHanamoney(any(), anyLong(), anyString(), anyString());
+	}
+
+	/**
+	 * 저장된 예약 전환 - 선점(claim)은 DB처럼 시도 횟수를 올리고 SENDING으로 바꾼다
+	 */
+	private HanamoneyConversion stored(Long id, Long pointsAmount) {
+		HanamoneyConversion conversion = HanamoneyConversion.builder()
+				.memberId(MEMBER_ID)
+				.pointsAmount(pointsAmount)
+				.build();
+		ReflectionTestUtils.setField(conversion, "id", id);
+		when(hanamoneyConversionRepository.findById(id)).thenReturn(Optional.of(conversion));
+		when(hanamoneyConversionRepository.claim(eq(id), eq(ConversionStatus.RESERVED), eq(ConversionStatus.SENDING),
+				any())).thenAnswer(invocation -> {
+					ReflectionTestUtils.setField(conversion, "attempts", conversion.getAttempts() + 1);
+					ReflectionTestUtils.setField(conversion, "status", ConversionStatus.SENDING);
+					return 1;
+				});
+		return conversion;
+	}
+}
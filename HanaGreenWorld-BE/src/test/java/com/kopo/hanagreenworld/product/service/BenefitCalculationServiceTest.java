@@ -0,0 +1,60 @@
+package com.kopo.hanagreenworld.product.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kopo.hanagreenworld.common.util.CustomerInfoTokenUtil;
+import com.kopo.hanagreenworld.integration.dto.FinancialExportRow;
+import com.kopo.hanagreenworld.integration.dto.IntegratedCustomerInfoResponse;
+import com.kopo.hanagreenworld.integration.service.FinancialExportClient;
+import com.kopo.hanagreenworld.integration.service.GroupIntegrationService;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BenefitCalculationServiceTest {
+
+	private static final Long MEMBER_ID = 7L;
+	private static final YearMonth REPORT_MONTH = YearMonth.of(2026, 9);
+
+	private FinancialExportClient financialExportClient;
+	private BenefitCalculationService benefitCalculationService;
+	private String token;
+
+	@BeforeEach
+	void setUp() {
+		GroupIntegrationService groupIntegrationService = mock(GroupIntegrationService.class);
+		financialExportClient = mock(FinancialExportClient.class);
+		MemberRepository memberRepository = mock(MemberRepository.class);
+		benefitCalculationService = new BenefitCalculationService(new ObjectMapper(), groupIntegrationService,
+				financialExportClient, memberRepository);
+
+		Member member = Member.builder().loginId("green").name("김하나").ci("CI-0007").build();
+		ReflectionTestUtils.setField(member, "memberId", MEMBER_ID);
+		token = CustomerInfoTokenUtil.createCustomerInfoToken(member);
+		when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.of(member));
+		when(groupIntegrationService.getIntegratedCustomerInfo(any())).thenReturn(new IntegratedCustomerInfoResponse());
+	}
+
+	@Test
+	void fallbackReadsCardUsageForReportMonth() {
+		when(financialExportClient.exportCard(List.of(token), REPORT_MONTH)).thenReturn(Map.of(token,
+				FinancialExportRow.builder().customerInfoToken(token).monthlyCardUsage(1_000_000L).build()));
+
+		String benefit = benefitCalculationService.calculateFinancialBenefit(MEMBER_ID, "BEGINNER", REPORT_MONTH, null);
+
+		verify(financialExportClient).exportCard(List.of(token), REPORT_MONTH);
+		assertThat(benefit).contains("\"cardDiscount\":10000");
+	}
+}
@@ -0,0 +1,119 @@
+package com.kopo.hanagreenworld.scheduler;
+
+import com.kopo.hanagreenworld.common.config.JpaConfig;
+import com.kopo.hanagreenworld.member.domain.Member;
+import com.kopo.hanagreenworld.member.domain.MemberProfile;
+import com.kopo.hanagreenworld.member.repository.MemberProfileRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 월초 며칠 뒤(3일)에 지난달 초기화가 실행되어도 새 달 1~3일 활동이 남는지 확인 (내장 DB)
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.sql.init.mode=never"
+})
+@Import({JpaConfig.class, MonthlyDataResetScheduler.class})
+class MonthlyDataResetSchedulerTest {
+
+	private static final YearMonth CLOSING_MONTH = YearMonth.of(2026, 9);
+	private static final YearMonth NEW_MONTH = CLOSING_MONTH.plusMonths(1);
+
+	@Autowired
+	private MonthlyDataResetScheduler monthlyDataResetScheduler;
+
+	@Autowired
+	private MemberProfileRepository memberProfileRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void resetOnDayThreeKeepsNewMonthActivity() {
+		Long activeId = createProfileWithLastMonthData("active");
+		Long inactiveId = createProfileWithLastMonthData("inactive");
+
+		// 10월 1~3일 적립 (일괄 반영 경로)
+		memberProfileRepository.addActivityTotals(activeId, 30L, 1.5, 1, NEW_MONTH.toString());
+		memberProfileRepository.addActivityTotals(activeId, 20L, 0.5, 2, NEW_MONTH.toString());
+
+		// 10월 3일 지난달 초기화
+		monthlyDataResetScheduler.resetMonthlyData(CLOSING_MONTH);
+		entityManager.clear();
+
+		MemberProfile active = memberProfileRepository.findByMember_MemberId(activeId).orElseThrow();
+		assertThat(active.getCurrentMonth()).isEqualTo(NEW_MONTH.toString());
+		assertThat(active.getCurrentMonthPoints()).isEqualTo(50L);
+		assertThat(active.getCurrentMonthCarbonSaved()).isEqualTo(2.0);
+		assertThat(active.getCurrentMonthActivitiesCount()).isEqualTo(3);
+		assertThat(active.getCurrentPoints()).isEqualTo(550L);
+
+		MemberProfile inactive = memberProfileRepository.findByMember_MemberId(inactiveId).orElseThrow();
+		assertThat(inactive.getCurrentMonth()).isEqualTo(NEW_MONTH.toString());
+		assertThat(inactive.getCurrentMonthPoints()).isZero();
+		assertThat(inactive.getCurrentMonthCarbonSaved()).isZero();
+		assertThat(inactive.getCurrentMonthActivitiesCount()).isZero();
+		assertThat(inactive.getCurrentPoints()).isEqualTo(500L);
+	}
+
+	@Test
+	void repeatedResetDoesNotClearNewMonthActivity() {
+		Long memberId = createProfileWithLastMonthData("repeat");
+
+		monthlyDataResetScheduler.resetMonthlyData(CLOSING_MONTH);
+		memberProfileRepository.addActivityTotals(memberId, 40L, 0.0, 1, NEW_MONTH.toString());
+		monthlyDataResetScheduler.resetMonthlyData(CLOSING_MONTH);
+		entityManager.clear();
+
+		MemberProfile profile = memberProfileRepository.findByMember_MemberId(memberId).orElseThrow();
+		assertThat(profile.getCurrentMonthPoints()).isEqualTo(40L);
+		assertThat(profile.getCurrentMonthActivitiesCount()).isEqualTo(1);
+	}
+
+	@Test
+	void entityUpdatesStartNewMonthFromZero() {
+		MemberProfile profile = MemberProfile.builder().nickname("roll").build();
+		ReflectionTestUtils.setField(profile, "currentMonth", CLOSING_MONTH.toString());
+		ReflectionTestUtils.setField(profile, "currentMonthPoints", 500L);
+		ReflectionTestUtils.setField(profile, "currentMonthActivitiesCount", 10);
+
+		profile.rollCurrentMonth(NEW_MONTH);
+		profile.updateCurrentMonthPoints(30L);
+		profile.rollCurrentMonth(CLOSING_MONTH);
+
+		assertThat(profile.getCurrentMonth()).isEqualTo(NEW_MONTH.toString());
+		assertThat(profile.getCurrentMonthPoints()).isEqualTo(30L);
+		assertThat(profile.getCurrentMonthActivitiesCount()).isZero();
+	}
+
+	private Long createProfileWithLastMonthData(String loginId) {
+		Member member = Member.builder()
+				.loginId(loginId)
+				.email(loginId + "@hana.com")
+				.password("password")
+				.name(loginId)
+				.phoneNumber("010-0000-" + Math.abs(loginId.hashCode() % 10000))
+				.build();
+		entityManager.persist(member);
+		MemberProfile profile = MemberProfile.builder().member(member).nickname(loginId).build();
+		entityManager.persist(profile);
+		entityManager.flush();
+
+		// 9월 누적값
+		memberProfileRepository.addActivityTotals(member.getMemberId(), 500L, 12.0, 10, CLOSING_MONTH.toString());
+		entityManager.createQuery("UPDATE MemberProfile p SET p.currentMonth = :month WHERE p.id = :id")
+				.setParameter("month", CLOSING_MONTH.toString())
+				.setParameter("id", profile.getId())
+				.executeUpdate();
+		return member.getMemberId();
+	}
+}